@@ -353,6 +353,14 @@ public final class ChaincodeShim {
        * <code>GET_PRIVATE_DATA_HASH = 22;</code>
        */
       GET_PRIVATE_DATA_HASH(22),
+      /**
+       * <code>WRITE_BATCH_STATE = 24;</code>
+       */
+      WRITE_BATCH_STATE(24),
+      /**
+       * <code>GET_STATE_MULTIPLE = 25;</code>
+       */
+      GET_STATE_MULTIPLE(25),
       UNRECOGNIZED(-1),
       ;
 
@@ -444,6 +452,14 @@ public final class ChaincodeShim {
        * <code>GET_PRIVATE_DATA_HASH = 22;</code>
        */
       public static final int GET_PRIVATE_DATA_HASH_VALUE = 22;
+      /**
+       * <code>WRITE_BATCH_STATE = 24;</code>
+       */
+      public static final int WRITE_BATCH_STATE_VALUE = 24;
+      /**
+       * <code>GET_STATE_MULTIPLE = 25;</code>
+       */
+      public static final int GET_STATE_MULTIPLE_VALUE = 25;
 
 
       public final int getNumber() {
@@ -486,6 +502,8 @@ public final class ChaincodeShim {
           case 20: return GET_STATE_METADATA;
           case 21: return PUT_STATE_METADATA;
           case 22: return GET_PRIVATE_DATA_HASH;
+          case 24: return WRITE_BATCH_STATE;
+          case 25: return GET_STATE_MULTIPLE;
           default: return null;
         }
       }
@@ -2556,19 +2574,28 @@ public final class ChaincodeShim {
 
   }
 
-  public interface GetStateMetadataOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.GetStateMetadata)
+  public interface GetStateMultipleOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.GetStateMultiple)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string key = 1;</code>
+     * <code>repeated string keys = 1;</code>
      */
-    java.lang.String getKey();
+    java.util.List<java.lang.String>
+        getKeysList();
     /**
-     * <code>string key = 1;</code>
+     * <code>repeated string keys = 1;</code>
+     */
+    int getKeysCount();
+    /**
+     * <code>repeated string keys = 1;</code>
+     */
+    java.lang.String getKeys(int index);
+    /**
+     * <code>repeated string keys = 1;</code>
      */
     com.google.protobuf.ByteString
-        getKeyBytes();
+        getKeysBytes(int index);
 
     /**
      * <code>string collection = 2;</code>
@@ -2581,19 +2608,25 @@ public final class ChaincodeShim {
         getCollectionBytes();
   }
   /**
-   * Protobuf type {@code protos.GetStateMetadata}
+   * <pre>
+   * GetStateMultiple is the payload of a ChaincodeMessage. It contains the keys
+   * which are to be fetched from the ledger. If the collection is specified, the keys
+   * would be fetched from the collection (i.e., private state)
+   * </pre>
+   *
+   * Protobuf type {@code protos.GetStateMultiple}
    */
-  public  static final class GetStateMetadata extends
+  public  static final class GetStateMultiple extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.GetStateMetadata)
-      GetStateMetadataOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.GetStateMultiple)
+      GetStateMultipleOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetStateMetadata.newBuilder() to construct.
-    private GetStateMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetStateMultiple.newBuilder() to construct.
+    private GetStateMultiple(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetStateMetadata() {
-      key_ = "";
+    private GetStateMultiple() {
+      keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       collection_ = "";
     }
 
@@ -2601,7 +2634,7 @@ public final class ChaincodeShim {
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetStateMetadata();
+      return new GetStateMultiple();
     }
 
     @java.lang.Override
@@ -2609,7 +2642,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetStateMetadata(
+    private GetStateMultiple(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2617,6 +2650,7 @@ public final class ChaincodeShim {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -2629,8 +2663,11 @@ public final class ChaincodeShim {
               break;
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
-
-              key_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                keys_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              keys_.add(s);
               break;
             }
             case 18: {
@@ -2654,55 +2691,53 @@ public final class ChaincodeShim {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          keys_ = keys_.getUnmodifiableView();
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultiple_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultiple_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple.Builder.class);
     }
 
-    public static final int KEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object key_;
+    public static final int KEYS_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList keys_;
     /**
-     * <code>string key = 1;</code>
+     * <code>repeated string keys = 1;</code>
      */
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        key_ = s;
-        return s;
-      }
+    public com.google.protobuf.ProtocolStringList
+        getKeysList() {
+      return keys_;
     }
     /**
-     * <code>string key = 1;</code>
+     * <code>repeated string keys = 1;</code>
+     */
+    public int getKeysCount() {
+      return keys_.size();
+    }
+    /**
+     * <code>repeated string keys = 1;</code>
+     */
+    public java.lang.String getKeys(int index) {
+      return keys_.get(index);
+    }
+    /**
+     * <code>repeated string keys = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        key_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getKeysBytes(int index) {
+      return keys_.getByteString(index);
     }
 
     public static final int COLLECTION_FIELD_NUMBER = 2;
@@ -2753,8 +2788,8 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      for (int i = 0; i < keys_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, keys_.getRaw(i));
       }
       if (!getCollectionBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, collection_);
@@ -2768,8 +2803,13 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!getKeyBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < keys_.size(); i++) {
+          dataSize += computeStringSizeNoTag(keys_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getKeysList().size();
       }
       if (!getCollectionBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, collection_);
@@ -2784,13 +2824,13 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple) obj;
 
-      if (!getKey()
-          .equals(other.getKey())) return false;
+      if (!getKeysList()
+          .equals(other.getKeysList())) return false;
       if (!getCollection()
           .equals(other.getCollection())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
@@ -2804,8 +2844,10 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + KEY_FIELD_NUMBER;
-      hash = (53 * hash) + getKey().hashCode();
+      if (getKeysCount() > 0) {
+        hash = (37 * hash) + KEYS_FIELD_NUMBER;
+        hash = (53 * hash) + getKeysList().hashCode();
+      }
       hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
       hash = (53 * hash) + getCollection().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
@@ -2813,69 +2855,69 @@ public final class ChaincodeShim {
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2888,7 +2930,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2904,26 +2946,32 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * Protobuf type {@code protos.GetStateMetadata}
+     * <pre>
+     * GetStateMultiple is the payload of a ChaincodeMessage. It contains the keys
+     * which are to be fetched from the ledger. If the collection is specified, the keys
+     * would be fetched from the collection (i.e., private state)
+     * </pre>
+     *
+     * Protobuf type {@code protos.GetStateMultiple}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.GetStateMetadata)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadataOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.GetStateMultiple)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultiple_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultiple_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2941,8 +2989,8 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        key_ = "";
-
+        keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
         collection_ = "";
 
         return this;
@@ -2951,17 +2999,17 @@ public final class ChaincodeShim {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultiple_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2969,9 +3017,14 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata(this);
-        result.key_ = key_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          keys_ = keys_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.keys_ = keys_;
         result.collection_ = collection_;
         onBuilt();
         return result;
@@ -3011,18 +3064,24 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.getDefaultInstance()) return this;
-        if (!other.getKey().isEmpty()) {
-          key_ = other.key_;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple.getDefaultInstance()) return this;
+        if (!other.keys_.isEmpty()) {
+          if (keys_.isEmpty()) {
+            keys_ = other.keys_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureKeysIsMutable();
+            keys_.addAll(other.keys_);
+          }
           onChanged();
         }
         if (!other.getCollection().isEmpty()) {
@@ -3044,11 +3103,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3057,72 +3116,98 @@ public final class ChaincodeShim {
         }
         return this;
       }
+      private int bitField0_;
 
-      private java.lang.Object key_ = "";
+      private com.google.protobuf.LazyStringList keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureKeysIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          keys_ = new com.google.protobuf.LazyStringArrayList(keys_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated string keys = 1;</code>
        */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          key_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public com.google.protobuf.ProtocolStringList
+          getKeysList() {
+        return keys_.getUnmodifiableView();
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated string keys = 1;</code>
+       */
+      public int getKeysCount() {
+        return keys_.size();
+      }
+      /**
+       * <code>repeated string keys = 1;</code>
+       */
+      public java.lang.String getKeys(int index) {
+        return keys_.get(index);
+      }
+      /**
+       * <code>repeated string keys = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          key_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+          getKeysBytes(int index) {
+        return keys_.getByteString(index);
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated string keys = 1;</code>
        */
-      public Builder setKey(
+      public Builder setKeys(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeysIsMutable();
+        keys_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string keys = 1;</code>
+       */
+      public Builder addKeys(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        key_ = value;
+  ensureKeysIsMutable();
+        keys_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated string keys = 1;</code>
        */
-      public Builder clearKey() {
-        
-        key_ = getDefaultInstance().getKey();
+      public Builder addAllKeys(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureKeysIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, keys_);
         onChanged();
         return this;
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated string keys = 1;</code>
        */
-      public Builder setKeyBytes(
+      public Builder clearKeys() {
+        keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string keys = 1;</code>
+       */
+      public Builder addKeysBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
-        key_ = value;
+        ensureKeysIsMutable();
+        keys_.add(value);
         onChanged();
         return this;
       }
@@ -3208,105 +3293,89 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.GetStateMetadata)
+      // @@protoc_insertion_point(builder_scope:protos.GetStateMultiple)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.GetStateMetadata)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.GetStateMultiple)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetStateMetadata>
-        PARSER = new com.google.protobuf.AbstractParser<GetStateMetadata>() {
+    private static final com.google.protobuf.Parser<GetStateMultiple>
+        PARSER = new com.google.protobuf.AbstractParser<GetStateMultiple>() {
       @java.lang.Override
-      public GetStateMetadata parsePartialFrom(
+      public GetStateMultiple parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetStateMetadata(input, extensionRegistry);
+        return new GetStateMultiple(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetStateMetadata> parser() {
+    public static com.google.protobuf.Parser<GetStateMultiple> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetStateMetadata> getParserForType() {
+    public com.google.protobuf.Parser<GetStateMultiple> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PutStateOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.PutState)
+  public interface GetStateMultipleResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.GetStateMultipleResult)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string key = 1;</code>
-     */
-    java.lang.String getKey();
-    /**
-     * <code>string key = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getKeyBytes();
-
-    /**
-     * <code>bytes value = 2;</code>
+     * <code>repeated bytes values = 1;</code>
      */
-    com.google.protobuf.ByteString getValue();
-
+    java.util.List<com.google.protobuf.ByteString> getValuesList();
     /**
-     * <code>string collection = 3;</code>
+     * <code>repeated bytes values = 1;</code>
      */
-    java.lang.String getCollection();
+    int getValuesCount();
     /**
-     * <code>string collection = 3;</code>
+     * <code>repeated bytes values = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getCollectionBytes();
+    com.google.protobuf.ByteString getValues(int index);
   }
   /**
    * <pre>
-   * PutState is the payload of a ChaincodeMessage. It contains a key and value
-   * which needs to be written to the transaction's write set. If the collection is
-   * specified, the key and value would be written to the transaction's private
-   * write set.
+   * GetStateMultipleResult is the payload of the RESPONSE to a GetStateMultiple.
+   * It contains the values of the requested keys, in the order they were requested.
    * </pre>
    *
-   * Protobuf type {@code protos.PutState}
+   * Protobuf type {@code protos.GetStateMultipleResult}
    */
-  public  static final class PutState extends
+  public  static final class GetStateMultipleResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.PutState)
-      PutStateOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.GetStateMultipleResult)
+      GetStateMultipleResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PutState.newBuilder() to construct.
-    private PutState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetStateMultipleResult.newBuilder() to construct.
+    private GetStateMultipleResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PutState() {
-      key_ = "";
-      value_ = com.google.protobuf.ByteString.EMPTY;
-      collection_ = "";
+    private GetStateMultipleResult() {
+      values_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new PutState();
+      return new GetStateMultipleResult();
     }
 
     @java.lang.Override
@@ -3314,7 +3383,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private PutState(
+    private GetStateMultipleResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3322,6 +3391,7 @@ public final class ChaincodeShim {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -3333,20 +3403,11 @@ public final class ChaincodeShim {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              key_ = s;
-              break;
-            }
-            case 18: {
-
-              value_ = input.readBytes();
-              break;
-            }
-            case 26: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              collection_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                values_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              values_.add(input.readBytes());
               break;
             }
             default: {
@@ -3364,98 +3425,46 @@ public final class ChaincodeShim {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          values_ = java.util.Collections.unmodifiableList(values_); // C
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultipleResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultipleResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.Builder.class);
-    }
-
-    public static final int KEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object key_;
-    /**
-     * <code>string key = 1;</code>
-     */
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        key_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string key = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        key_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult.Builder.class);
     }
 
-    public static final int VALUE_FIELD_NUMBER = 2;
-    private com.google.protobuf.ByteString value_;
+    public static final int VALUES_FIELD_NUMBER = 1;
+    private java.util.List<com.google.protobuf.ByteString> values_;
     /**
-     * <code>bytes value = 2;</code>
+     * <code>repeated bytes values = 1;</code>
      */
-    public com.google.protobuf.ByteString getValue() {
-      return value_;
+    public java.util.List<com.google.protobuf.ByteString>
+        getValuesList() {
+      return values_;
     }
-
-    public static final int COLLECTION_FIELD_NUMBER = 3;
-    private volatile java.lang.Object collection_;
     /**
-     * <code>string collection = 3;</code>
+     * <code>repeated bytes values = 1;</code>
      */
-    public java.lang.String getCollection() {
-      java.lang.Object ref = collection_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        collection_ = s;
-        return s;
-      }
+    public int getValuesCount() {
+      return values_.size();
     }
     /**
-     * <code>string collection = 3;</code>
+     * <code>repeated bytes values = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getCollectionBytes() {
-      java.lang.Object ref = collection_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        collection_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getValues(int index) {
+      return values_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3472,14 +3481,8 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
-      }
-      if (!value_.isEmpty()) {
-        output.writeBytes(2, value_);
-      }
-      if (!getCollectionBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, collection_);
+      for (int i = 0; i < values_.size(); i++) {
+        output.writeBytes(1, values_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -3490,15 +3493,14 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!getKeyBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
-      }
-      if (!value_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, value_);
-      }
-      if (!getCollectionBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, collection_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < values_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(values_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getValuesList().size();
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3510,17 +3512,13 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult) obj;
 
-      if (!getKey()
-          .equals(other.getKey())) return false;
-      if (!getValue()
-          .equals(other.getValue())) return false;
-      if (!getCollection()
-          .equals(other.getCollection())) return false;
+      if (!getValuesList()
+          .equals(other.getValuesList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3532,80 +3530,78 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + KEY_FIELD_NUMBER;
-      hash = (53 * hash) + getKey().hashCode();
-      hash = (37 * hash) + VALUE_FIELD_NUMBER;
-      hash = (53 * hash) + getValue().hashCode();
-      hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
-      hash = (53 * hash) + getCollection().hashCode();
+      if (getValuesCount() > 0) {
+        hash = (37 * hash) + VALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getValuesList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3618,7 +3614,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3635,32 +3631,30 @@ public final class ChaincodeShim {
     }
     /**
      * <pre>
-     * PutState is the payload of a ChaincodeMessage. It contains a key and value
-     * which needs to be written to the transaction's write set. If the collection is
-     * specified, the key and value would be written to the transaction's private
-     * write set.
+     * GetStateMultipleResult is the payload of the RESPONSE to a GetStateMultiple.
+     * It contains the values of the requested keys, in the order they were requested.
      * </pre>
      *
-     * Protobuf type {@code protos.PutState}
+     * Protobuf type {@code protos.GetStateMultipleResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.PutState)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.GetStateMultipleResult)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultipleResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultipleResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3678,29 +3672,25 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        key_ = "";
-
-        value_ = com.google.protobuf.ByteString.EMPTY;
-
-        collection_ = "";
-
+        values_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMultipleResult_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3708,11 +3698,14 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState(this);
-        result.key_ = key_;
-        result.value_ = value_;
-        result.collection_ = collection_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          values_ = java.util.Collections.unmodifiableList(values_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.values_ = values_;
         onBuilt();
         return result;
       }
@@ -3751,25 +3744,24 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.getDefaultInstance()) return this;
-        if (!other.getKey().isEmpty()) {
-          key_ = other.key_;
-          onChanged();
-        }
-        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
-          setValue(other.getValue());
-        }
-        if (!other.getCollection().isEmpty()) {
-          collection_ = other.collection_;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult.getDefaultInstance()) return this;
+        if (!other.values_.isEmpty()) {
+          if (values_.isEmpty()) {
+            values_ = other.values_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureValuesIsMutable();
+            values_.addAll(other.values_);
+          }
           onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
@@ -3787,11 +3779,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3800,170 +3792,77 @@ public final class ChaincodeShim {
         }
         return this;
       }
+      private int bitField0_;
 
-      private java.lang.Object key_ = "";
-      /**
-       * <code>string key = 1;</code>
-       */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          key_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      private java.util.List<com.google.protobuf.ByteString> values_ = java.util.Collections.emptyList();
+      private void ensureValuesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          values_ = new java.util.ArrayList<com.google.protobuf.ByteString>(values_);
+          bitField0_ |= 0x00000001;
+         }
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated bytes values = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          key_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public java.util.List<com.google.protobuf.ByteString>
+          getValuesList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(values_) : values_;
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated bytes values = 1;</code>
        */
-      public Builder setKey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        key_ = value;
-        onChanged();
-        return this;
+      public int getValuesCount() {
+        return values_.size();
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated bytes values = 1;</code>
        */
-      public Builder clearKey() {
-        
-        key_ = getDefaultInstance().getKey();
-        onChanged();
-        return this;
+      public com.google.protobuf.ByteString getValues(int index) {
+        return values_.get(index);
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>repeated bytes values = 1;</code>
        */
-      public Builder setKeyBytes(
-          com.google.protobuf.ByteString value) {
+      public Builder setValues(
+          int index, com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  checkByteStringIsUtf8(value);
-        
-        key_ = value;
+  ensureValuesIsMutable();
+        values_.set(index, value);
         onChanged();
         return this;
       }
-
-      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>bytes value = 2;</code>
-       */
-      public com.google.protobuf.ByteString getValue() {
-        return value_;
-      }
       /**
-       * <code>bytes value = 2;</code>
+       * <code>repeated bytes values = 1;</code>
        */
-      public Builder setValue(com.google.protobuf.ByteString value) {
+      public Builder addValues(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        value_ = value;
+  ensureValuesIsMutable();
+        values_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>bytes value = 2;</code>
+       * <code>repeated bytes values = 1;</code>
        */
-      public Builder clearValue() {
-        
-        value_ = getDefaultInstance().getValue();
+      public Builder addAllValues(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureValuesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, values_);
         onChanged();
         return this;
       }
-
-      private java.lang.Object collection_ = "";
       /**
-       * <code>string collection = 3;</code>
+       * <code>repeated bytes values = 1;</code>
        */
-      public java.lang.String getCollection() {
-        java.lang.Object ref = collection_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          collection_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string collection = 3;</code>
-       */
-      public com.google.protobuf.ByteString
-          getCollectionBytes() {
-        java.lang.Object ref = collection_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          collection_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string collection = 3;</code>
-       */
-      public Builder setCollection(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        collection_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string collection = 3;</code>
-       */
-      public Builder clearCollection() {
-        
-        collection_ = getDefaultInstance().getCollection();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string collection = 3;</code>
-       */
-      public Builder setCollectionBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        collection_ = value;
+      public Builder clearValues() {
+        values_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
@@ -3980,48 +3879,48 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.PutState)
+      // @@protoc_insertion_point(builder_scope:protos.GetStateMultipleResult)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.PutState)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.GetStateMultipleResult)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PutState>
-        PARSER = new com.google.protobuf.AbstractParser<PutState>() {
+    private static final com.google.protobuf.Parser<GetStateMultipleResult>
+        PARSER = new com.google.protobuf.AbstractParser<GetStateMultipleResult>() {
       @java.lang.Override
-      public PutState parsePartialFrom(
+      public GetStateMultipleResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PutState(input, extensionRegistry);
+        return new GetStateMultipleResult(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<PutState> parser() {
+    public static com.google.protobuf.Parser<GetStateMultipleResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PutState> getParserForType() {
+    public com.google.protobuf.Parser<GetStateMultipleResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PutStateMetadataOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.PutStateMetadata)
+  public interface GetStateMetadataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.GetStateMetadata)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -4035,41 +3934,28 @@ public final class ChaincodeShim {
         getKeyBytes();
 
     /**
-     * <code>string collection = 3;</code>
+     * <code>string collection = 2;</code>
      */
     java.lang.String getCollection();
     /**
-     * <code>string collection = 3;</code>
+     * <code>string collection = 2;</code>
      */
     com.google.protobuf.ByteString
         getCollectionBytes();
-
-    /**
-     * <code>.protos.StateMetadata metadata = 4;</code>
-     */
-    boolean hasMetadata();
-    /**
-     * <code>.protos.StateMetadata metadata = 4;</code>
-     */
-    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata();
-    /**
-     * <code>.protos.StateMetadata metadata = 4;</code>
-     */
-    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder();
   }
   /**
-   * Protobuf type {@code protos.PutStateMetadata}
+   * Protobuf type {@code protos.GetStateMetadata}
    */
-  public  static final class PutStateMetadata extends
+  public  static final class GetStateMetadata extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.PutStateMetadata)
-      PutStateMetadataOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.GetStateMetadata)
+      GetStateMetadataOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PutStateMetadata.newBuilder() to construct.
-    private PutStateMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetStateMetadata.newBuilder() to construct.
+    private GetStateMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PutStateMetadata() {
+    private GetStateMetadata() {
       key_ = "";
       collection_ = "";
     }
@@ -4078,7 +3964,7 @@ public final class ChaincodeShim {
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new PutStateMetadata();
+      return new GetStateMetadata();
     }
 
     @java.lang.Override
@@ -4086,7 +3972,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private PutStateMetadata(
+    private GetStateMetadata(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4110,25 +3996,12 @@ public final class ChaincodeShim {
               key_ = s;
               break;
             }
-            case 26: {
+            case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
               collection_ = s;
               break;
             }
-            case 34: {
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder subBuilder = null;
-              if (metadata_ != null) {
-                subBuilder = metadata_.toBuilder();
-              }
-              metadata_ = input.readMessage(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(metadata_);
-                metadata_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -4150,15 +4023,15 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.Builder.class);
     }
 
     public static final int KEY_FIELD_NUMBER = 1;
@@ -4195,10 +4068,10 @@ public final class ChaincodeShim {
       }
     }
 
-    public static final int COLLECTION_FIELD_NUMBER = 3;
+    public static final int COLLECTION_FIELD_NUMBER = 2;
     private volatile java.lang.Object collection_;
     /**
-     * <code>string collection = 3;</code>
+     * <code>string collection = 2;</code>
      */
     public java.lang.String getCollection() {
       java.lang.Object ref = collection_;
@@ -4213,7 +4086,7 @@ public final class ChaincodeShim {
       }
     }
     /**
-     * <code>string collection = 3;</code>
+     * <code>string collection = 2;</code>
      */
     public com.google.protobuf.ByteString
         getCollectionBytes() {
@@ -4229,27 +4102,6 @@ public final class ChaincodeShim {
       }
     }
 
-    public static final int METADATA_FIELD_NUMBER = 4;
-    private org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata metadata_;
-    /**
-     * <code>.protos.StateMetadata metadata = 4;</code>
-     */
-    public boolean hasMetadata() {
-      return metadata_ != null;
-    }
-    /**
-     * <code>.protos.StateMetadata metadata = 4;</code>
-     */
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata() {
-      return metadata_ == null ? org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
-    }
-    /**
-     * <code>.protos.StateMetadata metadata = 4;</code>
-     */
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder() {
-      return getMetadata();
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -4268,10 +4120,7 @@ public final class ChaincodeShim {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
       }
       if (!getCollectionBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, collection_);
-      }
-      if (metadata_ != null) {
-        output.writeMessage(4, getMetadata());
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, collection_);
       }
       unknownFields.writeTo(output);
     }
@@ -4286,11 +4135,7 @@ public final class ChaincodeShim {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
       }
       if (!getCollectionBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, collection_);
-      }
-      if (metadata_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, getMetadata());
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, collection_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4302,20 +4147,15 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata) obj;
 
       if (!getKey()
           .equals(other.getKey())) return false;
       if (!getCollection()
           .equals(other.getCollection())) return false;
-      if (hasMetadata() != other.hasMetadata()) return false;
-      if (hasMetadata()) {
-        if (!getMetadata()
-            .equals(other.getMetadata())) return false;
-      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -4331,78 +4171,74 @@ public final class ChaincodeShim {
       hash = (53 * hash) + getKey().hashCode();
       hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
       hash = (53 * hash) + getCollection().hashCode();
-      if (hasMetadata()) {
-        hash = (37 * hash) + METADATA_FIELD_NUMBER;
-        hash = (53 * hash) + getMetadata().hashCode();
-      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4415,7 +4251,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4431,26 +4267,26 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * Protobuf type {@code protos.PutStateMetadata}
+     * Protobuf type {@code protos.GetStateMetadata}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.PutStateMetadata)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadataOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.GetStateMetadata)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadataOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4472,29 +4308,23 @@ public final class ChaincodeShim {
 
         collection_ = "";
 
-        if (metadataBuilder_ == null) {
-          metadata_ = null;
-        } else {
-          metadata_ = null;
-          metadataBuilder_ = null;
-        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateMetadata_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4502,15 +4332,10 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata(this);
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata(this);
         result.key_ = key_;
         result.collection_ = collection_;
-        if (metadataBuilder_ == null) {
-          result.metadata_ = metadata_;
-        } else {
-          result.metadata_ = metadataBuilder_.build();
-        }
         onBuilt();
         return result;
       }
@@ -4549,16 +4374,16 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata.getDefaultInstance()) return this;
         if (!other.getKey().isEmpty()) {
           key_ = other.key_;
           onChanged();
@@ -4567,9 +4392,6 @@ public final class ChaincodeShim {
           collection_ = other.collection_;
           onChanged();
         }
-        if (other.hasMetadata()) {
-          mergeMetadata(other.getMetadata());
-        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -4585,11 +4407,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4670,7 +4492,7 @@ public final class ChaincodeShim {
 
       private java.lang.Object collection_ = "";
       /**
-       * <code>string collection = 3;</code>
+       * <code>string collection = 2;</code>
        */
       public java.lang.String getCollection() {
         java.lang.Object ref = collection_;
@@ -4685,7 +4507,7 @@ public final class ChaincodeShim {
         }
       }
       /**
-       * <code>string collection = 3;</code>
+       * <code>string collection = 2;</code>
        */
       public com.google.protobuf.ByteString
           getCollectionBytes() {
@@ -4701,7 +4523,7 @@ public final class ChaincodeShim {
         }
       }
       /**
-       * <code>string collection = 3;</code>
+       * <code>string collection = 2;</code>
        */
       public Builder setCollection(
           java.lang.String value) {
@@ -4714,7 +4536,7 @@ public final class ChaincodeShim {
         return this;
       }
       /**
-       * <code>string collection = 3;</code>
+       * <code>string collection = 2;</code>
        */
       public Builder clearCollection() {
         
@@ -4723,7 +4545,7 @@ public final class ChaincodeShim {
         return this;
       }
       /**
-       * <code>string collection = 3;</code>
+       * <code>string collection = 2;</code>
        */
       public Builder setCollectionBytes(
           com.google.protobuf.ByteString value) {
@@ -4736,123 +4558,6 @@ public final class ChaincodeShim {
         onChanged();
         return this;
       }
-
-      private org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata metadata_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> metadataBuilder_;
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      public boolean hasMetadata() {
-        return metadataBuilder_ != null || metadata_ != null;
-      }
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata() {
-        if (metadataBuilder_ == null) {
-          return metadata_ == null ? org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
-        } else {
-          return metadataBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      public Builder setMetadata(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
-        if (metadataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          metadata_ = value;
-          onChanged();
-        } else {
-          metadataBuilder_.setMessage(value);
-        }
-
-        return this;
-      }
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      public Builder setMetadata(
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
-        if (metadataBuilder_ == null) {
-          metadata_ = builderForValue.build();
-          onChanged();
-        } else {
-          metadataBuilder_.setMessage(builderForValue.build());
-        }
-
-        return this;
-      }
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      public Builder mergeMetadata(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
-        if (metadataBuilder_ == null) {
-          if (metadata_ != null) {
-            metadata_ =
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.newBuilder(metadata_).mergeFrom(value).buildPartial();
-          } else {
-            metadata_ = value;
-          }
-          onChanged();
-        } else {
-          metadataBuilder_.mergeFrom(value);
-        }
-
-        return this;
-      }
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      public Builder clearMetadata() {
-        if (metadataBuilder_ == null) {
-          metadata_ = null;
-          onChanged();
-        } else {
-          metadata_ = null;
-          metadataBuilder_ = null;
-        }
-
-        return this;
-      }
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder getMetadataBuilder() {
-        
-        onChanged();
-        return getMetadataFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder() {
-        if (metadataBuilder_ != null) {
-          return metadataBuilder_.getMessageOrBuilder();
-        } else {
-          return metadata_ == null ?
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
-        }
-      }
-      /**
-       * <code>.protos.StateMetadata metadata = 4;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
-          getMetadataFieldBuilder() {
-        if (metadataBuilder_ == null) {
-          metadataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder>(
-                  getMetadata(),
-                  getParentForChildren(),
-                  isClean());
-          metadata_ = null;
-        }
-        return metadataBuilder_;
-      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4866,48 +4571,48 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.PutStateMetadata)
+      // @@protoc_insertion_point(builder_scope:protos.GetStateMetadata)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.PutStateMetadata)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.GetStateMetadata)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PutStateMetadata>
-        PARSER = new com.google.protobuf.AbstractParser<PutStateMetadata>() {
+    private static final com.google.protobuf.Parser<GetStateMetadata>
+        PARSER = new com.google.protobuf.AbstractParser<GetStateMetadata>() {
       @java.lang.Override
-      public PutStateMetadata parsePartialFrom(
+      public GetStateMetadata parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PutStateMetadata(input, extensionRegistry);
+        return new GetStateMetadata(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<PutStateMetadata> parser() {
+    public static com.google.protobuf.Parser<GetStateMetadata> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PutStateMetadata> getParserForType() {
+    public com.google.protobuf.Parser<GetStateMetadata> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DelStateOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.DelState)
+  public interface PutStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.PutState)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -4921,36 +4626,42 @@ public final class ChaincodeShim {
         getKeyBytes();
 
     /**
-     * <code>string collection = 2;</code>
+     * <code>bytes value = 2;</code>
+     */
+    com.google.protobuf.ByteString getValue();
+
+    /**
+     * <code>string collection = 3;</code>
      */
     java.lang.String getCollection();
     /**
-     * <code>string collection = 2;</code>
+     * <code>string collection = 3;</code>
      */
     com.google.protobuf.ByteString
         getCollectionBytes();
   }
   /**
    * <pre>
-   * DelState is the payload of a ChaincodeMessage. It contains a key which
-   * needs to be recorded in the transaction's write set as a delete operation.
-   * If the collection is specified, the key needs to be recorded in the
-   * transaction's private write set as a delete operation.
+   * PutState is the payload of a ChaincodeMessage. It contains a key and value
+   * which needs to be written to the transaction's write set. If the collection is
+   * specified, the key and value would be written to the transaction's private
+   * write set.
    * </pre>
    *
-   * Protobuf type {@code protos.DelState}
+   * Protobuf type {@code protos.PutState}
    */
-  public  static final class DelState extends
+  public  static final class PutState extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.DelState)
-      DelStateOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.PutState)
+      PutStateOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use DelState.newBuilder() to construct.
-    private DelState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PutState.newBuilder() to construct.
+    private PutState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DelState() {
+    private PutState() {
       key_ = "";
+      value_ = com.google.protobuf.ByteString.EMPTY;
       collection_ = "";
     }
 
@@ -4958,7 +4669,7 @@ public final class ChaincodeShim {
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new DelState();
+      return new PutState();
     }
 
     @java.lang.Override
@@ -4966,7 +4677,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DelState(
+    private PutState(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4991,6 +4702,11 @@ public final class ChaincodeShim {
               break;
             }
             case 18: {
+
+              value_ = input.readBytes();
+              break;
+            }
+            case 26: {
               java.lang.String s = input.readStringRequireUtf8();
 
               collection_ = s;
@@ -5017,15 +4733,15 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.Builder.class);
     }
 
     public static final int KEY_FIELD_NUMBER = 1;
@@ -5062,10 +4778,19 @@ public final class ChaincodeShim {
       }
     }
 
-    public static final int COLLECTION_FIELD_NUMBER = 2;
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>bytes value = 2;</code>
+     */
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    public static final int COLLECTION_FIELD_NUMBER = 3;
     private volatile java.lang.Object collection_;
     /**
-     * <code>string collection = 2;</code>
+     * <code>string collection = 3;</code>
      */
     public java.lang.String getCollection() {
       java.lang.Object ref = collection_;
@@ -5080,7 +4805,7 @@ public final class ChaincodeShim {
       }
     }
     /**
-     * <code>string collection = 2;</code>
+     * <code>string collection = 3;</code>
      */
     public com.google.protobuf.ByteString
         getCollectionBytes() {
@@ -5113,8 +4838,11 @@ public final class ChaincodeShim {
       if (!getKeyBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
       }
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
+      }
       if (!getCollectionBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, collection_);
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, collection_);
       }
       unknownFields.writeTo(output);
     }
@@ -5128,8 +4856,12 @@ public final class ChaincodeShim {
       if (!getKeyBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
       }
+      if (!value_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
       if (!getCollectionBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, collection_);
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, collection_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5141,13 +4873,15 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState) obj;
 
       if (!getKey()
           .equals(other.getKey())) return false;
+      if (!getValue()
+          .equals(other.getValue())) return false;
       if (!getCollection()
           .equals(other.getCollection())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
@@ -5163,6 +4897,8 @@ public final class ChaincodeShim {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + KEY_FIELD_NUMBER;
       hash = (53 * hash) + getKey().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
       hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
       hash = (53 * hash) + getCollection().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
@@ -5170,69 +4906,69 @@ public final class ChaincodeShim {
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5245,7 +4981,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -5262,32 +4998,32 @@ public final class ChaincodeShim {
     }
     /**
      * <pre>
-     * DelState is the payload of a ChaincodeMessage. It contains a key which
-     * needs to be recorded in the transaction's write set as a delete operation.
-     * If the collection is specified, the key needs to be recorded in the
-     * transaction's private write set as a delete operation.
+     * PutState is the payload of a ChaincodeMessage. It contains a key and value
+     * which needs to be written to the transaction's write set. If the collection is
+     * specified, the key and value would be written to the transaction's private
+     * write set.
      * </pre>
      *
-     * Protobuf type {@code protos.DelState}
+     * Protobuf type {@code protos.PutState}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.DelState)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.DelStateOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.PutState)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5307,6 +5043,8 @@ public final class ChaincodeShim {
         super.clear();
         key_ = "";
 
+        value_ = com.google.protobuf.ByteString.EMPTY;
+
         collection_ = "";
 
         return this;
@@ -5315,17 +5053,17 @@ public final class ChaincodeShim {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutState_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -5333,9 +5071,10 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState(this);
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState(this);
         result.key_ = key_;
+        result.value_ = value_;
         result.collection_ = collection_;
         onBuilt();
         return result;
@@ -5375,20 +5114,23 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.getDefaultInstance()) return this;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState.getDefaultInstance()) return this;
         if (!other.getKey().isEmpty()) {
           key_ = other.key_;
           onChanged();
         }
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
+        }
         if (!other.getCollection().isEmpty()) {
           collection_ = other.collection_;
           onChanged();
@@ -5408,11 +5150,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -5491,9 +5233,38 @@ public final class ChaincodeShim {
         return this;
       }
 
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public Builder clearValue() {
+        
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+
       private java.lang.Object collection_ = "";
       /**
-       * <code>string collection = 2;</code>
+       * <code>string collection = 3;</code>
        */
       public java.lang.String getCollection() {
         java.lang.Object ref = collection_;
@@ -5508,7 +5279,7 @@ public final class ChaincodeShim {
         }
       }
       /**
-       * <code>string collection = 2;</code>
+       * <code>string collection = 3;</code>
        */
       public com.google.protobuf.ByteString
           getCollectionBytes() {
@@ -5524,7 +5295,7 @@ public final class ChaincodeShim {
         }
       }
       /**
-       * <code>string collection = 2;</code>
+       * <code>string collection = 3;</code>
        */
       public Builder setCollection(
           java.lang.String value) {
@@ -5537,7 +5308,7 @@ public final class ChaincodeShim {
         return this;
       }
       /**
-       * <code>string collection = 2;</code>
+       * <code>string collection = 3;</code>
        */
       public Builder clearCollection() {
         
@@ -5546,7 +5317,7 @@ public final class ChaincodeShim {
         return this;
       }
       /**
-       * <code>string collection = 2;</code>
+       * <code>string collection = 3;</code>
        */
       public Builder setCollectionBytes(
           com.google.protobuf.ByteString value) {
@@ -5572,69 +5343,59 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.DelState)
+      // @@protoc_insertion_point(builder_scope:protos.PutState)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.DelState)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.PutState)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DelState>
-        PARSER = new com.google.protobuf.AbstractParser<DelState>() {
+    private static final com.google.protobuf.Parser<PutState>
+        PARSER = new com.google.protobuf.AbstractParser<PutState>() {
       @java.lang.Override
-      public DelState parsePartialFrom(
+      public PutState parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new DelState(input, extensionRegistry);
+        return new PutState(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DelState> parser() {
+    public static com.google.protobuf.Parser<PutState> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DelState> getParserForType() {
+    public com.google.protobuf.Parser<PutState> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetStateByRangeOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.GetStateByRange)
+  public interface PutStateMetadataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.PutStateMetadata)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string startKey = 1;</code>
-     */
-    java.lang.String getStartKey();
-    /**
-     * <code>string startKey = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getStartKeyBytes();
-
-    /**
-     * <code>string endKey = 2;</code>
+     * <code>string key = 1;</code>
      */
-    java.lang.String getEndKey();
+    java.lang.String getKey();
     /**
-     * <code>string endKey = 2;</code>
+     * <code>string key = 1;</code>
      */
     com.google.protobuf.ByteString
-        getEndKeyBytes();
+        getKeyBytes();
 
     /**
      * <code>string collection = 3;</code>
@@ -5647,41 +5408,40 @@ public final class ChaincodeShim {
         getCollectionBytes();
 
     /**
-     * <code>bytes metadata = 4;</code>
+     * <code>.protos.StateMetadata metadata = 4;</code>
      */
-    com.google.protobuf.ByteString getMetadata();
+    boolean hasMetadata();
+    /**
+     * <code>.protos.StateMetadata metadata = 4;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata();
+    /**
+     * <code>.protos.StateMetadata metadata = 4;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder();
   }
   /**
-   * <pre>
-   * GetStateByRange is the payload of a ChaincodeMessage. It contains a start key and
-   * a end key required to execute range query. If the collection is specified,
-   * the range query needs to be executed on the private data. The metadata hold
-   * the byte representation of QueryMetadata.
-   * </pre>
-   *
-   * Protobuf type {@code protos.GetStateByRange}
+   * Protobuf type {@code protos.PutStateMetadata}
    */
-  public  static final class GetStateByRange extends
+  public  static final class PutStateMetadata extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.GetStateByRange)
-      GetStateByRangeOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.PutStateMetadata)
+      PutStateMetadataOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetStateByRange.newBuilder() to construct.
-    private GetStateByRange(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PutStateMetadata.newBuilder() to construct.
+    private PutStateMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetStateByRange() {
-      startKey_ = "";
-      endKey_ = "";
+    private PutStateMetadata() {
+      key_ = "";
       collection_ = "";
-      metadata_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetStateByRange();
+      return new PutStateMetadata();
     }
 
     @java.lang.Override
@@ -5689,7 +5449,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetStateByRange(
+    private PutStateMetadata(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5710,13 +5470,7 @@ public final class ChaincodeShim {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              startKey_ = s;
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              endKey_ = s;
+              key_ = s;
               break;
             }
             case 26: {
@@ -5726,8 +5480,16 @@ public final class ChaincodeShim {
               break;
             }
             case 34: {
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder subBuilder = null;
+              if (metadata_ != null) {
+                subBuilder = metadata_.toBuilder();
+              }
+              metadata_ = input.readMessage(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(metadata_);
+                metadata_ = subBuilder.buildPartial();
+              }
 
-              metadata_ = input.readBytes();
               break;
             }
             default: {
@@ -5751,126 +5513,104 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.Builder.class);
     }
 
-    public static final int STARTKEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object startKey_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
     /**
-     * <code>string startKey = 1;</code>
+     * <code>string key = 1;</code>
      */
-    public java.lang.String getStartKey() {
-      java.lang.Object ref = startKey_;
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        startKey_ = s;
+        key_ = s;
         return s;
       }
     }
     /**
-     * <code>string startKey = 1;</code>
+     * <code>string key = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getStartKeyBytes() {
-      java.lang.Object ref = startKey_;
+        getKeyBytes() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        startKey_ = b;
+        key_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int ENDKEY_FIELD_NUMBER = 2;
-    private volatile java.lang.Object endKey_;
+    public static final int COLLECTION_FIELD_NUMBER = 3;
+    private volatile java.lang.Object collection_;
     /**
-     * <code>string endKey = 2;</code>
+     * <code>string collection = 3;</code>
      */
-    public java.lang.String getEndKey() {
-      java.lang.Object ref = endKey_;
+    public java.lang.String getCollection() {
+      java.lang.Object ref = collection_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        endKey_ = s;
+        collection_ = s;
         return s;
       }
     }
     /**
-     * <code>string endKey = 2;</code>
+     * <code>string collection = 3;</code>
      */
     public com.google.protobuf.ByteString
-        getEndKeyBytes() {
-      java.lang.Object ref = endKey_;
+        getCollectionBytes() {
+      java.lang.Object ref = collection_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        endKey_ = b;
+        collection_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int COLLECTION_FIELD_NUMBER = 3;
-    private volatile java.lang.Object collection_;
+    public static final int METADATA_FIELD_NUMBER = 4;
+    private org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata metadata_;
     /**
-     * <code>string collection = 3;</code>
+     * <code>.protos.StateMetadata metadata = 4;</code>
      */
-    public java.lang.String getCollection() {
-      java.lang.Object ref = collection_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        collection_ = s;
-        return s;
-      }
+    public boolean hasMetadata() {
+      return metadata_ != null;
     }
     /**
-     * <code>string collection = 3;</code>
+     * <code>.protos.StateMetadata metadata = 4;</code>
      */
-    public com.google.protobuf.ByteString
-        getCollectionBytes() {
-      java.lang.Object ref = collection_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        collection_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata() {
+      return metadata_ == null ? org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
     }
-
-    public static final int METADATA_FIELD_NUMBER = 4;
-    private com.google.protobuf.ByteString metadata_;
     /**
-     * <code>bytes metadata = 4;</code>
+     * <code>.protos.StateMetadata metadata = 4;</code>
      */
-    public com.google.protobuf.ByteString getMetadata() {
-      return metadata_;
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder() {
+      return getMetadata();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5887,17 +5627,14 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getStartKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, startKey_);
-      }
-      if (!getEndKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, endKey_);
+      if (!getKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
       }
       if (!getCollectionBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, collection_);
       }
-      if (!metadata_.isEmpty()) {
-        output.writeBytes(4, metadata_);
+      if (metadata_ != null) {
+        output.writeMessage(4, getMetadata());
       }
       unknownFields.writeTo(output);
     }
@@ -5908,18 +5645,15 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!getStartKeyBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, startKey_);
-      }
-      if (!getEndKeyBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, endKey_);
+      if (!getKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
       }
       if (!getCollectionBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, collection_);
       }
-      if (!metadata_.isEmpty()) {
+      if (metadata_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, metadata_);
+          .computeMessageSize(4, getMetadata());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5931,19 +5665,20 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata) obj;
 
-      if (!getStartKey()
-          .equals(other.getStartKey())) return false;
-      if (!getEndKey()
-          .equals(other.getEndKey())) return false;
+      if (!getKey()
+          .equals(other.getKey())) return false;
       if (!getCollection()
           .equals(other.getCollection())) return false;
-      if (!getMetadata()
-          .equals(other.getMetadata())) return false;
+      if (hasMetadata() != other.hasMetadata()) return false;
+      if (hasMetadata()) {
+        if (!getMetadata()
+            .equals(other.getMetadata())) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -5955,82 +5690,82 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + STARTKEY_FIELD_NUMBER;
-      hash = (53 * hash) + getStartKey().hashCode();
-      hash = (37 * hash) + ENDKEY_FIELD_NUMBER;
-      hash = (53 * hash) + getEndKey().hashCode();
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
       hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
       hash = (53 * hash) + getCollection().hashCode();
-      hash = (37 * hash) + METADATA_FIELD_NUMBER;
-      hash = (53 * hash) + getMetadata().hashCode();
+      if (hasMetadata()) {
+        hash = (37 * hash) + METADATA_FIELD_NUMBER;
+        hash = (53 * hash) + getMetadata().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6043,7 +5778,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6059,33 +5794,26 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * <pre>
-     * GetStateByRange is the payload of a ChaincodeMessage. It contains a start key and
-     * a end key required to execute range query. If the collection is specified,
-     * the range query needs to be executed on the private data. The metadata hold
-     * the byte representation of QueryMetadata.
-     * </pre>
-     *
-     * Protobuf type {@code protos.GetStateByRange}
+     * Protobuf type {@code protos.PutStateMetadata}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.GetStateByRange)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRangeOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.PutStateMetadata)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadataOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6103,31 +5831,33 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        startKey_ = "";
-
-        endKey_ = "";
+        key_ = "";
 
         collection_ = "";
 
-        metadata_ = com.google.protobuf.ByteString.EMPTY;
-
+        if (metadataBuilder_ == null) {
+          metadata_ = null;
+        } else {
+          metadata_ = null;
+          metadataBuilder_ = null;
+        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_PutStateMetadata_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6135,12 +5865,15 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange(this);
-        result.startKey_ = startKey_;
-        result.endKey_ = endKey_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata(this);
+        result.key_ = key_;
         result.collection_ = collection_;
-        result.metadata_ = metadata_;
+        if (metadataBuilder_ == null) {
+          result.metadata_ = metadata_;
+        } else {
+          result.metadata_ = metadataBuilder_.build();
+        }
         onBuilt();
         return result;
       }
@@ -6179,30 +5912,26 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.getDefaultInstance()) return this;
-        if (!other.getStartKey().isEmpty()) {
-          startKey_ = other.startKey_;
-          onChanged();
-        }
-        if (!other.getEndKey().isEmpty()) {
-          endKey_ = other.endKey_;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata.getDefaultInstance()) return this;
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
           onChanged();
         }
         if (!other.getCollection().isEmpty()) {
           collection_ = other.collection_;
           onChanged();
         }
-        if (other.getMetadata() != com.google.protobuf.ByteString.EMPTY) {
-          setMetadata(other.getMetadata());
+        if (other.hasMetadata()) {
+          mergeMetadata(other.getMetadata());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -6219,11 +5948,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6233,240 +5962,259 @@ public final class ChaincodeShim {
         return this;
       }
 
-      private java.lang.Object startKey_ = "";
+      private java.lang.Object key_ = "";
       /**
-       * <code>string startKey = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public java.lang.String getStartKey() {
-        java.lang.Object ref = startKey_;
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          startKey_ = s;
+          key_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string startKey = 1;</code>
+       * <code>string key = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getStartKeyBytes() {
-        java.lang.Object ref = startKey_;
+          getKeyBytes() {
+        java.lang.Object ref = key_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          startKey_ = b;
+          key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string startKey = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder setStartKey(
+      public Builder setKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        startKey_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string startKey = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder clearStartKey() {
+      public Builder clearKey() {
         
-        startKey_ = getDefaultInstance().getStartKey();
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
       /**
-       * <code>string startKey = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder setStartKeyBytes(
+      public Builder setKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        startKey_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object endKey_ = "";
+      private java.lang.Object collection_ = "";
       /**
-       * <code>string endKey = 2;</code>
+       * <code>string collection = 3;</code>
        */
-      public java.lang.String getEndKey() {
-        java.lang.Object ref = endKey_;
+      public java.lang.String getCollection() {
+        java.lang.Object ref = collection_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          endKey_ = s;
+          collection_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string endKey = 2;</code>
+       * <code>string collection = 3;</code>
        */
       public com.google.protobuf.ByteString
-          getEndKeyBytes() {
-        java.lang.Object ref = endKey_;
+          getCollectionBytes() {
+        java.lang.Object ref = collection_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          endKey_ = b;
+          collection_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string endKey = 2;</code>
+       * <code>string collection = 3;</code>
        */
-      public Builder setEndKey(
+      public Builder setCollection(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        endKey_ = value;
+        collection_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string endKey = 2;</code>
+       * <code>string collection = 3;</code>
        */
-      public Builder clearEndKey() {
+      public Builder clearCollection() {
         
-        endKey_ = getDefaultInstance().getEndKey();
+        collection_ = getDefaultInstance().getCollection();
         onChanged();
         return this;
       }
       /**
-       * <code>string endKey = 2;</code>
+       * <code>string collection = 3;</code>
        */
-      public Builder setEndKeyBytes(
+      public Builder setCollectionBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        endKey_ = value;
+        collection_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object collection_ = "";
+      private org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata metadata_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> metadataBuilder_;
       /**
-       * <code>string collection = 3;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public java.lang.String getCollection() {
-        java.lang.Object ref = collection_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          collection_ = s;
-          return s;
+      public boolean hasMetadata() {
+        return metadataBuilder_ != null || metadata_ != null;
+      }
+      /**
+       * <code>.protos.StateMetadata metadata = 4;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata() {
+        if (metadataBuilder_ == null) {
+          return metadata_ == null ? org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
         } else {
-          return (java.lang.String) ref;
+          return metadataBuilder_.getMessage();
         }
       }
       /**
-       * <code>string collection = 3;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public com.google.protobuf.ByteString
-          getCollectionBytes() {
-        java.lang.Object ref = collection_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          collection_ = b;
-          return b;
+      public Builder setMetadata(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
+        if (metadataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          metadata_ = value;
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          metadataBuilder_.setMessage(value);
         }
+
+        return this;
       }
       /**
-       * <code>string collection = 3;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public Builder setCollection(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        collection_ = value;
-        onChanged();
+      public Builder setMetadata(
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
+        if (metadataBuilder_ == null) {
+          metadata_ = builderForValue.build();
+          onChanged();
+        } else {
+          metadataBuilder_.setMessage(builderForValue.build());
+        }
+
         return this;
       }
       /**
-       * <code>string collection = 3;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public Builder clearCollection() {
-        
-        collection_ = getDefaultInstance().getCollection();
-        onChanged();
+      public Builder mergeMetadata(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
+        if (metadataBuilder_ == null) {
+          if (metadata_ != null) {
+            metadata_ =
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.newBuilder(metadata_).mergeFrom(value).buildPartial();
+          } else {
+            metadata_ = value;
+          }
+          onChanged();
+        } else {
+          metadataBuilder_.mergeFrom(value);
+        }
+
         return this;
       }
       /**
-       * <code>string collection = 3;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public Builder setCollectionBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        collection_ = value;
-        onChanged();
+      public Builder clearMetadata() {
+        if (metadataBuilder_ == null) {
+          metadata_ = null;
+          onChanged();
+        } else {
+          metadata_ = null;
+          metadataBuilder_ = null;
+        }
+
         return this;
       }
-
-      private com.google.protobuf.ByteString metadata_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>bytes metadata = 4;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public com.google.protobuf.ByteString getMetadata() {
-        return metadata_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder getMetadataBuilder() {
+        
+        onChanged();
+        return getMetadataFieldBuilder().getBuilder();
       }
       /**
-       * <code>bytes metadata = 4;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public Builder setMetadata(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        metadata_ = value;
-        onChanged();
-        return this;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder() {
+        if (metadataBuilder_ != null) {
+          return metadataBuilder_.getMessageOrBuilder();
+        } else {
+          return metadata_ == null ?
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
+        }
       }
       /**
-       * <code>bytes metadata = 4;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public Builder clearMetadata() {
-        
-        metadata_ = getDefaultInstance().getMetadata();
-        onChanged();
-        return this;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
+          getMetadataFieldBuilder() {
+        if (metadataBuilder_ == null) {
+          metadataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder>(
+                  getMetadata(),
+                  getParentForChildren(),
+                  isClean());
+          metadata_ = null;
+        }
+        return metadataBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -6481,59 +6229,59 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.GetStateByRange)
+      // @@protoc_insertion_point(builder_scope:protos.PutStateMetadata)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.GetStateByRange)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.PutStateMetadata)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetStateByRange>
-        PARSER = new com.google.protobuf.AbstractParser<GetStateByRange>() {
+    private static final com.google.protobuf.Parser<PutStateMetadata>
+        PARSER = new com.google.protobuf.AbstractParser<PutStateMetadata>() {
       @java.lang.Override
-      public GetStateByRange parsePartialFrom(
+      public PutStateMetadata parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetStateByRange(input, extensionRegistry);
+        return new PutStateMetadata(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetStateByRange> parser() {
+    public static com.google.protobuf.Parser<PutStateMetadata> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetStateByRange> getParserForType() {
+    public com.google.protobuf.Parser<PutStateMetadata> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetQueryResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.GetQueryResult)
+  public interface DelStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.DelState)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string query = 1;</code>
+     * <code>string key = 1;</code>
      */
-    java.lang.String getQuery();
+    java.lang.String getKey();
     /**
-     * <code>string query = 1;</code>
+     * <code>string key = 1;</code>
      */
     com.google.protobuf.ByteString
-        getQueryBytes();
+        getKeyBytes();
 
     /**
      * <code>string collection = 2;</code>
@@ -6544,42 +6292,36 @@ public final class ChaincodeShim {
      */
     com.google.protobuf.ByteString
         getCollectionBytes();
-
-    /**
-     * <code>bytes metadata = 3;</code>
-     */
-    com.google.protobuf.ByteString getMetadata();
   }
   /**
    * <pre>
-   * GetQueryResult is the payload of a ChaincodeMessage. It contains a query
-   * string in the form that is supported by the underlying state database.
-   * If the collection is specified, the query needs to be executed on the
-   * private data.  The metadata hold the byte representation of QueryMetadata.
+   * DelState is the payload of a ChaincodeMessage. It contains a key which
+   * needs to be recorded in the transaction's write set as a delete operation.
+   * If the collection is specified, the key needs to be recorded in the
+   * transaction's private write set as a delete operation.
    * </pre>
    *
-   * Protobuf type {@code protos.GetQueryResult}
+   * Protobuf type {@code protos.DelState}
    */
-  public  static final class GetQueryResult extends
+  public  static final class DelState extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.GetQueryResult)
-      GetQueryResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.DelState)
+      DelStateOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetQueryResult.newBuilder() to construct.
-    private GetQueryResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use DelState.newBuilder() to construct.
+    private DelState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetQueryResult() {
-      query_ = "";
+    private DelState() {
+      key_ = "";
       collection_ = "";
-      metadata_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetQueryResult();
+      return new DelState();
     }
 
     @java.lang.Override
@@ -6587,7 +6329,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetQueryResult(
+    private DelState(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6608,7 +6350,7 @@ public final class ChaincodeShim {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              query_ = s;
+              key_ = s;
               break;
             }
             case 18: {
@@ -6617,11 +6359,6 @@ public final class ChaincodeShim {
               collection_ = s;
               break;
             }
-            case 26: {
-
-              metadata_ = input.readBytes();
-              break;
-            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -6643,45 +6380,45 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.Builder.class);
     }
 
-    public static final int QUERY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object query_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
     /**
-     * <code>string query = 1;</code>
+     * <code>string key = 1;</code>
      */
-    public java.lang.String getQuery() {
-      java.lang.Object ref = query_;
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        query_ = s;
+        key_ = s;
         return s;
       }
     }
     /**
-     * <code>string query = 1;</code>
+     * <code>string key = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getQueryBytes() {
-      java.lang.Object ref = query_;
+        getKeyBytes() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        query_ = b;
+        key_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -6722,15 +6459,6 @@ public final class ChaincodeShim {
       }
     }
 
-    public static final int METADATA_FIELD_NUMBER = 3;
-    private com.google.protobuf.ByteString metadata_;
-    /**
-     * <code>bytes metadata = 3;</code>
-     */
-    public com.google.protobuf.ByteString getMetadata() {
-      return metadata_;
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -6745,15 +6473,12 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getQueryBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, query_);
+      if (!getKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
       }
       if (!getCollectionBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, collection_);
       }
-      if (!metadata_.isEmpty()) {
-        output.writeBytes(3, metadata_);
-      }
       unknownFields.writeTo(output);
     }
 
@@ -6763,16 +6488,12 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!getQueryBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, query_);
+      if (!getKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
       }
       if (!getCollectionBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, collection_);
       }
-      if (!metadata_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, metadata_);
-      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -6783,17 +6504,15 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState) obj;
 
-      if (!getQuery()
-          .equals(other.getQuery())) return false;
+      if (!getKey()
+          .equals(other.getKey())) return false;
       if (!getCollection()
           .equals(other.getCollection())) return false;
-      if (!getMetadata()
-          .equals(other.getMetadata())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -6805,80 +6524,78 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + QUERY_FIELD_NUMBER;
-      hash = (53 * hash) + getQuery().hashCode();
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
       hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
       hash = (53 * hash) + getCollection().hashCode();
-      hash = (37 * hash) + METADATA_FIELD_NUMBER;
-      hash = (53 * hash) + getMetadata().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6891,7 +6608,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6908,32 +6625,32 @@ public final class ChaincodeShim {
     }
     /**
      * <pre>
-     * GetQueryResult is the payload of a ChaincodeMessage. It contains a query
-     * string in the form that is supported by the underlying state database.
-     * If the collection is specified, the query needs to be executed on the
-     * private data.  The metadata hold the byte representation of QueryMetadata.
+     * DelState is the payload of a ChaincodeMessage. It contains a key which
+     * needs to be recorded in the transaction's write set as a delete operation.
+     * If the collection is specified, the key needs to be recorded in the
+     * transaction's private write set as a delete operation.
      * </pre>
      *
-     * Protobuf type {@code protos.GetQueryResult}
+     * Protobuf type {@code protos.DelState}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.GetQueryResult)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.DelState)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.DelStateOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6951,29 +6668,27 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        query_ = "";
+        key_ = "";
 
         collection_ = "";
 
-        metadata_ = com.google.protobuf.ByteString.EMPTY;
-
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_DelState_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6981,11 +6696,10 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult(this);
-        result.query_ = query_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState(this);
+        result.key_ = key_;
         result.collection_ = collection_;
-        result.metadata_ = metadata_;
         onBuilt();
         return result;
       }
@@ -7024,27 +6738,24 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.getDefaultInstance()) return this;
-        if (!other.getQuery().isEmpty()) {
-          query_ = other.query_;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState.getDefaultInstance()) return this;
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
           onChanged();
         }
         if (!other.getCollection().isEmpty()) {
           collection_ = other.collection_;
           onChanged();
         }
-        if (other.getMetadata() != com.google.protobuf.ByteString.EMPTY) {
-          setMetadata(other.getMetadata());
-        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -7060,11 +6771,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -7074,71 +6785,71 @@ public final class ChaincodeShim {
         return this;
       }
 
-      private java.lang.Object query_ = "";
+      private java.lang.Object key_ = "";
       /**
-       * <code>string query = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public java.lang.String getQuery() {
-        java.lang.Object ref = query_;
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          query_ = s;
+          key_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string query = 1;</code>
+       * <code>string key = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getQueryBytes() {
-        java.lang.Object ref = query_;
+          getKeyBytes() {
+        java.lang.Object ref = key_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          query_ = b;
+          key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string query = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder setQuery(
+      public Builder setKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        query_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string query = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder clearQuery() {
+      public Builder clearKey() {
         
-        query_ = getDefaultInstance().getQuery();
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
       /**
-       * <code>string query = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder setQueryBytes(
+      public Builder setKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        query_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
@@ -7211,35 +6922,6 @@ public final class ChaincodeShim {
         onChanged();
         return this;
       }
-
-      private com.google.protobuf.ByteString metadata_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>bytes metadata = 3;</code>
-       */
-      public com.google.protobuf.ByteString getMetadata() {
-        return metadata_;
-      }
-      /**
-       * <code>bytes metadata = 3;</code>
-       */
-      public Builder setMetadata(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        metadata_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>bytes metadata = 3;</code>
-       */
-      public Builder clearMetadata() {
-        
-        metadata_ = getDefaultInstance().getMetadata();
-        onChanged();
-        return this;
-      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -7253,92 +6935,116 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.GetQueryResult)
+      // @@protoc_insertion_point(builder_scope:protos.DelState)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.GetQueryResult)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.DelState)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetQueryResult>
-        PARSER = new com.google.protobuf.AbstractParser<GetQueryResult>() {
+    private static final com.google.protobuf.Parser<DelState>
+        PARSER = new com.google.protobuf.AbstractParser<DelState>() {
       @java.lang.Override
-      public GetQueryResult parsePartialFrom(
+      public DelState parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetQueryResult(input, extensionRegistry);
+        return new DelState(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetQueryResult> parser() {
+    public static com.google.protobuf.Parser<DelState> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetQueryResult> getParserForType() {
+    public com.google.protobuf.Parser<DelState> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface QueryMetadataOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.QueryMetadata)
+  public interface GetStateByRangeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.GetStateByRange)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 pageSize = 1;</code>
+     * <code>string startKey = 1;</code>
      */
-    int getPageSize();
+    java.lang.String getStartKey();
+    /**
+     * <code>string startKey = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getStartKeyBytes();
 
     /**
-     * <code>string bookmark = 2;</code>
+     * <code>string endKey = 2;</code>
      */
-    java.lang.String getBookmark();
+    java.lang.String getEndKey();
     /**
-     * <code>string bookmark = 2;</code>
+     * <code>string endKey = 2;</code>
      */
     com.google.protobuf.ByteString
-        getBookmarkBytes();
-  }
-  /**
-   * <pre>
-   * QueryMetadata is the metadata of a GetStateByRange and GetQueryResult.
-   * It contains a pageSize which denotes the number of records to be fetched
-   * and a bookmark.
-   * </pre>
-   *
-   * Protobuf type {@code protos.QueryMetadata}
-   */
-  public  static final class QueryMetadata extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.QueryMetadata)
-      QueryMetadataOrBuilder {
+        getEndKeyBytes();
+
+    /**
+     * <code>string collection = 3;</code>
+     */
+    java.lang.String getCollection();
+    /**
+     * <code>string collection = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getCollectionBytes();
+
+    /**
+     * <code>bytes metadata = 4;</code>
+     */
+    com.google.protobuf.ByteString getMetadata();
+  }
+  /**
+   * <pre>
+   * GetStateByRange is the payload of a ChaincodeMessage. It contains a start key and
+   * a end key required to execute range query. If the collection is specified,
+   * the range query needs to be executed on the private data. The metadata hold
+   * the byte representation of QueryMetadata.
+   * </pre>
+   *
+   * Protobuf type {@code protos.GetStateByRange}
+   */
+  public  static final class GetStateByRange extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protos.GetStateByRange)
+      GetStateByRangeOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use QueryMetadata.newBuilder() to construct.
-    private QueryMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetStateByRange.newBuilder() to construct.
+    private GetStateByRange(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private QueryMetadata() {
-      bookmark_ = "";
+    private GetStateByRange() {
+      startKey_ = "";
+      endKey_ = "";
+      collection_ = "";
+      metadata_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new QueryMetadata();
+      return new GetStateByRange();
     }
 
     @java.lang.Override
@@ -7346,7 +7052,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private QueryMetadata(
+    private GetStateByRange(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7364,15 +7070,27 @@ public final class ChaincodeShim {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              pageSize_ = input.readInt32();
+              startKey_ = s;
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              bookmark_ = s;
+              endKey_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              collection_ = s;
+              break;
+            }
+            case 34: {
+
+              metadata_ = input.readBytes();
               break;
             }
             default: {
@@ -7396,60 +7114,128 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.Builder.class);
     }
 
-    public static final int PAGESIZE_FIELD_NUMBER = 1;
-    private int pageSize_;
+    public static final int STARTKEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object startKey_;
     /**
-     * <code>int32 pageSize = 1;</code>
+     * <code>string startKey = 1;</code>
      */
-    public int getPageSize() {
-      return pageSize_;
+    public java.lang.String getStartKey() {
+      java.lang.Object ref = startKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        startKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string startKey = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStartKeyBytes() {
+      java.lang.Object ref = startKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        startKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int BOOKMARK_FIELD_NUMBER = 2;
-    private volatile java.lang.Object bookmark_;
+    public static final int ENDKEY_FIELD_NUMBER = 2;
+    private volatile java.lang.Object endKey_;
     /**
-     * <code>string bookmark = 2;</code>
+     * <code>string endKey = 2;</code>
      */
-    public java.lang.String getBookmark() {
-      java.lang.Object ref = bookmark_;
+    public java.lang.String getEndKey() {
+      java.lang.Object ref = endKey_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        bookmark_ = s;
+        endKey_ = s;
         return s;
       }
     }
     /**
-     * <code>string bookmark = 2;</code>
+     * <code>string endKey = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getBookmarkBytes() {
-      java.lang.Object ref = bookmark_;
+        getEndKeyBytes() {
+      java.lang.Object ref = endKey_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        bookmark_ = b;
+        endKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLLECTION_FIELD_NUMBER = 3;
+    private volatile java.lang.Object collection_;
+    /**
+     * <code>string collection = 3;</code>
+     */
+    public java.lang.String getCollection() {
+      java.lang.Object ref = collection_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        collection_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string collection = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCollectionBytes() {
+      java.lang.Object ref = collection_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        collection_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int METADATA_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString metadata_;
+    /**
+     * <code>bytes metadata = 4;</code>
+     */
+    public com.google.protobuf.ByteString getMetadata() {
+      return metadata_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -7464,11 +7250,17 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (pageSize_ != 0) {
-        output.writeInt32(1, pageSize_);
+      if (!getStartKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, startKey_);
       }
-      if (!getBookmarkBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, bookmark_);
+      if (!getEndKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, endKey_);
+      }
+      if (!getCollectionBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, collection_);
+      }
+      if (!metadata_.isEmpty()) {
+        output.writeBytes(4, metadata_);
       }
       unknownFields.writeTo(output);
     }
@@ -7479,12 +7271,18 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (pageSize_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, pageSize_);
+      if (!getStartKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, startKey_);
       }
-      if (!getBookmarkBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, bookmark_);
+      if (!getEndKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, endKey_);
+      }
+      if (!getCollectionBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, collection_);
+      }
+      if (!metadata_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, metadata_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -7496,15 +7294,19 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange) obj;
 
-      if (getPageSize()
-          != other.getPageSize()) return false;
-      if (!getBookmark()
-          .equals(other.getBookmark())) return false;
+      if (!getStartKey()
+          .equals(other.getStartKey())) return false;
+      if (!getEndKey()
+          .equals(other.getEndKey())) return false;
+      if (!getCollection()
+          .equals(other.getCollection())) return false;
+      if (!getMetadata()
+          .equals(other.getMetadata())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -7516,78 +7318,82 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + PAGESIZE_FIELD_NUMBER;
-      hash = (53 * hash) + getPageSize();
-      hash = (37 * hash) + BOOKMARK_FIELD_NUMBER;
-      hash = (53 * hash) + getBookmark().hashCode();
+      hash = (37 * hash) + STARTKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getStartKey().hashCode();
+      hash = (37 * hash) + ENDKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getEndKey().hashCode();
+      hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
+      hash = (53 * hash) + getCollection().hashCode();
+      hash = (37 * hash) + METADATA_FIELD_NUMBER;
+      hash = (53 * hash) + getMetadata().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7600,7 +7406,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -7617,31 +7423,32 @@ public final class ChaincodeShim {
     }
     /**
      * <pre>
-     * QueryMetadata is the metadata of a GetStateByRange and GetQueryResult.
-     * It contains a pageSize which denotes the number of records to be fetched
-     * and a bookmark.
+     * GetStateByRange is the payload of a ChaincodeMessage. It contains a start key and
+     * a end key required to execute range query. If the collection is specified,
+     * the range query needs to be executed on the private data. The metadata hold
+     * the byte representation of QueryMetadata.
      * </pre>
      *
-     * Protobuf type {@code protos.QueryMetadata}
+     * Protobuf type {@code protos.GetStateByRange}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.QueryMetadata)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadataOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.GetStateByRange)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRangeOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7659,9 +7466,13 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        pageSize_ = 0;
+        startKey_ = "";
 
-        bookmark_ = "";
+        endKey_ = "";
+
+        collection_ = "";
+
+        metadata_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
@@ -7669,17 +7480,17 @@ public final class ChaincodeShim {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetStateByRange_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7687,10 +7498,12 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata(this);
-        result.pageSize_ = pageSize_;
-        result.bookmark_ = bookmark_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange(this);
+        result.startKey_ = startKey_;
+        result.endKey_ = endKey_;
+        result.collection_ = collection_;
+        result.metadata_ = metadata_;
         onBuilt();
         return result;
       }
@@ -7729,23 +7542,31 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.getDefaultInstance()) return this;
-        if (other.getPageSize() != 0) {
-          setPageSize(other.getPageSize());
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange.getDefaultInstance()) return this;
+        if (!other.getStartKey().isEmpty()) {
+          startKey_ = other.startKey_;
+          onChanged();
         }
-        if (!other.getBookmark().isEmpty()) {
-          bookmark_ = other.bookmark_;
+        if (!other.getEndKey().isEmpty()) {
+          endKey_ = other.endKey_;
+          onChanged();
+        }
+        if (!other.getCollection().isEmpty()) {
+          collection_ = other.collection_;
           onChanged();
         }
+        if (other.getMetadata() != com.google.protobuf.ByteString.EMPTY) {
+          setMetadata(other.getMetadata());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -7761,11 +7582,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -7775,193 +7596,353 @@ public final class ChaincodeShim {
         return this;
       }
 
-      private int pageSize_ ;
+      private java.lang.Object startKey_ = "";
       /**
-       * <code>int32 pageSize = 1;</code>
+       * <code>string startKey = 1;</code>
        */
-      public int getPageSize() {
-        return pageSize_;
+      public java.lang.String getStartKey() {
+        java.lang.Object ref = startKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          startKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>int32 pageSize = 1;</code>
+       * <code>string startKey = 1;</code>
        */
-      public Builder setPageSize(int value) {
+      public com.google.protobuf.ByteString
+          getStartKeyBytes() {
+        java.lang.Object ref = startKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          startKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string startKey = 1;</code>
+       */
+      public Builder setStartKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        startKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string startKey = 1;</code>
+       */
+      public Builder clearStartKey() {
         
-        pageSize_ = value;
+        startKey_ = getDefaultInstance().getStartKey();
         onChanged();
         return this;
       }
       /**
-       * <code>int32 pageSize = 1;</code>
+       * <code>string startKey = 1;</code>
        */
-      public Builder clearPageSize() {
+      public Builder setStartKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
         
-        pageSize_ = 0;
+        startKey_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object bookmark_ = "";
+      private java.lang.Object endKey_ = "";
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string endKey = 2;</code>
        */
-      public java.lang.String getBookmark() {
-        java.lang.Object ref = bookmark_;
+      public java.lang.String getEndKey() {
+        java.lang.Object ref = endKey_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          bookmark_ = s;
+          endKey_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string endKey = 2;</code>
        */
       public com.google.protobuf.ByteString
-          getBookmarkBytes() {
-        java.lang.Object ref = bookmark_;
+          getEndKeyBytes() {
+        java.lang.Object ref = endKey_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          bookmark_ = b;
+          endKey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string endKey = 2;</code>
        */
-      public Builder setBookmark(
+      public Builder setEndKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        bookmark_ = value;
+        endKey_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string endKey = 2;</code>
        */
-      public Builder clearBookmark() {
+      public Builder clearEndKey() {
         
-        bookmark_ = getDefaultInstance().getBookmark();
+        endKey_ = getDefaultInstance().getEndKey();
         onChanged();
         return this;
       }
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string endKey = 2;</code>
        */
-      public Builder setBookmarkBytes(
+      public Builder setEndKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        bookmark_ = value;
+        endKey_ = value;
         onChanged();
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private java.lang.Object collection_ = "";
+      /**
+       * <code>string collection = 3;</code>
+       */
+      public java.lang.String getCollection() {
+        java.lang.Object ref = collection_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          collection_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-
-
-      // @@protoc_insertion_point(builder_scope:protos.QueryMetadata)
-    }
-
-    // @@protoc_insertion_point(class_scope:protos.QueryMetadata)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata();
-    }
-
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<QueryMetadata>
-        PARSER = new com.google.protobuf.AbstractParser<QueryMetadata>() {
-      @java.lang.Override
-      public QueryMetadata parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new QueryMetadata(input, extensionRegistry);
+      /**
+       * <code>string collection = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCollectionBytes() {
+        java.lang.Object ref = collection_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          collection_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
-    };
-
-    public static com.google.protobuf.Parser<QueryMetadata> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<QueryMetadata> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface GetHistoryForKeyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.GetHistoryForKey)
-      com.google.protobuf.MessageOrBuilder {
+      /**
+       * <code>string collection = 3;</code>
+       */
+      public Builder setCollection(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        collection_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string collection = 3;</code>
+       */
+      public Builder clearCollection() {
+        
+        collection_ = getDefaultInstance().getCollection();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string collection = 3;</code>
+       */
+      public Builder setCollectionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        collection_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString metadata_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes metadata = 4;</code>
+       */
+      public com.google.protobuf.ByteString getMetadata() {
+        return metadata_;
+      }
+      /**
+       * <code>bytes metadata = 4;</code>
+       */
+      public Builder setMetadata(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        metadata_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes metadata = 4;</code>
+       */
+      public Builder clearMetadata() {
+        
+        metadata_ = getDefaultInstance().getMetadata();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protos.GetStateByRange)
+    }
+
+    // @@protoc_insertion_point(class_scope:protos.GetStateByRange)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange();
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetStateByRange>
+        PARSER = new com.google.protobuf.AbstractParser<GetStateByRange>() {
+      @java.lang.Override
+      public GetStateByRange parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetStateByRange(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetStateByRange> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetStateByRange> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetQueryResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.GetQueryResult)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string key = 1;</code>
+     * <code>string query = 1;</code>
      */
-    java.lang.String getKey();
+    java.lang.String getQuery();
     /**
-     * <code>string key = 1;</code>
+     * <code>string query = 1;</code>
      */
     com.google.protobuf.ByteString
-        getKeyBytes();
+        getQueryBytes();
+
+    /**
+     * <code>string collection = 2;</code>
+     */
+    java.lang.String getCollection();
+    /**
+     * <code>string collection = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getCollectionBytes();
+
+    /**
+     * <code>bytes metadata = 3;</code>
+     */
+    com.google.protobuf.ByteString getMetadata();
   }
   /**
    * <pre>
-   * GetHistoryForKey is the payload of a ChaincodeMessage. It contains a key
-   * for which the historical values need to be retrieved.
+   * GetQueryResult is the payload of a ChaincodeMessage. It contains a query
+   * string in the form that is supported by the underlying state database.
+   * If the collection is specified, the query needs to be executed on the
+   * private data.  The metadata hold the byte representation of QueryMetadata.
    * </pre>
    *
-   * Protobuf type {@code protos.GetHistoryForKey}
+   * Protobuf type {@code protos.GetQueryResult}
    */
-  public  static final class GetHistoryForKey extends
+  public  static final class GetQueryResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.GetHistoryForKey)
-      GetHistoryForKeyOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.GetQueryResult)
+      GetQueryResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetHistoryForKey.newBuilder() to construct.
-    private GetHistoryForKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetQueryResult.newBuilder() to construct.
+    private GetQueryResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetHistoryForKey() {
-      key_ = "";
+    private GetQueryResult() {
+      query_ = "";
+      collection_ = "";
+      metadata_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetHistoryForKey();
+      return new GetQueryResult();
     }
 
     @java.lang.Override
@@ -7969,7 +7950,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetHistoryForKey(
+    private GetQueryResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7990,7 +7971,18 @@ public final class ChaincodeShim {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              key_ = s;
+              query_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              collection_ = s;
+              break;
+            }
+            case 26: {
+
+              metadata_ = input.readBytes();
               break;
             }
             default: {
@@ -8014,51 +8006,94 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.Builder.class);
     }
 
-    public static final int KEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object key_;
+    public static final int QUERY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object query_;
     /**
-     * <code>string key = 1;</code>
+     * <code>string query = 1;</code>
      */
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
+    public java.lang.String getQuery() {
+      java.lang.Object ref = query_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        key_ = s;
+        query_ = s;
         return s;
       }
     }
     /**
-     * <code>string key = 1;</code>
+     * <code>string query = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
+        getQueryBytes() {
+      java.lang.Object ref = query_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        key_ = b;
+        query_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLLECTION_FIELD_NUMBER = 2;
+    private volatile java.lang.Object collection_;
+    /**
+     * <code>string collection = 2;</code>
+     */
+    public java.lang.String getCollection() {
+      java.lang.Object ref = collection_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        collection_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string collection = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCollectionBytes() {
+      java.lang.Object ref = collection_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        collection_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int METADATA_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString metadata_;
+    /**
+     * <code>bytes metadata = 3;</code>
+     */
+    public com.google.protobuf.ByteString getMetadata() {
+      return metadata_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -8073,8 +8108,14 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      if (!getQueryBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, query_);
+      }
+      if (!getCollectionBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, collection_);
+      }
+      if (!metadata_.isEmpty()) {
+        output.writeBytes(3, metadata_);
       }
       unknownFields.writeTo(output);
     }
@@ -8085,8 +8126,15 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!getKeyBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      if (!getQueryBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, query_);
+      }
+      if (!getCollectionBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, collection_);
+      }
+      if (!metadata_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, metadata_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -8098,13 +8146,17 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult) obj;
 
-      if (!getKey()
-          .equals(other.getKey())) return false;
+      if (!getQuery()
+          .equals(other.getQuery())) return false;
+      if (!getCollection()
+          .equals(other.getCollection())) return false;
+      if (!getMetadata()
+          .equals(other.getMetadata())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -8116,76 +8168,80 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + KEY_FIELD_NUMBER;
-      hash = (53 * hash) + getKey().hashCode();
+      hash = (37 * hash) + QUERY_FIELD_NUMBER;
+      hash = (53 * hash) + getQuery().hashCode();
+      hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
+      hash = (53 * hash) + getCollection().hashCode();
+      hash = (37 * hash) + METADATA_FIELD_NUMBER;
+      hash = (53 * hash) + getMetadata().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8198,7 +8254,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8215,30 +8271,32 @@ public final class ChaincodeShim {
     }
     /**
      * <pre>
-     * GetHistoryForKey is the payload of a ChaincodeMessage. It contains a key
-     * for which the historical values need to be retrieved.
+     * GetQueryResult is the payload of a ChaincodeMessage. It contains a query
+     * string in the form that is supported by the underlying state database.
+     * If the collection is specified, the query needs to be executed on the
+     * private data.  The metadata hold the byte representation of QueryMetadata.
      * </pre>
      *
-     * Protobuf type {@code protos.GetHistoryForKey}
+     * Protobuf type {@code protos.GetQueryResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.GetHistoryForKey)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKeyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.GetQueryResult)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8256,7 +8314,11 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        key_ = "";
+        query_ = "";
+
+        collection_ = "";
+
+        metadata_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
@@ -8264,17 +8326,17 @@ public final class ChaincodeShim {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetQueryResult_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8282,9 +8344,11 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey(this);
-        result.key_ = key_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult(this);
+        result.query_ = query_;
+        result.collection_ = collection_;
+        result.metadata_ = metadata_;
         onBuilt();
         return result;
       }
@@ -8323,20 +8387,27 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.getDefaultInstance()) return this;
-        if (!other.getKey().isEmpty()) {
-          key_ = other.key_;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult.getDefaultInstance()) return this;
+        if (!other.getQuery().isEmpty()) {
+          query_ = other.query_;
+          onChanged();
+        }
+        if (!other.getCollection().isEmpty()) {
+          collection_ = other.collection_;
           onChanged();
         }
+        if (other.getMetadata() != com.google.protobuf.ByteString.EMPTY) {
+          setMetadata(other.getMetadata());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -8352,11 +8423,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -8366,162 +8437,271 @@ public final class ChaincodeShim {
         return this;
       }
 
-      private java.lang.Object key_ = "";
+      private java.lang.Object query_ = "";
       /**
-       * <code>string key = 1;</code>
+       * <code>string query = 1;</code>
        */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
+      public java.lang.String getQuery() {
+        java.lang.Object ref = query_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          key_ = s;
+          query_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>string query = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
+          getQueryBytes() {
+        java.lang.Object ref = query_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          key_ = b;
+          query_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>string query = 1;</code>
        */
-      public Builder setKey(
+      public Builder setQuery(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        key_ = value;
+        query_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>string query = 1;</code>
        */
-      public Builder clearKey() {
+      public Builder clearQuery() {
         
-        key_ = getDefaultInstance().getKey();
+        query_ = getDefaultInstance().getQuery();
         onChanged();
         return this;
       }
       /**
-       * <code>string key = 1;</code>
+       * <code>string query = 1;</code>
        */
-      public Builder setKeyBytes(
+      public Builder setQueryBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        key_ = value;
+        query_ = value;
         onChanged();
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private java.lang.Object collection_ = "";
+      /**
+       * <code>string collection = 2;</code>
+       */
+      public java.lang.String getCollection() {
+        java.lang.Object ref = collection_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          collection_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-
-
-      // @@protoc_insertion_point(builder_scope:protos.GetHistoryForKey)
-    }
-
-    // @@protoc_insertion_point(class_scope:protos.GetHistoryForKey)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey();
-    }
-
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<GetHistoryForKey>
-        PARSER = new com.google.protobuf.AbstractParser<GetHistoryForKey>() {
-      @java.lang.Override
-      public GetHistoryForKey parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetHistoryForKey(input, extensionRegistry);
+      /**
+       * <code>string collection = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCollectionBytes() {
+        java.lang.Object ref = collection_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          collection_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
-    };
-
-    public static com.google.protobuf.Parser<GetHistoryForKey> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<GetHistoryForKey> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
+      /**
+       * <code>string collection = 2;</code>
+       */
+      public Builder setCollection(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
   }
-
-  public interface QueryStateNextOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.QueryStateNext)
+  
+        collection_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string collection = 2;</code>
+       */
+      public Builder clearCollection() {
+        
+        collection_ = getDefaultInstance().getCollection();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string collection = 2;</code>
+       */
+      public Builder setCollectionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        collection_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString metadata_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes metadata = 3;</code>
+       */
+      public com.google.protobuf.ByteString getMetadata() {
+        return metadata_;
+      }
+      /**
+       * <code>bytes metadata = 3;</code>
+       */
+      public Builder setMetadata(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        metadata_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes metadata = 3;</code>
+       */
+      public Builder clearMetadata() {
+        
+        metadata_ = getDefaultInstance().getMetadata();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protos.GetQueryResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:protos.GetQueryResult)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult();
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetQueryResult>
+        PARSER = new com.google.protobuf.AbstractParser<GetQueryResult>() {
+      @java.lang.Override
+      public GetQueryResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetQueryResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetQueryResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetQueryResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryMetadataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.QueryMetadata)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string id = 1;</code>
+     * <code>int32 pageSize = 1;</code>
      */
-    java.lang.String getId();
+    int getPageSize();
+
     /**
-     * <code>string id = 1;</code>
+     * <code>string bookmark = 2;</code>
+     */
+    java.lang.String getBookmark();
+    /**
+     * <code>string bookmark = 2;</code>
      */
     com.google.protobuf.ByteString
-        getIdBytes();
+        getBookmarkBytes();
   }
   /**
-   * Protobuf type {@code protos.QueryStateNext}
+   * <pre>
+   * QueryMetadata is the metadata of a GetStateByRange and GetQueryResult.
+   * It contains a pageSize which denotes the number of records to be fetched
+   * and a bookmark.
+   * </pre>
+   *
+   * Protobuf type {@code protos.QueryMetadata}
    */
-  public  static final class QueryStateNext extends
+  public  static final class QueryMetadata extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.QueryStateNext)
-      QueryStateNextOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.QueryMetadata)
+      QueryMetadataOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use QueryStateNext.newBuilder() to construct.
-    private QueryStateNext(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use QueryMetadata.newBuilder() to construct.
+    private QueryMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private QueryStateNext() {
-      id_ = "";
+    private QueryMetadata() {
+      bookmark_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new QueryStateNext();
+      return new QueryMetadata();
     }
 
     @java.lang.Override
@@ -8529,7 +8709,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private QueryStateNext(
+    private QueryMetadata(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8547,10 +8727,15 @@ public final class ChaincodeShim {
             case 0:
               done = true;
               break;
-            case 10: {
+            case 8: {
+
+              pageSize_ = input.readInt32();
+              break;
+            }
+            case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              id_ = s;
+              bookmark_ = s;
               break;
             }
             default: {
@@ -8574,45 +8759,54 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.Builder.class);
     }
 
-    public static final int ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object id_;
+    public static final int PAGESIZE_FIELD_NUMBER = 1;
+    private int pageSize_;
     /**
-     * <code>string id = 1;</code>
+     * <code>int32 pageSize = 1;</code>
      */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
+    public int getPageSize() {
+      return pageSize_;
+    }
+
+    public static final int BOOKMARK_FIELD_NUMBER = 2;
+    private volatile java.lang.Object bookmark_;
+    /**
+     * <code>string bookmark = 2;</code>
+     */
+    public java.lang.String getBookmark() {
+      java.lang.Object ref = bookmark_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        id_ = s;
+        bookmark_ = s;
         return s;
       }
     }
     /**
-     * <code>string id = 1;</code>
+     * <code>string bookmark = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
+        getBookmarkBytes() {
+      java.lang.Object ref = bookmark_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        id_ = b;
+        bookmark_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -8633,8 +8827,11 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      if (pageSize_ != 0) {
+        output.writeInt32(1, pageSize_);
+      }
+      if (!getBookmarkBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, bookmark_);
       }
       unknownFields.writeTo(output);
     }
@@ -8645,8 +8842,12 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!getIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      if (pageSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, pageSize_);
+      }
+      if (!getBookmarkBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, bookmark_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -8658,13 +8859,15 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata) obj;
 
-      if (!getId()
-          .equals(other.getId())) return false;
+      if (getPageSize()
+          != other.getPageSize()) return false;
+      if (!getBookmark()
+          .equals(other.getBookmark())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -8676,76 +8879,78 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + PAGESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
+      hash = (37 * hash) + BOOKMARK_FIELD_NUMBER;
+      hash = (53 * hash) + getBookmark().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8758,7 +8963,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8774,26 +8979,32 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * Protobuf type {@code protos.QueryStateNext}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.QueryStateNext)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNextOrBuilder {
+     * <pre>
+     * QueryMetadata is the metadata of a GetStateByRange and GetQueryResult.
+     * It contains a pageSize which denotes the number of records to be fetched
+     * and a bookmark.
+     * </pre>
+     *
+     * Protobuf type {@code protos.QueryMetadata}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protos.QueryMetadata)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadataOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8811,7 +9022,9 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        id_ = "";
+        pageSize_ = 0;
+
+        bookmark_ = "";
 
         return this;
       }
@@ -8819,17 +9032,17 @@ public final class ChaincodeShim {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryMetadata_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8837,9 +9050,10 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext(this);
-        result.id_ = id_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata(this);
+        result.pageSize_ = pageSize_;
+        result.bookmark_ = bookmark_;
         onBuilt();
         return result;
       }
@@ -8878,18 +9092,21 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.getDefaultInstance()) return this;
-        if (!other.getId().isEmpty()) {
-          id_ = other.id_;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata.getDefaultInstance()) return this;
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
+        if (!other.getBookmark().isEmpty()) {
+          bookmark_ = other.bookmark_;
           onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
@@ -8907,11 +9124,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -8921,71 +9138,97 @@ public final class ChaincodeShim {
         return this;
       }
 
-      private java.lang.Object id_ = "";
+      private int pageSize_ ;
       /**
-       * <code>string id = 1;</code>
+       * <code>int32 pageSize = 1;</code>
        */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
+      public int getPageSize() {
+        return pageSize_;
+      }
+      /**
+       * <code>int32 pageSize = 1;</code>
+       */
+      public Builder setPageSize(int value) {
+        
+        pageSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pageSize = 1;</code>
+       */
+      public Builder clearPageSize() {
+        
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object bookmark_ = "";
+      /**
+       * <code>string bookmark = 2;</code>
+       */
+      public java.lang.String getBookmark() {
+        java.lang.Object ref = bookmark_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          id_ = s;
+          bookmark_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string bookmark = 2;</code>
        */
       public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
+          getBookmarkBytes() {
+        java.lang.Object ref = bookmark_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          id_ = b;
+          bookmark_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string bookmark = 2;</code>
        */
-      public Builder setId(
+      public Builder setBookmark(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        id_ = value;
+        bookmark_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string bookmark = 2;</code>
        */
-      public Builder clearId() {
+      public Builder clearBookmark() {
         
-        id_ = getDefaultInstance().getId();
+        bookmark_ = getDefaultInstance().getBookmark();
         onChanged();
         return this;
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string bookmark = 2;</code>
        */
-      public Builder setIdBytes(
+      public Builder setBookmarkBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        id_ = value;
+        bookmark_ = value;
         onChanged();
         return this;
       }
@@ -9002,81 +9245,86 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.QueryStateNext)
+      // @@protoc_insertion_point(builder_scope:protos.QueryMetadata)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.QueryStateNext)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.QueryMetadata)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<QueryStateNext>
-        PARSER = new com.google.protobuf.AbstractParser<QueryStateNext>() {
+    private static final com.google.protobuf.Parser<QueryMetadata>
+        PARSER = new com.google.protobuf.AbstractParser<QueryMetadata>() {
       @java.lang.Override
-      public QueryStateNext parsePartialFrom(
+      public QueryMetadata parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new QueryStateNext(input, extensionRegistry);
+        return new QueryMetadata(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<QueryStateNext> parser() {
+    public static com.google.protobuf.Parser<QueryMetadata> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<QueryStateNext> getParserForType() {
+    public com.google.protobuf.Parser<QueryMetadata> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryMetadata getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface QueryStateCloseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.QueryStateClose)
+  public interface GetHistoryForKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.GetHistoryForKey)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string id = 1;</code>
+     * <code>string key = 1;</code>
      */
-    java.lang.String getId();
+    java.lang.String getKey();
     /**
-     * <code>string id = 1;</code>
+     * <code>string key = 1;</code>
      */
     com.google.protobuf.ByteString
-        getIdBytes();
+        getKeyBytes();
   }
   /**
-   * Protobuf type {@code protos.QueryStateClose}
+   * <pre>
+   * GetHistoryForKey is the payload of a ChaincodeMessage. It contains a key
+   * for which the historical values need to be retrieved.
+   * </pre>
+   *
+   * Protobuf type {@code protos.GetHistoryForKey}
    */
-  public  static final class QueryStateClose extends
+  public  static final class GetHistoryForKey extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.QueryStateClose)
-      QueryStateCloseOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.GetHistoryForKey)
+      GetHistoryForKeyOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use QueryStateClose.newBuilder() to construct.
-    private QueryStateClose(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetHistoryForKey.newBuilder() to construct.
+    private GetHistoryForKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private QueryStateClose() {
-      id_ = "";
+    private GetHistoryForKey() {
+      key_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new QueryStateClose();
+      return new GetHistoryForKey();
     }
 
     @java.lang.Override
@@ -9084,7 +9332,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private QueryStateClose(
+    private GetHistoryForKey(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9105,7 +9353,7 @@ public final class ChaincodeShim {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              id_ = s;
+              key_ = s;
               break;
             }
             default: {
@@ -9129,45 +9377,45 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.Builder.class);
     }
 
-    public static final int ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object id_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
     /**
-     * <code>string id = 1;</code>
+     * <code>string key = 1;</code>
      */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        id_ = s;
+        key_ = s;
         return s;
       }
     }
     /**
-     * <code>string id = 1;</code>
+     * <code>string key = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
+        getKeyBytes() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        id_ = b;
+        key_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -9188,8 +9436,8 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      if (!getKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
       }
       unknownFields.writeTo(output);
     }
@@ -9200,8 +9448,8 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!getIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      if (!getKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -9213,13 +9461,13 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey) obj;
 
-      if (!getId()
-          .equals(other.getId())) return false;
+      if (!getKey()
+          .equals(other.getKey())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -9231,76 +9479,76 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9313,7 +9561,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -9329,26 +9577,31 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * Protobuf type {@code protos.QueryStateClose}
+     * <pre>
+     * GetHistoryForKey is the payload of a ChaincodeMessage. It contains a key
+     * for which the historical values need to be retrieved.
+     * </pre>
+     *
+     * Protobuf type {@code protos.GetHistoryForKey}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.QueryStateClose)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateCloseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.GetHistoryForKey)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKeyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9366,7 +9619,7 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        id_ = "";
+        key_ = "";
 
         return this;
       }
@@ -9374,17 +9627,17 @@ public final class ChaincodeShim {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_GetHistoryForKey_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -9392,9 +9645,9 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose(this);
-        result.id_ = id_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey(this);
+        result.key_ = key_;
         onBuilt();
         return result;
       }
@@ -9433,18 +9686,18 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.getDefaultInstance()) return this;
-        if (!other.getId().isEmpty()) {
-          id_ = other.id_;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey.getDefaultInstance()) return this;
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
           onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
@@ -9462,11 +9715,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -9476,71 +9729,71 @@ public final class ChaincodeShim {
         return this;
       }
 
-      private java.lang.Object id_ = "";
+      private java.lang.Object key_ = "";
       /**
-       * <code>string id = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          id_ = s;
+          key_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string key = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
+          getKeyBytes() {
+        java.lang.Object ref = key_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          id_ = b;
+          key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder setId(
+      public Builder setKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        id_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder clearId() {
+      public Builder clearKey() {
         
-        id_ = getDefaultInstance().getId();
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public Builder setIdBytes(
+      public Builder setKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        id_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
@@ -9557,80 +9810,81 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.QueryStateClose)
+      // @@protoc_insertion_point(builder_scope:protos.GetHistoryForKey)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.QueryStateClose)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.GetHistoryForKey)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<QueryStateClose>
-        PARSER = new com.google.protobuf.AbstractParser<QueryStateClose>() {
+    private static final com.google.protobuf.Parser<GetHistoryForKey>
+        PARSER = new com.google.protobuf.AbstractParser<GetHistoryForKey>() {
       @java.lang.Override
-      public QueryStateClose parsePartialFrom(
+      public GetHistoryForKey parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new QueryStateClose(input, extensionRegistry);
+        return new GetHistoryForKey(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<QueryStateClose> parser() {
+    public static com.google.protobuf.Parser<GetHistoryForKey> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<QueryStateClose> getParserForType() {
+    public com.google.protobuf.Parser<GetHistoryForKey> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.GetHistoryForKey getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface QueryResultBytesOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.QueryResultBytes)
+  public interface QueryStateNextOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.QueryStateNext)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>bytes resultBytes = 1;</code>
+     * <code>string id = 1;</code>
      */
-    com.google.protobuf.ByteString getResultBytes();
+    java.lang.String getId();
+    /**
+     * <code>string id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
   }
   /**
-   * <pre>
-   * QueryResultBytes hold the byte representation of a record returned by the peer.
-   * </pre>
-   *
-   * Protobuf type {@code protos.QueryResultBytes}
+   * Protobuf type {@code protos.QueryStateNext}
    */
-  public  static final class QueryResultBytes extends
+  public  static final class QueryStateNext extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.QueryResultBytes)
-      QueryResultBytesOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.QueryStateNext)
+      QueryStateNextOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use QueryResultBytes.newBuilder() to construct.
-    private QueryResultBytes(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use QueryStateNext.newBuilder() to construct.
+    private QueryStateNext(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private QueryResultBytes() {
-      resultBytes_ = com.google.protobuf.ByteString.EMPTY;
+    private QueryStateNext() {
+      id_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new QueryResultBytes();
+      return new QueryStateNext();
     }
 
     @java.lang.Override
@@ -9638,7 +9892,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private QueryResultBytes(
+    private QueryStateNext(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9657,8 +9911,9 @@ public final class ChaincodeShim {
               done = true;
               break;
             case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              resultBytes_ = input.readBytes();
+              id_ = s;
               break;
             }
             default: {
@@ -9682,24 +9937,49 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.Builder.class);
     }
 
-    public static final int RESULTBYTES_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString resultBytes_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object id_;
     /**
-     * <code>bytes resultBytes = 1;</code>
+     * <code>string id = 1;</code>
      */
-    public com.google.protobuf.ByteString getResultBytes() {
-      return resultBytes_;
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private byte memoizedIsInitialized = -1;
@@ -9716,8 +9996,8 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!resultBytes_.isEmpty()) {
-        output.writeBytes(1, resultBytes_);
+      if (!getIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
       }
       unknownFields.writeTo(output);
     }
@@ -9728,9 +10008,8 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!resultBytes_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, resultBytes_);
+      if (!getIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -9742,13 +10021,13 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext) obj;
 
-      if (!getResultBytes()
-          .equals(other.getResultBytes())) return false;
+      if (!getId()
+          .equals(other.getId())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -9760,76 +10039,76 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + RESULTBYTES_FIELD_NUMBER;
-      hash = (53 * hash) + getResultBytes().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9842,7 +10121,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -9858,30 +10137,26 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * <pre>
-     * QueryResultBytes hold the byte representation of a record returned by the peer.
-     * </pre>
-     *
-     * Protobuf type {@code protos.QueryResultBytes}
+     * Protobuf type {@code protos.QueryStateNext}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.QueryResultBytes)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.QueryStateNext)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNextOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9899,7 +10174,7 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        resultBytes_ = com.google.protobuf.ByteString.EMPTY;
+        id_ = "";
 
         return this;
       }
@@ -9907,17 +10182,17 @@ public final class ChaincodeShim {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateNext_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -9925,9 +10200,9 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes(this);
-        result.resultBytes_ = resultBytes_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext(this);
+        result.id_ = id_;
         onBuilt();
         return result;
       }
@@ -9966,18 +10241,19 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.getDefaultInstance()) return this;
-        if (other.getResultBytes() != com.google.protobuf.ByteString.EMPTY) {
-          setResultBytes(other.getResultBytes());
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -9994,11 +10270,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -10008,31 +10284,71 @@ public final class ChaincodeShim {
         return this;
       }
 
-      private com.google.protobuf.ByteString resultBytes_ = com.google.protobuf.ByteString.EMPTY;
+      private java.lang.Object id_ = "";
       /**
-       * <code>bytes resultBytes = 1;</code>
+       * <code>string id = 1;</code>
        */
-      public com.google.protobuf.ByteString getResultBytes() {
-        return resultBytes_;
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>bytes resultBytes = 1;</code>
+       * <code>string id = 1;</code>
        */
-      public Builder setResultBytes(com.google.protobuf.ByteString value) {
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        resultBytes_ = value;
+        id_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>bytes resultBytes = 1;</code>
+       * <code>string id = 1;</code>
        */
-      public Builder clearResultBytes() {
+      public Builder clearId() {
         
-        resultBytes_ = getDefaultInstance().getResultBytes();
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        id_ = value;
         onChanged();
         return this;
       }
@@ -10049,125 +10365,81 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.QueryResultBytes)
+      // @@protoc_insertion_point(builder_scope:protos.QueryStateNext)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.QueryResultBytes)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.QueryStateNext)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<QueryResultBytes>
-        PARSER = new com.google.protobuf.AbstractParser<QueryResultBytes>() {
+    private static final com.google.protobuf.Parser<QueryStateNext>
+        PARSER = new com.google.protobuf.AbstractParser<QueryStateNext>() {
       @java.lang.Override
-      public QueryResultBytes parsePartialFrom(
+      public QueryStateNext parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new QueryResultBytes(input, extensionRegistry);
+        return new QueryStateNext(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<QueryResultBytes> parser() {
+    public static com.google.protobuf.Parser<QueryStateNext> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<QueryResultBytes> getParserForType() {
+    public com.google.protobuf.Parser<QueryStateNext> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface QueryResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.QueryResponse)
+  public interface QueryStateCloseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.QueryStateClose)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> 
-        getResultsList();
-    /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getResults(int index);
-    /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    int getResultsCount();
-    /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> 
-        getResultsOrBuilderList();
-    /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder getResultsOrBuilder(
-        int index);
-
-    /**
-     * <code>bool has_more = 2;</code>
-     */
-    boolean getHasMore();
-
-    /**
-     * <code>string id = 3;</code>
+     * <code>string id = 1;</code>
      */
     java.lang.String getId();
     /**
-     * <code>string id = 3;</code>
+     * <code>string id = 1;</code>
      */
     com.google.protobuf.ByteString
         getIdBytes();
-
-    /**
-     * <code>bytes metadata = 4;</code>
-     */
-    com.google.protobuf.ByteString getMetadata();
   }
   /**
-   * <pre>
-   * QueryResponse is returned by the peer as a result of a GetStateByRange,
-   * GetQueryResult, and GetHistoryForKey. It holds a bunch of records in
-   * results field, a flag to denote whether more results need to be fetched from
-   * the peer in has_more field, transaction id in id field, and a QueryResponseMetadata
-   * in metadata field.
-   * </pre>
-   *
-   * Protobuf type {@code protos.QueryResponse}
+   * Protobuf type {@code protos.QueryStateClose}
    */
-  public  static final class QueryResponse extends
+  public  static final class QueryStateClose extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.QueryResponse)
-      QueryResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.QueryStateClose)
+      QueryStateCloseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use QueryResponse.newBuilder() to construct.
-    private QueryResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use QueryStateClose.newBuilder() to construct.
+    private QueryStateClose(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private QueryResponse() {
-      results_ = java.util.Collections.emptyList();
+    private QueryStateClose() {
       id_ = "";
-      metadata_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new QueryResponse();
+      return new QueryStateClose();
     }
 
     @java.lang.Override
@@ -10175,7 +10447,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private QueryResponse(
+    private QueryStateClose(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10183,7 +10455,6 @@ public final class ChaincodeShim {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
-      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -10195,30 +10466,11 @@ public final class ChaincodeShim {
               done = true;
               break;
             case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
-                results_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              results_.add(
-                  input.readMessage(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.parser(), extensionRegistry));
-              break;
-            }
-            case 16: {
-
-              hasMore_ = input.readBool();
-              break;
-            }
-            case 26: {
               java.lang.String s = input.readStringRequireUtf8();
 
               id_ = s;
               break;
             }
-            case 34: {
-
-              metadata_ = input.readBytes();
-              break;
-            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -10234,89 +10486,42 @@ public final class ChaincodeShim {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) != 0)) {
-          results_ = java.util.Collections.unmodifiableList(results_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.Builder.class);
     }
 
-    public static final int RESULTS_FIELD_NUMBER = 1;
-    private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> results_;
-    /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> getResultsList() {
-      return results_;
-    }
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object id_;
     /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     * <code>string id = 1;</code>
      */
-    public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> 
-        getResultsOrBuilderList() {
-      return results_;
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
     }
     /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    public int getResultsCount() {
-      return results_.size();
-    }
-    /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getResults(int index) {
-      return results_.get(index);
-    }
-    /**
-     * <code>repeated .protos.QueryResultBytes results = 1;</code>
-     */
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder getResultsOrBuilder(
-        int index) {
-      return results_.get(index);
-    }
-
-    public static final int HAS_MORE_FIELD_NUMBER = 2;
-    private boolean hasMore_;
-    /**
-     * <code>bool has_more = 2;</code>
-     */
-    public boolean getHasMore() {
-      return hasMore_;
-    }
-
-    public static final int ID_FIELD_NUMBER = 3;
-    private volatile java.lang.Object id_;
-    /**
-     * <code>string id = 3;</code>
-     */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        id_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string id = 3;</code>
+     * <code>string id = 1;</code>
      */
     public com.google.protobuf.ByteString
         getIdBytes() {
@@ -10332,15 +10537,6 @@ public final class ChaincodeShim {
       }
     }
 
-    public static final int METADATA_FIELD_NUMBER = 4;
-    private com.google.protobuf.ByteString metadata_;
-    /**
-     * <code>bytes metadata = 4;</code>
-     */
-    public com.google.protobuf.ByteString getMetadata() {
-      return metadata_;
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -10355,17 +10551,8 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < results_.size(); i++) {
-        output.writeMessage(1, results_.get(i));
-      }
-      if (hasMore_ != false) {
-        output.writeBool(2, hasMore_);
-      }
       if (!getIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, id_);
-      }
-      if (!metadata_.isEmpty()) {
-        output.writeBytes(4, metadata_);
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
       }
       unknownFields.writeTo(output);
     }
@@ -10376,20 +10563,8 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < results_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, results_.get(i));
-      }
-      if (hasMore_ != false) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, hasMore_);
-      }
       if (!getIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, id_);
-      }
-      if (!metadata_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, metadata_);
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -10401,19 +10576,13 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose) obj;
 
-      if (!getResultsList()
-          .equals(other.getResultsList())) return false;
-      if (getHasMore()
-          != other.getHasMore()) return false;
       if (!getId()
           .equals(other.getId())) return false;
-      if (!getMetadata()
-          .equals(other.getMetadata())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -10425,85 +10594,76 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getResultsCount() > 0) {
-        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
-        hash = (53 * hash) + getResultsList().hashCode();
-      }
-      hash = (37 * hash) + HAS_MORE_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getHasMore());
       hash = (37 * hash) + ID_FIELD_NUMBER;
       hash = (53 * hash) + getId().hashCode();
-      hash = (37 * hash) + METADATA_FIELD_NUMBER;
-      hash = (53 * hash) + getMetadata().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -10516,7 +10676,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -10532,34 +10692,26 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * <pre>
-     * QueryResponse is returned by the peer as a result of a GetStateByRange,
-     * GetQueryResult, and GetHistoryForKey. It holds a bunch of records in
-     * results field, a flag to denote whether more results need to be fetched from
-     * the peer in has_more field, transaction id in id field, and a QueryResponseMetadata
-     * in metadata field.
-     * </pre>
-     *
-     * Protobuf type {@code protos.QueryResponse}
+     * Protobuf type {@code protos.QueryStateClose}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.QueryResponse)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.QueryStateClose)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateCloseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -10572,41 +10724,30 @@ public final class ChaincodeShim {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getResultsFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (resultsBuilder_ == null) {
-          results_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          resultsBuilder_.clear();
-        }
-        hasMore_ = false;
-
         id_ = "";
 
-        metadata_ = com.google.protobuf.ByteString.EMPTY;
-
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryStateClose_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -10614,21 +10755,9 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse(this);
-        int from_bitField0_ = bitField0_;
-        if (resultsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0)) {
-            results_ = java.util.Collections.unmodifiableList(results_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.results_ = results_;
-        } else {
-          result.results_ = resultsBuilder_.build();
-        }
-        result.hasMore_ = hasMore_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose(this);
         result.id_ = id_;
-        result.metadata_ = metadata_;
         onBuilt();
         return result;
       }
@@ -10667,52 +10796,20 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.getDefaultInstance()) return this;
-        if (resultsBuilder_ == null) {
-          if (!other.results_.isEmpty()) {
-            if (results_.isEmpty()) {
-              results_ = other.results_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureResultsIsMutable();
-              results_.addAll(other.results_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.results_.isEmpty()) {
-            if (resultsBuilder_.isEmpty()) {
-              resultsBuilder_.dispose();
-              resultsBuilder_ = null;
-              results_ = other.results_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              resultsBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getResultsFieldBuilder() : null;
-            } else {
-              resultsBuilder_.addAllMessages(other.results_);
-            }
-          }
-        }
-        if (other.getHasMore() != false) {
-          setHasMore(other.getHasMore());
-        }
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose.getDefaultInstance()) return this;
         if (!other.getId().isEmpty()) {
           id_ = other.id_;
           onChanged();
         }
-        if (other.getMetadata() != com.google.protobuf.ByteString.EMPTY) {
-          setMetadata(other.getMetadata());
-        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -10728,11 +10825,11 @@ public final class ChaincodeShim {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parsedMessage = null;
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse) e.getUnfinishedMessage();
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -10741,368 +10838,4233 @@ public final class ChaincodeShim {
         }
         return this;
       }
-      private int bitField0_;
-
-      private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> results_ =
-        java.util.Collections.emptyList();
-      private void ensureResultsIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
-          results_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes>(results_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> resultsBuilder_;
 
+      private java.lang.Object id_ = "";
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string id = 1;</code>
        */
-      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> getResultsList() {
-        if (resultsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(results_);
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
         } else {
-          return resultsBuilder_.getMessageList();
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string id = 1;</code>
        */
-      public int getResultsCount() {
-        if (resultsBuilder_ == null) {
-          return results_.size();
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
         } else {
-          return resultsBuilder_.getCount();
+          return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string id = 1;</code>
        */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getResults(int index) {
-        if (resultsBuilder_ == null) {
-          return results_.get(index);
-        } else {
-          return resultsBuilder_.getMessage(index);
-        }
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        id_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string id = 1;</code>
        */
-      public Builder setResults(
-          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes value) {
-        if (resultsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureResultsIsMutable();
-          results_.set(index, value);
-          onChanged();
-        } else {
-          resultsBuilder_.setMessage(index, value);
-        }
+      public Builder clearId() {
+        
+        id_ = getDefaultInstance().getId();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string id = 1;</code>
        */
-      public Builder setResults(
-          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder builderForValue) {
-        if (resultsBuilder_ == null) {
-          ensureResultsIsMutable();
-          results_.set(index, builderForValue.build());
-          onChanged();
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protos.QueryStateClose)
+    }
+
+    // @@protoc_insertion_point(class_scope:protos.QueryStateClose)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose();
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryStateClose>
+        PARSER = new com.google.protobuf.AbstractParser<QueryStateClose>() {
+      @java.lang.Override
+      public QueryStateClose parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QueryStateClose(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryStateClose> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryStateClose> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryResultBytesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.QueryResultBytes)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes resultBytes = 1;</code>
+     */
+    com.google.protobuf.ByteString getResultBytes();
+  }
+  /**
+   * <pre>
+   * QueryResultBytes hold the byte representation of a record returned by the peer.
+   * </pre>
+   *
+   * Protobuf type {@code protos.QueryResultBytes}
+   */
+  public  static final class QueryResultBytes extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protos.QueryResultBytes)
+      QueryResultBytesOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryResultBytes.newBuilder() to construct.
+    private QueryResultBytes(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryResultBytes() {
+      resultBytes_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryResultBytes();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QueryResultBytes(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+
+              resultBytes_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder.class);
+    }
+
+    public static final int RESULTBYTES_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString resultBytes_;
+    /**
+     * <code>bytes resultBytes = 1;</code>
+     */
+    public com.google.protobuf.ByteString getResultBytes() {
+      return resultBytes_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!resultBytes_.isEmpty()) {
+        output.writeBytes(1, resultBytes_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!resultBytes_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, resultBytes_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes)) {
+        return super.equals(obj);
+      }
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes) obj;
+
+      if (!getResultBytes()
+          .equals(other.getResultBytes())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESULTBYTES_FIELD_NUMBER;
+      hash = (53 * hash) + getResultBytes().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * QueryResultBytes hold the byte representation of a record returned by the peer.
+     * </pre>
+     *
+     * Protobuf type {@code protos.QueryResultBytes}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protos.QueryResultBytes)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder.class);
+      }
+
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resultBytes_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResultBytes_descriptor;
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes(this);
+        result.resultBytes_ = resultBytes_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.getDefaultInstance()) return this;
+        if (other.getResultBytes() != com.google.protobuf.ByteString.EMPTY) {
+          setResultBytes(other.getResultBytes());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString resultBytes_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes resultBytes = 1;</code>
+       */
+      public com.google.protobuf.ByteString getResultBytes() {
+        return resultBytes_;
+      }
+      /**
+       * <code>bytes resultBytes = 1;</code>
+       */
+      public Builder setResultBytes(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resultBytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes resultBytes = 1;</code>
+       */
+      public Builder clearResultBytes() {
+        
+        resultBytes_ = getDefaultInstance().getResultBytes();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protos.QueryResultBytes)
+    }
+
+    // @@protoc_insertion_point(class_scope:protos.QueryResultBytes)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes();
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryResultBytes>
+        PARSER = new com.google.protobuf.AbstractParser<QueryResultBytes>() {
+      @java.lang.Override
+      public QueryResultBytes parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QueryResultBytes(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryResultBytes> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryResultBytes> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.QueryResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> 
+        getResultsList();
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getResults(int index);
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    int getResultsCount();
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder getResultsOrBuilder(
+        int index);
+
+    /**
+     * <code>bool has_more = 2;</code>
+     */
+    boolean getHasMore();
+
+    /**
+     * <code>string id = 3;</code>
+     */
+    java.lang.String getId();
+    /**
+     * <code>string id = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>bytes metadata = 4;</code>
+     */
+    com.google.protobuf.ByteString getMetadata();
+  }
+  /**
+   * <pre>
+   * QueryResponse is returned by the peer as a result of a GetStateByRange,
+   * GetQueryResult, and GetHistoryForKey. It holds a bunch of records in
+   * results field, a flag to denote whether more results need to be fetched from
+   * the peer in has_more field, transaction id in id field, and a QueryResponseMetadata
+   * in metadata field.
+   * </pre>
+   *
+   * Protobuf type {@code protos.QueryResponse}
+   */
+  public  static final class QueryResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protos.QueryResponse)
+      QueryResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryResponse.newBuilder() to construct.
+    private QueryResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryResponse() {
+      results_ = java.util.Collections.emptyList();
+      id_ = "";
+      metadata_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QueryResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                results_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              results_.add(
+                  input.readMessage(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.parser(), extensionRegistry));
+              break;
+            }
+            case 16: {
+
+              hasMore_ = input.readBool();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              id_ = s;
+              break;
+            }
+            case 34: {
+
+              metadata_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          results_ = java.util.Collections.unmodifiableList(results_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.Builder.class);
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 1;
+    private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> results_;
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> getResultsList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated .protos.QueryResultBytes results = 1;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    public static final int HAS_MORE_FIELD_NUMBER = 2;
+    private boolean hasMore_;
+    /**
+     * <code>bool has_more = 2;</code>
+     */
+    public boolean getHasMore() {
+      return hasMore_;
+    }
+
+    public static final int ID_FIELD_NUMBER = 3;
+    private volatile java.lang.Object id_;
+    /**
+     * <code>string id = 3;</code>
+     */
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string id = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int METADATA_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString metadata_;
+    /**
+     * <code>bytes metadata = 4;</code>
+     */
+    public com.google.protobuf.ByteString getMetadata() {
+      return metadata_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(1, results_.get(i));
+      }
+      if (hasMore_ != false) {
+        output.writeBool(2, hasMore_);
+      }
+      if (!getIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, id_);
+      }
+      if (!metadata_.isEmpty()) {
+        output.writeBytes(4, metadata_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, results_.get(i));
+      }
+      if (hasMore_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, hasMore_);
+      }
+      if (!getIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, id_);
+      }
+      if (!metadata_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, metadata_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse)) {
+        return super.equals(obj);
+      }
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse) obj;
+
+      if (!getResultsList()
+          .equals(other.getResultsList())) return false;
+      if (getHasMore()
+          != other.getHasMore()) return false;
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (!getMetadata()
+          .equals(other.getMetadata())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      hash = (37 * hash) + HAS_MORE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getHasMore());
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + METADATA_FIELD_NUMBER;
+      hash = (53 * hash) + getMetadata().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * QueryResponse is returned by the peer as a result of a GetStateByRange,
+     * GetQueryResult, and GetHistoryForKey. It holds a bunch of records in
+     * results field, a flag to denote whether more results need to be fetched from
+     * the peer in has_more field, transaction id in id field, and a QueryResponseMetadata
+     * in metadata field.
+     * </pre>
+     *
+     * Protobuf type {@code protos.QueryResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protos.QueryResponse)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.Builder.class);
+      }
+
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResultsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          resultsBuilder_.clear();
+        }
+        hasMore_ = false;
+
+        id_ = "";
+
+        metadata_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+        result.hasMore_ = hasMore_;
+        result.id_ = id_;
+        result.metadata_ = metadata_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse.getDefaultInstance()) return this;
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        if (other.getHasMore() != false) {
+          setHasMore(other.getHasMore());
+        }
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          onChanged();
+        }
+        if (other.getMetadata() != com.google.protobuf.ByteString.EMPTY) {
+          setMetadata(other.getMetadata());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          results_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes>(results_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> resultsBuilder_;
+
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder setResults(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder setResults(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder addResults(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder addResults(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder addResults(
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder addResults(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       */
+      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+
+      private boolean hasMore_ ;
+      /**
+       * <code>bool has_more = 2;</code>
+       */
+      public boolean getHasMore() {
+        return hasMore_;
+      }
+      /**
+       * <code>bool has_more = 2;</code>
+       */
+      public Builder setHasMore(boolean value) {
+        
+        hasMore_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool has_more = 2;</code>
+       */
+      public Builder clearHasMore() {
+        
+        hasMore_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>string id = 3;</code>
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string id = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string id = 3;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 3;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 3;</code>
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString metadata_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes metadata = 4;</code>
+       */
+      public com.google.protobuf.ByteString getMetadata() {
+        return metadata_;
+      }
+      /**
+       * <code>bytes metadata = 4;</code>
+       */
+      public Builder setMetadata(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        metadata_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes metadata = 4;</code>
+       */
+      public Builder clearMetadata() {
+        
+        metadata_ = getDefaultInstance().getMetadata();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protos.QueryResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:protos.QueryResponse)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse();
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryResponse>
+        PARSER = new com.google.protobuf.AbstractParser<QueryResponse>() {
+      @java.lang.Override
+      public QueryResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QueryResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryResponseMetadataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.QueryResponseMetadata)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 fetched_records_count = 1;</code>
+     */
+    int getFetchedRecordsCount();
+
+    /**
+     * <code>string bookmark = 2;</code>
+     */
+    java.lang.String getBookmark();
+    /**
+     * <code>string bookmark = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getBookmarkBytes();
+  }
+  /**
+   * <pre>
+   * QueryResponseMetadata is the metadata of a QueryResponse. It contains a count
+   * which denotes the number of records fetched from the ledger and a bookmark.
+   * </pre>
+   *
+   * Protobuf type {@code protos.QueryResponseMetadata}
+   */
+  public  static final class QueryResponseMetadata extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protos.QueryResponseMetadata)
+      QueryResponseMetadataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryResponseMetadata.newBuilder() to construct.
+    private QueryResponseMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryResponseMetadata() {
+      bookmark_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryResponseMetadata();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QueryResponseMetadata(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              fetchedRecordsCount_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              bookmark_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.Builder.class);
+    }
+
+    public static final int FETCHED_RECORDS_COUNT_FIELD_NUMBER = 1;
+    private int fetchedRecordsCount_;
+    /**
+     * <code>int32 fetched_records_count = 1;</code>
+     */
+    public int getFetchedRecordsCount() {
+      return fetchedRecordsCount_;
+    }
+
+    public static final int BOOKMARK_FIELD_NUMBER = 2;
+    private volatile java.lang.Object bookmark_;
+    /**
+     * <code>string bookmark = 2;</code>
+     */
+    public java.lang.String getBookmark() {
+      java.lang.Object ref = bookmark_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        bookmark_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string bookmark = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getBookmarkBytes() {
+      java.lang.Object ref = bookmark_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        bookmark_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (fetchedRecordsCount_ != 0) {
+        output.writeInt32(1, fetchedRecordsCount_);
+      }
+      if (!getBookmarkBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, bookmark_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (fetchedRecordsCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, fetchedRecordsCount_);
+      }
+      if (!getBookmarkBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, bookmark_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata)) {
+        return super.equals(obj);
+      }
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata) obj;
+
+      if (getFetchedRecordsCount()
+          != other.getFetchedRecordsCount()) return false;
+      if (!getBookmark()
+          .equals(other.getBookmark())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FETCHED_RECORDS_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getFetchedRecordsCount();
+      hash = (37 * hash) + BOOKMARK_FIELD_NUMBER;
+      hash = (53 * hash) + getBookmark().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * QueryResponseMetadata is the metadata of a QueryResponse. It contains a count
+     * which denotes the number of records fetched from the ledger and a bookmark.
+     * </pre>
+     *
+     * Protobuf type {@code protos.QueryResponseMetadata}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protos.QueryResponseMetadata)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.Builder.class);
+      }
+
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        fetchedRecordsCount_ = 0;
+
+        bookmark_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_descriptor;
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata(this);
+        result.fetchedRecordsCount_ = fetchedRecordsCount_;
+        result.bookmark_ = bookmark_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.getDefaultInstance()) return this;
+        if (other.getFetchedRecordsCount() != 0) {
+          setFetchedRecordsCount(other.getFetchedRecordsCount());
+        }
+        if (!other.getBookmark().isEmpty()) {
+          bookmark_ = other.bookmark_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int fetchedRecordsCount_ ;
+      /**
+       * <code>int32 fetched_records_count = 1;</code>
+       */
+      public int getFetchedRecordsCount() {
+        return fetchedRecordsCount_;
+      }
+      /**
+       * <code>int32 fetched_records_count = 1;</code>
+       */
+      public Builder setFetchedRecordsCount(int value) {
+        
+        fetchedRecordsCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 fetched_records_count = 1;</code>
+       */
+      public Builder clearFetchedRecordsCount() {
+        
+        fetchedRecordsCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object bookmark_ = "";
+      /**
+       * <code>string bookmark = 2;</code>
+       */
+      public java.lang.String getBookmark() {
+        java.lang.Object ref = bookmark_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          bookmark_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string bookmark = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getBookmarkBytes() {
+        java.lang.Object ref = bookmark_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          bookmark_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string bookmark = 2;</code>
+       */
+      public Builder setBookmark(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        bookmark_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string bookmark = 2;</code>
+       */
+      public Builder clearBookmark() {
+        
+        bookmark_ = getDefaultInstance().getBookmark();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string bookmark = 2;</code>
+       */
+      public Builder setBookmarkBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        bookmark_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protos.QueryResponseMetadata)
+    }
+
+    // @@protoc_insertion_point(class_scope:protos.QueryResponseMetadata)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata();
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryResponseMetadata>
+        PARSER = new com.google.protobuf.AbstractParser<QueryResponseMetadata>() {
+      @java.lang.Override
+      public QueryResponseMetadata parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new QueryResponseMetadata(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryResponseMetadata> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryResponseMetadata> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WriteBatchStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.WriteBatchState)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord> 
+        getRecList();
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord getRec(int index);
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    int getRecCount();
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder> 
+        getRecOrBuilderList();
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder getRecOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * WriteBatchState is the payload of a ChaincodeMessage. It contains the writes
+   * made by a transaction, which the peer applies in order as if each had been
+   * sent in its own message.
+   * </pre>
+   *
+   * Protobuf type {@code protos.WriteBatchState}
+   */
+  public  static final class WriteBatchState extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protos.WriteBatchState)
+      WriteBatchStateOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WriteBatchState.newBuilder() to construct.
+    private WriteBatchState(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WriteBatchState() {
+      rec_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WriteBatchState();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WriteBatchState(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                rec_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              rec_.add(
+                  input.readMessage(org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          rec_ = java.util.Collections.unmodifiableList(rec_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteBatchState_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteBatchState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState.Builder.class);
+    }
+
+    public static final int REC_FIELD_NUMBER = 1;
+    private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord> rec_;
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord> getRecList() {
+      return rec_;
+    }
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder> 
+        getRecOrBuilderList() {
+      return rec_;
+    }
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    public int getRecCount() {
+      return rec_.size();
+    }
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord getRec(int index) {
+      return rec_.get(index);
+    }
+    /**
+     * <code>repeated .protos.WriteRecord rec = 1;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder getRecOrBuilder(
+        int index) {
+      return rec_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < rec_.size(); i++) {
+        output.writeMessage(1, rec_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < rec_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, rec_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState)) {
+        return super.equals(obj);
+      }
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState) obj;
+
+      if (!getRecList()
+          .equals(other.getRecList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getRecCount() > 0) {
+        hash = (37 * hash) + REC_FIELD_NUMBER;
+        hash = (53 * hash) + getRecList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * WriteBatchState is the payload of a ChaincodeMessage. It contains the writes
+     * made by a transaction, which the peer applies in order as if each had been
+     * sent in its own message.
+     * </pre>
+     *
+     * Protobuf type {@code protos.WriteBatchState}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protos.WriteBatchState)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchStateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteBatchState_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteBatchState_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState.Builder.class);
+      }
+
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getRecFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (recBuilder_ == null) {
+          rec_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          recBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteBatchState_descriptor;
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState(this);
+        int from_bitField0_ = bitField0_;
+        if (recBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            rec_ = java.util.Collections.unmodifiableList(rec_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.rec_ = rec_;
+        } else {
+          result.rec_ = recBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState.getDefaultInstance()) return this;
+        if (recBuilder_ == null) {
+          if (!other.rec_.isEmpty()) {
+            if (rec_.isEmpty()) {
+              rec_ = other.rec_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRecIsMutable();
+              rec_.addAll(other.rec_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.rec_.isEmpty()) {
+            if (recBuilder_.isEmpty()) {
+              recBuilder_.dispose();
+              recBuilder_ = null;
+              rec_ = other.rec_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              recBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRecFieldBuilder() : null;
+            } else {
+              recBuilder_.addAllMessages(other.rec_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord> rec_ =
+        java.util.Collections.emptyList();
+      private void ensureRecIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          rec_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord>(rec_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder> recBuilder_;
+
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord> getRecList() {
+        if (recBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(rec_);
+        } else {
+          return recBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public int getRecCount() {
+        if (recBuilder_ == null) {
+          return rec_.size();
+        } else {
+          return recBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord getRec(int index) {
+        if (recBuilder_ == null) {
+          return rec_.get(index);
+        } else {
+          return recBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder setRec(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord value) {
+        if (recBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRecIsMutable();
+          rec_.set(index, value);
+          onChanged();
+        } else {
+          recBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder setRec(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder builderForValue) {
+        if (recBuilder_ == null) {
+          ensureRecIsMutable();
+          rec_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          recBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder addRec(org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord value) {
+        if (recBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRecIsMutable();
+          rec_.add(value);
+          onChanged();
+        } else {
+          recBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder addRec(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord value) {
+        if (recBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRecIsMutable();
+          rec_.add(index, value);
+          onChanged();
+        } else {
+          recBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder addRec(
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder builderForValue) {
+        if (recBuilder_ == null) {
+          ensureRecIsMutable();
+          rec_.add(builderForValue.build());
+          onChanged();
+        } else {
+          recBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder addRec(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder builderForValue) {
+        if (recBuilder_ == null) {
+          ensureRecIsMutable();
+          rec_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          recBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder addAllRec(
+          java.lang.Iterable<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord> values) {
+        if (recBuilder_ == null) {
+          ensureRecIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, rec_);
+          onChanged();
+        } else {
+          recBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder clearRec() {
+        if (recBuilder_ == null) {
+          rec_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          recBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public Builder removeRec(int index) {
+        if (recBuilder_ == null) {
+          ensureRecIsMutable();
+          rec_.remove(index);
+          onChanged();
+        } else {
+          recBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder getRecBuilder(
+          int index) {
+        return getRecFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder getRecOrBuilder(
+          int index) {
+        if (recBuilder_ == null) {
+          return rec_.get(index);  } else {
+          return recBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder> 
+           getRecOrBuilderList() {
+        if (recBuilder_ != null) {
+          return recBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(rec_);
+        }
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder addRecBuilder() {
+        return getRecFieldBuilder().addBuilder(
+            org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder addRecBuilder(
+          int index) {
+        return getRecFieldBuilder().addBuilder(
+            index, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protos.WriteRecord rec = 1;</code>
+       */
+      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder> 
+           getRecBuilderList() {
+        return getRecFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder> 
+          getRecFieldBuilder() {
+        if (recBuilder_ == null) {
+          recBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder>(
+                  rec_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          rec_ = null;
+        }
+        return recBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:protos.WriteBatchState)
+    }
+
+    // @@protoc_insertion_point(class_scope:protos.WriteBatchState)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState();
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WriteBatchState>
+        PARSER = new com.google.protobuf.AbstractParser<WriteBatchState>() {
+      @java.lang.Override
+      public WriteBatchState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WriteBatchState(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WriteBatchState> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WriteBatchState> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WriteRecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.WriteRecord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string key = 1;</code>
+     */
+    java.lang.String getKey();
+    /**
+     * <code>string key = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>bytes value = 2;</code>
+     */
+    com.google.protobuf.ByteString getValue();
+
+    /**
+     * <code>string collection = 3;</code>
+     */
+    java.lang.String getCollection();
+    /**
+     * <code>string collection = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getCollectionBytes();
+
+    /**
+     * <code>.protos.StateMetadata metadata = 4;</code>
+     */
+    boolean hasMetadata();
+    /**
+     * <code>.protos.StateMetadata metadata = 4;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata();
+    /**
+     * <code>.protos.StateMetadata metadata = 4;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder();
+
+    /**
+     * <code>.protos.WriteRecord.Type type = 5;</code>
+     */
+    int getTypeValue();
+    /**
+     * <code>.protos.WriteRecord.Type type = 5;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type getType();
+  }
+  /**
+   * <pre>
+   * WriteRecord is a single write in a WriteBatchState. The type denotes which of
+   * PutState, DelState or PutStateMetadata the record stands for.
+   * </pre>
+   *
+   * Protobuf type {@code protos.WriteRecord}
+   */
+  public  static final class WriteRecord extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:protos.WriteRecord)
+      WriteRecordOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WriteRecord.newBuilder() to construct.
+    private WriteRecord(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WriteRecord() {
+      key_ = "";
+      value_ = com.google.protobuf.ByteString.EMPTY;
+      collection_ = "";
+      type_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WriteRecord();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WriteRecord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              key_ = s;
+              break;
+            }
+            case 18: {
+
+              value_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              collection_ = s;
+              break;
+            }
+            case 34: {
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder subBuilder = null;
+              if (metadata_ != null) {
+                subBuilder = metadata_.toBuilder();
+              }
+              metadata_ = input.readMessage(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(metadata_);
+                metadata_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 40: {
+              int rawValue = input.readEnum();
+
+              type_ = rawValue;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteRecord_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code protos.WriteRecord.Type}
+     */
+    public enum Type
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>UNDEFINED = 0;</code>
+       */
+      UNDEFINED(0),
+      /**
+       * <code>PUT_STATE = 9;</code>
+       */
+      PUT_STATE(9),
+      /**
+       * <code>DEL_STATE = 10;</code>
+       */
+      DEL_STATE(10),
+      /**
+       * <code>PUT_STATE_METADATA = 21;</code>
+       */
+      PUT_STATE_METADATA(21),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>UNDEFINED = 0;</code>
+       */
+      public static final int UNDEFINED_VALUE = 0;
+      /**
+       * <code>PUT_STATE = 9;</code>
+       */
+      public static final int PUT_STATE_VALUE = 9;
+      /**
+       * <code>DEL_STATE = 10;</code>
+       */
+      public static final int DEL_STATE_VALUE = 10;
+      /**
+       * <code>PUT_STATE_METADATA = 21;</code>
+       */
+      public static final int PUT_STATE_METADATA_VALUE = 21;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Type valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static Type forNumber(int value) {
+        switch (value) {
+          case 0: return UNDEFINED;
+          case 9: return PUT_STATE;
+          case 10: return DEL_STATE;
+          case 21: return PUT_STATE_METADATA;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Type>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Type> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Type>() {
+              public Type findValueByNumber(int number) {
+                return Type.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Type[] VALUES = values();
+
+      public static Type valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Type(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:protos.WriteRecord.Type)
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
+    /**
+     * <code>string key = 1;</code>
+     */
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string key = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>bytes value = 2;</code>
+     */
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    public static final int COLLECTION_FIELD_NUMBER = 3;
+    private volatile java.lang.Object collection_;
+    /**
+     * <code>string collection = 3;</code>
+     */
+    public java.lang.String getCollection() {
+      java.lang.Object ref = collection_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        collection_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string collection = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCollectionBytes() {
+      java.lang.Object ref = collection_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        collection_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int METADATA_FIELD_NUMBER = 4;
+    private org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata metadata_;
+    /**
+     * <code>.protos.StateMetadata metadata = 4;</code>
+     */
+    public boolean hasMetadata() {
+      return metadata_ != null;
+    }
+    /**
+     * <code>.protos.StateMetadata metadata = 4;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata() {
+      return metadata_ == null ? org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
+    }
+    /**
+     * <code>.protos.StateMetadata metadata = 4;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder() {
+      return getMetadata();
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 5;
+    private int type_;
+    /**
+     * <code>.protos.WriteRecord.Type type = 5;</code>
+     */
+    public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.protos.WriteRecord.Type type = 5;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type getType() {
+      @SuppressWarnings("deprecation")
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type result = org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type.valueOf(type_);
+      return result == null ? org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      }
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
+      }
+      if (!getCollectionBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, collection_);
+      }
+      if (metadata_ != null) {
+        output.writeMessage(4, getMetadata());
+      }
+      if (type_ != org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type.UNDEFINED.getNumber()) {
+        output.writeEnum(5, type_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      }
+      if (!value_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      if (!getCollectionBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, collection_);
+      }
+      if (metadata_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getMetadata());
+      }
+      if (type_ != org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type.UNDEFINED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, type_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord)) {
+        return super.equals(obj);
+      }
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord) obj;
+
+      if (!getKey()
+          .equals(other.getKey())) return false;
+      if (!getValue()
+          .equals(other.getValue())) return false;
+      if (!getCollection()
+          .equals(other.getCollection())) return false;
+      if (hasMetadata() != other.hasMetadata()) return false;
+      if (hasMetadata()) {
+        if (!getMetadata()
+            .equals(other.getMetadata())) return false;
+      }
+      if (type_ != other.type_) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (37 * hash) + COLLECTION_FIELD_NUMBER;
+      hash = (53 * hash) + getCollection().hashCode();
+      if (hasMetadata()) {
+        hash = (37 * hash) + METADATA_FIELD_NUMBER;
+        hash = (53 * hash) + getMetadata().hashCode();
+      }
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * WriteRecord is a single write in a WriteBatchState. The type denotes which of
+     * PutState, DelState or PutStateMetadata the record stands for.
+     * </pre>
+     *
+     * Protobuf type {@code protos.WriteRecord}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:protos.WriteRecord)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteRecord_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteRecord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Builder.class);
+      }
+
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+
+        value_ = com.google.protobuf.ByteString.EMPTY;
+
+        collection_ = "";
+
+        if (metadataBuilder_ == null) {
+          metadata_ = null;
         } else {
-          resultsBuilder_.setMessage(index, builderForValue.build());
+          metadata_ = null;
+          metadataBuilder_ = null;
         }
+        type_ = 0;
+
         return this;
       }
-      /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
-       */
-      public Builder addResults(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes value) {
-        if (resultsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureResultsIsMutable();
-          results_.add(value);
-          onChanged();
-        } else {
-          resultsBuilder_.addMessage(value);
-        }
-        return this;
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_WriteRecord_descriptor;
       }
-      /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
-       */
-      public Builder addResults(
-          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes value) {
-        if (resultsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureResultsIsMutable();
-          results_.add(index, value);
-          onChanged();
-        } else {
-          resultsBuilder_.addMessage(index, value);
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        return this;
+        return result;
       }
-      /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
-       */
-      public Builder addResults(
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder builderForValue) {
-        if (resultsBuilder_ == null) {
-          ensureResultsIsMutable();
-          results_.add(builderForValue.build());
-          onChanged();
+
+      @java.lang.Override
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord(this);
+        result.key_ = key_;
+        result.value_ = value_;
+        result.collection_ = collection_;
+        if (metadataBuilder_ == null) {
+          result.metadata_ = metadata_;
         } else {
-          resultsBuilder_.addMessage(builderForValue.build());
+          result.metadata_ = metadataBuilder_.build();
         }
-        return this;
+        result.type_ = type_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
-       */
-      public Builder addResults(
-          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder builderForValue) {
-        if (resultsBuilder_ == null) {
-          ensureResultsIsMutable();
-          results_.add(index, builderForValue.build());
-          onChanged();
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord)other);
         } else {
-          resultsBuilder_.addMessage(index, builderForValue.build());
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
-       */
-      public Builder addAllResults(
-          java.lang.Iterable<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes> values) {
-        if (resultsBuilder_ == null) {
-          ensureResultsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, results_);
+
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.getDefaultInstance()) return this;
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
           onChanged();
-        } else {
-          resultsBuilder_.addAllMessages(values);
         }
-        return this;
-      }
-      /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
-       */
-      public Builder clearResults() {
-        if (resultsBuilder_ == null) {
-          results_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
+        }
+        if (!other.getCollection().isEmpty()) {
+          collection_ = other.collection_;
           onChanged();
-        } else {
-          resultsBuilder_.clear();
         }
+        if (other.hasMetadata()) {
+          mergeMetadata(other.getMetadata());
+        }
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
-       */
-      public Builder removeResults(int index) {
-        if (resultsBuilder_ == null) {
-          ensureResultsIsMutable();
-          results_.remove(index);
-          onChanged();
-        } else {
-          resultsBuilder_.remove(index);
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
         return this;
       }
+
+      private java.lang.Object key_ = "";
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
-       */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder getResultsBuilder(
-          int index) {
-        return getResultsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder getResultsOrBuilder(
-          int index) {
-        if (resultsBuilder_ == null) {
-          return results_.get(index);  } else {
-          return resultsBuilder_.getMessageOrBuilder(index);
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> 
-           getResultsOrBuilderList() {
-        if (resultsBuilder_ != null) {
-          return resultsBuilder_.getMessageOrBuilderList();
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
         } else {
-          return java.util.Collections.unmodifiableList(results_);
+          return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder addResultsBuilder() {
-        return getResultsFieldBuilder().addBuilder(
-            org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.getDefaultInstance());
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        key_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder addResultsBuilder(
-          int index) {
-        return getResultsFieldBuilder().addBuilder(
-            index, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.getDefaultInstance());
+      public Builder clearKey() {
+        
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .protos.QueryResultBytes results = 1;</code>
+       * <code>string key = 1;</code>
        */
-      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder> 
-           getResultsBuilderList() {
-        return getResultsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder> 
-          getResultsFieldBuilder() {
-        if (resultsBuilder_ == null) {
-          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytesOrBuilder>(
-                  results_,
-                  ((bitField0_ & 0x00000001) != 0),
-                  getParentForChildren(),
-                  isClean());
-          results_ = null;
-        }
-        return resultsBuilder_;
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        key_ = value;
+        onChanged();
+        return this;
       }
 
-      private boolean hasMore_ ;
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>bool has_more = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public boolean getHasMore() {
-        return hasMore_;
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
       }
       /**
-       * <code>bool has_more = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public Builder setHasMore(boolean value) {
-        
-        hasMore_ = value;
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>bool has_more = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public Builder clearHasMore() {
+      public Builder clearValue() {
         
-        hasMore_ = false;
+        value_ = getDefaultInstance().getValue();
         onChanged();
         return this;
       }
 
-      private java.lang.Object id_ = "";
+      private java.lang.Object collection_ = "";
       /**
-       * <code>string id = 3;</code>
+       * <code>string collection = 3;</code>
        */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
+      public java.lang.String getCollection() {
+        java.lang.Object ref = collection_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          id_ = s;
+          collection_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string id = 3;</code>
+       * <code>string collection = 3;</code>
        */
       public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
+          getCollectionBytes() {
+        java.lang.Object ref = collection_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          id_ = b;
+          collection_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string id = 3;</code>
+       * <code>string collection = 3;</code>
        */
-      public Builder setId(
+      public Builder setCollection(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        id_ = value;
+        collection_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string id = 3;</code>
+       * <code>string collection = 3;</code>
        */
-      public Builder clearId() {
+      public Builder clearCollection() {
         
-        id_ = getDefaultInstance().getId();
+        collection_ = getDefaultInstance().getCollection();
         onChanged();
         return this;
       }
       /**
-       * <code>string id = 3;</code>
+       * <code>string collection = 3;</code>
        */
-      public Builder setIdBytes(
+      public Builder setCollectionBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        id_ = value;
+        collection_ = value;
         onChanged();
         return this;
       }
 
-      private com.google.protobuf.ByteString metadata_ = com.google.protobuf.ByteString.EMPTY;
+      private org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata metadata_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> metadataBuilder_;
       /**
-       * <code>bytes metadata = 4;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public com.google.protobuf.ByteString getMetadata() {
-        return metadata_;
+      public boolean hasMetadata() {
+        return metadataBuilder_ != null || metadata_ != null;
       }
       /**
-       * <code>bytes metadata = 4;</code>
+       * <code>.protos.StateMetadata metadata = 4;</code>
        */
-      public Builder setMetadata(com.google.protobuf.ByteString value) {
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getMetadata() {
+        if (metadataBuilder_ == null) {
+          return metadata_ == null ? org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
+        } else {
+          return metadataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.protos.StateMetadata metadata = 4;</code>
+       */
+      public Builder setMetadata(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
+        if (metadataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          metadata_ = value;
+          onChanged();
+        } else {
+          metadataBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.protos.StateMetadata metadata = 4;</code>
+       */
+      public Builder setMetadata(
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
+        if (metadataBuilder_ == null) {
+          metadata_ = builderForValue.build();
+          onChanged();
+        } else {
+          metadataBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.protos.StateMetadata metadata = 4;</code>
+       */
+      public Builder mergeMetadata(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
+        if (metadataBuilder_ == null) {
+          if (metadata_ != null) {
+            metadata_ =
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.newBuilder(metadata_).mergeFrom(value).buildPartial();
+          } else {
+            metadata_ = value;
+          }
+          onChanged();
+        } else {
+          metadataBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.protos.StateMetadata metadata = 4;</code>
+       */
+      public Builder clearMetadata() {
+        if (metadataBuilder_ == null) {
+          metadata_ = null;
+          onChanged();
+        } else {
+          metadata_ = null;
+          metadataBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.protos.StateMetadata metadata = 4;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder getMetadataBuilder() {
+        
+        onChanged();
+        return getMetadataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.protos.StateMetadata metadata = 4;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getMetadataOrBuilder() {
+        if (metadataBuilder_ != null) {
+          return metadataBuilder_.getMessageOrBuilder();
+        } else {
+          return metadata_ == null ?
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance() : metadata_;
+        }
+      }
+      /**
+       * <code>.protos.StateMetadata metadata = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
+          getMetadataFieldBuilder() {
+        if (metadataBuilder_ == null) {
+          metadataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder>(
+                  getMetadata(),
+                  getParentForChildren(),
+                  isClean());
+          metadata_ = null;
+        }
+        return metadataBuilder_;
+      }
+
+      private int type_ = 0;
+      /**
+       * <code>.protos.WriteRecord.Type type = 5;</code>
+       */
+      public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.protos.WriteRecord.Type type = 5;</code>
+       */
+      public Builder setTypeValue(int value) {
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.protos.WriteRecord.Type type = 5;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type getType() {
+        @SuppressWarnings("deprecation")
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type result = org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type.valueOf(type_);
+        return result == null ? org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.protos.WriteRecord.Type type = 5;</code>
+       */
+      public Builder setType(org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord.Type value) {
         if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        metadata_ = value;
+          throw new NullPointerException();
+        }
+        
+        type_ = value.getNumber();
         onChanged();
         return this;
       }
       /**
-       * <code>bytes metadata = 4;</code>
+       * <code>.protos.WriteRecord.Type type = 5;</code>
        */
-      public Builder clearMetadata() {
+      public Builder clearType() {
         
-        metadata_ = getDefaultInstance().getMetadata();
+        type_ = 0;
         onChanged();
         return this;
       }
@@ -11119,91 +15081,87 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.QueryResponse)
+      // @@protoc_insertion_point(builder_scope:protos.WriteRecord)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.QueryResponse)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.WriteRecord)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<QueryResponse>
-        PARSER = new com.google.protobuf.AbstractParser<QueryResponse>() {
+    private static final com.google.protobuf.Parser<WriteRecord>
+        PARSER = new com.google.protobuf.AbstractParser<WriteRecord>() {
       @java.lang.Override
-      public QueryResponse parsePartialFrom(
+      public WriteRecord parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new QueryResponse(input, extensionRegistry);
+        return new WriteRecord(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<QueryResponse> parser() {
+    public static com.google.protobuf.Parser<WriteRecord> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<QueryResponse> getParserForType() {
+    public com.google.protobuf.Parser<WriteRecord> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface QueryResponseMetadataOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.QueryResponseMetadata)
+  public interface StateMetadataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.StateMetadata)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 fetched_records_count = 1;</code>
+     * <code>string metakey = 1;</code>
      */
-    int getFetchedRecordsCount();
-
+    java.lang.String getMetakey();
     /**
-     * <code>string bookmark = 2;</code>
+     * <code>string metakey = 1;</code>
      */
-    java.lang.String getBookmark();
+    com.google.protobuf.ByteString
+        getMetakeyBytes();
+
     /**
-     * <code>string bookmark = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getBookmarkBytes();
+    com.google.protobuf.ByteString getValue();
   }
   /**
-   * <pre>
-   * QueryResponseMetadata is the metadata of a QueryResponse. It contains a count
-   * which denotes the number of records fetched from the ledger and a bookmark.
-   * </pre>
-   *
-   * Protobuf type {@code protos.QueryResponseMetadata}
+   * Protobuf type {@code protos.StateMetadata}
    */
-  public  static final class QueryResponseMetadata extends
+  public  static final class StateMetadata extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.QueryResponseMetadata)
-      QueryResponseMetadataOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.StateMetadata)
+      StateMetadataOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use QueryResponseMetadata.newBuilder() to construct.
-    private QueryResponseMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use StateMetadata.newBuilder() to construct.
+    private StateMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private QueryResponseMetadata() {
-      bookmark_ = "";
+    private StateMetadata() {
+      metakey_ = "";
+      value_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new QueryResponseMetadata();
+      return new StateMetadata();
     }
 
     @java.lang.Override
@@ -11211,7 +15169,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private QueryResponseMetadata(
+    private StateMetadata(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11229,15 +15187,15 @@ public final class ChaincodeShim {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              fetchedRecordsCount_ = input.readInt32();
+              metakey_ = s;
               break;
             }
             case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
 
-              bookmark_ = s;
+              value_ = input.readBytes();
               break;
             }
             default: {
@@ -11261,60 +15219,60 @@ public final class ChaincodeShim {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.Builder.class);
-    }
-
-    public static final int FETCHED_RECORDS_COUNT_FIELD_NUMBER = 1;
-    private int fetchedRecordsCount_;
-    /**
-     * <code>int32 fetched_records_count = 1;</code>
-     */
-    public int getFetchedRecordsCount() {
-      return fetchedRecordsCount_;
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder.class);
     }
 
-    public static final int BOOKMARK_FIELD_NUMBER = 2;
-    private volatile java.lang.Object bookmark_;
+    public static final int METAKEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object metakey_;
     /**
-     * <code>string bookmark = 2;</code>
+     * <code>string metakey = 1;</code>
      */
-    public java.lang.String getBookmark() {
-      java.lang.Object ref = bookmark_;
+    public java.lang.String getMetakey() {
+      java.lang.Object ref = metakey_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        bookmark_ = s;
+        metakey_ = s;
         return s;
       }
     }
     /**
-     * <code>string bookmark = 2;</code>
+     * <code>string metakey = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getBookmarkBytes() {
-      java.lang.Object ref = bookmark_;
+        getMetakeyBytes() {
+      java.lang.Object ref = metakey_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        bookmark_ = b;
+        metakey_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>bytes value = 2;</code>
+     */
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -11329,11 +15287,11 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (fetchedRecordsCount_ != 0) {
-        output.writeInt32(1, fetchedRecordsCount_);
+      if (!getMetakeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, metakey_);
       }
-      if (!getBookmarkBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, bookmark_);
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
       }
       unknownFields.writeTo(output);
     }
@@ -11344,12 +15302,12 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (fetchedRecordsCount_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, fetchedRecordsCount_);
+      if (!getMetakeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, metakey_);
       }
-      if (!getBookmarkBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, bookmark_);
+      if (!value_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -11361,15 +15319,15 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata) obj;
 
-      if (getFetchedRecordsCount()
-          != other.getFetchedRecordsCount()) return false;
-      if (!getBookmark()
-          .equals(other.getBookmark())) return false;
+      if (!getMetakey()
+          .equals(other.getMetakey())) return false;
+      if (!getValue()
+          .equals(other.getValue())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -11381,78 +15339,78 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + FETCHED_RECORDS_COUNT_FIELD_NUMBER;
-      hash = (53 * hash) + getFetchedRecordsCount();
-      hash = (37 * hash) + BOOKMARK_FIELD_NUMBER;
-      hash = (53 * hash) + getBookmark().hashCode();
+      hash = (37 * hash) + METAKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getMetakey().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11465,7 +15423,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -11481,31 +15439,26 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * <pre>
-     * QueryResponseMetadata is the metadata of a QueryResponse. It contains a count
-     * which denotes the number of records fetched from the ledger and a bookmark.
-     * </pre>
-     *
-     * Protobuf type {@code protos.QueryResponseMetadata}
+     * Protobuf type {@code protos.StateMetadata}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.QueryResponseMetadata)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadataOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.StateMetadata)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -11523,9 +15476,9 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        fetchedRecordsCount_ = 0;
+        metakey_ = "";
 
-        bookmark_ = "";
+        value_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
@@ -11533,17 +15486,17 @@ public final class ChaincodeShim {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_QueryResponseMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -11551,10 +15504,10 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata(this);
-        result.fetchedRecordsCount_ = fetchedRecordsCount_;
-        result.bookmark_ = bookmark_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata(this);
+        result.metakey_ = metakey_;
+        result.value_ = value_;
         onBuilt();
         return result;
       }
@@ -11593,23 +15546,23 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata.getDefaultInstance()) return this;
-        if (other.getFetchedRecordsCount() != 0) {
-          setFetchedRecordsCount(other.getFetchedRecordsCount());
-        }
-        if (!other.getBookmark().isEmpty()) {
-          bookmark_ = other.bookmark_;
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance()) return this;
+        if (!other.getMetakey().isEmpty()) {
+          metakey_ = other.metakey_;
           onChanged();
         }
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -11623,113 +15576,116 @@ public final class ChaincodeShim {
       @java.lang.Override
       public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-
-      private int fetchedRecordsCount_ ;
-      /**
-       * <code>int32 fetched_records_count = 1;</code>
-       */
-      public int getFetchedRecordsCount() {
-        return fetchedRecordsCount_;
-      }
-      /**
-       * <code>int32 fetched_records_count = 1;</code>
-       */
-      public Builder setFetchedRecordsCount(int value) {
-        
-        fetchedRecordsCount_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 fetched_records_count = 1;</code>
-       */
-      public Builder clearFetchedRecordsCount() {
-        
-        fetchedRecordsCount_ = 0;
-        onChanged();
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
 
-      private java.lang.Object bookmark_ = "";
+      private java.lang.Object metakey_ = "";
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string metakey = 1;</code>
        */
-      public java.lang.String getBookmark() {
-        java.lang.Object ref = bookmark_;
+      public java.lang.String getMetakey() {
+        java.lang.Object ref = metakey_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          bookmark_ = s;
+          metakey_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string metakey = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getBookmarkBytes() {
-        java.lang.Object ref = bookmark_;
+          getMetakeyBytes() {
+        java.lang.Object ref = metakey_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          bookmark_ = b;
+          metakey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string metakey = 1;</code>
        */
-      public Builder setBookmark(
+      public Builder setMetakey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        bookmark_ = value;
+        metakey_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string metakey = 1;</code>
        */
-      public Builder clearBookmark() {
+      public Builder clearMetakey() {
         
-        bookmark_ = getDefaultInstance().getBookmark();
+        metakey_ = getDefaultInstance().getMetakey();
         onChanged();
         return this;
       }
       /**
-       * <code>string bookmark = 2;</code>
+       * <code>string metakey = 1;</code>
        */
-      public Builder setBookmarkBytes(
+      public Builder setMetakeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        bookmark_ = value;
+        metakey_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public Builder clearValue() {
+        
+        value_ = getDefaultInstance().getValue();
         onChanged();
         return this;
       }
@@ -11746,87 +15702,95 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.QueryResponseMetadata)
+      // @@protoc_insertion_point(builder_scope:protos.StateMetadata)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.QueryResponseMetadata)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.StateMetadata)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<QueryResponseMetadata>
-        PARSER = new com.google.protobuf.AbstractParser<QueryResponseMetadata>() {
+    private static final com.google.protobuf.Parser<StateMetadata>
+        PARSER = new com.google.protobuf.AbstractParser<StateMetadata>() {
       @java.lang.Override
-      public QueryResponseMetadata parsePartialFrom(
+      public StateMetadata parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new QueryResponseMetadata(input, extensionRegistry);
+        return new StateMetadata(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<QueryResponseMetadata> parser() {
+    public static com.google.protobuf.Parser<StateMetadata> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<QueryResponseMetadata> getParserForType() {
+    public com.google.protobuf.Parser<StateMetadata> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponseMetadata getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface StateMetadataOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.StateMetadata)
+  public interface StateMetadataResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.StateMetadataResult)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string metakey = 1;</code>
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
      */
-    java.lang.String getMetakey();
+    java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> 
+        getEntriesList();
     /**
-     * <code>string metakey = 1;</code>
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getMetakeyBytes();
-
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getEntries(int index);
     /**
-     * <code>bytes value = 2;</code>
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
      */
-    com.google.protobuf.ByteString getValue();
+    int getEntriesCount();
+    /**
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     */
+    java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     */
+    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getEntriesOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code protos.StateMetadata}
+   * Protobuf type {@code protos.StateMetadataResult}
    */
-  public  static final class StateMetadata extends
+  public  static final class StateMetadataResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.StateMetadata)
-      StateMetadataOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.StateMetadataResult)
+      StateMetadataResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use StateMetadata.newBuilder() to construct.
-    private StateMetadata(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use StateMetadataResult.newBuilder() to construct.
+    private StateMetadataResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private StateMetadata() {
-      metakey_ = "";
-      value_ = com.google.protobuf.ByteString.EMPTY;
+    private StateMetadataResult() {
+      entries_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new StateMetadata();
+      return new StateMetadataResult();
     }
 
     @java.lang.Override
@@ -11834,7 +15798,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private StateMetadata(
+    private StateMetadataResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11842,6 +15806,7 @@ public final class ChaincodeShim {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -11853,14 +15818,12 @@ public final class ChaincodeShim {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              metakey_ = s;
-              break;
-            }
-            case 18: {
-
-              value_ = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entries_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entries_.add(
+                  input.readMessage(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.parser(), extensionRegistry));
               break;
             }
             default: {
@@ -11878,64 +15841,59 @@ public final class ChaincodeShim {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.Builder.class);
     }
 
-    public static final int METAKEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object metakey_;
+    public static final int ENTRIES_FIELD_NUMBER = 1;
+    private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> entries_;
     /**
-     * <code>string metakey = 1;</code>
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
      */
-    public java.lang.String getMetakey() {
-      java.lang.Object ref = metakey_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        metakey_ = s;
-        return s;
-      }
+    public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> getEntriesList() {
+      return entries_;
     }
     /**
-     * <code>string metakey = 1;</code>
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getMetakeyBytes() {
-      java.lang.Object ref = metakey_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        metakey_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
     }
-
-    public static final int VALUE_FIELD_NUMBER = 2;
-    private com.google.protobuf.ByteString value_;
     /**
-     * <code>bytes value = 2;</code>
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
      */
-    public com.google.protobuf.ByteString getValue() {
-      return value_;
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     */
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -11952,11 +15910,8 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getMetakeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, metakey_);
-      }
-      if (!value_.isEmpty()) {
-        output.writeBytes(2, value_);
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(1, entries_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -11967,12 +15922,9 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      if (!getMetakeyBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, metakey_);
-      }
-      if (!value_.isEmpty()) {
+      for (int i = 0; i < entries_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, value_);
+          .computeMessageSize(1, entries_.get(i));
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -11984,15 +15936,13 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult) obj;
 
-      if (!getMetakey()
-          .equals(other.getMetakey())) return false;
-      if (!getValue()
-          .equals(other.getValue())) return false;
+      if (!getEntriesList()
+          .equals(other.getEntriesList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -12004,78 +15954,78 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + METAKEY_FIELD_NUMBER;
-      hash = (53 * hash) + getMetakey().hashCode();
-      hash = (37 * hash) + VALUE_FIELD_NUMBER;
-      hash = (53 * hash) + getValue().hashCode();
+      if (getEntriesCount() > 0) {
+        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntriesList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12088,7 +16038,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -12104,26 +16054,26 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * Protobuf type {@code protos.StateMetadata}
+     * Protobuf type {@code protos.StateMetadataResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.StateMetadata)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.StateMetadataResult)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12136,32 +16086,35 @@ public final class ChaincodeShim {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getEntriesFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        metakey_ = "";
-
-        value_ = com.google.protobuf.ByteString.EMPTY;
-
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entriesBuilder_.clear();
+        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadata_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -12169,10 +16122,18 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata(this);
-        result.metakey_ = metakey_;
-        result.value_ = value_;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult(this);
+        int from_bitField0_ = bitField0_;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
+        }
         onBuilt();
         return result;
       }
@@ -12211,148 +16172,310 @@ public final class ChaincodeShim {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata)other);
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.getDefaultInstance()) return this;
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entries_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata>(entries_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public Builder addEntries(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
         } else {
-          super.mergeFrom(other);
-          return this;
+          entriesBuilder_.addMessage(index, value);
         }
+        return this;
       }
-
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance()) return this;
-        if (!other.getMetakey().isEmpty()) {
-          metakey_ = other.metakey_;
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public Builder addEntries(
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
           onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
         }
-        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
-          setValue(other.getValue());
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
         return this;
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
         }
         return this;
       }
-
-      private java.lang.Object metakey_ = "";
       /**
-       * <code>string metakey = 1;</code>
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
        */
-      public java.lang.String getMetakey() {
-        java.lang.Object ref = metakey_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          metakey_ = s;
-          return s;
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entries_);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          entriesBuilder_.addAllMessages(values);
         }
+        return this;
       }
       /**
-       * <code>string metakey = 1;</code>
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getMetakeyBytes() {
-        java.lang.Object ref = metakey_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          metakey_ = b;
-          return b;
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          entriesBuilder_.clear();
         }
+        return this;
       }
       /**
-       * <code>string metakey = 1;</code>
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
        */
-      public Builder setMetakey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        metakey_ = value;
-        onChanged();
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
         return this;
       }
       /**
-       * <code>string metakey = 1;</code>
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
        */
-      public Builder clearMetakey() {
-        
-        metakey_ = getDefaultInstance().getMetakey();
-        onChanged();
-        return this;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>string metakey = 1;</code>
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
        */
-      public Builder setMetakeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        metakey_ = value;
-        onChanged();
-        return this;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
       }
-
-      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>bytes value = 2;</code>
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
        */
-      public com.google.protobuf.ByteString getValue() {
-        return value_;
+      public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
       }
       /**
-       * <code>bytes value = 2;</code>
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
        */
-      public Builder setValue(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        value_ = value;
-        onChanged();
-        return this;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance());
       }
       /**
-       * <code>bytes value = 2;</code>
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
        */
-      public Builder clearValue() {
-        
-        value_ = getDefaultInstance().getValue();
-        onChanged();
-        return this;
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       */
+      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -12367,95 +16490,95 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.StateMetadata)
+      // @@protoc_insertion_point(builder_scope:protos.StateMetadataResult)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.StateMetadata)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.StateMetadataResult)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<StateMetadata>
-        PARSER = new com.google.protobuf.AbstractParser<StateMetadata>() {
+    private static final com.google.protobuf.Parser<StateMetadataResult>
+        PARSER = new com.google.protobuf.AbstractParser<StateMetadataResult>() {
       @java.lang.Override
-      public StateMetadata parsePartialFrom(
+      public StateMetadataResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new StateMetadata(input, extensionRegistry);
+        return new StateMetadataResult(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<StateMetadata> parser() {
+    public static com.google.protobuf.Parser<StateMetadataResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<StateMetadata> getParserForType() {
+    public com.google.protobuf.Parser<StateMetadataResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface StateMetadataResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:protos.StateMetadataResult)
+  public interface ChaincodeAdditionalParamsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:protos.ChaincodeAdditionalParams)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
-     */
-    java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> 
-        getEntriesList();
-    /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     * <code>bool use_write_batch = 1;</code>
      */
-    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getEntries(int index);
+    boolean getUseWriteBatch();
+
     /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     * <code>uint32 max_size_write_batch = 2;</code>
      */
-    int getEntriesCount();
+    int getMaxSizeWriteBatch();
+
     /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     * <code>bool use_get_multiple_keys = 3;</code>
      */
-    java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
-        getEntriesOrBuilderList();
+    boolean getUseGetMultipleKeys();
+
     /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     * <code>uint32 max_size_get_multiple_keys = 4;</code>
      */
-    org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getEntriesOrBuilder(
-        int index);
+    int getMaxSizeGetMultipleKeys();
   }
   /**
-   * Protobuf type {@code protos.StateMetadataResult}
+   * <pre>
+   * ChaincodeAdditionalParams is the payload of the REGISTERED message. It
+   * contains the optional features the peer supports for this chaincode.
+   * </pre>
+   *
+   * Protobuf type {@code protos.ChaincodeAdditionalParams}
    */
-  public  static final class StateMetadataResult extends
+  public  static final class ChaincodeAdditionalParams extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:protos.StateMetadataResult)
-      StateMetadataResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:protos.ChaincodeAdditionalParams)
+      ChaincodeAdditionalParamsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use StateMetadataResult.newBuilder() to construct.
-    private StateMetadataResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ChaincodeAdditionalParams.newBuilder() to construct.
+    private ChaincodeAdditionalParams(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private StateMetadataResult() {
-      entries_ = java.util.Collections.emptyList();
+    private ChaincodeAdditionalParams() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new StateMetadataResult();
+      return new ChaincodeAdditionalParams();
     }
 
     @java.lang.Override
@@ -12463,7 +16586,7 @@ public final class ChaincodeShim {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private StateMetadataResult(
+    private ChaincodeAdditionalParams(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -12471,7 +16594,6 @@ public final class ChaincodeShim {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
-      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -12482,13 +16604,24 @@ public final class ChaincodeShim {
             case 0:
               done = true;
               break;
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
-                entries_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              entries_.add(
-                  input.readMessage(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.parser(), extensionRegistry));
+            case 8: {
+
+              useWriteBatch_ = input.readBool();
+              break;
+            }
+            case 16: {
+
+              maxSizeWriteBatch_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+
+              useGetMultipleKeys_ = input.readBool();
+              break;
+            }
+            case 32: {
+
+              maxSizeGetMultipleKeys_ = input.readUInt32();
               break;
             }
             default: {
@@ -12506,59 +16639,57 @@ public final class ChaincodeShim {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) != 0)) {
-          entries_ = java.util.Collections.unmodifiableList(entries_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_descriptor;
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_ChaincodeAdditionalParams_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_fieldAccessorTable
+      return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_ChaincodeAdditionalParams_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.Builder.class);
+              org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams.Builder.class);
     }
 
-    public static final int ENTRIES_FIELD_NUMBER = 1;
-    private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> entries_;
-    /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
-     */
-    public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> getEntriesList() {
-      return entries_;
-    }
+    public static final int USE_WRITE_BATCH_FIELD_NUMBER = 1;
+    private boolean useWriteBatch_;
     /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     * <code>bool use_write_batch = 1;</code>
      */
-    public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
-        getEntriesOrBuilderList() {
-      return entries_;
+    public boolean getUseWriteBatch() {
+      return useWriteBatch_;
     }
+
+    public static final int MAX_SIZE_WRITE_BATCH_FIELD_NUMBER = 2;
+    private int maxSizeWriteBatch_;
     /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     * <code>uint32 max_size_write_batch = 2;</code>
      */
-    public int getEntriesCount() {
-      return entries_.size();
+    public int getMaxSizeWriteBatch() {
+      return maxSizeWriteBatch_;
     }
+
+    public static final int USE_GET_MULTIPLE_KEYS_FIELD_NUMBER = 3;
+    private boolean useGetMultipleKeys_;
     /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     * <code>bool use_get_multiple_keys = 3;</code>
      */
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getEntries(int index) {
-      return entries_.get(index);
+    public boolean getUseGetMultipleKeys() {
+      return useGetMultipleKeys_;
     }
+
+    public static final int MAX_SIZE_GET_MULTIPLE_KEYS_FIELD_NUMBER = 4;
+    private int maxSizeGetMultipleKeys_;
     /**
-     * <code>repeated .protos.StateMetadata entries = 1;</code>
+     * <code>uint32 max_size_get_multiple_keys = 4;</code>
      */
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getEntriesOrBuilder(
-        int index) {
-      return entries_.get(index);
+    public int getMaxSizeGetMultipleKeys() {
+      return maxSizeGetMultipleKeys_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -12575,8 +16706,17 @@ public final class ChaincodeShim {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < entries_.size(); i++) {
-        output.writeMessage(1, entries_.get(i));
+      if (useWriteBatch_ != false) {
+        output.writeBool(1, useWriteBatch_);
+      }
+      if (maxSizeWriteBatch_ != 0) {
+        output.writeUInt32(2, maxSizeWriteBatch_);
+      }
+      if (useGetMultipleKeys_ != false) {
+        output.writeBool(3, useGetMultipleKeys_);
+      }
+      if (maxSizeGetMultipleKeys_ != 0) {
+        output.writeUInt32(4, maxSizeGetMultipleKeys_);
       }
       unknownFields.writeTo(output);
     }
@@ -12587,9 +16727,21 @@ public final class ChaincodeShim {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < entries_.size(); i++) {
+      if (useWriteBatch_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, entries_.get(i));
+          .computeBoolSize(1, useWriteBatch_);
+      }
+      if (maxSizeWriteBatch_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, maxSizeWriteBatch_);
+      }
+      if (useGetMultipleKeys_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, useGetMultipleKeys_);
+      }
+      if (maxSizeGetMultipleKeys_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, maxSizeGetMultipleKeys_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -12601,13 +16753,19 @@ public final class ChaincodeShim {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult)) {
+      if (!(obj instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams)) {
         return super.equals(obj);
       }
-      org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult) obj;
+      org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams other = (org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams) obj;
 
-      if (!getEntriesList()
-          .equals(other.getEntriesList())) return false;
+      if (getUseWriteBatch()
+          != other.getUseWriteBatch()) return false;
+      if (getMaxSizeWriteBatch()
+          != other.getMaxSizeWriteBatch()) return false;
+      if (getUseGetMultipleKeys()
+          != other.getUseGetMultipleKeys()) return false;
+      if (getMaxSizeGetMultipleKeys()
+          != other.getMaxSizeGetMultipleKeys()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -12619,78 +16777,84 @@ public final class ChaincodeShim {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getEntriesCount() > 0) {
-        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
-        hash = (53 * hash) + getEntriesList().hashCode();
-      }
+      hash = (37 * hash) + USE_WRITE_BATCH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getUseWriteBatch());
+      hash = (37 * hash) + MAX_SIZE_WRITE_BATCH_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxSizeWriteBatch();
+      hash = (37 * hash) + USE_GET_MULTIPLE_KEYS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getUseGetMultipleKeys());
+      hash = (37 * hash) + MAX_SIZE_GET_MULTIPLE_KEYS_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxSizeGetMultipleKeys();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(byte[] data)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseDelimitedFrom(java.io.InputStream input)
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseDelimitedFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parseFrom(
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12703,7 +16867,7 @@ public final class ChaincodeShim {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult prototype) {
+    public static Builder newBuilder(org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -12719,26 +16883,31 @@ public final class ChaincodeShim {
       return builder;
     }
     /**
-     * Protobuf type {@code protos.StateMetadataResult}
+     * <pre>
+     * ChaincodeAdditionalParams is the payload of the REGISTERED message. It
+     * contains the optional features the peer supports for this chaincode.
+     * </pre>
+     *
+     * Protobuf type {@code protos.ChaincodeAdditionalParams}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:protos.StateMetadataResult)
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:protos.ChaincodeAdditionalParams)
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParamsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_ChaincodeAdditionalParams_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_fieldAccessorTable
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_ChaincodeAdditionalParams_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.Builder.class);
+                org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams.class, org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams.Builder.class);
       }
 
-      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.newBuilder()
+      // Construct using org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12751,35 +16920,36 @@ public final class ChaincodeShim {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getEntriesFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (entriesBuilder_ == null) {
-          entries_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          entriesBuilder_.clear();
-        }
+        useWriteBatch_ = false;
+
+        maxSizeWriteBatch_ = 0;
+
+        useGetMultipleKeys_ = false;
+
+        maxSizeGetMultipleKeys_ = 0;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_StateMetadataResult_descriptor;
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.internal_static_protos_ChaincodeAdditionalParams_descriptor;
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult getDefaultInstanceForType() {
-        return org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.getDefaultInstance();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams getDefaultInstanceForType() {
+        return org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams.getDefaultInstance();
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult build() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult result = buildPartial();
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams build() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -12787,18 +16957,12 @@ public final class ChaincodeShim {
       }
 
       @java.lang.Override
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult buildPartial() {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult(this);
-        int from_bitField0_ = bitField0_;
-        if (entriesBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0)) {
-            entries_ = java.util.Collections.unmodifiableList(entries_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.entries_ = entries_;
-        } else {
-          result.entries_ = entriesBuilder_.build();
-        }
+      public org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams buildPartial() {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams result = new org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams(this);
+        result.useWriteBatch_ = useWriteBatch_;
+        result.maxSizeWriteBatch_ = maxSizeWriteBatch_;
+        result.useGetMultipleKeys_ = useGetMultipleKeys_;
+        result.maxSizeGetMultipleKeys_ = maxSizeGetMultipleKeys_;
         onBuilt();
         return result;
       }
@@ -12828,319 +16992,168 @@ public final class ChaincodeShim {
           com.google.protobuf.Descriptors.FieldDescriptor field,
           int index, java.lang.Object value) {
         return super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.addRepeatedField(field, value);
-      }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult) {
-          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult other) {
-        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult.getDefaultInstance()) return this;
-        if (entriesBuilder_ == null) {
-          if (!other.entries_.isEmpty()) {
-            if (entries_.isEmpty()) {
-              entries_ = other.entries_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureEntriesIsMutable();
-              entries_.addAll(other.entries_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.entries_.isEmpty()) {
-            if (entriesBuilder_.isEmpty()) {
-              entriesBuilder_.dispose();
-              entriesBuilder_ = null;
-              entries_ = other.entries_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              entriesBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getEntriesFieldBuilder() : null;
-            } else {
-              entriesBuilder_.addAllMessages(other.entries_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
-
-      private java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> entries_ =
-        java.util.Collections.emptyList();
-      private void ensureEntriesIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
-          entries_ = new java.util.ArrayList<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata>(entries_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> entriesBuilder_;
-
-      /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
-       */
-      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> getEntriesList() {
-        if (entriesBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(entries_);
-        } else {
-          return entriesBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
-       */
-      public int getEntriesCount() {
-        if (entriesBuilder_ == null) {
-          return entries_.size();
-        } else {
-          return entriesBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
-       */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata getEntries(int index) {
-        if (entriesBuilder_ == null) {
-          return entries_.get(index);
-        } else {
-          return entriesBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
-       */
-      public Builder setEntries(
-          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureEntriesIsMutable();
-          entries_.set(index, value);
-          onChanged();
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams) {
+          return mergeFrom((org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams)other);
         } else {
-          entriesBuilder_.setMessage(index, value);
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
-       */
-      public Builder setEntries(
-          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          entriesBuilder_.setMessage(index, builderForValue.build());
+
+      public Builder mergeFrom(org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams other) {
+        if (other == org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams.getDefaultInstance()) return this;
+        if (other.getUseWriteBatch() != false) {
+          setUseWriteBatch(other.getUseWriteBatch());
+        }
+        if (other.getMaxSizeWriteBatch() != 0) {
+          setMaxSizeWriteBatch(other.getMaxSizeWriteBatch());
+        }
+        if (other.getUseGetMultipleKeys() != false) {
+          setUseGetMultipleKeys(other.getUseGetMultipleKeys());
+        }
+        if (other.getMaxSizeGetMultipleKeys() != 0) {
+          setMaxSizeGetMultipleKeys(other.getMaxSizeGetMultipleKeys());
         }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
-       */
-      public Builder addEntries(org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          ensureEntriesIsMutable();
-          entries_.add(value);
-          onChanged();
-        } else {
-          entriesBuilder_.addMessage(value);
         }
         return this;
       }
+
+      private boolean useWriteBatch_ ;
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>bool use_write_batch = 1;</code>
        */
-      public Builder addEntries(
-          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureEntriesIsMutable();
-          entries_.add(index, value);
-          onChanged();
-        } else {
-          entriesBuilder_.addMessage(index, value);
-        }
-        return this;
+      public boolean getUseWriteBatch() {
+        return useWriteBatch_;
       }
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>bool use_write_batch = 1;</code>
        */
-      public Builder addEntries(
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.add(builderForValue.build());
-          onChanged();
-        } else {
-          entriesBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder setUseWriteBatch(boolean value) {
+        
+        useWriteBatch_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>bool use_write_batch = 1;</code>
        */
-      public Builder addEntries(
-          int index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          entriesBuilder_.addMessage(index, builderForValue.build());
-        }
+      public Builder clearUseWriteBatch() {
+        
+        useWriteBatch_ = false;
+        onChanged();
         return this;
       }
+
+      private int maxSizeWriteBatch_ ;
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>uint32 max_size_write_batch = 2;</code>
        */
-      public Builder addAllEntries(
-          java.lang.Iterable<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata> values) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, entries_);
-          onChanged();
-        } else {
-          entriesBuilder_.addAllMessages(values);
-        }
-        return this;
+      public int getMaxSizeWriteBatch() {
+        return maxSizeWriteBatch_;
       }
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>uint32 max_size_write_batch = 2;</code>
        */
-      public Builder clearEntries() {
-        if (entriesBuilder_ == null) {
-          entries_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          entriesBuilder_.clear();
-        }
+      public Builder setMaxSizeWriteBatch(int value) {
+        
+        maxSizeWriteBatch_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>uint32 max_size_write_batch = 2;</code>
        */
-      public Builder removeEntries(int index) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.remove(index);
-          onChanged();
-        } else {
-          entriesBuilder_.remove(index);
-        }
+      public Builder clearMaxSizeWriteBatch() {
+        
+        maxSizeWriteBatch_ = 0;
+        onChanged();
         return this;
       }
+
+      private boolean useGetMultipleKeys_ ;
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>bool use_get_multiple_keys = 3;</code>
        */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder getEntriesBuilder(
-          int index) {
-        return getEntriesFieldBuilder().getBuilder(index);
+      public boolean getUseGetMultipleKeys() {
+        return useGetMultipleKeys_;
       }
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>bool use_get_multiple_keys = 3;</code>
        */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder getEntriesOrBuilder(
-          int index) {
-        if (entriesBuilder_ == null) {
-          return entries_.get(index);  } else {
-          return entriesBuilder_.getMessageOrBuilder(index);
-        }
+      public Builder setUseGetMultipleKeys(boolean value) {
+        
+        useGetMultipleKeys_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>bool use_get_multiple_keys = 3;</code>
        */
-      public java.util.List<? extends org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
-           getEntriesOrBuilderList() {
-        if (entriesBuilder_ != null) {
-          return entriesBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(entries_);
-        }
+      public Builder clearUseGetMultipleKeys() {
+        
+        useGetMultipleKeys_ = false;
+        onChanged();
+        return this;
       }
+
+      private int maxSizeGetMultipleKeys_ ;
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>uint32 max_size_get_multiple_keys = 4;</code>
        */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder addEntriesBuilder() {
-        return getEntriesFieldBuilder().addBuilder(
-            org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance());
+      public int getMaxSizeGetMultipleKeys() {
+        return maxSizeGetMultipleKeys_;
       }
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>uint32 max_size_get_multiple_keys = 4;</code>
        */
-      public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder addEntriesBuilder(
-          int index) {
-        return getEntriesFieldBuilder().addBuilder(
-            index, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.getDefaultInstance());
+      public Builder setMaxSizeGetMultipleKeys(int value) {
+        
+        maxSizeGetMultipleKeys_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .protos.StateMetadata entries = 1;</code>
+       * <code>uint32 max_size_get_multiple_keys = 4;</code>
        */
-      public java.util.List<org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder> 
-           getEntriesBuilderList() {
-        return getEntriesFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder> 
-          getEntriesFieldBuilder() {
-        if (entriesBuilder_ == null) {
-          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata.Builder, org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataOrBuilder>(
-                  entries_,
-                  ((bitField0_ & 0x00000001) != 0),
-                  getParentForChildren(),
-                  isClean());
-          entries_ = null;
-        }
-        return entriesBuilder_;
+      public Builder clearMaxSizeGetMultipleKeys() {
+        
+        maxSizeGetMultipleKeys_ = 0;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -13155,41 +17168,41 @@ public final class ChaincodeShim {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:protos.StateMetadataResult)
+      // @@protoc_insertion_point(builder_scope:protos.ChaincodeAdditionalParams)
     }
 
-    // @@protoc_insertion_point(class_scope:protos.StateMetadataResult)
-    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:protos.ChaincodeAdditionalParams)
+    private static final org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult();
+      DEFAULT_INSTANCE = new org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams();
     }
 
-    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult getDefaultInstance() {
+    public static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<StateMetadataResult>
-        PARSER = new com.google.protobuf.AbstractParser<StateMetadataResult>() {
+    private static final com.google.protobuf.Parser<ChaincodeAdditionalParams>
+        PARSER = new com.google.protobuf.AbstractParser<ChaincodeAdditionalParams>() {
       @java.lang.Override
-      public StateMetadataResult parsePartialFrom(
+      public ChaincodeAdditionalParams parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new StateMetadataResult(input, extensionRegistry);
+        return new ChaincodeAdditionalParams(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<StateMetadataResult> parser() {
+    public static com.google.protobuf.Parser<ChaincodeAdditionalParams> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<StateMetadataResult> getParserForType() {
+    public com.google.protobuf.Parser<ChaincodeAdditionalParams> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult getDefaultInstanceForType() {
+    public org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -13205,6 +17218,16 @@ public final class ChaincodeShim {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_protos_GetState_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protos_GetStateMultiple_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protos_GetStateMultiple_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protos_GetStateMultipleResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protos_GetStateMultipleResult_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_protos_GetStateMetadata_descriptor;
   private static final 
@@ -13270,6 +17293,16 @@ public final class ChaincodeShim {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_protos_QueryResponseMetadata_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protos_WriteBatchState_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protos_WriteBatchState_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protos_WriteRecord_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protos_WriteRecord_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_protos_StateMetadata_descriptor;
   private static final 
@@ -13280,6 +17313,11 @@ public final class ChaincodeShim {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_protos_StateMetadataResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_protos_ChaincodeAdditionalParams_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_protos_ChaincodeAdditionalParams_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -13291,14 +17329,14 @@ public final class ChaincodeShim {
     java.lang.String[] descriptorData = {
       "\n\031peer/chaincode_shim.proto\022\006protos\032\032pee" +
       "r/chaincode_event.proto\032\023peer/proposal.p" +
-      "roto\032\037google/protobuf/timestamp.proto\"\221\005" +
+      "roto\032\037google/protobuf/timestamp.proto\"\300\005" +
       "\n\020ChaincodeMessage\022+\n\004type\030\001 \001(\0162\035.proto" +
       "s.ChaincodeMessage.Type\022-\n\ttimestamp\030\002 \001" +
       "(\0132\032.google.protobuf.Timestamp\022\017\n\007payloa" +
       "d\030\003 \001(\014\022\014\n\004txid\030\004 \001(\t\022(\n\010proposal\030\005 \001(\0132" +
       "\026.protos.SignedProposal\022/\n\017chaincode_eve" +
       "nt\030\006 \001(\0132\026.protos.ChaincodeEvent\022\022\n\nchan" +
-      "nel_id\030\007 \001(\t\"\222\003\n\004Type\022\r\n\tUNDEFINED\020\000\022\014\n\010" +
+      "nel_id\030\007 \001(\t\"\301\003\n\004Type\022\r\n\tUNDEFINED\020\000\022\014\n\010" +
       "REGISTER\020\001\022\016\n\nREGISTERED\020\002\022\010\n\004INIT\020\003\022\t\n\005" +
       "READY\020\004\022\017\n\013TRANSACTION\020\005\022\r\n\tCOMPLETED\020\006\022" +
       "\t\n\005ERROR\020\007\022\r\n\tGET_STATE\020\010\022\r\n\tPUT_STATE\020\t" +
@@ -13308,37 +17346,51 @@ public final class ChaincodeShim {
       "\025\n\021QUERY_STATE_CLOSE\020\021\022\r\n\tKEEPALIVE\020\022\022\027\n" +
       "\023GET_HISTORY_FOR_KEY\020\023\022\026\n\022GET_STATE_META" +
       "DATA\020\024\022\026\n\022PUT_STATE_METADATA\020\025\022\031\n\025GET_PR" +
-      "IVATE_DATA_HASH\020\026\"+\n\010GetState\022\013\n\003key\030\001 \001" +
-      "(\t\022\022\n\ncollection\030\002 \001(\t\"3\n\020GetStateMetada" +
-      "ta\022\013\n\003key\030\001 \001(\t\022\022\n\ncollection\030\002 \001(\t\":\n\010P" +
-      "utState\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\014\022\022\n\nc" +
-      "ollection\030\003 \001(\t\"\\\n\020PutStateMetadata\022\013\n\003k" +
-      "ey\030\001 \001(\t\022\022\n\ncollection\030\003 \001(\t\022\'\n\010metadata" +
-      "\030\004 \001(\0132\025.protos.StateMetadata\"+\n\010DelStat" +
-      "e\022\013\n\003key\030\001 \001(\t\022\022\n\ncollection\030\002 \001(\t\"Y\n\017Ge" +
-      "tStateByRange\022\020\n\010startKey\030\001 \001(\t\022\016\n\006endKe" +
-      "y\030\002 \001(\t\022\022\n\ncollection\030\003 \001(\t\022\020\n\010metadata\030" +
-      "\004 \001(\014\"E\n\016GetQueryResult\022\r\n\005query\030\001 \001(\t\022\022" +
-      "\n\ncollection\030\002 \001(\t\022\020\n\010metadata\030\003 \001(\014\"3\n\r" +
-      "QueryMetadata\022\020\n\010pageSize\030\001 \001(\005\022\020\n\010bookm" +
-      "ark\030\002 \001(\t\"\037\n\020GetHistoryForKey\022\013\n\003key\030\001 \001" +
-      "(\t\"\034\n\016QueryStateNext\022\n\n\002id\030\001 \001(\t\"\035\n\017Quer" +
-      "yStateClose\022\n\n\002id\030\001 \001(\t\"\'\n\020QueryResultBy" +
-      "tes\022\023\n\013resultBytes\030\001 \001(\014\"j\n\rQueryRespons" +
-      "e\022)\n\007results\030\001 \003(\0132\030.protos.QueryResultB" +
-      "ytes\022\020\n\010has_more\030\002 \001(\010\022\n\n\002id\030\003 \001(\t\022\020\n\010me" +
-      "tadata\030\004 \001(\014\"H\n\025QueryResponseMetadata\022\035\n" +
-      "\025fetched_records_count\030\001 \001(\005\022\020\n\010bookmark" +
-      "\030\002 \001(\t\"/\n\rStateMetadata\022\017\n\007metakey\030\001 \001(\t" +
-      "\022\r\n\005value\030\002 \001(\014\"=\n\023StateMetadataResult\022&" +
-      "\n\007entries\030\001 \003(\0132\025.protos.StateMetadata2V" +
-      "\n\020ChaincodeSupport\022B\n\010Register\022\030.protos." +
-      "ChaincodeMessage\032\030.protos.ChaincodeMessa" +
-      "ge(\0010\0012N\n\tChaincode\022A\n\007Connect\022\030.protos." +
-      "ChaincodeMessage\032\030.protos.ChaincodeMessa" +
-      "ge(\0010\001BR\n\"org.hyperledger.fabric.protos." +
-      "peerZ,github.com/hyperledger/fabric-prot" +
-      "os-go/peerb\006proto3"
+      "IVATE_DATA_HASH\020\026\022\025\n\021WRITE_BATCH_STATE\020\030" +
+      "\022\026\n\022GET_STATE_MULTIPLE\020\031\"+\n\010GetState\022\013\n\003" +
+      "key\030\001 \001(\t\022\022\n\ncollection\030\002 \001(\t\"4\n\020GetStat" +
+      "eMultiple\022\014\n\004keys\030\001 \003(\t\022\022\n\ncollection\030\002 " +
+      "\001(\t\"(\n\026GetStateMultipleResult\022\016\n\006values\030" +
+      "\001 \003(\014\"3\n\020GetStateMetadata\022\013\n\003key\030\001 \001(\t\022\022" +
+      "\n\ncollection\030\002 \001(\t\":\n\010PutState\022\013\n\003key\030\001 " +
+      "\001(\t\022\r\n\005value\030\002 \001(\014\022\022\n\ncollection\030\003 \001(\t\"\\" +
+      "\n\020PutStateMetadata\022\013\n\003key\030\001 \001(\t\022\022\n\ncolle" +
+      "ction\030\003 \001(\t\022\'\n\010metadata\030\004 \001(\0132\025.protos.S" +
+      "tateMetadata\"+\n\010DelState\022\013\n\003key\030\001 \001(\t\022\022\n" +
+      "\ncollection\030\002 \001(\t\"Y\n\017GetStateByRange\022\020\n\010" +
+      "startKey\030\001 \001(\t\022\016\n\006endKey\030\002 \001(\t\022\022\n\ncollec" +
+      "tion\030\003 \001(\t\022\020\n\010metadata\030\004 \001(\014\"E\n\016GetQuery" +
+      "Result\022\r\n\005query\030\001 \001(\t\022\022\n\ncollection\030\002 \001(" +
+      "\t\022\020\n\010metadata\030\003 \001(\014\"3\n\rQueryMetadata\022\020\n\010" +
+      "pageSize\030\001 \001(\005\022\020\n\010bookmark\030\002 \001(\t\"\037\n\020GetH" +
+      "istoryForKey\022\013\n\003key\030\001 \001(\t\"\034\n\016QueryStateN" +
+      "ext\022\n\n\002id\030\001 \001(\t\"\035\n\017QueryStateClose\022\n\n\002id" +
+      "\030\001 \001(\t\"\'\n\020QueryResultBytes\022\023\n\013resultByte" +
+      "s\030\001 \001(\014\"j\n\rQueryResponse\022)\n\007results\030\001 \003(" +
+      "\0132\030.protos.QueryResultBytes\022\020\n\010has_more\030" +
+      "\002 \001(\010\022\n\n\002id\030\003 \001(\t\022\020\n\010metadata\030\004 \001(\014\"H\n\025Q" +
+      "ueryResponseMetadata\022\035\n\025fetched_records_" +
+      "count\030\001 \001(\005\022\020\n\010bookmark\030\002 \001(\t\"3\n\017WriteBa" +
+      "tchState\022 \n\003rec\030\001 \003(\0132\023.protos.WriteReco" +
+      "rd\"\333\001\n\013WriteRecord\022\013\n\003key\030\001 \001(\t\022\r\n\005value" +
+      "\030\002 \001(\014\022\022\n\ncollection\030\003 \001(\t\022\'\n\010metadata\030\004" +
+      " \001(\0132\025.protos.StateMetadata\022&\n\004type\030\005 \001(" +
+      "\0162\030.protos.WriteRecord.Type\"K\n\004Type\022\r\n\tU" +
+      "NDEFINED\020\000\022\r\n\tPUT_STATE\020\t\022\r\n\tDEL_STATE\020\n" +
+      "\022\026\n\022PUT_STATE_METADATA\020\025\"/\n\rStateMetadat" +
+      "a\022\017\n\007metakey\030\001 \001(\t\022\r\n\005value\030\002 \001(\014\"=\n\023Sta" +
+      "teMetadataResult\022&\n\007entries\030\001 \003(\0132\025.prot" +
+      "os.StateMetadata\"\225\001\n\031ChaincodeAdditional" +
+      "Params\022\027\n\017use_write_batch\030\001 \001(\010\022\034\n\024max_s" +
+      "ize_write_batch\030\002 \001(\r\022\035\n\025use_get_multipl" +
+      "e_keys\030\003 \001(\010\022\"\n\032max_size_get_multiple_ke" +
+      "ys\030\004 \001(\r2V\n\020ChaincodeSupport\022B\n\010Register" +
+      "\022\030.protos.ChaincodeMessage\032\030.protos.Chai" +
+      "ncodeMessage(\0010\0012N\n\tChaincode\022A\n\007Connect" +
+      "\022\030.protos.ChaincodeMessage\032\030.protos.Chai" +
+      "ncodeMessage(\0010\001BR\n\"org.hyperledger.fabr" +
+      "ic.protos.peerZ,github.com/hyperledger/f" +
+      "abric-protos-go/peerb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -13359,96 +17411,126 @@ public final class ChaincodeShim {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_GetState_descriptor,
         new java.lang.String[] { "Key", "Collection", });
-    internal_static_protos_GetStateMetadata_descriptor =
+    internal_static_protos_GetStateMultiple_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_protos_GetStateMultiple_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protos_GetStateMultiple_descriptor,
+        new java.lang.String[] { "Keys", "Collection", });
+    internal_static_protos_GetStateMultipleResult_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_protos_GetStateMultipleResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protos_GetStateMultipleResult_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_protos_GetStateMetadata_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_protos_GetStateMetadata_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_GetStateMetadata_descriptor,
         new java.lang.String[] { "Key", "Collection", });
     internal_static_protos_PutState_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_protos_PutState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_PutState_descriptor,
         new java.lang.String[] { "Key", "Value", "Collection", });
     internal_static_protos_PutStateMetadata_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_protos_PutStateMetadata_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_PutStateMetadata_descriptor,
         new java.lang.String[] { "Key", "Collection", "Metadata", });
     internal_static_protos_DelState_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_protos_DelState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_DelState_descriptor,
         new java.lang.String[] { "Key", "Collection", });
     internal_static_protos_GetStateByRange_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_protos_GetStateByRange_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_GetStateByRange_descriptor,
         new java.lang.String[] { "StartKey", "EndKey", "Collection", "Metadata", });
     internal_static_protos_GetQueryResult_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_protos_GetQueryResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_GetQueryResult_descriptor,
         new java.lang.String[] { "Query", "Collection", "Metadata", });
     internal_static_protos_QueryMetadata_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_protos_QueryMetadata_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_QueryMetadata_descriptor,
         new java.lang.String[] { "PageSize", "Bookmark", });
     internal_static_protos_GetHistoryForKey_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_protos_GetHistoryForKey_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_GetHistoryForKey_descriptor,
         new java.lang.String[] { "Key", });
     internal_static_protos_QueryStateNext_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_protos_QueryStateNext_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_QueryStateNext_descriptor,
         new java.lang.String[] { "Id", });
     internal_static_protos_QueryStateClose_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_protos_QueryStateClose_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_QueryStateClose_descriptor,
         new java.lang.String[] { "Id", });
     internal_static_protos_QueryResultBytes_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_protos_QueryResultBytes_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_QueryResultBytes_descriptor,
         new java.lang.String[] { "ResultBytes", });
     internal_static_protos_QueryResponse_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_protos_QueryResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_QueryResponse_descriptor,
         new java.lang.String[] { "Results", "HasMore", "Id", "Metadata", });
     internal_static_protos_QueryResponseMetadata_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_protos_QueryResponseMetadata_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_QueryResponseMetadata_descriptor,
         new java.lang.String[] { "FetchedRecordsCount", "Bookmark", });
+    internal_static_protos_WriteBatchState_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_protos_WriteBatchState_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protos_WriteBatchState_descriptor,
+        new java.lang.String[] { "Rec", });
+    internal_static_protos_WriteRecord_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_protos_WriteRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protos_WriteRecord_descriptor,
+        new java.lang.String[] { "Key", "Value", "Collection", "Metadata", "Type", });
     internal_static_protos_StateMetadata_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_protos_StateMetadata_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_StateMetadata_descriptor,
         new java.lang.String[] { "Metakey", "Value", });
     internal_static_protos_StateMetadataResult_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_protos_StateMetadataResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_protos_StateMetadataResult_descriptor,
         new java.lang.String[] { "Entries", });
+    internal_static_protos_ChaincodeAdditionalParams_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_protos_ChaincodeAdditionalParams_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_protos_ChaincodeAdditionalParams_descriptor,
+        new java.lang.String[] { "UseWriteBatch", "MaxSizeWriteBatch", "UseGetMultipleKeys", "MaxSizeGetMultipleKeys", });
     org.hyperledger.fabric.protos.peer.ChaincodeEventPackage.getDescriptor();
     org.hyperledger.fabric.protos.peer.ProposalPackage.getDescriptor();
     com.google.protobuf.TimestampProto.getDescriptor();
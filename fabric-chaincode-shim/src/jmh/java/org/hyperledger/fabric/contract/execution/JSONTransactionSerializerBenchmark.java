@@ -0,0 +1,159 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.execution;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.hyperledger.fabric.contract.annotation.DataType;
+import org.hyperledger.fabric.contract.annotation.Property;
+import org.hyperledger.fabric.contract.metadata.TypeSchema;
+import org.hyperledger.fabric.contract.routing.DataTypeDefinition;
+import org.hyperledger.fabric.contract.routing.PropertyDefinition;
+import org.hyperledger.fabric.contract.routing.TypeRegistry;
+import org.hyperledger.fabric.contract.routing.impl.TypeRegistryImpl;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares converting a data type to and from JSON with the serializer's
+ * streaming codec, and with the org.json tree, re-stringifying each property,
+ * that the serializer used before.
+ * <p>
+ * The data type is only checked structurally, so that schema validation, which
+ * is the same either way, does not hide the difference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONTransactionSerializerBenchmark {
+
+    @DataType(validateSchema = false)
+    public static class Asset {
+        @Property()
+        private String id;
+        @Property()
+        private String colour;
+        @Property()
+        private String owner;
+        @Property()
+        private int size;
+        @Property()
+        private long appraisedValue;
+        @Property()
+        private boolean transferable;
+        @Property()
+        private String[] tags;
+
+        public String getId() {
+            return id;
+        }
+
+        public String getColour() {
+            return colour;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getAppraisedValue() {
+            return appraisedValue;
+        }
+
+        public boolean isTransferable() {
+            return transferable;
+        }
+
+        public String[] getTags() {
+            return tags;
+        }
+    }
+
+    private TypeRegistry typeRegistry;
+    private JSONTransactionSerializer serializer;
+    private TypeSchema schema;
+    private Asset asset;
+    private byte[] buffer;
+
+    @Setup
+    public void setup() {
+        typeRegistry = new TypeRegistryImpl();
+        typeRegistry.addDataType(Asset.class);
+        serializer = new JSONTransactionSerializer(typeRegistry);
+        schema = new TypeSchema();
+        schema.put("$ref", "#/components/schemas/Asset");
+
+        asset = new Asset();
+        asset.id = "asset1";
+        asset.colour = "blue";
+        asset.owner = "Tomoko \"Tom\" Sato";
+        asset.size = 5;
+        asset.appraisedValue = 300000000L;
+        asset.transferable = true;
+        asset.tags = new String[] { "red", "green", "blue" };
+        buffer = serializer.toBuffer(asset, schema);
+    }
+
+    @Benchmark
+    public byte[] toBufferCodec() {
+        return serializer.toBuffer(asset, schema);
+    }
+
+    @Benchmark
+    public byte[] toBufferOrgJson() {
+        return new JSONObject(asset).toString().getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public Object fromBufferCodec() {
+        return serializer.fromBuffer(buffer, schema);
+    }
+
+    @Benchmark
+    public Object fromBufferOrgJson() throws ReflectiveOperationException {
+        DataTypeDefinition dtd = typeRegistry.getDataType("Asset");
+        Object obj = dtd.getTypeClass().getDeclaredConstructor().newInstance();
+        JSONObject json = new JSONObject(new String(buffer, UTF_8));
+        for (PropertyDefinition prop : dtd.getProperties().values()) {
+            Field f = prop.getField();
+            f.setAccessible(true);
+            f.set(obj, convert(json.get(prop.getName()).toString(), prop.getSchema()));
+        }
+        return obj;
+    }
+
+    private Object convert(String stringData, TypeSchema ts) {
+        if ("array".equals(ts.getType())) {
+            JSONArray jsonArray = new JSONArray(stringData);
+            Object[] data = new String[jsonArray.length()];
+            for (int i = 0; i < jsonArray.length(); i++) {
+                data[i] = convert(jsonArray.get(i).toString(), ts.getItems());
+            }
+            return data;
+        }
+        return JSONCodec.convertScalar(stringData, ts);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.routing.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hyperledger.fabric.contract.Context;
+import org.hyperledger.fabric.contract.ContractInterface;
+import org.hyperledger.fabric.contract.annotation.Contract;
+import org.hyperledger.fabric.contract.annotation.Info;
+import org.hyperledger.fabric.contract.annotation.Transaction;
+import org.hyperledger.fabric.contract.routing.ContractDefinition;
+import org.hyperledger.fabric.contract.routing.TxFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares looking up and calling a transaction function through the
+ * {@link TxFunction.Routing} invoker with the reflective call, and argument
+ * list shuffling, that the execution service used before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TxFunctionBenchmark {
+
+    @Contract(name = "benchmark", info = @Info())
+    public static class BenchmarkContract implements ContractInterface {
+        @Transaction
+        public String echo(final Context ctx, final String id, final int count) {
+            return id;
+        }
+    }
+
+    private ContractDefinition contract;
+    private final Context context = new Context(null);
+    private final List<Object> convertedArgs = Arrays.asList("asset1", 42);
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        contract = new ContractDefinitionImpl(BenchmarkContract.class);
+        contract.addTxFunction(BenchmarkContract.class.getMethod("echo", Context.class, String.class, int.class));
+    }
+
+    @Benchmark
+    public Object invoker() throws ReflectiveOperationException {
+        final TxFunction.Routing routing = contract.getTxFunction("echo").getRouting();
+        final Object[] args = new Object[convertedArgs.size() + 1];
+        args[0] = context;
+        for (int i = 0; i < convertedArgs.size(); i++) {
+            args[i + 1] = convertedArgs.get(i);
+        }
+        return routing.invoke(routing.getContractInstance(), args);
+    }
+
+    @Benchmark
+    public Object reflection() throws ReflectiveOperationException {
+        final TxFunction.Routing routing = contract.getTxFunction("echo").getRouting();
+        final List<Object> args = new ArrayList<>(convertedArgs.size() + 1);
+        args.addAll(convertedArgs);
+        args.add(0, context);
+        return routing.getMethod().invoke(routing.getContractInstance(), args.toArray());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hyperledger.fabric.protos.common.Common.HeaderType.ENDORSER_TRANSACTION_VALUE;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hyperledger.fabric.protos.common.Common.ChannelHeader;
+import org.hyperledger.fabric.protos.common.Common.Header;
+import org.hyperledger.fabric.protos.common.Common.SignatureHeader;
+import org.hyperledger.fabric.protos.peer.ProposalPackage.ChaincodeProposalPayload;
+import org.hyperledger.fabric.protos.peer.ProposalPackage.Proposal;
+import org.hyperledger.fabric.protos.peer.ProposalPackage.SignedProposal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+
+/**
+ * Compares the per transaction cost of creating a stub and reading its
+ * function name, which is all most chaincode needs, with the cost of the
+ * proposal decoding and binding digest the stub constructor used to do
+ * up front. The constructor still parses the proposal, header and channel
+ * header, to check the transaction type; the signature header, payload and
+ * binding are left until first use. {@code stubWithProposalFields} shows the
+ * cost when chaincode does read the proposal fields and binding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChaincodeStubBenchmark {
+
+    private final List<ByteString> args = Arrays.asList(ByteString.copyFromUtf8("createAsset"), ByteString.copyFromUtf8("{\"id\":\"asset1\"}"));
+    private final SignedProposal signedProposal = SignedProposal.newBuilder()
+            .setProposalBytes(Proposal.newBuilder()
+                    .setHeader(Header.newBuilder()
+                            .setChannelHeader(ChannelHeader.newBuilder()
+                                    .setType(ENDORSER_TRANSACTION_VALUE)
+                                    .setTimestamp(Timestamp.newBuilder().setSeconds(1570000000))
+                                    .setEpoch(0)
+                                    .build().toByteString())
+                            .setSignatureHeader(SignatureHeader.newBuilder()
+                                    .setNonce(ByteString.copyFrom(new byte[24]))
+                                    .setCreator(ByteString.copyFrom(new byte[900]))
+                                    .build().toByteString())
+                            .build().toByteString())
+                    .setPayload(ChaincodeProposalPayload.newBuilder()
+                            .putTransientMap("key", ByteString.copyFromUtf8("value"))
+                            .build().toByteString())
+                    .build().toByteString())
+            .build();
+
+    @Benchmark
+    public String stub() {
+        return new ChaincodeStubImpl("mychannel", "txid", null, args, signedProposal).getFunction();
+    }
+
+    @Benchmark
+    public byte[] stubWithProposalFields() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("mychannel", "txid", null, args, signedProposal);
+        stub.getTxTimestamp();
+        stub.getTransient();
+        return stub.getBinding();
+    }
+
+    @Benchmark
+    public byte[] eagerProposalDecoding() throws InvalidProtocolBufferException, NoSuchAlgorithmException {
+        // without a proposal, so that only the old decoding below parses it
+        new ChaincodeStubImpl("mychannel", "txid", null, args, null).getFunction();
+        return decodeProposal(signedProposal);
+    }
+
+    /**
+     * The decoding previously done by the stub constructor for every transaction.
+     */
+    private static byte[] decodeProposal(final SignedProposal signedProposal) throws InvalidProtocolBufferException, NoSuchAlgorithmException {
+        final Proposal proposal = Proposal.parseFrom(signedProposal.getProposalBytes());
+        final Header header = Header.parseFrom(proposal.getHeader());
+        final ChannelHeader channelHeader = ChannelHeader.parseFrom(header.getChannelHeader());
+        final SignatureHeader signatureHeader = SignatureHeader.parseFrom(header.getSignatureHeader());
+        ChaincodeProposalPayload.parseFrom(proposal.getPayload()).getTransientMapMap();
+        final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        messageDigest.update(signatureHeader.getNonce().asReadOnlyByteBuffer());
+        messageDigest.update(signatureHeader.getCreator().asReadOnlyByteBuffer());
+        final ByteBuffer epochBytes = ByteBuffer.allocate(Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(channelHeader.getEpoch());
+        epochBytes.flip();
+        messageDigest.update(epochBytes);
+        return messageDigest.digest();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage;
+import org.hyperledger.fabric.shim.helper.Channel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares one ledger call round trip through the {@link TransactionRegistry}
+ * and its one-shot response slots with the same round trip through the
+ * synchronized, string keyed maps and response channels the Handler used
+ * before. Run with several thread counts to see how each scales,
+ * for example {@code -t 1} and {@code -t 8}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionRegistryBenchmark {
+
+    private final TransactionRegistry registry = new TransactionRegistry();
+    private final SynchronizedRegistry synchronizedRegistry = new SynchronizedRegistry();
+
+    @State(Scope.Thread)
+    public static class Transaction {
+        final String channelId = "mychannel";
+        final String txId = UUID.randomUUID().toString();
+        final ChaincodeMessage response = ChaincodeMessage.newBuilder()
+                .setType(ChaincodeMessage.Type.RESPONSE)
+                .setChannelId(channelId)
+                .setTxid(txId)
+                .build();
+    }
+
+    @Benchmark
+    public ChaincodeMessage concurrentRegistry(final Transaction tx) throws InterruptedException, ExecutionException {
+        final TxKey key = new TxKey(tx.channelId, tx.txId);
+        final CompletableFuture<ChaincodeMessage> slot = registry.acquireResponseSlot(key);
+        registry.sendResponse(new TxKey(tx.response.getChannelId(), tx.response.getTxid()), tx.response);
+        final ChaincodeMessage response = slot.get();
+        registry.releaseResponseSlot(key);
+        return response;
+    }
+
+    @Benchmark
+    public ChaincodeMessage synchronizedRegistry(final Transaction tx) throws InterruptedException {
+        final Channel<ChaincodeMessage> channel = synchronizedRegistry.acquire(tx.channelId, tx.txId);
+        synchronizedRegistry.send(tx.response);
+        final ChaincodeMessage response = channel.take();
+        synchronizedRegistry.release(tx.channelId, tx.txId);
+        return response;
+    }
+
+    /**
+     * The response channel handling previously built into the Handler.
+     */
+    private static class SynchronizedRegistry {
+        private final Map<String, Channel<ChaincodeMessage>> responseChannel = new HashMap<>();
+
+        synchronized Channel<ChaincodeMessage> acquire(final String channelId, final String txId) {
+            final Channel<ChaincodeMessage> channel = new Channel<>();
+            if (responseChannel.putIfAbsent(channelId + txId, channel) != null) {
+                throw new IllegalStateException("Response channel already exists");
+            }
+            return channel;
+        }
+
+        synchronized void send(final ChaincodeMessage message) {
+            final String key = message.getChannelId() + message.getTxid();
+            if (!responseChannel.containsKey(key)) {
+                throw new IllegalStateException("sendChannel does not exist");
+            }
+            responseChannel.get(key).add(message);
+        }
+
+        synchronized void release(final String channelId, final String txId) {
+            final Channel<ChaincodeMessage> channel = responseChannel.remove(channelId + txId);
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -36,16 +37,21 @@ import org.json.JSONObject;
 public final class ClientIdentity {
     private static Logger logger = Logger.getLogger(ContractRouter.class.getName());
 
-    private String mspId;
-    private X509Certificate cert;
-    private Map<String, String> attrs;
-    private String id;
+    private final String mspId;
+    private final X509Certificate cert;
+    private final Map<String, String> attrs;
+    private final String id;
     // special OID used by Fabric to save attributes in x.509 certificates
     private static final String FABRIC_CERT_ATTR_OID = "1.2.3.4.5.6.7.8.1";
 
     public ClientIdentity(ChaincodeStub stub) throws CertificateException, JSONException, IOException {
-        final byte[] signingId = stub.getCreator();
+        this(stub.getCreator());
+    }
 
+    /**
+     * @param signingId serialized identity of the transaction creator
+     */
+    ClientIdentity(byte[] signingId) throws CertificateException, JSONException, IOException {
         // Create a Serialized Identity protobuf
         SerializedIdentity si = SerializedIdentity.parseFrom(signingId);
         this.mspId = si.getMspid();
@@ -55,12 +61,10 @@ public final class ClientIdentity {
         final X509Certificate cert = (X509Certificate) CertificateFactory.getInstance("X509").generateCertificate(new ByteArrayInputStream(idBytes));
         this.cert = cert;
 
-        this.attrs = new HashMap<String, String>();
         // Get the extension where the identity attributes are stored
         final byte[] extensionValue = cert.getExtensionValue(FABRIC_CERT_ATTR_OID);
-        if (extensionValue != null) {
-            this.attrs = parseAttributes(extensionValue);
-        }
+        // identities are shared between transactions by ClientIdentityCache, so are immutable
+        this.attrs = extensionValue != null ? Collections.unmodifiableMap(parseAttributes(extensionValue)) : Collections.emptyMap();
 
         // Populate identity
         this.id = "x509::" + cert.getSubjectDN().getName() + "::" + cert.getIssuerDN().getName();
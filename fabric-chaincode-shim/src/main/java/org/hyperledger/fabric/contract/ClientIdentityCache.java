@@ -0,0 +1,191 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract;
+
+import java.io.IOException;
+import java.security.cert.CertificateException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hyperledger.fabric.shim.ChaincodeStub;
+import org.json.JSONException;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Parsed client identities shared across transactions, keyed by the creator
+ * bytes of the transaction proposal.
+ * <p>
+ * Most traffic comes from a small number of clients, and parsing the
+ * certificate and its attributes for every transaction is costly. A
+ * {@link ClientIdentity} is immutable, so the one parsed for the first
+ * transaction from a client is reused for later ones. The whole creator is
+ * compared on lookup, so one client's identity is never returned for another.
+ * <p>
+ * At most {@code maxEntries} identities are kept, the least recently used being
+ * evicted first; a size of 0 disables caching.
+ */
+public final class ClientIdentityCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final ClientIdentityCache INSTANCE = new ClientIdentityCache(DEFAULT_MAX_ENTRIES);
+
+    private volatile int maxEntries;
+    private final LinkedHashMap<ByteString, ClientIdentity> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    ClientIdentityCache(final int maxEntries) {
+        checkMaxEntries(maxEntries);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<ByteString, ClientIdentity>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ByteString, ClientIdentity> eldest) {
+                if (size() > ClientIdentityCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the cache used when creating a transaction {@link Context}
+     */
+    public static ClientIdentityCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the identity of the client that submitted the transaction,
+     * parsing it only if it is not already cached.
+     *
+     * @param stub stub of the current transaction
+     * @return the client's identity
+     * @throws CertificateException if the creator certificate cannot be parsed
+     * @throws JSONException        if the certificate attributes cannot be parsed
+     * @throws IOException          if the creator cannot be parsed
+     */
+    public ClientIdentity get(final ChaincodeStub stub) throws CertificateException, JSONException, IOException {
+        final byte[] creator = stub.getCreator();
+        if (maxEntries == 0) {
+            misses.incrementAndGet();
+            return new ClientIdentity(creator);
+        }
+
+        final ByteString key = ByteString.copyFrom(creator);
+        ClientIdentity identity;
+        synchronized (entries) {
+            identity = entries.get(key);
+        }
+        if (identity != null) {
+            hits.incrementAndGet();
+            return identity;
+        }
+
+        // parsed outside the lock; concurrent misses for one client parse equal identities
+        misses.incrementAndGet();
+        identity = new ClientIdentity(creator);
+        synchronized (entries) {
+            entries.put(key, identity);
+        }
+        return identity;
+    }
+
+    /**
+     * Sets the maximum number of identities kept, evicting the least recently
+     * used ones if there are more.
+     *
+     * @param maxEntries maximum number of identities, 0 to disable caching
+     */
+    public void setMaxEntries(final int maxEntries) {
+        checkMaxEntries(maxEntries);
+        synchronized (entries) {
+            this.maxEntries = maxEntries;
+            while (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private static void checkMaxEntries(final int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Maximum entries must not be negative");
+        }
+    }
+
+    /**
+     * @return maximum number of identities kept
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return number of identities currently cached
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of lookups that had to parse the identity
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return number of identities evicted to stay within the maximum size
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return fraction of lookups answered from the cache, 0 if there were none
+     */
+    public double getHitRate() {
+        final long hits = this.hits.get();
+        final long total = hits + misses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Removes all identities and resets the metrics.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ClientIdentityCache[size=%d, maxEntries=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.3f]",
+                size(), maxEntries, getHits(), getMisses(), getEvictions(), getHitRate());
+    }
+}
@@ -32,10 +32,22 @@ import org.json.JSONException;
  *
  *}
  *</pre>
+ * <p>
+ * The client identity is created in the constructor from the shared
+ * {@link ClientIdentityCache}, so the creator certificate of a client is only
+ * parsed for its first transaction, and an invalid creator fails the creation
+ * of the context. Subclasses should read it with {@link #getClientIdentity()},
+ * and can supply their own with {@link #setClientIdentity(ClientIdentity)}.
  *
  */
 public class Context {
     protected ChaincodeStub stub;
+
+    /**
+     * @deprecated use {@link #getClientIdentity()} and
+     *             {@link #setClientIdentity(ClientIdentity)}
+     */
+    @Deprecated
     protected ClientIdentity clientIdentity;
 
     /**
@@ -46,7 +58,7 @@ public class Context {
     public Context(ChaincodeStub stub) {
         this.stub = stub;
         try {
-            this.clientIdentity = new ClientIdentity(stub);
+            this.clientIdentity = ClientIdentityCache.getInstance().get(stub);
         } catch (CertificateException | JSONException | IOException e) {
             throw new ContractRuntimeException("Could not create new client identity", e);
         }
@@ -67,4 +79,14 @@ public class Context {
     public ClientIdentity getClientIdentity() {
         return this.clientIdentity;
     }
+
+    /**
+     * Supplies the identity returned by {@link #getClientIdentity()}, in place
+     * of the one created from the stub
+     *
+     * @param clientIdentity ClientIdentity object to use
+     */
+    protected void setClientIdentity(ClientIdentity clientIdentity) {
+        this.clientIdentity = clientIdentity;
+    }
 }
@@ -13,13 +13,10 @@ import org.hyperledger.fabric.shim.ChaincodeStub;
  * with dynamic proxy.
  */
 public class ContextFactory {
-    private static ContextFactory cf;
+    private static final ContextFactory INSTANCE = new ContextFactory();
 
-    static synchronized public ContextFactory getInstance() {
-        if (cf == null) {
-            cf = new ContextFactory();
-        }
-        return cf;
+    public static ContextFactory getInstance() {
+        return INSTANCE;
     }
 
     public Context createContext(final ChaincodeStub stub) {
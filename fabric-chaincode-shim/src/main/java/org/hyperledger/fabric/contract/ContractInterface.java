@@ -42,6 +42,12 @@ import org.hyperledger.fabric.shim.ChaincodeException;
  * ThreadLocal Storage. Ledger data is stored via the ledger api available via
  * the {@link Context}.
  * <p>
+ * A single instance of the contract is created when the chaincode starts and
+ * is shared by all transactions. Contracts that do keep state in instance
+ * fields can be annotated with
+ * {@link org.hyperledger.fabric.contract.annotation.PerTransaction} to have
+ * a new instance created for each transaction.
+ * <p>
  * If information needs to be passed from the {@link #beforeTransaction(Context)}
  * {@link #afterTransaction(Context, Object)} or between separate transaction functions when
  * called directory, then a subclass of the
@@ -12,6 +12,7 @@ import org.hyperledger.fabric.contract.execution.ExecutionService;
 import org.hyperledger.fabric.contract.execution.InvocationRequest;
 import org.hyperledger.fabric.contract.metadata.MetadataBuilder;
 import org.hyperledger.fabric.contract.routing.ContractDefinition;
+import org.hyperledger.fabric.contract.routing.ContractIndex;
 import org.hyperledger.fabric.contract.routing.RoutingRegistry;
 import org.hyperledger.fabric.contract.routing.TxFunction;
 import org.hyperledger.fabric.contract.routing.TypeRegistry;
@@ -46,17 +47,25 @@ public class ContractRouter extends ChaincodeBase {
         super.processCommandLineOptions(args);
 
         super.validateOptions();
+        ClientIdentityCache.getInstance().setMaxEntries(getIdentityCacheSize());
         logger.debug("ContractRouter<init>");
-        registry = new RoutingRegistryImpl();
+        registry = new RoutingRegistryImpl(getScanPackages(), getScanJars(), getScanCache());
         typeRegistry = new TypeRegistryImpl();
         executor = ExecutionFactory.getInstance().createExecutionService(typeRegistry);
     }
 
     /**
-     * Locate all the contracts that are available on the classpath
+     * Locate all the contracts that are available on the classpath, from the
+     * index generated at compile time if there is one
      */
     protected void findAllContracts() {
-        registry.findAndSetContracts(this.typeRegistry);
+        ContractIndex index = ContractIndex.load(ContractRouter.class.getClassLoader());
+        if (index != null) {
+            logger.info(() -> "Using generated contract index");
+            registry.setContracts(index, this.typeRegistry);
+        } else {
+            registry.findAndSetContracts(this.typeRegistry);
+        }
     }
 
     /**
@@ -130,8 +139,11 @@ public class ContractRouter extends ChaincodeBase {
         cfc.findAllContracts();
 
         // Create the Metadata ahead of time rather than have to produce every
-        // time
-        MetadataBuilder.initialize(cfc.getRoutingRegistry(), cfc.getTypeRegistry());
+        // time, unless it was generated at compile time
+        if (!MetadataBuilder.loadGeneratedMetadata(ContractRouter.class.getClassLoader())) {
+            MetadataBuilder.initialize(cfc.getRoutingRegistry(), cfc.getTypeRegistry());
+        }
+        MetadataBuilder.compileValidators(cfc.getRoutingRegistry(), cfc.getTypeRegistry());
         logger.info(() -> "Metadata follows:" + MetadataBuilder.debugString());
 
         // commence routing, once this has returned the chaincode and contract api is
@@ -0,0 +1,57 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.annotation;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Method level annotation allowing the response of an evaluate transaction
+ * function to be reused by later transactions.
+ * <p>
+ * Only applies to functions marked {@code @Transaction(submit = false)}; it is
+ * ignored on functions that are submitted. Responses are cached per contract
+ * and function, keyed by the exact bytes of the channel, the client's identity,
+ * the transient data and the arguments, so a response is only reused for the
+ * same request from the same client on the same channel. Until it expires the
+ * function is not called again, but the before and after transaction hooks
+ * are, so checks they make on the caller still apply; the after transaction
+ * hook is given the object returned when the response was cached.
+ * <p>
+ * A cached response does not reflect ledger updates committed after it was
+ * produced. Only use this where a response up to {@link #ttl()} milliseconds
+ * out of date is acceptable. A cached response is also endorsed without
+ * reading the ledger, so if a client submits the function to the orderer
+ * rather than only evaluating it, the transaction is not invalidated by
+ * changes to the keys it originally read.
+ *
+ * <pre>
+ * &#64;Transaction(submit = false)
+ * &#64;CacheResult(ttl = 5000, maxEntries = 100)
+ * public String getDashboard(Context ctx, String region) {
+ * </pre>
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface CacheResult {
+    /**
+     * How long a cached response can be returned for.
+     *
+     * @return time to live in milliseconds, default is 1000
+     */
+    long ttl() default 1000;
+
+    /**
+     * Maximum number of distinct argument lists cached for this function; the
+     * least recently used response is evicted when the limit is reached.
+     *
+     * @return maximum number of cached responses, default is 1000
+     */
+    int maxEntries() default 1000;
+}
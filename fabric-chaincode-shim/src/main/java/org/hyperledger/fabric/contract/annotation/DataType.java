@@ -27,4 +27,16 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 public @interface DataType {
     String namespace() default "";
+
+    /**
+     * TRUE indicates that the JSON of this type is validated against its schema,
+     * including the constraints given in the {@link Property} annotations, before
+     * it is converted
+     *
+     * FALSE indicates that the JSON is only checked structurally as it is
+     * converted; every property must be present and convertible to its type
+     *
+     * @return boolean, default is true
+     */
+    boolean validateSchema() default true;
 }
@@ -0,0 +1,22 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Class level annotation that asks for a new instance of the contract to be created
+ * for every transaction, rather than one instance being shared by all transactions.
+ * Only needed by contracts that keep per transaction state in instance fields.
+ */
+@Retention(RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PerTransaction {
+}
@@ -0,0 +1,366 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract.execution;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hyperledger.fabric.contract.ContractRuntimeException;
+import org.hyperledger.fabric.contract.metadata.TypeSchema;
+import org.hyperledger.fabric.contract.routing.DataTypeDefinition;
+import org.hyperledger.fabric.contract.routing.PropertyDefinition;
+import org.hyperledger.fabric.contract.routing.TypeRegistry;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Converts complex types to and from JSON in a single pass over the UTF-8
+ * bytes, guided by their schema.
+ * <p>
+ * A reader is built for each data type the first time it is used, and shared
+ * from then on. Objects are read into the fields of the properties of their
+ * {@link DataTypeDefinition}. Objects are written by org.json, as
+ * {@code new JSONObject(bean)} writes them from their getters, so that their
+ * output is unchanged; arrays and scalars are written directly.
+ * <p>
+ * Text that is not strict JSON, but that org.json accepts, such as single
+ * quoted strings, unquoted keys or trailing commas, is first normalized by
+ * org.json and then read as usual.
+ */
+final class JSONCodec {
+    private final TypeRegistry typeRegistry;
+    private final Map<DataTypeDefinition, ObjectCodec> codecs = new ConcurrentHashMap<>();
+
+    JSONCodec(TypeRegistry typeRegistry) {
+        this.typeRegistry = typeRegistry;
+    }
+
+    /**
+     * Converts an object or array to JSON
+     *
+     * @param value the value, not null
+     * @param ts    schema of an object or array type
+     * @return UTF-8 encoded JSON
+     */
+    byte[] write(Object value, TypeSchema ts) {
+        if (!"array".equals(ts.getType())) {
+            return new JSONObject(value).toString().getBytes(UTF_8);
+        } else if (!value.getClass().isArray()) {
+            return new JSONArray(value).toString().getBytes(UTF_8);
+        }
+        JSONWriter out = new JSONWriter();
+        writeValue(out, value, ts);
+        return out.toByteArray();
+    }
+
+    /**
+     * Converts JSON to an object or array, validating the objects of data
+     * types that ask for it against their schema
+     *
+     * @param buffer UTF-8 encoded JSON
+     * @param ts     schema of an object or array type
+     * @return the value
+     */
+    Object read(byte[] buffer, TypeSchema ts) {
+        try {
+            return readStrict(buffer, ts);
+        } catch (JSONException e) {
+            byte[] normalized = normalize(buffer, ts);
+            if (normalized != null) {
+                try {
+                    return readStrict(normalized, ts);
+                } catch (JSONException ignore) {
+                    // report the error in the text as given
+                }
+            }
+            throw new ContractRuntimeException("Unable to convert JSON to object", e);
+        }
+    }
+
+    private Object readStrict(byte[] buffer, TypeSchema ts) {
+        JSONReader in = new JSONReader(buffer);
+        try {
+            Object value = readValue(in, ts, false);
+            in.expectEnd();
+            return value;
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            throw new ContractRuntimeException("Unable to convert JSON to object", e);
+        }
+    }
+
+    /**
+     * @return the text as org.json writes it, or null if org.json cannot
+     *         parse it either, or it was written that way already
+     */
+    private static byte[] normalize(byte[] buffer, TypeSchema ts) {
+        String text = new String(buffer, UTF_8);
+        String normalized;
+        try {
+            if ("array".equals(ts.getType())) {
+                normalized = new JSONArray(text).toString();
+            } else {
+                normalized = new JSONObject(text).toString();
+            }
+        } catch (JSONException e) {
+            return null;
+        }
+        return normalized.equals(text) ? null : normalized.getBytes(UTF_8);
+    }
+
+    /**
+     * Converts the text of a string, number or boolean to the Java type of the
+     * schema
+     *
+     * @return the value, or null for any other type
+     */
+    static Object convertScalar(String text, TypeSchema ts) {
+        String type = ts.getType();
+        Object value = null;
+        if (type.contentEquals("string")) {
+            value = text;
+        } else if (type.contentEquals("integer")) {
+            String intFormat = ts.getFormat();
+            if (intFormat.contentEquals("int32")) {
+                value = Integer.parseInt(text);
+            } else {
+                value = Long.parseLong(text);
+            }
+        } else if (type.contentEquals("number")) {
+            String numFormat = ts.getFormat();
+            if (numFormat.contentEquals("float")) {
+                value = Float.parseFloat(text);
+            } else {
+                value = Double.parseDouble(text);
+            }
+        } else if (type.contentEquals("boolean")) {
+            value = Boolean.parseBoolean(text);
+        }
+        return value;
+    }
+
+    private Object readValue(JSONReader in, TypeSchema ts, boolean validated) throws IllegalAccessException {
+        String type = ts.getType();
+        if (type == null || type.contentEquals("object")) {
+            return readObject(in, ts, validated);
+        } else if (type.contentEquals("array")) {
+            return readArray(in, ts, validated);
+        }
+        boolean quoted = in.peek() == '"';
+        String text = in.readText();
+        if (text == null) {
+            // as before, a null is converted from its text
+            text = "null";
+        } else if (!quoted && type.contentEquals("string")) {
+            text = orgJsonText(text);
+        }
+        return convertScalar(text, ts);
+    }
+
+    /**
+     * @return the text org.json gave for a value that is not a string: the
+     *         Java value it parses a number or literal to, or an object or
+     *         array as it writes it
+     */
+    private static String orgJsonText(String text) {
+        char c = text.charAt(0);
+        if (c == '{') {
+            return new JSONObject(text).toString();
+        } else if (c == '[') {
+            return new JSONArray(text).toString();
+        }
+        return JSONObject.stringToValue(text).toString();
+    }
+
+    private Object readObject(JSONReader in, TypeSchema ts, boolean validated) throws IllegalAccessException {
+        if (in.peek() != '{') {
+            throw in.error("Expected '{'");
+        }
+        DataTypeDefinition dtd = dataType(ts);
+        ObjectCodec codec = codec(dtd);
+        Object obj = codec.newInstance();
+
+        if (!validated && dtd.isSchemaValidated()) {
+            // the schema validator needs a tree; it covers any nested objects too
+            int start = in.position();
+            in.skipValue();
+            ts.validate(new JSONObject(in.text(start)));
+            in.reset(start);
+            validated = true;
+        }
+
+        PropertyCodec[] properties = codec.properties;
+        boolean[] seen = new boolean[properties.length];
+        int found = 0;
+        in.expect('{');
+        if (!in.consume('}')) {
+            do {
+                String name = in.readString();
+                in.expect(':');
+                Integer index = codec.index.get(name);
+                if (index == null) {
+                    in.skipValue();
+                    continue;
+                }
+                if (seen[index]) {
+                    throw in.error("Duplicate key " + JSONObject.quote(name));
+                }
+                seen[index] = true;
+                found++;
+                PropertyCodec property = properties[index];
+                property.field.set(obj, readValue(in, property.schema, validated));
+            } while (in.consume(','));
+            in.expect('}');
+        }
+
+        if (found < properties.length) {
+            for (int i = 0; i < properties.length; i++) {
+                if (!seen[i]) {
+                    throw new JSONException("JSONObject[" + JSONObject.quote(properties[i].name) + "] not found.");
+                }
+            }
+        }
+        return obj;
+    }
+
+    private Object readArray(JSONReader in, TypeSchema ts, boolean validated) throws IllegalAccessException {
+        TypeSchema itemSchema = ts.getItems();
+        List<Object> values = new ArrayList<>();
+        in.expect('[');
+        if (!in.consume(']')) {
+            do {
+                values.add(readValue(in, itemSchema, validated));
+            } while (in.consume(','));
+            in.expect(']');
+        }
+
+        Class<?> itemType = itemSchema.getTypeClass(typeRegistry);
+        Object array = Array.newInstance(itemType == null ? Object.class : itemType, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Array.set(array, i, values.get(i));
+        }
+        return array;
+    }
+
+    private void writeValue(JSONWriter out, Object value, TypeSchema ts) {
+        String type = ts.getType();
+        if (value == null) {
+            out.writeAscii("null");
+        } else if (type == null || type.contentEquals("object")) {
+            // as new JSONObject(bean) writes it
+            writeOther(out, value);
+        } else if (type.contentEquals("array") && value.getClass().isArray()) {
+            writeArray(out, value, ts);
+        } else if (type.contentEquals("string") && value instanceof String) {
+            out.writeString((String) value);
+        } else if ((type.contentEquals("integer") || type.contentEquals("number")) && value instanceof Number) {
+            out.writeAscii(JSONObject.numberToString((Number) value));
+        } else if (type.contentEquals("boolean") && value instanceof Boolean) {
+            out.writeAscii(value.toString());
+        } else {
+            writeOther(out, value);
+        }
+    }
+
+    private void writeArray(JSONWriter out, Object value, TypeSchema ts) {
+        TypeSchema itemSchema = ts.getItems();
+        out.write('[');
+        int length = Array.getLength(value);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeValue(out, Array.get(value, i), itemSchema);
+        }
+        out.write(']');
+    }
+
+    private static void writeOther(JSONWriter out, Object value) {
+        out.write(JSONObject.valueToString(JSONObject.wrap(value)).getBytes(UTF_8));
+    }
+
+    private DataTypeDefinition dataType(TypeSchema ts) {
+        String ref = ts.getRef();
+        String format = ref.substring(ref.lastIndexOf("/") + 1);
+        DataTypeDefinition dtd = typeRegistry.getDataType(format);
+        if (dtd == null) {
+            throw new ContractRuntimeException("Unknown data type " + format);
+        }
+        return dtd;
+    }
+
+    private ObjectCodec codec(DataTypeDefinition dtd) {
+        return codecs.computeIfAbsent(dtd, ObjectCodec::new);
+    }
+
+    /**
+     * Reader of one data type
+     */
+    private static final class ObjectCodec {
+        private final Class<?> typeClass;
+        private final Constructor<?> constructor;
+        private final PropertyCodec[] properties;
+        private final Map<String, Integer> index = new HashMap<>();
+
+        ObjectCodec(DataTypeDefinition dtd) {
+            this.typeClass = dtd.getTypeClass();
+            Constructor<?> found;
+            try {
+                found = typeClass.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                found = null;
+            }
+            this.constructor = found;
+
+            Collection<PropertyDefinition> definitions = dtd.getProperties().values();
+            this.properties = new PropertyCodec[definitions.size()];
+            int i = 0;
+            for (PropertyDefinition definition : definitions) {
+                properties[i] = new PropertyCodec(definition);
+                index.put(definition.getName(), i);
+                i++;
+            }
+        }
+
+        Object newInstance() {
+            try {
+                if (constructor == null) {
+                    throw new NoSuchMethodException(typeClass.getName() + ".<init>()");
+                }
+                return constructor.newInstance();
+            } catch (IllegalAccessException | InstantiationException | InvocationTargetException | NoSuchMethodException e) {
+                throw new ContractRuntimeException("Unable to to create new instance of type", e);
+            }
+        }
+    }
+
+    /**
+     * Reader of one property of a data type, into its field
+     */
+    private static final class PropertyCodec {
+        private final String name;
+        private final Field field;
+        private final TypeSchema schema;
+
+        PropertyCodec(PropertyDefinition definition) {
+            this.name = definition.getName();
+            this.field = definition.getField();
+            this.field.setAccessible(true);
+            this.schema = definition.getSchema();
+        }
+    }
+}
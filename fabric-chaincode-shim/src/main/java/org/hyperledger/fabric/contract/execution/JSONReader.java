@@ -0,0 +1,301 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract.execution;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.json.JSONException;
+
+/**
+ * Reads JSON text token by token straight from its UTF-8 bytes, without
+ * building a tree of the values.
+ */
+final class JSONReader {
+    private final byte[] buf;
+    private final int end;
+    private int pos;
+
+    JSONReader(byte[] buf) {
+        this.buf = buf;
+        this.end = buf.length;
+    }
+
+    /**
+     * @return the next character that is not whitespace, without consuming it
+     */
+    char peek() {
+        skipWhitespace();
+        if (pos >= end) {
+            throw error("Unexpected end of JSON");
+        }
+        return (char) (buf[pos] & 0xff);
+    }
+
+    /**
+     * Consumes the next character if it is the one given
+     *
+     * @return true if it was consumed
+     */
+    boolean consume(char c) {
+        skipWhitespace();
+        if (pos < end && buf[pos] == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    void expect(char c) {
+        if (!consume(c)) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    /**
+     * Checks that nothing but whitespace follows the value read
+     */
+    void expectEnd() {
+        skipWhitespace();
+        if (pos < end) {
+            throw error("Unexpected text after the JSON value");
+        }
+    }
+
+    /**
+     * @return position of the next value, to pass to {@link #text(int)}
+     */
+    int position() {
+        skipWhitespace();
+        return pos;
+    }
+
+    /**
+     * Moves back to a position returned by {@link #position()}, to read the
+     * value there again
+     */
+    void reset(int position) {
+        pos = position;
+    }
+
+    /**
+     * @return the JSON text read since the position given
+     */
+    String text(int start) {
+        return new String(buf, start, pos - start, UTF_8);
+    }
+
+    /**
+     * Reads the next value as text: the contents of a string, or the JSON text
+     * of a number, literal, object or array exactly as given.
+     *
+     * @return the text, or null for a JSON null
+     */
+    String readText() {
+        char c = peek();
+        if (c == '"') {
+            return readString();
+        }
+        int start = pos;
+        skipValue();
+        if (pos - start == 4 && buf[start] == 'n') {
+            return null;
+        }
+        return text(start);
+    }
+
+    /**
+     * Reads a string value, unescaping it
+     */
+    String readString() {
+        expect('"');
+        int start = pos;
+        int i = start;
+        // fast path for strings without escapes
+        while (i < end) {
+            byte b = buf[i];
+            if (b == '"') {
+                pos = i + 1;
+                return new String(buf, start, i - start, UTF_8);
+            }
+            if (b == '\\') {
+                break;
+            }
+            if (b >= 0 && b < ' ') {
+                pos = i;
+                throw error("Unescaped control character in string");
+            }
+            i++;
+        }
+
+        StringBuilder sb = new StringBuilder(i - start + 16);
+        sb.append(new String(buf, start, i - start, UTF_8));
+        pos = i;
+        while (true) {
+            int chunk = pos;
+            while (pos < end && buf[pos] != '"' && buf[pos] != '\\') {
+                if (buf[pos] >= 0 && buf[pos] < ' ') {
+                    throw error("Unescaped control character in string");
+                }
+                pos++;
+            }
+            sb.append(new String(buf, chunk, pos - chunk, UTF_8));
+            if (pos >= end) {
+                throw error("Unterminated string");
+            }
+            if (buf[pos++] == '"') {
+                return sb.toString();
+            }
+            if (pos >= end) {
+                throw error("Unterminated string");
+            }
+            char escaped = (char) buf[pos++];
+            switch (escaped) {
+            case '"':
+            case '\\':
+            case '/':
+                sb.append(escaped);
+                break;
+            case 'b':
+                sb.append('\b');
+                break;
+            case 'f':
+                sb.append('\f');
+                break;
+            case 'n':
+                sb.append('\n');
+                break;
+            case 'r':
+                sb.append('\r');
+                break;
+            case 't':
+                sb.append('\t');
+                break;
+            case 'u':
+                sb.append(readHex());
+                break;
+            default:
+                throw error("Illegal escape");
+            }
+        }
+    }
+
+    private char readHex() {
+        if (pos + 4 > end) {
+            throw error("Unterminated string");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(buf[pos++], 16);
+            if (digit < 0) {
+                throw error("Illegal escape");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    /**
+     * Skips over the next value, checking that it is well formed
+     */
+    void skipValue() {
+        char c = peek();
+        switch (c) {
+        case '{':
+            pos++;
+            if (!consume('}')) {
+                do {
+                    readString();
+                    expect(':');
+                    skipValue();
+                } while (consume(','));
+                expect('}');
+            }
+            break;
+        case '[':
+            pos++;
+            if (!consume(']')) {
+                do {
+                    skipValue();
+                } while (consume(','));
+                expect(']');
+            }
+            break;
+        case '"':
+            readString();
+            break;
+        case 't':
+            literal("true");
+            break;
+        case 'f':
+            literal("false");
+            break;
+        case 'n':
+            literal("null");
+            break;
+        default:
+            number();
+        }
+    }
+
+    private void literal(String literal) {
+        int length = literal.length();
+        if (pos + length > end) {
+            throw error("Unexpected end of JSON");
+        }
+        for (int i = 0; i < length; i++) {
+            if (buf[pos + i] != literal.charAt(i)) {
+                throw error("Unexpected character");
+            }
+        }
+        pos += length;
+    }
+
+    private void number() {
+        int start = pos;
+        if (pos < end && buf[pos] == '-') {
+            pos++;
+        }
+        int digits = digits();
+        if (pos < end && buf[pos] == '.') {
+            pos++;
+            digits = digits == 0 ? 0 : digits();
+        }
+        if (digits > 0 && pos < end && (buf[pos] == 'e' || buf[pos] == 'E')) {
+            pos++;
+            if (pos < end && (buf[pos] == '+' || buf[pos] == '-')) {
+                pos++;
+            }
+            digits = digits();
+        }
+        if (digits == 0) {
+            pos = start;
+            throw error("Unexpected character");
+        }
+    }
+
+    private int digits() {
+        int start = pos;
+        while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+            pos++;
+        }
+        return pos - start;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end) {
+            byte b = buf[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    JSONException error(String message) {
+        return new JSONException(message + " at " + pos);
+    }
+}
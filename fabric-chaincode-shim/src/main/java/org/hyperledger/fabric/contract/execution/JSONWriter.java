@@ -0,0 +1,159 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes JSON text straight into a growing UTF-8 byte buffer.
+ * <p>
+ * Strings are escaped the same way as by {@link org.json.JSONObject#quote},
+ * so that the output matches what the serializer produced before.
+ */
+final class JSONWriter {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buf;
+    private int count;
+
+    JSONWriter() {
+        this.buf = new byte[256];
+    }
+
+    void write(char c) {
+        ensure(1);
+        buf[count++] = (byte) c;
+    }
+
+    /**
+     * @param bytes UTF-8 encoded JSON text, such as a property name that has
+     *              been quoted ahead of time
+     */
+    void write(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, count, bytes.length);
+        count += bytes.length;
+    }
+
+    /**
+     * @param text JSON text made of ASCII characters only, such as a number or
+     *             a literal
+     */
+    void writeAscii(String text) {
+        int length = text.length();
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buf[count++] = (byte) text.charAt(i);
+        }
+    }
+
+    /**
+     * Writes the string quoted and escaped
+     */
+    void writeString(String value) {
+        int length = value.length();
+        // worst case is six bytes for each character
+        ensure(length * 6 + 2);
+        byte[] b = buf;
+        int n = count;
+        b[n++] = '"';
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                switch (c) {
+                case '"':
+                case '\\':
+                    b[n++] = '\\';
+                    b[n++] = (byte) c;
+                    break;
+                case '/':
+                    if (previous == '<') {
+                        b[n++] = '\\';
+                    }
+                    b[n++] = '/';
+                    break;
+                case '\b':
+                    b[n++] = '\\';
+                    b[n++] = 'b';
+                    break;
+                case '\t':
+                    b[n++] = '\\';
+                    b[n++] = 't';
+                    break;
+                case '\n':
+                    b[n++] = '\\';
+                    b[n++] = 'n';
+                    break;
+                case '\f':
+                    b[n++] = '\\';
+                    b[n++] = 'f';
+                    break;
+                case '\r':
+                    b[n++] = '\\';
+                    b[n++] = 'r';
+                    break;
+                default:
+                    if (c < ' ') {
+                        n = unicodeEscape(b, n, c);
+                    } else {
+                        b[n++] = (byte) c;
+                    }
+                }
+            } else if (c < 0xa0 || (c >= 0x2000 && c < 0x2100)) {
+                n = unicodeEscape(b, n, c);
+            } else if (c < 0x800) {
+                b[n++] = (byte) (0xc0 | (c >> 6));
+                b[n++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                char low = i + 1 < length ? value.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                    int cp = Character.toCodePoint(c, low);
+                    b[n++] = (byte) (0xf0 | (cp >> 18));
+                    b[n++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                    b[n++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                    b[n++] = (byte) (0x80 | (cp & 0x3f));
+                    i++;
+                } else {
+                    // as String.getBytes does for a malformed surrogate pair
+                    b[n++] = '?';
+                }
+            } else {
+                b[n++] = (byte) (0xe0 | (c >> 12));
+                b[n++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                b[n++] = (byte) (0x80 | (c & 0x3f));
+            }
+            previous = c;
+        }
+        b[n++] = '"';
+        count = n;
+    }
+
+    private static int unicodeEscape(byte[] b, int n, char c) {
+        b[n++] = '\\';
+        b[n++] = 'u';
+        b[n++] = HEX[(c >> 12) & 0xf];
+        b[n++] = HEX[(c >> 8) & 0xf];
+        b[n++] = HEX[(c >> 4) & 0xf];
+        b[n++] = HEX[c & 0xf];
+        return n;
+    }
+
+    private void ensure(int extra) {
+        if (count + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+        }
+    }
+
+    /**
+     * @return the JSON text written
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+}
@@ -7,20 +7,26 @@ SPDX-License-Identifier: Apache-2.0
 package org.hyperledger.fabric.contract.execution.impl;
 
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hyperledger.fabric.Logger;
 import org.hyperledger.fabric.contract.Context;
 import org.hyperledger.fabric.contract.ContractInterface;
 import org.hyperledger.fabric.contract.ContractRuntimeException;
+import org.hyperledger.fabric.contract.annotation.CacheResult;
 import org.hyperledger.fabric.contract.execution.ExecutionService;
 import org.hyperledger.fabric.contract.execution.InvocationRequest;
 import org.hyperledger.fabric.contract.execution.JSONTransactionSerializer;
 import org.hyperledger.fabric.contract.metadata.TypeSchema;
 import org.hyperledger.fabric.contract.routing.ParameterDefinition;
+import org.hyperledger.fabric.contract.routing.TransactionType;
 import org.hyperledger.fabric.contract.routing.TxFunction;
 import org.hyperledger.fabric.contract.routing.TypeRegistry;
 import org.hyperledger.fabric.shim.Chaincode;
@@ -32,8 +38,12 @@ public class ContractExecutionService implements ExecutionService {
 
     private static Logger logger = Logger.getLogger(ContractExecutionService.class.getName());
 
+    // marks functions whose responses are not cached
+    private static final ResultCache NO_CACHE = new ResultCache(0, 0);
+
     private JSONTransactionSerializer serializer;
     Map<String, Object> proxies = new HashMap<>();
+    private final Map<TxFunction, ResultCache> resultCaches = new ConcurrentHashMap<>();
 
     public ContractExecutionService(TypeRegistry typeRegistry) {
         // FUTURE: Permit this to swapped out as per node.js
@@ -46,15 +56,28 @@ public class ContractExecutionService implements ExecutionService {
         TxFunction.Routing rd = txFn.getRouting();
         Chaincode.Response response;
 
+        final ResultCache resultCache = resultCaches.computeIfAbsent(txFn, ContractExecutionService::newResultCache);
+        final List<byte[]> cacheKey = resultCache == NO_CACHE ? null : cacheKey(stub, req.getArgs());
+
         try {
             ContractInterface contractObject = rd.getContractInstance();
             Context context = contractObject.createContext(stub);
 
-            final List<Object> args = convertArgs(req.getArgs(), txFn);
-            args.add(0, context); // force context into 1st position, other elements move up
+            final ResultCache.Entry cached = cacheKey == null ? null : resultCache.get(cacheKey);
+            if (cached != null) {
+                // the hooks still run, so that any checks they make on the
+                // caller apply to cached responses too
+                logger.debug(() -> "Returning cached response for " + txFn);
+                contractObject.beforeTransaction(context);
+                contractObject.afterTransaction(context, cached.getValue());
+                final byte[] payload = cached.getPayload();
+                return payload.length == 0 ? ResponseUtils.newSuccessResponse() : ResponseUtils.newSuccessResponse(payload);
+            }
+
+            final Object[] args = convertArgs(req.getArgs(), txFn, context);
 
             contractObject.beforeTransaction(context);
-            Object value = rd.getMethod().invoke(contractObject, args.toArray());
+            Object value = rd.invoke(contractObject, args);
             contractObject.afterTransaction(context, value);
 
             if (value == null) {
@@ -63,6 +86,10 @@ public class ContractExecutionService implements ExecutionService {
                 response = ResponseUtils.newSuccessResponse(convertReturn(value, txFn));
             }
 
+            if (cacheKey != null) {
+                resultCache.put(cacheKey, value, response.getPayload());
+            }
+
         } catch (IllegalAccessException | InstantiationException | NoSuchMethodException e) {
             String message = String.format("Could not execute contract method: %s", rd.toString());
             throw new ContractRuntimeException(message, e);
@@ -79,6 +106,37 @@ public class ContractExecutionService implements ExecutionService {
         return response;
     }
 
+    private static ResultCache newResultCache(TxFunction txFn) {
+        CacheResult cacheResult = txFn.getCacheResult();
+        if (cacheResult == null || txFn.getType() != TransactionType.QUERY) {
+            return NO_CACHE;
+        }
+        return new ResultCache(cacheResult.ttl(), cacheResult.maxEntries());
+    }
+
+    /**
+     * Everything other than the ledger that the response of a function may
+     * depend on: the channel, the client, the transient data and the arguments.
+     */
+    private static List<byte[]> cacheKey(ChaincodeStub stub, List<byte[]> args) {
+        final Map<String, byte[]> transientData = stub.getTransient() == null ? Collections.emptyMap() : stub.getTransient();
+        final List<byte[]> key = new ArrayList<>(3 + 2 * transientData.size() + args.size());
+        key.add(bytes(stub.getChannelId()));
+        key.add(stub.getCreator() == null ? new byte[0] : stub.getCreator());
+        // the count keeps the transient entries apart from the arguments
+        key.add(bytes(Integer.toString(transientData.size())));
+        for (Map.Entry<String, byte[]> entry : new TreeMap<>(transientData).entrySet()) {
+            key.add(bytes(entry.getKey()));
+            key.add(entry.getValue() == null ? new byte[0] : entry.getValue());
+        }
+        key.addAll(args);
+        return key;
+    }
+
+    private static byte[] bytes(String s) {
+        return s == null ? new byte[0] : s.getBytes(StandardCharsets.UTF_8);
+    }
+
     private byte[] convertReturn(Object obj, TxFunction txFn) {
         byte[] buffer;
         TypeSchema ts = txFn.getReturnSchema();
@@ -87,12 +145,13 @@ public class ContractExecutionService implements ExecutionService {
         return buffer;
     }
 
-    private List<Object> convertArgs(List<byte[]> stubArgs, TxFunction txFn) {
+    private Object[] convertArgs(List<byte[]> stubArgs, TxFunction txFn, Context context) {
 
         List<ParameterDefinition> schemaParams = txFn.getParamsList();
-        List<Object> args = new ArrayList<>(stubArgs.size() + 1); // allow for context as the first arguement
+        Object[] args = new Object[schemaParams.size() + 1];
+        args[0] = context; // context is always the first argument
         for (int i = 0; i < schemaParams.size(); i++) {
-            args.add(i, serializer.fromBuffer(stubArgs.get(i), schemaParams.get(i).getSchema()));
+            args[i + 1] = serializer.fromBuffer(stubArgs.get(i), schemaParams.get(i).getSchema());
         }
         return args;
     }
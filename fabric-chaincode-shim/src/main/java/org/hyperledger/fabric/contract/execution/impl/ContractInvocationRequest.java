@@ -7,7 +7,6 @@ SPDX-License-Identifier: Apache-2.0
 package org.hyperledger.fabric.contract.execution.impl;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -21,7 +20,7 @@ public class ContractInvocationRequest implements InvocationRequest {
 
     private static Log logger = LogFactory.getLog(ContractInvocationRequest.class);
     public ContractInvocationRequest(ChaincodeStub context) {
-        String func = context.getStringArgs().size() > 0 ? context.getStringArgs().get(0) : null;
+        String func = context.getFunction();
         String funcParts[] = func.split(":");
         logger.debug(func);
         if (funcParts.length == 2) {
@@ -32,7 +31,9 @@ public class ContractInvocationRequest implements InvocationRequest {
             method = funcParts[0];
         }
 
-        args = context.getArgs().stream().skip(1).collect(Collectors.toList());
+        // a new copy of the arguments, so a view of it is enough
+        List<byte[]> stubArgs = context.getArgs();
+        args = stubArgs.subList(1, stubArgs.size());
         logger.debug(namespace+" "+method+" "+args);
     }
 
@@ -0,0 +1,141 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.execution.impl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Responses of a single evaluate transaction function, keyed by the raw bytes
+ * of everything the response may depend on: the channel, the client, the
+ * transient data and the arguments.
+ * <p>
+ * Entries expire {@code ttl} milliseconds after they were stored, and the least
+ * recently used entry is evicted once {@code maxEntries} is reached. Unlike the
+ * shim's per transaction caches this one is shared by concurrent transactions,
+ * so all access is synchronized.
+ */
+final class ResultCache {
+
+    // stands in for a function that returned nothing
+    private static final byte[] NO_PAYLOAD = new byte[0];
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    ResultCache(final long ttl, final int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    ResultCache(final long ttl, final int maxEntries, final LongSupplier clock) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                return size() > ResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return the live entry for the key, or null if there is none
+     */
+    synchronized Entry get(final List<byte[]> key) {
+        final Key k = new Key(key, false);
+        final Entry entry = entries.get(k);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.expires >= 0) {
+            entries.remove(k);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * @param value   object returned by the function
+     * @param payload serialized response, or null if the function returned nothing
+     */
+    synchronized void put(final List<byte[]> key, final Object value, final byte[] payload) {
+        if (maxEntries <= 0 || ttlNanos <= 0) {
+            return;
+        }
+        entries.put(new Key(key, true), new Entry(value, payload == null ? NO_PAYLOAD : payload, clock.getAsLong() + ttlNanos));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Key {
+        private final byte[][] parts;
+        private final int hash;
+
+        Key(final List<byte[]> parts, final boolean copy) {
+            // stored keys are copied so later changes to the caller's arrays cannot alter them
+            this.parts = new byte[parts.size()][];
+            for (int i = 0; i < this.parts.length; i++) {
+                this.parts[i] = copy ? parts.get(i).clone() : parts.get(i);
+            }
+            this.hash = Arrays.deepHashCode(this.parts);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash && Arrays.deepEquals(parts, other.parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    static final class Entry {
+        private final Object value;
+        private final byte[] payload;
+        private final long expires;
+
+        Entry(final Object value, final byte[] payload, final long expires) {
+            this.value = value;
+            this.payload = payload;
+            this.expires = expires;
+        }
+
+        /**
+         * @return the object the function returned, or null
+         */
+        Object getValue() {
+            return value;
+        }
+
+        /**
+         * @return the serialized response, or an empty array if the function
+         *         returned nothing
+         */
+        byte[] getPayload() {
+            return payload;
+        }
+    }
+}
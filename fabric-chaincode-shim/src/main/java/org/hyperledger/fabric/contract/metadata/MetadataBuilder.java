@@ -45,6 +45,12 @@ import org.json.JSONTokener;
 public class MetadataBuilder {
     private static Logger logger = Logger.getLogger(MetadataBuilder.class);
 
+    /**
+     * Resource holding the metadata generated at compile time by the
+     * {@link org.hyperledger.fabric.contract.processor.ContractProcessor}
+     */
+    public static final String GENERATED_METADATA = "META-INF/hyperledger-fabric/contract-metadata.json";
+
     @SuppressWarnings("serial")
     static class MetadataMap<K, V> extends HashMap<K, V> {
 
@@ -73,6 +79,16 @@ public class MetadataBuilder {
      * @throws ValidationException if the metadata is not valid
      */
     public static void validate() {
+        validate(metadata());
+    }
+
+    /**
+     * Validates metadata against the contract schema
+     *
+     * @param metadata the metadata to validate
+     * @throws ValidationException if the metadata is not valid
+     */
+    public static void validate(JSONObject metadata) {
         logger.info("Running schema test validation");
         ClassLoader cl = MetadataBuilder.class.getClassLoader();
         try (InputStream contractSchemaInputStream = cl.getResourceAsStream("contract-schema.json");
@@ -85,14 +101,14 @@ public class MetadataBuilder {
                 .registerSchemaByURI(URI.create("http://json-schema.org/draft-04/schema"), rawJsonSchema)
                 .build();
             Schema schema = schemaLoader.load().build();
-            schema.validate(metadata());
+            schema.validate(metadata);
 
         } catch (IOException e) {
             throw new RuntimeException(e);
         } catch (ValidationException e) {
             logger.error(e.getMessage());
             e.getCausingExceptions().stream().map(ValidationException::getMessage).forEach(logger::info);
-            logger.error(debugString());
+            logger.error(metadata.toString(3));
             throw e;
         }
 
@@ -116,6 +132,37 @@ public class MetadataBuilder {
 
     }
 
+    /**
+     * Setup the metadata from the resource generated at compile time, if there
+     * is one. The metadata was validated when it was generated, so is not
+     * validated again.
+     *
+     * @param classLoader class loader to load the resource from
+     * @return true if the metadata was loaded, false if there was none
+     */
+    public static boolean loadGeneratedMetadata(ClassLoader classLoader) {
+        try (InputStream metadataInputStream = classLoader.getResourceAsStream(GENERATED_METADATA)) {
+            if (metadataInputStream == null) {
+                return false;
+            }
+            JSONObject metadata = new JSONObject(new JSONTokener(metadataInputStream));
+
+            JSONObject contracts = metadata.getJSONObject("contracts");
+            for (String name : contracts.keySet()) {
+                HashMap<String, Serializable> contract = new HashMap<>();
+                contracts.getJSONObject(name).toMap().forEach((k, v) -> contract.put(k, (Serializable) v));
+                contractMap.put(name, contract);
+            }
+            overallInfoMap.putAll(metadata.getJSONObject("info").toMap());
+            componentMap.putAll(metadata.getJSONObject("components").getJSONObject("schemas").toMap());
+            TypeSchema.clearValidators();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        logger.info("Loaded generated metadata");
+        return true;
+    }
+
     /**
      * Adds a component/ complex data-type
      */
@@ -132,6 +179,32 @@ public class MetadataBuilder {
         component.put("properties", propertiesMap);
 
         componentMap.put(datatype.getSimpleName(), component);
+        TypeSchema.clearValidators();
+    }
+
+    /**
+     * Compiles the validators of the complex types passed to the transaction
+     * functions, or held in properties of other complex types, so that they
+     * are ready before the first transaction. Call once the components are
+     * complete.
+     */
+    public static void compileValidators(RoutingRegistry registry, TypeRegistry typeRegistry) {
+        registry.getAllDefinitions().stream()
+            .flatMap(contract -> contract.getTxFunctions().stream())
+            .flatMap(txFunction -> txFunction.getParamsList().stream())
+            .forEach(pd -> compileValidator(pd.getSchema()));
+        typeRegistry.getAllDataTypes().stream()
+            .flatMap(datatype -> datatype.getProperties().values().stream())
+            .forEach(pd -> compileValidator(pd.getSchema()));
+    }
+
+    private static void compileValidator(TypeSchema schema) {
+        TypeSchema items = schema.getItems();
+        if (schema.getRef() != null) {
+            schema.getValidator();
+        } else if (items != null) {
+            compileValidator(items);
+        }
     }
 
     /**
@@ -9,6 +9,7 @@ package org.hyperledger.fabric.contract.metadata;
 import java.lang.reflect.Array;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
@@ -29,10 +30,28 @@ import org.json.JSONObject;
 public class TypeSchema extends HashMap<String, Object> {
     private static Logger logger = Logger.getLogger(TypeSchema.class.getName());
 
+    // Version of the components, which every compiled validator embeds
+    private static final AtomicInteger componentsVersion = new AtomicInteger();
+
+    // Compiled validator of this schema, dropped when the schema changes
+    private transient volatile Validator validator;
+
     public TypeSchema() {
 
     }
 
+    @Override
+    public Object put(String key, Object value) {
+        validator = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        validator = null;
+        return super.remove(key);
+    }
+
     private Object _putIfNotNull(String key, Object value) {
         if (value != null && !value.toString().isEmpty()) {
             return put(key, value);
@@ -121,15 +140,26 @@ public class TypeSchema extends HashMap<String, Object> {
      *
      */
     public static TypeSchema typeConvert(Class<?> clz) {
+        return typeConvert(clz.getTypeName());
+    }
+
+    /**
+     * Provide a mapping between the name of a Java Language type, as given by
+     * {@link Class#getTypeName()}, and the OpenAPI based types
+     *
+     * @param typeName name of the type
+     * @return the schema of the type, null for void
+     */
+    public static TypeSchema typeConvert(String typeName) {
         TypeSchema returnschema = new TypeSchema();
-        String className = clz.getTypeName();
-        if (className == "void") {
+        String className = typeName;
+        if (className.equals("void")) {
             return null;
         }
 
         TypeSchema schema;
 
-        if (clz.isArray()) {
+        if (className.endsWith("[]")) {
             returnschema.put("type", "array");
             schema = new TypeSchema();
             returnschema.put("items", schema);
@@ -184,25 +214,19 @@ public class TypeSchema extends HashMap<String, Object> {
         return returnschema;
     }
 
+    /**
+     * Validates an instance of this type against the schema, compiling the
+     * schema the first time it is used
+     *
+     * @param obj JSON of the instance
+     * @throws ContractRuntimeException if the instance is not valid
+     */
     public void validate(JSONObject obj) {
-        // get the components bit of the main metadata
-
         JSONObject toValidate = new JSONObject();
         toValidate.put("prop", obj);
 
-        JSONObject schemaJSON;
-        if (this.containsKey("schema")) {
-            schemaJSON = new JSONObject((Map) this.get("schema"));
-        } else {
-            schemaJSON = new JSONObject(this);
-        }
-
-        JSONObject rawSchema = new JSONObject();
-        rawSchema.put("properties", new JSONObject().put("prop", schemaJSON));
-        rawSchema.put("components", new JSONObject().put("schemas", MetadataBuilder.getComponents()));
-        Schema schema = SchemaLoader.load(rawSchema);
         try {
-            schema.validate(toValidate);
+            getValidator().validate(toValidate);
         } catch (ValidationException e) {
             StringBuilder sb = new StringBuilder("Validation Errors::");
             e.getCausingExceptions().stream().map(ValidationException::getMessage).forEach(sb::append);
@@ -212,4 +236,54 @@ public class TypeSchema extends HashMap<String, Object> {
 
     }
 
+    /**
+     * @return the compiled validator of this schema, together with the
+     *         components it refers to
+     */
+    Schema getValidator() {
+        int version = componentsVersion.get();
+        Validator current = validator;
+        if (current == null || current.version != version) {
+            // racing threads compile equal validators
+            current = new Validator(version, compile(this));
+            validator = current;
+        }
+        return current.schema;
+    }
+
+    private static Schema compile(TypeSchema typeSchema) {
+        // get the components bit of the main metadata
+        JSONObject schemaJSON;
+        if (typeSchema.containsKey("schema")) {
+            schemaJSON = new JSONObject((Map<?, ?>) typeSchema.get("schema"));
+        } else {
+            schemaJSON = new JSONObject(typeSchema);
+        }
+
+        JSONObject rawSchema = new JSONObject();
+        rawSchema.put("properties", new JSONObject().put("prop", schemaJSON));
+        rawSchema.put("components", new JSONObject().put("schemas", MetadataBuilder.getComponents()));
+        return SchemaLoader.load(rawSchema);
+    }
+
+    /**
+     * Discards the compiled validators, as the components they embed have
+     * changed
+     */
+    static void clearValidators() {
+        componentsVersion.incrementAndGet();
+    }
+
+    /**
+     * A compiled schema, and the version of the components it embeds
+     */
+    private static final class Validator {
+        private final int version;
+        private final Schema schema;
+
+        Validator(int version, Schema schema) {
+            this.version = version;
+            this.schema = schema;
+        }
+    }
 }
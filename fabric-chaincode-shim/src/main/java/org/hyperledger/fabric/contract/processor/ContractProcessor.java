@@ -0,0 +1,322 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.everit.json.schema.ValidationException;
+import org.hyperledger.fabric.contract.Context;
+import org.hyperledger.fabric.contract.ContractInterface;
+import org.hyperledger.fabric.contract.annotation.Contract;
+import org.hyperledger.fabric.contract.annotation.DataType;
+import org.hyperledger.fabric.contract.annotation.Info;
+import org.hyperledger.fabric.contract.annotation.Property;
+import org.hyperledger.fabric.contract.annotation.Transaction;
+import org.hyperledger.fabric.contract.metadata.MetadataBuilder;
+import org.hyperledger.fabric.contract.metadata.TypeSchema;
+import org.hyperledger.fabric.contract.routing.ContractIndex;
+import org.hyperledger.fabric.contract.routing.TransactionType;
+import org.hyperledger.fabric.contract.routing.impl.DataTypeDefinitionImpl;
+import org.hyperledger.fabric.contract.systemcontract.SystemContract;
+import org.json.JSONObject;
+
+/**
+ * Annotation processor that generates the {@link ContractIndex} and the
+ * metadata of a chaincode at compile time, so that the chaincode neither scans
+ * the classpath for contracts nor builds and validates the metadata when it
+ * starts.
+ * <p>
+ * The processor is optional and has to be enabled explicitly, for example in
+ * Gradle
+ *
+ * <pre>
+ * dependencies {
+ *     annotationProcessor 'org.hyperledger.fabric-chaincode-java:fabric-chaincode-shim:VERSION'
+ * }
+ *
+ * compileJava {
+ *     options.compilerArgs += ['-processor', 'org.hyperledger.fabric.contract.processor.ContractProcessor']
+ * }
+ * </pre>
+ *
+ * All the contracts and data types of the chaincode must be compiled together,
+ * as only the classes being compiled are indexed. Parameters are named as in
+ * the source, rather than as reported by reflection.
+ */
+@SupportedAnnotationTypes({ "org.hyperledger.fabric.contract.annotation.Contract",
+        "org.hyperledger.fabric.contract.annotation.DataType" })
+public class ContractProcessor extends AbstractProcessor {
+
+    private static final String SCHEMA = "https://fabric-shim.github.io/release-1.4/contract-schema.json";
+
+    private boolean generated;
+    private boolean failed;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // the contracts are all in the sources of the first round
+        if (generated || annotations.isEmpty()) {
+            return false;
+        }
+        generated = true;
+
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror contractInterface = elements.getTypeElement(ContractInterface.class.getCanonicalName()).asType();
+
+        List<TypeElement> contracts = new ArrayList<>();
+        contracts.add(elements.getTypeElement(SystemContract.class.getCanonicalName()));
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Contract.class))) {
+            if (types.isAssignable(type.asType(), contractInterface)) {
+                contracts.add(type);
+            } else {
+                processingEnv.getMessager().printMessage(Kind.NOTE, "Class is not assignable from ContractInterface", type);
+            }
+        }
+        List<TypeElement> dataTypes = new ArrayList<>(ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(DataType.class)));
+
+        Map<String, Object> contractMap = new HashMap<>();
+        Map<String, Object> overallInfoMap = new HashMap<>();
+        for (TypeElement contract : contracts) {
+            addContract(contract, contractMap, overallInfoMap);
+        }
+        Map<String, Object> componentMap = new HashMap<>();
+        for (TypeElement dataType : dataTypes) {
+            addComponent(dataType, componentMap);
+        }
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("$schema", SCHEMA);
+        metadata.put("info", overallInfoMap);
+        metadata.put("contracts", contractMap);
+        metadata.put("components", Collections.singletonMap("schemas", componentMap));
+        JSONObject jsonMetadata = new JSONObject(metadata);
+        if (!failed) {
+            try {
+                MetadataBuilder.validate(jsonMetadata);
+            } catch (ValidationException e) {
+                error("Generated metadata is not valid: " + e.getMessage(), null);
+            }
+        }
+        if (failed) {
+            return false;
+        }
+
+        List<String> contractNames = new ArrayList<>();
+        contracts.forEach(type -> contractNames.add(binaryName(type)));
+        List<String> dataTypeNames = new ArrayList<>();
+        dataTypes.forEach(type -> dataTypeNames.add(binaryName(type)));
+        Element[] originatingElements = roundEnv.getElementsAnnotatedWith(Contract.class).toArray(new Element[0]);
+        try {
+            writeIndex(contractNames, dataTypeNames, originatingElements);
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    MetadataBuilder.GENERATED_METADATA, originatingElements);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(jsonMetadata.toString(3));
+            }
+        } catch (IOException e) {
+            error("Could not write the contract index: " + e, null);
+        }
+        return false;
+    }
+
+    private void addContract(TypeElement type, Map<String, Object> contractMap, Map<String, Object> overallInfoMap) {
+        Contract annotation = type.getAnnotation(Contract.class);
+        String key = annotation.name().isEmpty() ? type.getSimpleName().toString() : annotation.name();
+
+        Info info = annotation.info();
+        Map<String, Object> infoMap = new HashMap<>();
+        infoMap.put("title", info.title());
+        infoMap.put("description", info.description());
+        infoMap.put("termsOfService", info.termsOfService());
+        Map<String, Object> contact = new HashMap<>();
+        putIfNotEmpty(contact, "email", info.contact().email());
+        putIfNotEmpty(contact, "name", info.contact().name());
+        putIfNotEmpty(contact, "url", info.contact().url());
+        infoMap.put("contact", contact);
+        Map<String, Object> license = new HashMap<>();
+        license.put("name", info.license().name());
+        putIfNotEmpty(license, "url", info.license().url());
+        infoMap.put("license", license);
+        infoMap.put("version", info.version());
+
+        List<Object> transactions = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            Transaction transaction = method.getAnnotation(Transaction.class);
+            if (transaction == null || !method.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            String name = transaction.name().isEmpty() ? method.getSimpleName().toString() : transaction.name();
+            if (!names.add(name)) {
+                error(String.format("Duplicate transaction method %s", name), method);
+            }
+            transactions.add(transaction(method, name, transaction));
+        }
+
+        Map<String, Object> contract = new HashMap<>();
+        contract.put("name", key);
+        contract.put("transactions", transactions);
+        contract.put("info", infoMap);
+        contractMap.put(key, contract);
+        overallInfoMap.putAll(infoMap);
+    }
+
+    private Map<String, Object> transaction(ExecutableElement method, String name, Transaction annotation) {
+        Map<String, Object> transaction = new HashMap<>();
+        TypeSchema returnSchema = TypeSchema.typeConvert(typeName(method.getReturnType()));
+        if (returnSchema != null) {
+            transaction.put("returns", returnSchema);
+        }
+
+        List<? extends VariableElement> params = method.getParameters();
+        TypeMirror context = processingEnv.getElementUtils().getTypeElement(Context.class.getCanonicalName()).asType();
+        if (params.isEmpty() || !processingEnv.getTypeUtils().isAssignable(params.get(0).asType(), context)) {
+            error("First argument should be of type Context " + method.getSimpleName(), method);
+        }
+
+        List<Object> paramsList = new ArrayList<>();
+        for (VariableElement param : params.subList(Math.min(1, params.size()), params.size())) {
+            TypeSchema schema = TypeSchema.typeConvert(typeName(param.asType()));
+            Property property = param.getAnnotation(Property.class);
+            if (property != null) {
+                String[] userSupplied = property.schema();
+                for (int i = 0; i < userSupplied.length; i += 2) {
+                    schema.put(userSupplied[i], userSupplied[i + 1]);
+                }
+            }
+            Map<String, Object> paramMap = new HashMap<>();
+            paramMap.put("name", param.getSimpleName().toString());
+            paramMap.put("schema", schema);
+            paramsList.add(paramMap);
+        }
+        transaction.put("parameters", paramsList);
+
+        TransactionType type = annotation.submit() ? TransactionType.INVOKE : TransactionType.QUERY;
+        transaction.put("tags", Collections.singletonList(type.name()));
+        transaction.put("name", name);
+        return transaction;
+    }
+
+    private void addComponent(TypeElement type, Map<String, Object> componentMap) {
+        Map<String, Object> properties = new HashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Property property = field.getAnnotation(Property.class);
+            if (property != null) {
+                TypeSchema schema = TypeSchema.typeConvert(typeName(field.asType()));
+                try {
+                    DataTypeDefinitionImpl.addUserSchema(schema, property.schema());
+                } catch (NumberFormatException e) {
+                    error("Invalid property schema: " + e.getMessage(), field);
+                }
+                properties.put(field.getSimpleName().toString(), schema);
+            }
+        }
+
+        Map<String, Object> component = new HashMap<>();
+        component.put("$id", binaryName(type));
+        component.put("type", "object");
+        component.put("additionalProperties", false);
+        component.put("properties", properties);
+        componentMap.put(type.getSimpleName().toString(), component);
+    }
+
+    private void writeIndex(List<String> contractNames, List<String> dataTypeNames, Element[] originatingElements)
+            throws IOException {
+        String className = ContractIndex.GENERATED_CLASS;
+        int lastDot = className.lastIndexOf('.');
+        JavaFileObject source = processingEnv.getFiler().createSourceFile(className, originatingElements);
+        try (Writer writer = source.openWriter()) {
+            writer.write("package " + className.substring(0, lastDot) + ";\n\n");
+            writer.write("import java.util.Arrays;\n");
+            writer.write("import java.util.List;\n\n");
+            writer.write("import " + ContractIndex.class.getCanonicalName() + ";\n\n");
+            writer.write("/**\n * Generated by " + ContractProcessor.class.getCanonicalName() + ", do not edit\n */\n");
+            writer.write("public final class " + className.substring(lastDot + 1) + " implements ContractIndex {\n\n");
+            writeList(writer, "getContractClassNames", contractNames);
+            writer.write("\n");
+            writeList(writer, "getDataTypeClassNames", dataTypeNames);
+            writer.write("}\n");
+        }
+    }
+
+    private static void writeList(Writer writer, String method, List<String> names) throws IOException {
+        writer.write("    @Override\n");
+        writer.write("    public List<String> " + method + "() {\n");
+        writer.write("        return Arrays.asList(");
+        for (int i = 0; i < names.size(); i++) {
+            writer.write((i == 0 ? "" : ",") + "\n                \"" + names.get(i) + "\"");
+        }
+        writer.write(");\n    }\n");
+    }
+
+    /**
+     * @return the name of the type as given by {@link Class#getTypeName()}
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+        case ARRAY:
+            return typeName(((ArrayType) erased).getComponentType()) + "[]";
+        case DECLARED:
+            return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+        default:
+            return erased.toString();
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private static void putIfNotEmpty(Map<String, Object> map, String key, String value) {
+        if (!value.isEmpty()) {
+            map.put(key, value);
+        }
+    }
+
+    private void error(String message, Element element) {
+        failed = true;
+        if (element == null) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, message);
+        } else {
+            processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+        }
+    }
+}
@@ -6,6 +6,7 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.hyperledger.fabric.contract.routing;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 
@@ -44,6 +45,23 @@ public interface ContractDefinition {
      */
     Class<? extends ContractInterface> getContractImpl();
 
+    /**
+     * @return the instance of the contract to use for a transaction, shared by
+     *         all transactions unless the contract is per transaction
+     * @throws IllegalAccessException    if the constructor is not accessible
+     * @throws InstantiationException    if the contract class cannot be instantiated
+     * @throws InvocationTargetException if the constructor throws an exception
+     */
+    ContractInterface getContractInstance() throws IllegalAccessException, InstantiationException, InvocationTargetException;
+
+    /**
+     * @return true if a new instance of the contract is created for every
+     *         transaction, as requested by the
+     *         {@link org.hyperledger.fabric.contract.annotation.PerTransaction}
+     *         annotation
+     */
+    boolean isPerTransaction();
+
     /**
      * @param m The java.lang.reflect object that is the method that is a tx
      *          function
@@ -0,0 +1,55 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.routing;
+
+import java.util.List;
+
+import org.hyperledger.fabric.contract.ContractRuntimeException;
+
+/**
+ * Index of the contract and data type classes of a chaincode, generated at
+ * compile time by the
+ * {@link org.hyperledger.fabric.contract.processor.ContractProcessor}
+ * annotation processor.
+ * <p>
+ * When the generated index is present the contracts are loaded from it rather
+ * than found by scanning the classpath.
+ */
+public interface ContractIndex {
+
+    /**
+     * Name of the class generated by the annotation processor
+     */
+    String GENERATED_CLASS = "org.hyperledger.fabric.contract.generated.GeneratedContractIndex";
+
+    /**
+     * @return names of the classes annotated with
+     *         {@link org.hyperledger.fabric.contract.annotation.Contract}
+     */
+    List<String> getContractClassNames();
+
+    /**
+     * @return names of the classes annotated with
+     *         {@link org.hyperledger.fabric.contract.annotation.DataType}
+     */
+    List<String> getDataTypeClassNames();
+
+    /**
+     * Loads the generated index.
+     *
+     * @param classLoader class loader to load the index from
+     * @return the index, or null if none was generated
+     */
+    static ContractIndex load(ClassLoader classLoader) {
+        try {
+            return (ContractIndex) Class.forName(GENERATED_CLASS, true, classLoader).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new ContractRuntimeException("Could not load " + GENERATED_CLASS, e);
+        }
+    }
+}
@@ -16,4 +16,12 @@ public interface DataTypeDefinition {
 	String getSimpleName();
 
     Class<?> getTypeClass();
+
+    /**
+     * @return false if the JSON of this type is only checked structurally, as
+     *         requested by the
+     *         {@link org.hyperledger.fabric.contract.annotation.DataType}
+     *         annotation
+     */
+    boolean isSchemaValidated();
 }
\ No newline at end of file
@@ -66,4 +66,13 @@ public interface RoutingRegistry {
      */
     void findAndSetContracts(TypeRegistry typeRegistry);
 
+    /**
+     * Add the contracts listed in an index generated at compile time, rather
+     * than scanning the classpath for them
+     *
+     * @param index        the generated index
+     * @param typeRegistry
+     */
+    void setContracts(ContractIndex index, TypeRegistry typeRegistry);
+
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import org.hyperledger.fabric.contract.ContractInterface;
+import org.hyperledger.fabric.contract.annotation.CacheResult;
 import org.hyperledger.fabric.contract.metadata.TypeSchema;
 
 public interface TxFunction {
@@ -22,6 +23,19 @@ public interface TxFunction {
 
         ContractInterface getContractInstance() throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException;
 
+        /**
+         * Calls the transaction function.
+         *
+         * @param contract instance of the contract
+         * @param args     arguments of the function, starting with the context
+         * @return the value returned by the function, null if it is void
+         * @throws IllegalAccessException    if the function is not accessible
+         * @throws InvocationTargetException wrapping any exception thrown by the function
+         */
+        default Object invoke(ContractInterface contract, Object[] args) throws IllegalAccessException, InvocationTargetException {
+            return getMethod().invoke(contract, args);
+        }
+
     }
 
     boolean isUnknownTx();
@@ -38,6 +52,11 @@ public interface TxFunction {
 
     TransactionType getType();
 
+    /**
+     * @return how responses may be cached, or null if every call must run the function
+     */
+    CacheResult getCacheResult();
+
     void setReturnSchema(TypeSchema returnSchema);
 
     TypeSchema getReturnSchema();
@@ -5,6 +5,8 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.hyperledger.fabric.contract.routing.impl;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
@@ -16,6 +18,7 @@ import org.hyperledger.fabric.contract.ContractInterface;
 import org.hyperledger.fabric.contract.ContractRuntimeException;
 import org.hyperledger.fabric.contract.annotation.Contract;
 import org.hyperledger.fabric.contract.annotation.Default;
+import org.hyperledger.fabric.contract.annotation.PerTransaction;
 import org.hyperledger.fabric.contract.routing.ContractDefinition;
 import org.hyperledger.fabric.contract.routing.TxFunction;
 
@@ -25,6 +28,9 @@ import org.hyperledger.fabric.contract.routing.TxFunction;
  * Contains information about the contract, including transaction functions and
  * unknown transaction routing
  *
+ * The contract is instantiated once, when it is registered, and that instance
+ * is used for every transaction unless the class is annotated with
+ * {@link PerTransaction}.
  */
 public class ContractDefinitionImpl implements ContractDefinition {
     private static Logger logger = Logger.getLogger(ContractDefinitionImpl.class);
@@ -35,6 +41,8 @@ public class ContractDefinitionImpl implements ContractDefinition {
     private Class<? extends ContractInterface> contractClz;
     private Contract contractAnnotation;
     private TxFunction unknownTx;
+    private Constructor<? extends ContractInterface> constructor;
+    private ContractInterface instance;
 
     public ContractDefinitionImpl(Class<? extends ContractInterface> cl) {
 
@@ -63,6 +71,18 @@ public class ContractDefinitionImpl implements ContractDefinition {
             throw cre;
         }
 
+        try {
+            constructor = cl.getDeclaredConstructor();
+            if (cl.getAnnotation(PerTransaction.class) == null) {
+                instance = constructor.newInstance();
+            }
+        } catch (ReflectiveOperationException | SecurityException e) {
+            Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+            ContractRuntimeException cre = new ContractRuntimeException("Could not create contract " + cl.getCanonicalName(), cause);
+            logger.severe(() -> logger.formatError(cre));
+            throw cre;
+        }
+
         logger.info(() -> "Found class: " + cl.getCanonicalName());
         logger.debug(() -> "Namespace: " + this.name);
     }
@@ -82,6 +102,19 @@ public class ContractDefinitionImpl implements ContractDefinition {
         return contractClz;
     }
 
+    @Override
+    public ContractInterface getContractInstance() throws IllegalAccessException, InstantiationException, InvocationTargetException {
+        if (instance != null) {
+            return instance;
+        }
+        return constructor.newInstance();
+    }
+
+    @Override
+    public boolean isPerTransaction() {
+        return instance == null;
+    }
+
     @Override
     public TxFunction addTxFunction(Method m) {
         logger.debug(() -> "Adding method " + m.getName());
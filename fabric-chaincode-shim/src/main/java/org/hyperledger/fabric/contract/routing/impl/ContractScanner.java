@@ -0,0 +1,255 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.routing.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.hyperledger.fabric.Logger;
+import org.hyperledger.fabric.contract.ContractInterface;
+import org.hyperledger.fabric.contract.annotation.Contract;
+import org.hyperledger.fabric.contract.annotation.DataType;
+import org.hyperledger.fabric.contract.routing.ContractIndex;
+import org.hyperledger.fabric.contract.systemcontract.SystemContract;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+
+/**
+ * Finds the contract and data type classes by scanning the classpath.
+ * <p>
+ * The scan can be limited to some packages or jars, and its result saved to a
+ * cache file so that later starts with the same classpath skip it. The cache is
+ * keyed by a hash of the scan scope and the path, size and modification time
+ * of every jar scanned; it is not used when directories are scanned, as their
+ * contents cannot be checked cheaply.
+ */
+final class ContractScanner {
+    private static Logger logger = Logger.getLogger(ContractScanner.class);
+
+    private static final String KEY = "key";
+    private static final String CONTRACTS = "contracts";
+    private static final String DATA_TYPES = "dataTypes";
+
+    private final List<String> packages;
+    private final List<String> jars;
+    private final Path cacheFile;
+
+    /**
+     * @param packages  packages to scan, all if empty
+     * @param jars      names of the jars to scan, all jars and directories if
+     *                  empty
+     * @param cacheFile file the result is cached in, null to always scan
+     */
+    ContractScanner(List<String> packages, List<String> jars, Path cacheFile) {
+        this.packages = packages;
+        this.jars = jars;
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * @return the contract and data type classes found, from the cache if it
+     *         is up to date
+     */
+    ContractIndex scan() {
+        // listing the classpath stops a ClassGraph from scanning, so a separate one is used
+        String key = cacheFile == null ? null : cacheKey(classGraph().getClasspathFiles());
+        if (key != null) {
+            ContractIndex cached = readCache(key);
+            if (cached != null) {
+                logger.info(() -> "Using contracts cached in " + cacheFile);
+                return cached;
+            }
+        }
+
+        ContractIndex index = scan(classGraph());
+        if (key != null) {
+            writeCache(key, index);
+        }
+        return index;
+    }
+
+    private ClassGraph classGraph() {
+        ClassGraph classGraph = new ClassGraph()
+            .enableClassInfo()
+            .enableAnnotationInfo();
+        if (!packages.isEmpty()) {
+            classGraph.whitelistPackages(packages.toArray(new String[0]));
+        }
+        if (!jars.isEmpty()) {
+            classGraph.whitelistJars(jars.toArray(new String[0])).disableDirScanning();
+        }
+        return classGraph;
+    }
+
+    private static ContractIndex scan(ClassGraph classGraph) {
+        List<String> contractClasses = new ArrayList<>();
+        List<String> dataTypeClasses = new ArrayList<>();
+        try (ScanResult scanResult = classGraph.scan()) {
+            for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(Contract.class.getCanonicalName())) {
+                logger.debug("Found class with contract annotation: " + classInfo.getName());
+                try {
+                    Class<?> contractClass = classInfo.loadClass();
+                    logger.debug("Loaded class");
+                    Contract annotation = contractClass.getAnnotation(Contract.class);
+                    if (annotation == null) {
+                        // Since we check by name above, it makes sense to check it's actually compatible,
+                        // and not some random class with the same name.
+                        logger.debug("Class does not have compatible contract annotation");
+                    } else if (!ContractInterface.class.isAssignableFrom(contractClass)) {
+                        logger.debug("Class is not assignable from ContractInterface");
+                    } else {
+                        logger.debug("Class is assignable from ContractInterface");
+                        contractClasses.add(contractClass.getName());
+                    }
+                } catch (IllegalArgumentException e) {
+                    logger.debug("Failed to load class: " + e);
+                }
+            }
+            for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(DataType.class.getCanonicalName())) {
+                logger.debug("Found class with data type annotation: " + classInfo.getName());
+                try {
+                    Class<?> dataTypeClass = classInfo.loadClass();
+                    logger.debug("Loaded class");
+                    DataType annotation = dataTypeClass.getAnnotation(DataType.class);
+                    if (annotation == null) {
+                        // Since we check by name above, it makes sense to check it's actually compatible,
+                        // and not some random class with the same name.
+                        logger.debug("Class does not have compatible data type annotation");
+                    } else {
+                        logger.debug("Class has compatible data type annotation");
+                        dataTypeClasses.add(dataTypeClass.getName());
+                    }
+                } catch (IllegalArgumentException e) {
+                    logger.debug("Failed to load class: " + e);
+                }
+            }
+        }
+
+        // the system contract is outside the scope of a limited scan
+        if (!contractClasses.contains(SystemContract.class.getName())) {
+            contractClasses.add(SystemContract.class.getName());
+        }
+        return new ScannedIndex(contractClasses, dataTypeClasses);
+    }
+
+    /**
+     * @param classpath the classpath elements that would be scanned
+     * @return hash identifying the scan, or null if it cannot be cached
+     */
+    String cacheKey(List<File> classpath) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, String.join(",", packages));
+            update(digest, String.join(",", jars));
+            for (File file : classpath) {
+                if (file.isDirectory()) {
+                    logger.debug(() -> "Not caching the scan of directory " + file);
+                    return null;
+                }
+                update(digest, file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified());
+            }
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * @return the cached classes, or null if the cache is missing or is for
+     *         another classpath
+     */
+    ContractIndex readCache(String key) {
+        Properties cache = new Properties();
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            cache.load(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not read the contract cache " + cacheFile + ": " + e);
+            return null;
+        }
+        if (!key.equals(cache.getProperty(KEY))) {
+            logger.debug(() -> "Contract cache " + cacheFile + " is for another classpath");
+            return null;
+        }
+        return new ScannedIndex(split(cache.getProperty(CONTRACTS, "")), split(cache.getProperty(DATA_TYPES, "")));
+    }
+
+    /**
+     * Saves the classes found, replacing the cache file atomically so that
+     * concurrent readers never see a partial cache.
+     */
+    void writeCache(String key, ContractIndex index) {
+        Properties cache = new Properties();
+        cache.setProperty(KEY, key);
+        cache.setProperty(CONTRACTS, String.join(",", index.getContractClassNames()));
+        cache.setProperty(DATA_TYPES, String.join(",", index.getDataTypeClassNames()));
+        try {
+            Path dir = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, cacheFile.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                cache.store(out, "Contract and data type classes found by scanning the classpath");
+            }
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warning("Could not write the contract cache " + cacheFile + ": " + e);
+        }
+    }
+
+    private static List<String> split(String names) {
+        if (names.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(names.split(",")).collect(Collectors.toList());
+    }
+
+    private static final class ScannedIndex implements ContractIndex {
+        private final List<String> contractClassNames;
+        private final List<String> dataTypeClassNames;
+
+        ScannedIndex(List<String> contractClassNames, List<String> dataTypeClassNames) {
+            this.contractClassNames = contractClassNames;
+            this.dataTypeClassNames = dataTypeClassNames;
+        }
+
+        @Override
+        public List<String> getContractClassNames() {
+            return contractClassNames;
+        }
+
+        @Override
+        public List<String> getDataTypeClassNames() {
+            return dataTypeClassNames;
+        }
+    }
+}
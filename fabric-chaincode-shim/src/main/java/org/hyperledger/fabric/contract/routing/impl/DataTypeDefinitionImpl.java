@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import org.hyperledger.fabric.contract.annotation.DataType;
 import org.hyperledger.fabric.contract.annotation.Property;
 import org.hyperledger.fabric.contract.metadata.TypeSchema;
 import org.hyperledger.fabric.contract.routing.DataTypeDefinition;
@@ -24,11 +25,14 @@ public class DataTypeDefinitionImpl implements DataTypeDefinition {
 	String name;
 	String simpleName;
 	Class<?> clazz;
+	boolean schemaValidated;
 
 	public DataTypeDefinitionImpl(Class<?> componentClass) {
 		this.clazz = componentClass;
 		this.name = componentClass.getName();
 		this.simpleName = componentClass.getSimpleName();
+		DataType annotation = componentClass.getAnnotation(DataType.class);
+		this.schemaValidated = annotation == null || annotation.validateSchema();
 		// given this class extract the property elements
 		Field[] fields = componentClass.getDeclaredFields();
 
@@ -37,29 +41,7 @@ public class DataTypeDefinitionImpl implements DataTypeDefinition {
 			if (propAnnotation != null) {
 				TypeSchema ts = TypeSchema.typeConvert(f.getType());
 
-				// array of strings, "a","b","c","d" to become map of {a:b}, {c:d}
-				String[] userSupplied = propAnnotation.schema();
-				for (int i = 0; i < userSupplied.length; i += 2) {
-					String userKey = userSupplied[i];
-					Object userValue;
-					switch (userKey.toLowerCase()) {
-					case "title":
-					case "pattern":
-						userValue = userSupplied[i + 1];
-						break;
-					case "uniqueitems":
-						userValue = Boolean.parseBoolean(userSupplied[i + 1]);
-						break;
-					case "required":
-					case "enum":
-						userValue = Stream.of(userSupplied[i + 1].split(",")).map(String::trim).toArray(String[]::new);
-						break;
-					default:
-						userValue = Integer.parseInt(userSupplied[i + 1]);
-						break;
-					}
-					ts.put(userKey, userValue);
-				}
+				addUserSchema(ts, propAnnotation.schema());
 
 				PropertyDefinition propDef = new PropertyDefinitionImpl(f.getName(), f.getClass(), ts, f);
 				this.properties.put(f.getName(), propDef);
@@ -68,6 +50,37 @@ public class DataTypeDefinitionImpl implements DataTypeDefinition {
 
 	}
 
+	/**
+	 * Adds the schema given in a {@link Property} annotation to the schema of
+	 * the property
+	 *
+	 * @param ts           schema of the property
+	 * @param userSupplied array of strings, "a","b","c","d" to become map of {a:b}, {c:d}
+	 */
+	public static void addUserSchema(TypeSchema ts, String[] userSupplied) {
+		for (int i = 0; i < userSupplied.length; i += 2) {
+			String userKey = userSupplied[i];
+			Object userValue;
+			switch (userKey.toLowerCase()) {
+			case "title":
+			case "pattern":
+				userValue = userSupplied[i + 1];
+				break;
+			case "uniqueitems":
+				userValue = Boolean.parseBoolean(userSupplied[i + 1]);
+				break;
+			case "required":
+			case "enum":
+				userValue = Stream.of(userSupplied[i + 1].split(",")).map(String::trim).toArray(String[]::new);
+				break;
+			default:
+				userValue = Integer.parseInt(userSupplied[i + 1]);
+				break;
+			}
+			ts.put(userKey, userValue);
+		}
+	}
+
 	public Class<?> getTypeClass() {
 		return this.clazz;
 	}
@@ -104,4 +117,15 @@ public class DataTypeDefinitionImpl implements DataTypeDefinition {
 		return simpleName;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.hyperledger.fabric.contract.routing.DataTypeDefinition#isSchemaValidated()
+	 */
+	@Override
+	public boolean isSchemaValidated() {
+		return schemaValidated;
+	}
+
 }
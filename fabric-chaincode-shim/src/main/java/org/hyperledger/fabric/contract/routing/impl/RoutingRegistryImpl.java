@@ -6,8 +6,10 @@ SPDX-License-Identifier: Apache-2.0
 package org.hyperledger.fabric.contract.routing.impl;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,19 +19,14 @@ import java.util.Set;
 import org.hyperledger.fabric.Logger;
 import org.hyperledger.fabric.contract.ContractInterface;
 import org.hyperledger.fabric.contract.ContractRuntimeException;
-import org.hyperledger.fabric.contract.annotation.Contract;
-import org.hyperledger.fabric.contract.annotation.DataType;
 import org.hyperledger.fabric.contract.annotation.Transaction;
 import org.hyperledger.fabric.contract.execution.InvocationRequest;
 import org.hyperledger.fabric.contract.routing.ContractDefinition;
+import org.hyperledger.fabric.contract.routing.ContractIndex;
 import org.hyperledger.fabric.contract.routing.RoutingRegistry;
 import org.hyperledger.fabric.contract.routing.TxFunction;
 import org.hyperledger.fabric.contract.routing.TypeRegistry;
 
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.ScanResult;
-
 /**
  * Registry to hold permit access to the routing definitions. This is the
  * primary internal data structure to permit access to information about the
@@ -43,6 +40,26 @@ public class RoutingRegistryImpl implements RoutingRegistry {
     private static Logger logger = Logger.getLogger(RoutingRegistryImpl.class);
 
     private Map<String, ContractDefinition> contracts = new HashMap<>();
+    private final ContractScanner scanner;
+
+    /**
+     * Registry that finds contracts by scanning the whole classpath
+     */
+    public RoutingRegistryImpl() {
+        this(Collections.emptyList(), Collections.emptyList(), null);
+    }
+
+    /**
+     * Registry that finds contracts by scanning part of the classpath
+     *
+     * @param scanPackages packages to scan for contracts, all if empty
+     * @param scanJars     names of the jars to scan for contracts, all if empty
+     * @param scanCache    file the classes found are cached in, null to always
+     *                     scan
+     */
+    public RoutingRegistryImpl(List<String> scanPackages, List<String> scanJars, Path scanCache) {
+        this.scanner = new ContractScanner(scanPackages, scanJars, scanCache);
+    }
 
     /*
      * (non-Javadoc)
@@ -141,56 +158,42 @@ public class RoutingRegistryImpl implements RoutingRegistry {
      * org.hyperledger.fabric.contract.routing.RoutingRegistry#findAndSetContracts()
      */
     @Override
-    @SuppressWarnings("unchecked")
     public void findAndSetContracts(TypeRegistry typeRegistry) {
+        setContracts(scanner.scan(), typeRegistry);
+    }
 
-        // Find all classes that are valid contract or data type instances.
-        ClassGraph classGraph = new ClassGraph()
-            .enableClassInfo()
-            .enableAnnotationInfo();
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.hyperledger.fabric.contract.routing.RoutingRegistry#setContracts(org.
+     * hyperledger.fabric.contract.routing.ContractIndex,
+     * org.hyperledger.fabric.contract.routing.TypeRegistry)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setContracts(ContractIndex index, TypeRegistry typeRegistry) {
+        ClassLoader classLoader = index.getClass().getClassLoader();
         List<Class<ContractInterface>> contractClasses = new ArrayList<>();
         List<Class<?>> dataTypeClasses = new ArrayList<>();
-        try (ScanResult scanResult = classGraph.scan()) {
-            for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(Contract.class.getCanonicalName())) {
-                logger.debug("Found class with contract annotation: " + classInfo.getName());
-                try {
-                    Class<?> contractClass = classInfo.loadClass();
-                    logger.debug("Loaded class");
-                    Contract annotation = contractClass.getAnnotation(Contract.class);
-                    if (annotation == null) {
-                        // Since we check by name above, it makes sense to check it's actually compatible,
-                        // and not some random class with the same name.
-                        logger.debug("Class does not have compatible contract annotation");
-                    } else if (!ContractInterface.class.isAssignableFrom(contractClass)) {
-                        logger.debug("Class is not assignable from ContractInterface");
-                    } else {
-                        logger.debug("Class is assignable from ContractInterface");
-                        contractClasses.add((Class<ContractInterface>) contractClass);
-                    }
-                } catch (IllegalArgumentException e) {
-                    logger.debug("Failed to load class: " + e);
-                }
+        try {
+            for (String className : index.getContractClassNames()) {
+                logger.debug("Loading contract class from index: " + className);
+                contractClasses.add((Class<ContractInterface>) Class.forName(className, true, classLoader));
             }
-            for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(DataType.class.getCanonicalName())) {
-                logger.debug("Found class with data type annotation: " + classInfo.getName());
-                try {
-                    Class<?> dataTypeClass = classInfo.loadClass();
-                    logger.debug("Loaded class");
-                    DataType annotation = dataTypeClass.getAnnotation(DataType.class);
-                    if (annotation == null) {
-                        // Since we check by name above, it makes sense to check it's actually compatible,
-                        // and not some random class with the same name.
-                        logger.debug("Class does not have compatible data type annotation");
-                    } else {
-                        logger.debug("Class has compatible data type annotation");
-                        dataTypeClasses.add(dataTypeClass);
-                    }
-                } catch (IllegalArgumentException e) {
-                    logger.debug("Failed to load class: " + e);
-                }
+            for (String className : index.getDataTypeClassNames()) {
+                logger.debug("Loading data type class from index: " + className);
+                dataTypeClasses.add(Class.forName(className, true, classLoader));
             }
+        } catch (ClassNotFoundException e) {
+            throw new ContractRuntimeException("Contract index refers to a missing class", e);
         }
 
+        addContracts(contractClasses, dataTypeClasses, typeRegistry);
+    }
+
+    private void addContracts(List<Class<ContractInterface>> contractClasses, List<Class<?>> dataTypeClasses,
+            TypeRegistry typeRegistry) {
         // set to ensure that we don't scan the same class twice
         Set<String> seenClass = new HashSet<>();
 
@@ -5,6 +5,9 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.hyperledger.fabric.contract.routing.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -15,6 +18,7 @@ import org.hyperledger.fabric.Logger;
 import org.hyperledger.fabric.contract.Context;
 import org.hyperledger.fabric.contract.ContractInterface;
 import org.hyperledger.fabric.contract.ContractRuntimeException;
+import org.hyperledger.fabric.contract.annotation.CacheResult;
 import org.hyperledger.fabric.contract.annotation.Property;
 import org.hyperledger.fabric.contract.annotation.Transaction;
 import org.hyperledger.fabric.contract.metadata.TypeSchema;
@@ -33,15 +37,37 @@ public class TxFunctionImpl implements TxFunction {
     private TypeSchema returnSchema;
     private List<ParameterDefinition> paramsList = new ArrayList<>();
     private boolean isUnknownTx;
+    private CacheResult cacheResult;
 
     public class RoutingImpl implements Routing {
 
         Method method;
-        Class<? extends ContractInterface> clazz;
+        ContractDefinition contract;
+        private final MethodHandle invoker;
 
-        public RoutingImpl(Method method, Class<? extends ContractInterface> clazz) {
+        public RoutingImpl(Method method, ContractDefinition contract) {
             this.method = method;
-            this.clazz = clazz;
+            this.contract = contract;
+            this.invoker = createInvoker(method);
+        }
+
+        /**
+         * Adapts the method to (Object contract, Object[] args) so that calls skip
+         * the access checks and argument copying of reflection.
+         *
+         * @return the invoker, or null if the method cannot be looked up and
+         *         reflection has to be used
+         */
+        private MethodHandle createInvoker(Method m) {
+            try {
+                int paramCount = m.getParameterCount();
+                return MethodHandles.publicLookup().unreflect(m)
+                        .asType(MethodType.genericMethodType(paramCount + 1))
+                        .asSpreader(Object[].class, paramCount);
+            } catch (IllegalAccessException e) {
+                logger.debug("Using reflection to call " + m.getName() + ": " + e.getMessage());
+                return null;
+            }
         }
 
         @Override
@@ -51,17 +77,29 @@ public class TxFunctionImpl implements TxFunction {
 
         @Override
         public Class<? extends ContractInterface> getContractClass() {
-            return clazz;
+            return contract.getContractImpl();
         }
 
         @Override
         public ContractInterface getContractInstance() throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException {
-            return clazz.getDeclaredConstructor().newInstance();
+            return contract.getContractInstance();
+        }
+
+        @Override
+        public Object invoke(ContractInterface contract, Object[] args) throws IllegalAccessException, InvocationTargetException {
+            if (invoker == null) {
+                return Routing.super.invoke(contract, args);
+            }
+            try {
+                return invoker.invokeExact((Object) contract, args);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
         }
 
         @Override
         public String toString() {
-            return method.getName() + ":" + clazz.getCanonicalName();
+            return method.getName() + ":" + contract.getContractImpl().getCanonicalName();
         }
     }
 
@@ -92,7 +130,16 @@ public class TxFunctionImpl implements TxFunction {
             this.name = m.getName();
         }
 
-        this.routing = new RoutingImpl(m, contract.getContractImpl());
+        CacheResult cacheAnnotation = m.getAnnotation(CacheResult.class);
+        if (cacheAnnotation != null) {
+            if (this.type == TransactionType.QUERY) {
+                this.cacheResult = cacheAnnotation;
+            } else {
+                logger.warning("Ignoring @CacheResult on " + m.getName() + ", only evaluate transactions can be cached");
+            }
+        }
+
+        this.routing = new RoutingImpl(m, contract);
 
         // set the return schema
         this.returnSchema = TypeSchema.typeConvert(m.getReturnType());
@@ -160,6 +207,11 @@ public class TxFunctionImpl implements TxFunction {
         return this.type;
     }
 
+    @Override
+    public CacheResult getCacheResult() {
+        return cacheResult;
+    }
+
     @Override
     public String toString() {
         return name + " @" + Integer.toHexString(System.identityHashCode(this));
@@ -13,16 +13,21 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.Security;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
+import java.util.stream.Collectors;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
@@ -30,15 +35,24 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.hyperledger.fabric.contract.ClientIdentityCache;
 import org.hyperledger.fabric.contract.ContractRouter;
 import org.hyperledger.fabric.protos.peer.Chaincode.ChaincodeID;
 import org.hyperledger.fabric.shim.impl.ChaincodeSupportStream;
 import org.hyperledger.fabric.shim.impl.Handler;
+import org.hyperledger.fabric.shim.impl.InvocationTaskExecutor;
+import org.hyperledger.fabric.shim.impl.InvocationTaskExecutor.RejectionPolicy;
+import org.hyperledger.fabric.shim.impl.MessageTracer;
+import org.hyperledger.fabric.shim.impl.NettyTransport;
+import org.hyperledger.fabric.shim.impl.VirtualThreadTaskExecutor;
 
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NegotiationType;
 import io.grpc.netty.NettyChannelBuilder;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
 
 public abstract class ChaincodeBase implements Chaincode {
@@ -56,6 +70,10 @@ public abstract class ChaincodeBase implements Chaincode {
 
     public static final String DEFAULT_HOST = "127.0.0.1";
     public static final int DEFAULT_PORT = 7051;
+    public static final int DEFAULT_GRPC_KEEPALIVE_TIMEOUT = 20000;
+    // matches the peer's default maximum send size, so large query results are accepted
+    public static final int DEFAULT_GRPC_MAX_INBOUND_MESSAGE_SIZE = 100 * 1024 * 1024;
+    public static final int DEFAULT_GRPC_FLOW_CONTROL_WINDOW = 4 * 1024 * 1024;
 
     private String host = DEFAULT_HOST;
     private int port = DEFAULT_PORT;
@@ -63,6 +81,34 @@ public abstract class ChaincodeBase implements Chaincode {
     private String tlsClientKeyPath;
     private String tlsClientCertPath;
     private String tlsClientRootCertPath;
+    private int executorCorePoolSize = InvocationTaskExecutor.DEFAULT_CORE_POOL_SIZE;
+    private int executorMaxPoolSize = InvocationTaskExecutor.DEFAULT_MAX_POOL_SIZE;
+    private int executorQueueSize = InvocationTaskExecutor.DEFAULT_QUEUE_SIZE;
+    private RejectionPolicy executorRejectionPolicy = InvocationTaskExecutor.DEFAULT_REJECTION_POLICY;
+    private boolean executorVirtualThreads = false;
+    private int executorMaxVirtualThreads = VirtualThreadTaskExecutor.DEFAULT_MAX_VIRTUAL_THREADS;
+    private int peerResponseTimeout = 0;
+    private boolean coalesceWrites = false;
+    private boolean readCacheEnabled = true;
+    private int readCacheMaxBytes = 0;
+    private int streamMaxBatchSize = ChaincodeSupportStream.DEFAULT_MAX_BATCH_SIZE;
+    private int streamLinger = ChaincodeSupportStream.DEFAULT_LINGER;
+    private int outboundQueueSize = Handler.DEFAULT_OUTBOUND_QUEUE_SIZE;
+    private int traceBufferSize = 0;
+    private int traceSampleRate = 1;
+    private int traceMaxPayloadBytes = 0;
+    private MessageTracer messageTracer = new MessageTracer(0, 1, 0);
+    private NettyTransport.Type grpcTransport = NettyTransport.Type.AUTO;
+    private int grpcEventLoopThreads = 0;
+    private boolean grpcPooledBuffers = true;
+    private int grpcKeepAliveTime = 0;
+    private int grpcKeepAliveTimeout = DEFAULT_GRPC_KEEPALIVE_TIMEOUT;
+    private int grpcMaxInboundMessageSize = DEFAULT_GRPC_MAX_INBOUND_MESSAGE_SIZE;
+    private int grpcFlowControlWindow = DEFAULT_GRPC_FLOW_CONTROL_WINDOW;
+    private int identityCacheSize = ClientIdentityCache.DEFAULT_MAX_ENTRIES;
+    private String scanPackages = "";
+    private String scanJars = "";
+    private String scanCache = "";
 
     private String id;
 
@@ -72,6 +118,33 @@ public abstract class ChaincodeBase implements Chaincode {
     private static final String CORE_PEER_TLS_ROOTCERT_FILE = "CORE_PEER_TLS_ROOTCERT_FILE";
     private static final String ENV_TLS_CLIENT_KEY_PATH = "CORE_TLS_CLIENT_KEY_PATH";
     private static final String ENV_TLS_CLIENT_CERT_PATH = "CORE_TLS_CLIENT_CERT_PATH";
+    private static final String CORE_CHAINCODE_EXECUTOR_CORE_POOL_SIZE = "CORE_CHAINCODE_EXECUTOR_CORE_POOL_SIZE";
+    private static final String CORE_CHAINCODE_EXECUTOR_MAX_POOL_SIZE = "CORE_CHAINCODE_EXECUTOR_MAX_POOL_SIZE";
+    private static final String CORE_CHAINCODE_EXECUTOR_QUEUE_SIZE = "CORE_CHAINCODE_EXECUTOR_QUEUE_SIZE";
+    private static final String CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY = "CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY";
+    private static final String CORE_CHAINCODE_EXECUTOR_VIRTUAL_THREADS = "CORE_CHAINCODE_EXECUTOR_VIRTUAL_THREADS";
+    private static final String CORE_CHAINCODE_EXECUTOR_MAX_VIRTUAL_THREADS = "CORE_CHAINCODE_EXECUTOR_MAX_VIRTUAL_THREADS";
+    private static final String CORE_CHAINCODE_PEER_RESPONSE_TIMEOUT = "CORE_CHAINCODE_PEER_RESPONSE_TIMEOUT";
+    private static final String CORE_CHAINCODE_COALESCE_WRITES = "CORE_CHAINCODE_COALESCE_WRITES";
+    private static final String CORE_CHAINCODE_READ_CACHE_ENABLED = "CORE_CHAINCODE_READ_CACHE_ENABLED";
+    private static final String CORE_CHAINCODE_READ_CACHE_MAX_BYTES = "CORE_CHAINCODE_READ_CACHE_MAX_BYTES";
+    private static final String CORE_CHAINCODE_STREAM_MAX_BATCH_SIZE = "CORE_CHAINCODE_STREAM_MAX_BATCH_SIZE";
+    private static final String CORE_CHAINCODE_STREAM_LINGER = "CORE_CHAINCODE_STREAM_LINGER";
+    private static final String CORE_CHAINCODE_OUTBOUND_QUEUE_SIZE = "CORE_CHAINCODE_OUTBOUND_QUEUE_SIZE";
+    private static final String CORE_CHAINCODE_TRACE_BUFFER_SIZE = "CORE_CHAINCODE_TRACE_BUFFER_SIZE";
+    private static final String CORE_CHAINCODE_TRACE_SAMPLE_RATE = "CORE_CHAINCODE_TRACE_SAMPLE_RATE";
+    private static final String CORE_CHAINCODE_TRACE_MAX_PAYLOAD_BYTES = "CORE_CHAINCODE_TRACE_MAX_PAYLOAD_BYTES";
+    private static final String CORE_CHAINCODE_GRPC_TRANSPORT = "CORE_CHAINCODE_GRPC_TRANSPORT";
+    private static final String CORE_CHAINCODE_GRPC_EVENT_LOOP_THREADS = "CORE_CHAINCODE_GRPC_EVENT_LOOP_THREADS";
+    private static final String CORE_CHAINCODE_GRPC_POOLED_BUFFERS = "CORE_CHAINCODE_GRPC_POOLED_BUFFERS";
+    private static final String CORE_CHAINCODE_GRPC_KEEPALIVE_TIME = "CORE_CHAINCODE_GRPC_KEEPALIVE_TIME";
+    private static final String CORE_CHAINCODE_GRPC_KEEPALIVE_TIMEOUT = "CORE_CHAINCODE_GRPC_KEEPALIVE_TIMEOUT";
+    private static final String CORE_CHAINCODE_GRPC_MAX_INBOUND_MESSAGE_SIZE = "CORE_CHAINCODE_GRPC_MAX_INBOUND_MESSAGE_SIZE";
+    private static final String CORE_CHAINCODE_GRPC_FLOW_CONTROL_WINDOW = "CORE_CHAINCODE_GRPC_FLOW_CONTROL_WINDOW";
+    private static final String CORE_CHAINCODE_IDENTITY_CACHE_SIZE = "CORE_CHAINCODE_IDENTITY_CACHE_SIZE";
+    private static final String CORE_CHAINCODE_SCAN_PACKAGES = "CORE_CHAINCODE_SCAN_PACKAGES";
+    private static final String CORE_CHAINCODE_SCAN_JARS = "CORE_CHAINCODE_SCAN_JARS";
+    private static final String CORE_CHAINCODE_SCAN_CACHE = "CORE_CHAINCODE_SCAN_CACHE";
 
     static {
         Security.addProvider(new BouncyCastleProvider());
@@ -97,10 +170,50 @@ public abstract class ChaincodeBase implements Chaincode {
     protected void connectToPeer() throws IOException  {
         final ChaincodeID chaincodeId = ChaincodeID.newBuilder().setName(this.id).build();
         final ManagedChannelBuilder<?> channelBuilder = newChannelBuilder();
-        final Handler handler = new Handler(chaincodeId, this);
-        new ChaincodeSupportStream(channelBuilder, handler::onChaincodeMessage, handler::nextOutboundChaincodeMessage);
+        final Handler handler = new Handler(chaincodeId, this, newTransactionExecutor());
+        handler.setResponseTimeout(peerResponseTimeout, TimeUnit.MILLISECONDS);
+        handler.setCoalesceWrites(coalesceWrites);
+        handler.setReadCache(readCacheEnabled, readCacheMaxBytes);
+        handler.setOutboundQueueSize(outboundQueueSize);
+        messageTracer = new MessageTracer(traceBufferSize, traceSampleRate, traceMaxPayloadBytes);
+        handler.setMessageTracer(messageTracer);
+        final ChaincodeSupportStream stream = new ChaincodeSupportStream(channelBuilder, handler::onChaincodeMessage, handler::pollOutboundChaincodeMessage,
+                streamMaxBatchSize, streamLinger);
+        handler.setOutboundListener(stream::onOutboundMessage);
     }
 
+    /**
+     * Creates the executor that runs init and invoke requests received from the
+     * peer. Override to supply a different execution strategy; the executor
+     * should throw {@link java.util.concurrent.RejectedExecutionException} when
+     * it cannot accept more work, so that the peer receives an ERROR.
+     * <p>
+     * Uses a virtual thread per invocation when enabled and supported by the JVM,
+     * and a bounded thread pool otherwise.
+     *
+     * @return executor for chaincode invocations
+     */
+    protected Executor newTransactionExecutor() {
+        if (executorVirtualThreads) {
+            if (VirtualThreadTaskExecutor.isSupported()) {
+                logger.info("Running transactions on virtual threads");
+                return new VirtualThreadTaskExecutor(executorMaxVirtualThreads);
+            }
+            logger.warn("Virtual threads are not supported by this JVM, running transactions on a thread pool");
+        }
+        return new InvocationTaskExecutor(executorCorePoolSize, executorMaxPoolSize, executorQueueSize, executorRejectionPolicy);
+    }
+
+    /**
+     * Returns the most recent messages exchanged with the peer, as recorded
+     * when {@code CORE_CHAINCODE_TRACE_BUFFER_SIZE} is non-zero. Intended for
+     * diagnosing stalls, for example from an administrative transaction.
+     *
+     * @return one line per traced message, oldest first; empty if tracing is disabled
+     */
+    public String dumpMessageTrace() {
+        return messageTracer.dump();
+    }
 
     protected void initializeLogging() {
         System.setProperty("java.util.logging.SimpleFormatter.format","%1$tH:%1$tM:%1$tS:%1$tL %4$-7.7s %2$-80.80s %5$s%6$s%n");
@@ -187,6 +300,63 @@ public abstract class ChaincodeBase implements Chaincode {
                 throw new IllegalArgumentException(format("Peer certificate trust store (%s) was not specified.", CORE_PEER_TLS_ROOTCERT_FILE));
             }
         }
+        if (this.executorCorePoolSize < 1) {
+            throw new IllegalArgumentException(format("Executor core pool size (%s) must be at least 1.", CORE_CHAINCODE_EXECUTOR_CORE_POOL_SIZE));
+        }
+        if (this.executorMaxPoolSize < this.executorCorePoolSize) {
+            throw new IllegalArgumentException(format("Executor max pool size (%s) must not be less than the core pool size.", CORE_CHAINCODE_EXECUTOR_MAX_POOL_SIZE));
+        }
+        if (this.executorQueueSize < 1) {
+            throw new IllegalArgumentException(format("Executor queue size (%s) must be at least 1.", CORE_CHAINCODE_EXECUTOR_QUEUE_SIZE));
+        }
+        if (this.executorMaxVirtualThreads < 1) {
+            throw new IllegalArgumentException(format("Executor max virtual threads (%s) must be at least 1.", CORE_CHAINCODE_EXECUTOR_MAX_VIRTUAL_THREADS));
+        }
+        if (this.peerResponseTimeout < 0) {
+            throw new IllegalArgumentException(format("Peer response timeout (%s) must not be negative.", CORE_CHAINCODE_PEER_RESPONSE_TIMEOUT));
+        }
+        if (this.readCacheMaxBytes < 0) {
+            throw new IllegalArgumentException(format("Read cache max bytes (%s) must not be negative.", CORE_CHAINCODE_READ_CACHE_MAX_BYTES));
+        }
+        if (this.streamMaxBatchSize < 1) {
+            throw new IllegalArgumentException(format("Stream max batch size (%s) must be at least 1.", CORE_CHAINCODE_STREAM_MAX_BATCH_SIZE));
+        }
+        if (this.streamLinger < 0) {
+            throw new IllegalArgumentException(format("Stream linger (%s) must not be negative.", CORE_CHAINCODE_STREAM_LINGER));
+        }
+        if (this.outboundQueueSize < 1) {
+            throw new IllegalArgumentException(format("Outbound queue size (%s) must be at least 1.", CORE_CHAINCODE_OUTBOUND_QUEUE_SIZE));
+        }
+        if (this.traceBufferSize < 0) {
+            throw new IllegalArgumentException(format("Trace buffer size (%s) must not be negative.", CORE_CHAINCODE_TRACE_BUFFER_SIZE));
+        }
+        if (this.traceSampleRate < 1) {
+            throw new IllegalArgumentException(format("Trace sample rate (%s) must be at least 1.", CORE_CHAINCODE_TRACE_SAMPLE_RATE));
+        }
+        if (this.traceMaxPayloadBytes < 0) {
+            throw new IllegalArgumentException(format("Trace max payload bytes (%s) must not be negative.", CORE_CHAINCODE_TRACE_MAX_PAYLOAD_BYTES));
+        }
+        if (this.grpcTransport == NettyTransport.Type.EPOLL && !NettyTransport.isEpollAvailable()) {
+            throw new IllegalArgumentException(format("The epoll transport (%s) is not available on this platform.", CORE_CHAINCODE_GRPC_TRANSPORT));
+        }
+        if (this.grpcEventLoopThreads < 0) {
+            throw new IllegalArgumentException(format("Event loop threads (%s) must not be negative.", CORE_CHAINCODE_GRPC_EVENT_LOOP_THREADS));
+        }
+        if (this.grpcKeepAliveTime < 0) {
+            throw new IllegalArgumentException(format("Keepalive time (%s) must not be negative.", CORE_CHAINCODE_GRPC_KEEPALIVE_TIME));
+        }
+        if (this.grpcKeepAliveTimeout < 1) {
+            throw new IllegalArgumentException(format("Keepalive timeout (%s) must be at least 1.", CORE_CHAINCODE_GRPC_KEEPALIVE_TIMEOUT));
+        }
+        if (this.grpcMaxInboundMessageSize < 1) {
+            throw new IllegalArgumentException(format("Max inbound message size (%s) must be at least 1.", CORE_CHAINCODE_GRPC_MAX_INBOUND_MESSAGE_SIZE));
+        }
+        if (this.grpcFlowControlWindow < 1) {
+            throw new IllegalArgumentException(format("Flow control window (%s) must be at least 1.", CORE_CHAINCODE_GRPC_FLOW_CONTROL_WINDOW));
+        }
+        if (this.identityCacheSize < 0) {
+            throw new IllegalArgumentException(format("Identity cache size (%s) must not be negative.", CORE_CHAINCODE_IDENTITY_CACHE_SIZE));
+        }
     }
 
     protected void processCommandLineOptions(String[] args) {
@@ -194,6 +364,33 @@ public abstract class ChaincodeBase implements Chaincode {
         options.addOption("a", "peer.address", true, "Address of peer to connect to");
         options.addOption(null, "peerAddress", true, "Address of peer to connect to");
         options.addOption("i", "id", true, "Identity of chaincode");
+        options.addOption(null, "executorCorePoolSize", true, "Number of threads kept to run transactions");
+        options.addOption(null, "executorMaxPoolSize", true, "Maximum number of threads running transactions");
+        options.addOption(null, "executorQueueSize", true, "Maximum number of transactions waiting for a thread");
+        options.addOption(null, "executorRejectionPolicy", true, "Transaction to reject when the executor is full: ERROR or DISCARD_OLDEST");
+        options.addOption(null, "executorVirtualThreads", false, "Run each transaction on a virtual thread when the JVM supports it");
+        options.addOption(null, "executorMaxVirtualThreads", true, "Maximum number of transactions running on virtual threads");
+        options.addOption(null, "peerResponseTimeout", true, "Milliseconds to wait for the peer to answer a request, 0 to wait indefinitely");
+        options.addOption(null, "coalesceWrites", false, "Hold back writes until the transaction completes and send only the last write to each key");
+        options.addOption(null, "readCacheEnabled", true, "Whether a transaction answers repeated reads of a key from a cache");
+        options.addOption(null, "readCacheMaxBytes", true, "Size in bytes above which a transaction's read cache drops values, 0 for no limit");
+        options.addOption(null, "streamMaxBatchSize", true, "Maximum number of messages written to the peer in one pass");
+        options.addOption(null, "streamLinger", true, "Milliseconds to wait for more messages before writing to the peer, 0 to write at once");
+        options.addOption(null, "outboundQueueSize", true, "Maximum number of messages waiting to be sent before transactions wait for the peer");
+        options.addOption(null, "traceBufferSize", true, "Number of recent messages exchanged with the peer kept for diagnostics, 0 to keep none");
+        options.addOption(null, "traceSampleRate", true, "Trace the messages of one transaction in this many");
+        options.addOption(null, "traceMaxPayloadBytes", true, "Number of payload bytes kept for each traced message");
+        options.addOption(null, "grpcTransport", true, "Netty transport for the connection to the peer: AUTO, EPOLL or NIO");
+        options.addOption(null, "grpcEventLoopThreads", true, "Number of Netty event loop threads, 0 for Netty's default");
+        options.addOption(null, "grpcPooledBuffers", true, "Whether Netty allocates buffers from a pool");
+        options.addOption(null, "grpcKeepAliveTime", true, "Milliseconds without reads before pinging the peer, 0 to disable");
+        options.addOption(null, "grpcKeepAliveTimeout", true, "Milliseconds to wait for a ping reply before closing the connection");
+        options.addOption(null, "grpcMaxInboundMessageSize", true, "Largest message accepted from the peer, in bytes");
+        options.addOption(null, "grpcFlowControlWindow", true, "HTTP/2 flow control window for messages from the peer, in bytes");
+        options.addOption(null, "identityCacheSize", true, "Number of parsed client identities reused across transactions, 0 to parse every time");
+        options.addOption(null, "scanPackages", true, "Comma separated packages scanned for contracts, all if not set");
+        options.addOption(null, "scanJars", true, "Comma separated names of the jars scanned for contracts, all if not set");
+        options.addOption(null, "scanCache", true, "File the contracts found by scanning are cached in, not cached if not set");
 
         try {
             CommandLine cl = new DefaultParser().parse(options, args);
@@ -217,6 +414,87 @@ public abstract class ChaincodeBase implements Chaincode {
             if (cl.hasOption('i')) {
                 id = cl.getOptionValue('i');
             }
+            if (cl.hasOption("executorCorePoolSize")) {
+                executorCorePoolSize = Integer.parseInt(cl.getOptionValue("executorCorePoolSize").trim());
+            }
+            if (cl.hasOption("executorMaxPoolSize")) {
+                executorMaxPoolSize = Integer.parseInt(cl.getOptionValue("executorMaxPoolSize").trim());
+            }
+            if (cl.hasOption("executorQueueSize")) {
+                executorQueueSize = Integer.parseInt(cl.getOptionValue("executorQueueSize").trim());
+            }
+            if (cl.hasOption("executorRejectionPolicy")) {
+                executorRejectionPolicy = RejectionPolicy.valueOf(cl.getOptionValue("executorRejectionPolicy").trim().toUpperCase());
+            }
+            if (cl.hasOption("executorVirtualThreads")) {
+                executorVirtualThreads = true;
+            }
+            if (cl.hasOption("executorMaxVirtualThreads")) {
+                executorMaxVirtualThreads = Integer.parseInt(cl.getOptionValue("executorMaxVirtualThreads").trim());
+            }
+            if (cl.hasOption("peerResponseTimeout")) {
+                peerResponseTimeout = Integer.parseInt(cl.getOptionValue("peerResponseTimeout").trim());
+            }
+            if (cl.hasOption("coalesceWrites")) {
+                coalesceWrites = true;
+            }
+            if (cl.hasOption("readCacheEnabled")) {
+                readCacheEnabled = Boolean.parseBoolean(cl.getOptionValue("readCacheEnabled").trim());
+            }
+            if (cl.hasOption("readCacheMaxBytes")) {
+                readCacheMaxBytes = Integer.parseInt(cl.getOptionValue("readCacheMaxBytes").trim());
+            }
+            if (cl.hasOption("streamMaxBatchSize")) {
+                streamMaxBatchSize = Integer.parseInt(cl.getOptionValue("streamMaxBatchSize").trim());
+            }
+            if (cl.hasOption("streamLinger")) {
+                streamLinger = Integer.parseInt(cl.getOptionValue("streamLinger").trim());
+            }
+            if (cl.hasOption("outboundQueueSize")) {
+                outboundQueueSize = Integer.parseInt(cl.getOptionValue("outboundQueueSize").trim());
+            }
+            if (cl.hasOption("traceBufferSize")) {
+                traceBufferSize = Integer.parseInt(cl.getOptionValue("traceBufferSize").trim());
+            }
+            if (cl.hasOption("traceSampleRate")) {
+                traceSampleRate = Integer.parseInt(cl.getOptionValue("traceSampleRate").trim());
+            }
+            if (cl.hasOption("traceMaxPayloadBytes")) {
+                traceMaxPayloadBytes = Integer.parseInt(cl.getOptionValue("traceMaxPayloadBytes").trim());
+            }
+            if (cl.hasOption("grpcTransport")) {
+                grpcTransport = NettyTransport.Type.valueOf(cl.getOptionValue("grpcTransport").trim().toUpperCase());
+            }
+            if (cl.hasOption("grpcEventLoopThreads")) {
+                grpcEventLoopThreads = Integer.parseInt(cl.getOptionValue("grpcEventLoopThreads").trim());
+            }
+            if (cl.hasOption("grpcPooledBuffers")) {
+                grpcPooledBuffers = Boolean.parseBoolean(cl.getOptionValue("grpcPooledBuffers").trim());
+            }
+            if (cl.hasOption("grpcKeepAliveTime")) {
+                grpcKeepAliveTime = Integer.parseInt(cl.getOptionValue("grpcKeepAliveTime").trim());
+            }
+            if (cl.hasOption("grpcKeepAliveTimeout")) {
+                grpcKeepAliveTimeout = Integer.parseInt(cl.getOptionValue("grpcKeepAliveTimeout").trim());
+            }
+            if (cl.hasOption("grpcMaxInboundMessageSize")) {
+                grpcMaxInboundMessageSize = Integer.parseInt(cl.getOptionValue("grpcMaxInboundMessageSize").trim());
+            }
+            if (cl.hasOption("grpcFlowControlWindow")) {
+                grpcFlowControlWindow = Integer.parseInt(cl.getOptionValue("grpcFlowControlWindow").trim());
+            }
+            if (cl.hasOption("identityCacheSize")) {
+                identityCacheSize = Integer.parseInt(cl.getOptionValue("identityCacheSize").trim());
+            }
+            if (cl.hasOption("scanPackages")) {
+                scanPackages = cl.getOptionValue("scanPackages").trim();
+            }
+            if (cl.hasOption("scanJars")) {
+                scanJars = cl.getOptionValue("scanJars").trim();
+            }
+            if (cl.hasOption("scanCache")) {
+                scanCache = cl.getOptionValue("scanCache").trim();
+            }
         } catch (Exception e) {
             logger.warn("cli parsing failed with exception", e);
         }
@@ -228,6 +506,7 @@ public abstract class ChaincodeBase implements Chaincode {
         logger.info("CORE_PEER_TLS_ROOTCERT_FILE: " + this.tlsClientRootCertPath);
         logger.info("CORE_TLS_CLIENT_KEY_PATH: " + this.tlsClientKeyPath);
         logger.info("CORE_TLS_CLIENT_CERT_PATH: " + this.tlsClientCertPath);
+        logTuningOptions();
     }
 
     protected void processEnvironmentOptions() {
@@ -252,6 +531,61 @@ public abstract class ChaincodeBase implements Chaincode {
             this.tlsClientKeyPath = System.getenv(ENV_TLS_CLIENT_KEY_PATH);
             this.tlsClientCertPath = System.getenv(ENV_TLS_CLIENT_CERT_PATH);
         }
+        this.executorCorePoolSize = intEnvironmentOption(CORE_CHAINCODE_EXECUTOR_CORE_POOL_SIZE, this.executorCorePoolSize);
+        this.executorMaxPoolSize = intEnvironmentOption(CORE_CHAINCODE_EXECUTOR_MAX_POOL_SIZE, this.executorMaxPoolSize);
+        this.executorQueueSize = intEnvironmentOption(CORE_CHAINCODE_EXECUTOR_QUEUE_SIZE, this.executorQueueSize);
+        if (System.getenv().containsKey(CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY)) {
+            try {
+                this.executorRejectionPolicy = RejectionPolicy.valueOf(System.getenv(CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY).trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.error(String.format("%s should be one of ERROR or DISCARD_OLDEST, ignoring current %s",
+                        CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY, System.getenv(CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY)));
+            }
+        }
+        if (System.getenv().containsKey(CORE_CHAINCODE_EXECUTOR_VIRTUAL_THREADS)) {
+            this.executorVirtualThreads = Boolean.parseBoolean(System.getenv(CORE_CHAINCODE_EXECUTOR_VIRTUAL_THREADS));
+        }
+        this.executorMaxVirtualThreads = intEnvironmentOption(CORE_CHAINCODE_EXECUTOR_MAX_VIRTUAL_THREADS, this.executorMaxVirtualThreads);
+        this.peerResponseTimeout = intEnvironmentOption(CORE_CHAINCODE_PEER_RESPONSE_TIMEOUT, this.peerResponseTimeout);
+        if (System.getenv().containsKey(CORE_CHAINCODE_COALESCE_WRITES)) {
+            this.coalesceWrites = Boolean.parseBoolean(System.getenv(CORE_CHAINCODE_COALESCE_WRITES).trim());
+        }
+        if (System.getenv().containsKey(CORE_CHAINCODE_READ_CACHE_ENABLED)) {
+            this.readCacheEnabled = Boolean.parseBoolean(System.getenv(CORE_CHAINCODE_READ_CACHE_ENABLED).trim());
+        }
+        this.readCacheMaxBytes = intEnvironmentOption(CORE_CHAINCODE_READ_CACHE_MAX_BYTES, this.readCacheMaxBytes);
+        this.streamMaxBatchSize = intEnvironmentOption(CORE_CHAINCODE_STREAM_MAX_BATCH_SIZE, this.streamMaxBatchSize);
+        this.streamLinger = intEnvironmentOption(CORE_CHAINCODE_STREAM_LINGER, this.streamLinger);
+        this.outboundQueueSize = intEnvironmentOption(CORE_CHAINCODE_OUTBOUND_QUEUE_SIZE, this.outboundQueueSize);
+        this.traceBufferSize = intEnvironmentOption(CORE_CHAINCODE_TRACE_BUFFER_SIZE, this.traceBufferSize);
+        this.traceSampleRate = intEnvironmentOption(CORE_CHAINCODE_TRACE_SAMPLE_RATE, this.traceSampleRate);
+        this.traceMaxPayloadBytes = intEnvironmentOption(CORE_CHAINCODE_TRACE_MAX_PAYLOAD_BYTES, this.traceMaxPayloadBytes);
+        if (System.getenv().containsKey(CORE_CHAINCODE_GRPC_TRANSPORT)) {
+            try {
+                this.grpcTransport = NettyTransport.Type.valueOf(System.getenv(CORE_CHAINCODE_GRPC_TRANSPORT).trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.error(String.format("%s should be one of AUTO, EPOLL or NIO, ignoring current %s",
+                        CORE_CHAINCODE_GRPC_TRANSPORT, System.getenv(CORE_CHAINCODE_GRPC_TRANSPORT)));
+            }
+        }
+        this.grpcEventLoopThreads = intEnvironmentOption(CORE_CHAINCODE_GRPC_EVENT_LOOP_THREADS, this.grpcEventLoopThreads);
+        if (System.getenv().containsKey(CORE_CHAINCODE_GRPC_POOLED_BUFFERS)) {
+            this.grpcPooledBuffers = Boolean.parseBoolean(System.getenv(CORE_CHAINCODE_GRPC_POOLED_BUFFERS).trim());
+        }
+        this.grpcKeepAliveTime = intEnvironmentOption(CORE_CHAINCODE_GRPC_KEEPALIVE_TIME, this.grpcKeepAliveTime);
+        this.grpcKeepAliveTimeout = intEnvironmentOption(CORE_CHAINCODE_GRPC_KEEPALIVE_TIMEOUT, this.grpcKeepAliveTimeout);
+        this.grpcMaxInboundMessageSize = intEnvironmentOption(CORE_CHAINCODE_GRPC_MAX_INBOUND_MESSAGE_SIZE, this.grpcMaxInboundMessageSize);
+        this.grpcFlowControlWindow = intEnvironmentOption(CORE_CHAINCODE_GRPC_FLOW_CONTROL_WINDOW, this.grpcFlowControlWindow);
+        this.identityCacheSize = intEnvironmentOption(CORE_CHAINCODE_IDENTITY_CACHE_SIZE, this.identityCacheSize);
+        if (System.getenv().containsKey(CORE_CHAINCODE_SCAN_PACKAGES)) {
+            this.scanPackages = System.getenv(CORE_CHAINCODE_SCAN_PACKAGES).trim();
+        }
+        if (System.getenv().containsKey(CORE_CHAINCODE_SCAN_JARS)) {
+            this.scanJars = System.getenv(CORE_CHAINCODE_SCAN_JARS).trim();
+        }
+        if (System.getenv().containsKey(CORE_CHAINCODE_SCAN_CACHE)) {
+            this.scanCache = System.getenv(CORE_CHAINCODE_SCAN_CACHE).trim();
+        }
 
         logger.info("<<<<<<<<<<<<<Enviromental options>>>>>>>>>>>>");
         logger.info("CORE_CHAINCODE_ID_NAME: " + this.id);
@@ -260,6 +594,48 @@ public abstract class ChaincodeBase implements Chaincode {
         logger.info("CORE_PEER_TLS_ROOTCERT_FILE: " + this.tlsClientRootCertPath);
         logger.info("CORE_TLS_CLIENT_KEY_PATH: " + this.tlsClientKeyPath);
         logger.info("CORE_TLS_CLIENT_CERT_PATH: " + this.tlsClientCertPath);
+        logTuningOptions();
+    }
+
+    private int intEnvironmentOption(String name, int defaultValue) {
+        if (System.getenv().containsKey(name)) {
+            try {
+                return Integer.parseInt(System.getenv(name).trim());
+            } catch (NumberFormatException e) {
+                logger.error(String.format("%s should be an integer, ignoring current %s", name, System.getenv(name)));
+            }
+        }
+        return defaultValue;
+    }
+
+    private void logTuningOptions() {
+        logger.info("CORE_CHAINCODE_EXECUTOR_CORE_POOL_SIZE: " + this.executorCorePoolSize);
+        logger.info("CORE_CHAINCODE_EXECUTOR_MAX_POOL_SIZE: " + this.executorMaxPoolSize);
+        logger.info("CORE_CHAINCODE_EXECUTOR_QUEUE_SIZE: " + this.executorQueueSize);
+        logger.info("CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY: " + this.executorRejectionPolicy);
+        logger.info("CORE_CHAINCODE_EXECUTOR_VIRTUAL_THREADS: " + this.executorVirtualThreads);
+        logger.info("CORE_CHAINCODE_EXECUTOR_MAX_VIRTUAL_THREADS: " + this.executorMaxVirtualThreads);
+        logger.info("CORE_CHAINCODE_PEER_RESPONSE_TIMEOUT: " + this.peerResponseTimeout);
+        logger.info("CORE_CHAINCODE_COALESCE_WRITES: " + this.coalesceWrites);
+        logger.info("CORE_CHAINCODE_READ_CACHE_ENABLED: " + this.readCacheEnabled);
+        logger.info("CORE_CHAINCODE_READ_CACHE_MAX_BYTES: " + this.readCacheMaxBytes);
+        logger.info("CORE_CHAINCODE_STREAM_MAX_BATCH_SIZE: " + this.streamMaxBatchSize);
+        logger.info("CORE_CHAINCODE_STREAM_LINGER: " + this.streamLinger);
+        logger.info("CORE_CHAINCODE_OUTBOUND_QUEUE_SIZE: " + this.outboundQueueSize);
+        logger.info("CORE_CHAINCODE_TRACE_BUFFER_SIZE: " + this.traceBufferSize);
+        logger.info("CORE_CHAINCODE_TRACE_SAMPLE_RATE: " + this.traceSampleRate);
+        logger.info("CORE_CHAINCODE_TRACE_MAX_PAYLOAD_BYTES: " + this.traceMaxPayloadBytes);
+        logger.info("CORE_CHAINCODE_GRPC_TRANSPORT: " + this.grpcTransport);
+        logger.info("CORE_CHAINCODE_GRPC_EVENT_LOOP_THREADS: " + this.grpcEventLoopThreads);
+        logger.info("CORE_CHAINCODE_GRPC_POOLED_BUFFERS: " + this.grpcPooledBuffers);
+        logger.info("CORE_CHAINCODE_GRPC_KEEPALIVE_TIME: " + this.grpcKeepAliveTime);
+        logger.info("CORE_CHAINCODE_GRPC_KEEPALIVE_TIMEOUT: " + this.grpcKeepAliveTimeout);
+        logger.info("CORE_CHAINCODE_GRPC_MAX_INBOUND_MESSAGE_SIZE: " + this.grpcMaxInboundMessageSize);
+        logger.info("CORE_CHAINCODE_GRPC_FLOW_CONTROL_WINDOW: " + this.grpcFlowControlWindow);
+        logger.info("CORE_CHAINCODE_IDENTITY_CACHE_SIZE: " + this.identityCacheSize);
+        logger.info("CORE_CHAINCODE_SCAN_PACKAGES: " + this.scanPackages);
+        logger.info("CORE_CHAINCODE_SCAN_JARS: " + this.scanJars);
+        logger.info("CORE_CHAINCODE_SCAN_CACHE: " + this.scanCache);
     }
 
     ManagedChannelBuilder<?> newChannelBuilder() throws IOException {
@@ -272,6 +648,16 @@ public abstract class ChaincodeBase implements Chaincode {
         } else {
             builder.usePlaintext();
         }
+
+        final NettyTransport.Type transport = NettyTransport.configure(builder, grpcTransport, grpcEventLoopThreads);
+        logger.info("Using the " + transport + " transport");
+        builder.withOption(ChannelOption.ALLOCATOR, grpcPooledBuffers ? PooledByteBufAllocator.DEFAULT : UnpooledByteBufAllocator.DEFAULT);
+        builder.maxInboundMessageSize(grpcMaxInboundMessageSize);
+        builder.flowControlWindow(grpcFlowControlWindow);
+        if (grpcKeepAliveTime > 0) {
+            builder.keepAliveTime(grpcKeepAliveTime, TimeUnit.MILLISECONDS);
+            builder.keepAliveTimeout(grpcKeepAliveTimeout, TimeUnit.MILLISECONDS);
+        }
         return builder;
     }
 
@@ -359,4 +745,132 @@ public abstract class ChaincodeBase implements Chaincode {
     String getId() {
         return id;
     }
+
+    int getExecutorCorePoolSize() {
+        return executorCorePoolSize;
+    }
+
+    int getExecutorMaxPoolSize() {
+        return executorMaxPoolSize;
+    }
+
+    int getExecutorQueueSize() {
+        return executorQueueSize;
+    }
+
+    RejectionPolicy getExecutorRejectionPolicy() {
+        return executorRejectionPolicy;
+    }
+
+    boolean isExecutorVirtualThreads() {
+        return executorVirtualThreads;
+    }
+
+    int getExecutorMaxVirtualThreads() {
+        return executorMaxVirtualThreads;
+    }
+
+    int getPeerResponseTimeout() {
+        return peerResponseTimeout;
+    }
+
+    boolean isCoalesceWrites() {
+        return coalesceWrites;
+    }
+
+    boolean isReadCacheEnabled() {
+        return readCacheEnabled;
+    }
+
+    int getReadCacheMaxBytes() {
+        return readCacheMaxBytes;
+    }
+
+    int getStreamMaxBatchSize() {
+        return streamMaxBatchSize;
+    }
+
+    int getStreamLinger() {
+        return streamLinger;
+    }
+
+    int getOutboundQueueSize() {
+        return outboundQueueSize;
+    }
+
+    int getTraceBufferSize() {
+        return traceBufferSize;
+    }
+
+    int getTraceSampleRate() {
+        return traceSampleRate;
+    }
+
+    int getTraceMaxPayloadBytes() {
+        return traceMaxPayloadBytes;
+    }
+
+    NettyTransport.Type getGrpcTransport() {
+        return grpcTransport;
+    }
+
+    int getGrpcEventLoopThreads() {
+        return grpcEventLoopThreads;
+    }
+
+    boolean isGrpcPooledBuffers() {
+        return grpcPooledBuffers;
+    }
+
+    int getGrpcKeepAliveTime() {
+        return grpcKeepAliveTime;
+    }
+
+    int getGrpcKeepAliveTimeout() {
+        return grpcKeepAliveTimeout;
+    }
+
+    int getGrpcMaxInboundMessageSize() {
+        return grpcMaxInboundMessageSize;
+    }
+
+    int getGrpcFlowControlWindow() {
+        return grpcFlowControlWindow;
+    }
+
+    /**
+     * @return maximum number of parsed client identities reused across
+     *         transactions by contract based chaincode
+     */
+    protected int getIdentityCacheSize() {
+        return identityCacheSize;
+    }
+
+    /**
+     * @return packages scanned for contracts by contract based chaincode, all
+     *         if empty
+     */
+    protected List<String> getScanPackages() {
+        return splitOption(scanPackages);
+    }
+
+    /**
+     * @return names of the jars scanned for contracts by contract based
+     *         chaincode, all if empty
+     */
+    protected List<String> getScanJars() {
+        return splitOption(scanJars);
+    }
+
+    /**
+     * @return file the contracts found by scanning are cached in, null if they
+     *         are not cached
+     */
+    protected Path getScanCache() {
+        return scanCache.isEmpty() ? null : Paths.get(scanCache);
+    }
+
+    private static List<String> splitOption(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toList());
+    }
 }
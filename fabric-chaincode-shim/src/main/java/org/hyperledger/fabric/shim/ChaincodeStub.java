@@ -9,6 +9,7 @@ package org.hyperledger.fabric.shim;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.toList;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
@@ -31,11 +32,26 @@ public interface ChaincodeStub {
      * Returns the arguments corresponding to the call to
      * {@link Chaincode#init(ChaincodeStub)} or
      * {@link Chaincode#invoke(ChaincodeStub)}, each argument represented as byte array.
+     * <p>
+     * Each call returns a new list of new arrays, so prefer
+     * {@link #getArgBuffers()} where a read-only view is enough.
      *
      * @return a list of arguments (bytes arrays)
      */
     List<byte[]> getArgs();
 
+    /**
+     * Returns the arguments corresponding to the call to
+     * {@link Chaincode#init(ChaincodeStub)} or
+     * {@link Chaincode#invoke(ChaincodeStub)}, each argument represented as a
+     * read-only view of the invocation message, without copying it.
+     *
+     * @return a list of arguments (read-only buffers)
+     */
+    default List<ByteBuffer> getArgBuffers() {
+        return getArgs().stream().map(arg -> ByteBuffer.wrap(arg).asReadOnlyBuffer()).collect(toList());
+    }
+
     /**
      * Returns the arguments corresponding to the call to
      * {@link Chaincode#init(ChaincodeStub)} or
@@ -126,6 +142,37 @@ public interface ChaincodeStub {
      */
     byte[] getState(String key);
 
+    /**
+     * Returns the values of the specified <code>keys</code> from the ledger, in
+     * the same order as the keys.
+     * <p>
+     * When the peer supports it the keys are fetched in a single request rather
+     * than one request per key. As with {@link #getState(String)}, data modified
+     * by PutState that has not been committed is not considered.
+     *
+     * @param keys names of the values
+     * @return values read from the ledger, an empty array for each missing key
+     */
+    default List<byte[]> getMultipleStates(String... keys) {
+        return Arrays.stream(keys).map(this::getState).collect(toList());
+    }
+
+    /**
+     * Returns the value of the specified <code>key</code> from the ledger as a
+     * read-only buffer.
+     * <p>
+     * Unlike {@link #getState(String)} the value is not copied; the buffer is a
+     * view of the message received from the peer. It is positioned at the start
+     * of the value, is only valid for the rest of the transaction and must not
+     * be retained after the transaction completes.
+     *
+     * @param key name of the value
+     * @return read-only view of the value, empty if the key does not exist
+     */
+    default ByteBuffer getStateBuffer(String key) {
+        return ByteBuffer.wrap(getState(key)).asReadOnlyBuffer();
+    }
+
     /**
      * retrieves the key-level endorsement policy for <code>key</code>.
      * Note that this will introduce a read dependency on <code>key</code> in the transaction's readset.
@@ -149,6 +196,27 @@ public interface ChaincodeStub {
      */
     void putState(String key, byte[] value);
 
+    /**
+     * Puts the specified <code>key</code> and the remaining bytes of
+     * <code>value</code> into the transaction's writeset, as
+     * {@link #putState(String, byte[])} does.
+     * <p>
+     * The buffer is wrapped rather than copied. Ownership of its contents passes
+     * to the stub: they must not be modified after this call, since they may be
+     * sent to the peer at any point until the transaction completes. The
+     * buffer's position and limit are not changed. A
+     * {@code com.google.protobuf.ByteString} can be written without copying by
+     * passing {@code byteString.asReadOnlyByteBuffer()}.
+     *
+     * @param key   name of the value
+     * @param value the value to write to the ledger
+     */
+    default void putStateBuffer(String key, ByteBuffer value) {
+        final byte[] bytes = new byte[value.remaining()];
+        value.duplicate().get(bytes);
+        putState(key, bytes);
+    }
+
     /**
      * Sets the key-level endorsement policy for <code>key</code>.
      *
@@ -360,6 +428,35 @@ public interface ChaincodeStub {
      */
     byte[] getPrivateData(String collection, String key);
 
+    /**
+     * Returns the values of the specified <code>keys</code> from the specified
+     * <code>collection</code>, in the same order as the keys.
+     * <p>
+     * When the peer supports it the keys are fetched in a single request rather
+     * than one request per key.
+     *
+     * @param collection name of the collection
+     * @param keys       names of the values
+     * @return values read from the collection, an empty array for each missing key
+     */
+    default List<byte[]> getMultiplePrivateData(String collection, String... keys) {
+        return Arrays.stream(keys).map(key -> getPrivateData(collection, key)).collect(toList());
+    }
+
+    /**
+     * Returns the value of the specified <code>key</code> from the specified
+     * <code>collection</code> as a read-only buffer, without copying it.
+     * <p>
+     * The same rules as for {@link #getStateBuffer(String)} apply.
+     *
+     * @param collection name of the collection
+     * @param key        name of the value
+     * @return read-only view of the value, empty if the key does not exist
+     */
+    default ByteBuffer getPrivateDataBuffer(String collection, String key) {
+        return ByteBuffer.wrap(getPrivateData(collection, key)).asReadOnlyBuffer();
+    }
+
     /**
      * @param collection name of the collection
      * @param key        name of the value
@@ -397,6 +494,23 @@ public interface ChaincodeStub {
      */
     void putPrivateData(String collection, String key, byte[] value);
 
+    /**
+     * Puts the specified <code>key</code> and the remaining bytes of
+     * <code>value</code> into the transaction's private writeset, without
+     * copying them.
+     * <p>
+     * The same ownership rules as for {@link #putStateBuffer(String, ByteBuffer)}
+     * apply.
+     *
+     * @param collection name of the collection
+     * @param key        name of the value
+     * @param value      the value to write to the ledger
+     */
+    default void putPrivateDataBuffer(String collection, String key, ByteBuffer value) {
+        final byte[] bytes = new byte[value.remaining()];
+        value.duplicate().get(bytes);
+        putPrivateData(collection, key, bytes);
+    }
 
     /**
      * Sets the key-level endorsement policy for the private data specified by <code>key</code>.
@@ -9,6 +9,7 @@ package org.hyperledger.fabric.shim.helper;
 import java.io.Closeable;
 import java.util.HashSet;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
 
 @SuppressWarnings("serial")
 public class Channel<E> extends LinkedBlockingQueue<E> implements Closeable {
@@ -17,17 +18,26 @@ public class Channel<E> extends LinkedBlockingQueue<E> implements Closeable {
 
     private HashSet<Thread> waiting = new HashSet<>();
 
+    // a lock rather than a monitor so that virtual threads do not pin their carrier
+    private final ReentrantLock waitingLock = new ReentrantLock();
+
     // TODO add other methods to secure closing behavior
 
     @Override
     public E take() throws InterruptedException {
-        synchronized (waiting) {
+        waitingLock.lock();
+        try {
             if (closed) throw new InterruptedException("Channel closed");
             waiting.add(Thread.currentThread());
+        } finally {
+            waitingLock.unlock();
         }
         E e = super.take();
-        synchronized (waiting) {
+        waitingLock.lock();
+        try {
             waiting.remove(Thread.currentThread());
+        } finally {
+            waitingLock.unlock();
         }
         return e;
     }
@@ -42,13 +52,16 @@ public class Channel<E> extends LinkedBlockingQueue<E> implements Closeable {
 
     @Override
     public void close() {
-        synchronized (waiting) {
+        waitingLock.lock();
+        try {
             closed = true;
             for (Thread t : waiting) {
                 t.interrupt();
             }
             waiting.clear();
             clear();
+        } finally {
+            waitingLock.unlock();
         }
     }
 
@@ -13,10 +13,15 @@ import java.nio.ByteOrder;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.hyperledger.fabric.protos.common.Common;
@@ -29,6 +34,7 @@ import org.hyperledger.fabric.protos.ledger.queryresult.KvQueryResult.KV;
 import org.hyperledger.fabric.protos.peer.ChaincodeEventPackage.ChaincodeEvent;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord;
 import org.hyperledger.fabric.protos.peer.ProposalPackage.ChaincodeProposalPayload;
 import org.hyperledger.fabric.protos.peer.ProposalPackage.Proposal;
 import org.hyperledger.fabric.protos.peer.ProposalPackage.SignedProposal;
@@ -44,9 +50,12 @@ import org.hyperledger.fabric.shim.ledger.QueryResultsIteratorWithMetadata;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.UnsafeByteOperations;
 
 class ChaincodeStubImpl implements ChaincodeStub {
 
+    private static Logger logger = Logger.getLogger(ChaincodeStubImpl.class.getName());
+
     private static final String UNSPECIFIED_KEY = new String(Character.toChars(0x000001));
     public static final String MAX_UNICODE_RUNE = "\udbff\udfff";
     private final String channelId;
@@ -54,11 +63,26 @@ class ChaincodeStubImpl implements ChaincodeStub {
     private final Handler handler;
     private final List<ByteString> args;
     private final SignedProposal signedProposal;
-    private final Instant txTimestamp;
-    private final ByteString creator;
-    private final Map<String, ByteString> transientMap;
-    private final byte[] binding;
+    // parsed up front, so a proposal of the wrong type is rejected before any chaincode runs
+    private final Proposal proposal;
+    private final Header header;
+    private final ChannelHeader channelHeader;
     private ChaincodeEvent event;
+    private WriteBatch writeBatch;
+    private ReadCache readCache;
+    // arguments as strings, decoded on first use; racing threads decode equal values
+    private volatile List<String> stringArgs;
+    // proposal fields and binding, likewise decoded on first use
+    private volatile ProposalFields proposalFields;
+    private volatile byte[] binding;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    });
 
     ChaincodeStubImpl(String channelId, String txId, Handler handler, List<ByteString> args, SignedProposal signedProposal) {
         this.channelId = channelId;
@@ -67,39 +91,83 @@ class ChaincodeStubImpl implements ChaincodeStub {
         this.args = Collections.unmodifiableList(args);
         this.signedProposal = signedProposal;
         if (this.signedProposal == null || this.signedProposal.getProposalBytes().isEmpty()) {
-            this.creator = null;
-            this.txTimestamp = null;
-            this.transientMap = Collections.emptyMap();
-            this.binding = null;
+            this.proposal = null;
+            this.header = null;
+            this.channelHeader = null;
         } else {
             try {
-                final Proposal proposal = Proposal.parseFrom(signedProposal.getProposalBytes());
-                final Header header = Header.parseFrom(proposal.getHeader());
-                final ChannelHeader channelHeader = ChannelHeader.parseFrom(header.getChannelHeader());
-                validateProposalType(channelHeader);
-                final SignatureHeader signatureHeader = SignatureHeader.parseFrom(header.getSignatureHeader());
-                final ChaincodeProposalPayload chaincodeProposalPayload = ChaincodeProposalPayload.parseFrom(proposal.getPayload());
-                final Timestamp timestamp = channelHeader.getTimestamp();
-
-                this.txTimestamp = Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
-                this.creator = signatureHeader.getCreator();
-                this.transientMap = chaincodeProposalPayload.getTransientMapMap();
-                this.binding = computeBinding(channelHeader, signatureHeader);
-            } catch (InvalidProtocolBufferException | NoSuchAlgorithmException e) {
+                this.proposal = Proposal.parseFrom(signedProposal.getProposalBytes());
+                this.header = Header.parseFrom(proposal.getHeader());
+                this.channelHeader = ChannelHeader.parseFrom(header.getChannelHeader());
+            } catch (InvalidProtocolBufferException e) {
                 throw new RuntimeException(e);
             }
+            validateProposalType(channelHeader);
+        }
+    }
+
+    /**
+     * The parts of the signed proposal exposed by the stub. Most chaincode
+     * never asks for them, so the signature header and payload are only parsed
+     * on first access.
+     */
+    private static final class ProposalFields {
+        private static final ProposalFields NONE = new ProposalFields(null, null, Collections.emptyMap(), null, 0);
+
+        private final Instant txTimestamp;
+        private final ByteString creator;
+        private final Map<String, ByteString> transientMap;
+        private final ByteString nonce;
+        private final long epoch;
+
+        private ProposalFields(final Instant txTimestamp, final ByteString creator, final Map<String, ByteString> transientMap,
+                final ByteString nonce, final long epoch) {
+            this.txTimestamp = txTimestamp;
+            this.creator = creator;
+            this.transientMap = transientMap;
+            this.nonce = nonce;
+            this.epoch = epoch;
+        }
+    }
+
+    private ProposalFields proposalFields() {
+        ProposalFields fields = proposalFields;
+        if (fields == null) {
+            fields = parseProposal();
+            proposalFields = fields;
+        }
+        return fields;
+    }
+
+    private ProposalFields parseProposal() {
+        if (this.proposal == null) {
+            return ProposalFields.NONE;
+        }
+        try {
+            final SignatureHeader signatureHeader = SignatureHeader.parseFrom(header.getSignatureHeader());
+            final ChaincodeProposalPayload chaincodeProposalPayload = ChaincodeProposalPayload.parseFrom(proposal.getPayload());
+            final Timestamp timestamp = channelHeader.getTimestamp();
+
+            return new ProposalFields(Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()),
+                    signatureHeader.getCreator(),
+                    chaincodeProposalPayload.getTransientMapMap(),
+                    signatureHeader.getNonce(),
+                    channelHeader.getEpoch());
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
         }
     }
 
-    private byte[] computeBinding(final ChannelHeader channelHeader, final SignatureHeader signatureHeader) throws NoSuchAlgorithmException {
-        final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-        messageDigest.update(signatureHeader.getNonce().asReadOnlyByteBuffer());
-        messageDigest.update(this.creator.asReadOnlyByteBuffer());
+    private static byte[] computeBinding(final ProposalFields fields) {
+        final MessageDigest messageDigest = SHA256.get();
+        messageDigest.update(fields.nonce.asReadOnlyByteBuffer());
+        messageDigest.update(fields.creator.asReadOnlyByteBuffer());
         final ByteBuffer epochBytes = ByteBuffer.allocate(Long.BYTES)
                 .order(ByteOrder.LITTLE_ENDIAN)
-                .putLong(channelHeader.getEpoch());
+                .putLong(fields.epoch);
         epochBytes.flip();
         messageDigest.update(epochBytes);
+        // digest() also resets the digest for the next stub on this thread
         return messageDigest.digest();
     }
 
@@ -115,22 +183,38 @@ class ChaincodeStubImpl implements ChaincodeStub {
 
     @Override
     public List<byte[]> getArgs() {
-        return args.stream().map(x -> x.toByteArray()).collect(Collectors.toList());
+        return args.stream().map(ByteString::toByteArray).collect(toList());
     }
 
     @Override
     public List<String> getStringArgs() {
-        return args.stream().map(x -> x.toStringUtf8()).collect(Collectors.toList());
+        return new ArrayList<>(stringArgs());
+    }
+
+    private List<String> stringArgs() {
+        List<String> result = stringArgs;
+        if (result == null) {
+            result = args.stream().map(ByteString::toStringUtf8).collect(toList());
+            stringArgs = result;
+        }
+        return result;
+    }
+
+    @Override
+    public List<ByteBuffer> getArgBuffers() {
+        // views are cheap, and fresh ones give each caller its own position and limit
+        return args.stream().map(ByteString::asReadOnlyByteBuffer).collect(toList());
     }
 
     @Override
     public String getFunction() {
-        return getStringArgs().size() > 0 ? getStringArgs().get(0) : null;
+        final List<String> stringArgs = stringArgs();
+        return stringArgs.isEmpty() ? null : stringArgs.get(0);
     }
 
     @Override
     public List<String> getParameters() {
-        return getStringArgs().stream().skip(1).collect(toList());
+        return stringArgs().stream().skip(1).collect(toList());
     }
 
     @Override
@@ -167,12 +251,29 @@ class ChaincodeStubImpl implements ChaincodeStub {
 
     @Override
     public byte[] getState(String key) {
-        return handler.getState(channelId, txId, "", key).toByteArray();
+        return readState("", key).toByteArray();
+    }
+
+    @Override
+    public List<byte[]> getMultipleStates(String... keys) {
+        return readStates("", Arrays.asList(keys)).stream()
+                .map(ByteString::toByteArray)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ByteBuffer getStateBuffer(String key) {
+        return readState("", key).asReadOnlyByteBuffer();
+    }
+
+    @Override
+    public String getStringState(String key) {
+        return readState("", key).toStringUtf8();
     }
 
     @Override
     public byte[] getStateValidationParameter(String key) {
-        Map<String, ByteString> metadata = handler.getStateMetadata(channelId, txId, "", key);
+        Map<String, ByteString> metadata = readStateMetadata("", key);
         if (metadata.containsKey(TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString())) {
             return metadata.get(TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString()).toByteArray();
         }
@@ -182,18 +283,24 @@ class ChaincodeStubImpl implements ChaincodeStub {
     @Override
     public void putState(String key, byte[] value) {
         validateKey(key);
-        handler.putState(channelId, txId, "", key, ByteString.copyFrom(value));
+        writeState("", key, ByteString.copyFrom(value));
+    }
+
+    @Override
+    public void putStateBuffer(String key, ByteBuffer value) {
+        validateKey(key);
+        writeState("", key, UnsafeByteOperations.unsafeWrap(value));
     }
 
     @Override
     public void setStateValidationParameter(String key, byte[] value) {
         validateKey(key);
-        handler.putStateMetadata(channelId, txId, "", key, TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString(), ByteString.copyFrom(value));
+        writeStateMetadata("", key, TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString(), ByteString.copyFrom(value));
     }
 
     @Override
     public void delState(String key) {
-        handler.deleteState(channelId, txId, "", key);
+        deleteState("", key);
     }
 
     @Override
@@ -351,19 +458,39 @@ class ChaincodeStubImpl implements ChaincodeStub {
     @Override
     public byte[] getPrivateData(String collection, String key) {
         validateCollection(collection);
-        return handler.getState(channelId, txId, collection, key).toByteArray();
+        return readState(collection, key).toByteArray();
+    }
+
+    @Override
+    public List<byte[]> getMultiplePrivateData(String collection, String... keys) {
+        validateCollection(collection);
+        return readStates(collection, Arrays.asList(keys)).stream()
+                .map(ByteString::toByteArray)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ByteBuffer getPrivateDataBuffer(String collection, String key) {
+        validateCollection(collection);
+        return readState(collection, key).asReadOnlyByteBuffer();
+    }
+
+    @Override
+    public String getPrivateDataUTF8(String collection, String key) {
+        validateCollection(collection);
+        return readState(collection, key).toStringUtf8();
     }
 
     @Override
     public byte[] getPrivateDataHash(String collection, String key) {
         validateCollection(collection);
-        return handler.getPrivateDataHash(channelId, txId, collection, key).toByteArray();
+        return readPrivateDataHash(collection, key).toByteArray();
     }
 
     @Override
     public byte[] getPrivateDataValidationParameter(String collection, String key) {
         validateCollection(collection);
-        Map<String, ByteString> metadata = handler.getStateMetadata(channelId, txId, collection, key);
+        Map<String, ByteString> metadata = readStateMetadata(collection, key);
         if (metadata.containsKey(TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString())) {
             return metadata.get(TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString()).toByteArray();
         }
@@ -374,20 +501,27 @@ class ChaincodeStubImpl implements ChaincodeStub {
     public void putPrivateData(String collection, String key, byte[] value) {
         validateKey(key);
         validateCollection(collection);
-        handler.putState(channelId, txId, collection, key, ByteString.copyFrom(value));
+        writeState(collection, key, ByteString.copyFrom(value));
+    }
+
+    @Override
+    public void putPrivateDataBuffer(String collection, String key, ByteBuffer value) {
+        validateKey(key);
+        validateCollection(collection);
+        writeState(collection, key, UnsafeByteOperations.unsafeWrap(value));
     }
 
     @Override
     public void setPrivateDataValidationParameter(String collection, String key, byte[] value) {
         validateKey(key);
         validateCollection(collection);
-        handler.putStateMetadata(channelId, txId, collection, key, TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString(), ByteString.copyFrom(value));
+        writeStateMetadata(collection, key, TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString(), ByteString.copyFrom(value));
     }
 
     @Override
     public void delPrivateData(String collection, String key) {
         validateCollection(collection);
-        handler.deleteState(channelId, txId, collection, key);
+        deleteState(collection, key);
     }
 
     @Override
@@ -468,23 +602,33 @@ class ChaincodeStubImpl implements ChaincodeStub {
 
     @Override
     public Instant getTxTimestamp() {
-        return txTimestamp;
+        return proposalFields().txTimestamp;
     }
 
     @Override
     public byte[] getCreator() {
+        final ByteString creator = proposalFields().creator;
         if (creator == null) return null;
         return creator.toByteArray();
     }
 
     @Override
     public Map<String, byte[]> getTransient() {
-        return transientMap.entrySet().stream().collect(Collectors.toMap(x -> x.getKey(), x -> x.getValue().toByteArray()));
+        return proposalFields().transientMap.entrySet().stream().collect(Collectors.toMap(x -> x.getKey(), x -> x.getValue().toByteArray()));
     }
 
     @Override
     public byte[] getBinding() {
-        return this.binding;
+        byte[] result = binding;
+        if (result == null) {
+            final ProposalFields fields = proposalFields();
+            if (fields == ProposalFields.NONE) {
+                return null;
+            }
+            result = computeBinding(fields);
+            binding = result;
+        }
+        return result;
     }
 
     private void validateKey(String key) {
@@ -496,6 +640,142 @@ class ChaincodeStubImpl implements ChaincodeStub {
         }
     }
 
+    /**
+     * Holds back the writes made from now on, so that they can be sent to the
+     * peer together by {@link #finishWriteBatch()}.
+     */
+    void startWriteBatch() {
+        if (writeBatch == null) {
+            writeBatch = new WriteBatch();
+        }
+    }
+
+    /**
+     * Sends the writes held back since {@link #startWriteBatch()} to the peer,
+     * and goes back to sending each write as it is made.
+     */
+    void finishWriteBatch() {
+        final WriteBatch batch = writeBatch;
+        writeBatch = null;
+        if (batch != null && !batch.isEmpty()) {
+            final List<WriteRecord> records = batch.getRecords();
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine(String.format("[%-8.8s] Sending %d writes, coalesced from %d", txId, records.size(), batch.getWriteCount()));
+            }
+            handler.writeBatchState(channelId, txId, records);
+        }
+    }
+
+    /**
+     * Answers repeated reads made from now on without going back to the peer.
+     *
+     * @param maxBytes estimated size above which cached values are evicted, 0 for no limit
+     */
+    void startReadCache(long maxBytes) {
+        if (readCache == null) {
+            readCache = new ReadCache(maxBytes);
+        }
+    }
+
+    /**
+     * Drops the values cached since {@link #startReadCache(long)}.
+     *
+     * @return the dropped cache, for its hit and miss counts, or null if none was started
+     */
+    ReadCache finishReadCache() {
+        final ReadCache cache = readCache;
+        readCache = null;
+        if (cache != null) {
+            cache.clear();
+        }
+        return cache;
+    }
+
+    private ByteString readState(String collection, String key) {
+        if (readCache == null) {
+            return handler.getState(channelId, txId, collection, key);
+        }
+        ByteString value = readCache.getValue(ReadCache.Kind.STATE, collection, key);
+        if (value == null) {
+            value = handler.getState(channelId, txId, collection, key);
+            readCache.putValue(ReadCache.Kind.STATE, collection, key, value);
+        }
+        return value;
+    }
+
+    private List<ByteString> readStates(String collection, List<String> keys) {
+        if (readCache == null) {
+            return handler.getStateMultiple(channelId, txId, collection, keys);
+        }
+        final Map<String, ByteString> values = new HashMap<>();
+        final List<String> missing = new ArrayList<>();
+        for (final String key : keys) {
+            if (!values.containsKey(key)) {
+                final ByteString value = readCache.getValue(ReadCache.Kind.STATE, collection, key);
+                values.put(key, value);
+                if (value == null) {
+                    missing.add(key);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            final List<ByteString> fetched = handler.getStateMultiple(channelId, txId, collection, missing);
+            for (int i = 0; i < missing.size(); i++) {
+                values.put(missing.get(i), fetched.get(i));
+                readCache.putValue(ReadCache.Kind.STATE, collection, missing.get(i), fetched.get(i));
+            }
+        }
+        return keys.stream().map(values::get).collect(Collectors.toList());
+    }
+
+    private ByteString readPrivateDataHash(String collection, String key) {
+        if (readCache == null) {
+            return handler.getPrivateDataHash(channelId, txId, collection, key);
+        }
+        ByteString hash = readCache.getValue(ReadCache.Kind.PRIVATE_DATA_HASH, collection, key);
+        if (hash == null) {
+            hash = handler.getPrivateDataHash(channelId, txId, collection, key);
+            readCache.putValue(ReadCache.Kind.PRIVATE_DATA_HASH, collection, key, hash);
+        }
+        return hash;
+    }
+
+    private Map<String, ByteString> readStateMetadata(String collection, String key) {
+        if (readCache == null) {
+            return handler.getStateMetadata(channelId, txId, collection, key);
+        }
+        Map<String, ByteString> metadata = readCache.getMetadata(collection, key);
+        if (metadata == null) {
+            metadata = handler.getStateMetadata(channelId, txId, collection, key);
+            readCache.putMetadata(collection, key, metadata);
+        }
+        return metadata;
+    }
+
+    private void writeState(String collection, String key, ByteString value) {
+        if (writeBatch != null) {
+            writeBatch.putState(collection, key, value);
+        } else {
+            handler.putState(channelId, txId, collection, key, value);
+        }
+    }
+
+    private void writeStateMetadata(String collection, String key, String metakey, ByteString value) {
+        if (writeBatch != null) {
+            writeBatch.putStateMetadata(collection, key, metakey, value);
+        } else {
+            handler.putStateMetadata(channelId, txId, collection, key, metakey, value);
+        }
+    }
+
+    private void deleteState(String collection, String key) {
+        if (writeBatch != null) {
+            writeBatch.deleteState(collection, key);
+        } else {
+            handler.deleteState(channelId, txId, collection, key);
+        }
+    }
+
     private void validateCollection(String collection) {
         if (collection == null) {
             throw new NullPointerException("collection cannot be null");
@@ -6,22 +6,59 @@ SPDX-License-Identifier: Apache-2.0
 package org.hyperledger.fabric.shim.impl;
 
 import io.grpc.ManagedChannelBuilder;
-import io.grpc.stub.StreamObserver;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Bidirectional stream to the peer. Inbound messages are passed to the
+ * consumer on the gRPC thread.
+ * <p>
+ * Outbound messages are written when the source signals, through
+ * {@link #onOutboundMessage()}, that it has queued one, and whenever gRPC
+ * reports that the stream can accept more after it was not ready. Messages are
+ * only written while the transport is ready, so when the peer stops reading
+ * they stay in the source's queue instead of being buffered by gRPC. Writes
+ * made in one pass are merged by the transport into a single flush.
+ * <p>
+ * With a non-zero linger time, messages are held until the linger time has
+ * passed or the maximum batch size is reached, so that more messages share a
+ * flush.
+ */
 public class ChaincodeSupportStream {
 
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    public static final int DEFAULT_LINGER = 0;
+
     private final Logger logger = Logger.getLogger(ChaincodeSupportStream.class.getName());
     private final ChaincodeSupportClient chaincodeSupportClient;
     private final Consumer<ChaincodeMessage> consumer;
     private final Supplier<ChaincodeMessage> supplier;
-    private final StreamObserver<ChaincodeMessage> requestObserver;
-    private final StreamObserver<ChaincodeMessage> responseObserver = new StreamObserver<ChaincodeMessage>() {
+    private final int maxBatchSize;
+    private final long lingerMillis;
+    private final ScheduledExecutorService lingerTimer;
+    // number of drain requests not yet served; only the caller that raises it from zero writes
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile ClientCallStreamObserver<ChaincodeMessage> requestObserver;
+    private final ClientResponseObserver<ChaincodeMessage, ChaincodeMessage> responseObserver = new ClientResponseObserver<ChaincodeMessage, ChaincodeMessage>() {
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ChaincodeMessage> requestStream) {
+            requestObserver = requestStream;
+            requestStream.setOnReadyHandler(ChaincodeSupportStream.this::drain);
+        }
+
         @Override
         public void onNext(ChaincodeMessage chaincodeMessage) {
             consumer.accept(chaincodeMessage);
@@ -39,25 +76,80 @@ public class ChaincodeSupportStream {
             ChaincodeSupportStream.this.shutdown();
         }
     };
-    final private Thread supplierComsumptionThread = new Thread() {
-        @Override
-        public void run() {
-            while (!Thread.currentThread().isInterrupted()) {
-                ChaincodeSupportStream.this.requestObserver.onNext(ChaincodeSupportStream.this.supplier.get());
-            }
-        }
-    };
 
-    public ChaincodeSupportStream(ManagedChannelBuilder<?> channelBuilder, Consumer<ChaincodeMessage> consumer, Supplier<ChaincodeMessage> supplier) {
-        this.chaincodeSupportClient = new ChaincodeSupportClient(channelBuilder);
+    /**
+     * @param channelBuilder connection to the peer
+     * @param consumer       receives messages from the peer
+     * @param supplier       returns the next message for the peer without
+     *                       waiting, or null if there is none
+     * @param maxBatchSize   number of held messages that are written without
+     *                       waiting for the linger time to pass
+     * @param lingerMillis   milliseconds to hold messages before writing, 0 to write at once
+     */
+    public ChaincodeSupportStream(ManagedChannelBuilder<?> channelBuilder, Consumer<ChaincodeMessage> consumer, Supplier<ChaincodeMessage> supplier,
+            int maxBatchSize, long lingerMillis) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be at least 1");
+        }
+        if (lingerMillis < 0) {
+            throw new IllegalArgumentException("Linger time must not be negative");
+        }
         this.consumer = consumer;
-        this.requestObserver = this.chaincodeSupportClient.register(this.responseObserver);
         this.supplier = supplier;
-        this.supplierComsumptionThread.start();
+        this.maxBatchSize = maxBatchSize;
+        this.lingerMillis = lingerMillis;
+        this.lingerTimer = lingerMillis > 0 ? Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "chaincode-stream-linger");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.chaincodeSupportClient = new ChaincodeSupportClient(channelBuilder);
+        this.chaincodeSupportClient.register(this.responseObserver);
+    }
+
+    /**
+     * Tells the stream that the supplier has another message. Never blocks;
+     * the message is written on the calling thread if the transport is ready
+     * and no other thread is writing.
+     */
+    public void onOutboundMessage() {
+        final int held = pending.incrementAndGet();
+        if (lingerTimer == null || held >= maxBatchSize) {
+            drain();
+        } else if (drainScheduled.compareAndSet(false, true)) {
+            lingerTimer.schedule(() -> {
+                drainScheduled.set(false);
+                drain();
+            }, lingerMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            final ClientCallStreamObserver<ChaincodeMessage> observer = requestObserver;
+            if (observer != null) {
+                while (observer.isReady()) {
+                    final ChaincodeMessage message = supplier.get();
+                    if (message == null) {
+                        break;
+                    }
+                    // a message can be written before its own notification arrives
+                    pending.updateAndGet(held -> held > 0 ? held - 1 : 0);
+                    observer.onNext(message);
+                }
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
     }
 
     private void shutdown() {
-        this.supplierComsumptionThread.interrupt();
+        if (lingerTimer != null) {
+            lingerTimer.shutdownNow();
+        }
         try {
             this.chaincodeSupportClient.shutdown();
         } catch (InterruptedException e) {
@@ -15,6 +15,7 @@ import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.GET_STATE;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.GET_STATE_BY_RANGE;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.GET_STATE_METADATA;
+import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.GET_STATE_MULTIPLE;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.INVOKE_CHAINCODE;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.KEEPALIVE;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.PUT_STATE;
@@ -25,12 +26,24 @@ import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.REGISTER;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.REGISTERED;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.RESPONSE;
+import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.WRITE_BATCH_STATE;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -39,6 +52,7 @@ import org.hyperledger.fabric.protos.peer.Chaincode.ChaincodeID;
 import org.hyperledger.fabric.protos.peer.Chaincode.ChaincodeInput;
 import org.hyperledger.fabric.protos.peer.Chaincode.ChaincodeSpec;
 import org.hyperledger.fabric.protos.peer.ChaincodeEventPackage.ChaincodeEvent;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeAdditionalParams;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.DelState;
@@ -46,6 +60,8 @@ import org.hyperledger.fabric.protos.peer.ChaincodeShim.GetQueryResult;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.GetState;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateByRange;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMetadata;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultiple;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.GetStateMultipleResult;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.PutState;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.PutStateMetadata;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse;
@@ -53,34 +69,61 @@ import org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateClose;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryStateNext;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadataResult;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteBatchState;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord;
 import org.hyperledger.fabric.protos.peer.ProposalResponsePackage.Response;
 import org.hyperledger.fabric.protos.peer.ProposalResponsePackage.Response.Builder;
 import org.hyperledger.fabric.shim.Chaincode;
-import org.hyperledger.fabric.shim.ChaincodeStub;
 import org.hyperledger.fabric.shim.helper.Channel;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
-import com.google.protobuf.util.JsonFormat;
 
 public class Handler {
 
+    public static final int DEFAULT_OUTBOUND_QUEUE_SIZE = 1024;
+
     private static Logger logger = Logger.getLogger(Handler.class.getName());
     private final Chaincode chaincode;
-    private final Map<String, Boolean> isTransaction = new HashMap<>();
-    private final Map<String, Channel<ChaincodeMessage>> responseChannel = new HashMap<>();
+    private final Executor executor;
+    private final TransactionRegistry registry = new TransactionRegistry();
     private Channel<ChaincodeMessage> outboundChaincodeMessages = new Channel<>();
-    private CCState state;
+    // transactions wait on this while the outbound queue is full
+    private final ReentrantLock outboundLock = new ReentrantLock();
+    private final Condition outboundNotFull = outboundLock.newCondition();
+    private volatile int outboundQueueSize = DEFAULT_OUTBOUND_QUEUE_SIZE;
+    private volatile Runnable outboundListener = () -> { };
+    private volatile MessageTracer tracer = new MessageTracer(0, 1, 0);
+    // guards the handler state while registering; a lock rather than a monitor so
+    // that invocations running on virtual threads do not pin their carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+    // READY is final, so once it is seen here messages are dispatched without the lock
+    private volatile CCState state;
+    private long responseTimeoutMillis = 0;
+    private boolean coalesceWrites = false;
+    private boolean readCacheEnabled = true;
+    private long readCacheMaxBytes = 0;
+    private final LongAdder readCacheHits = new LongAdder();
+    private final LongAdder readCacheMisses = new LongAdder();
+    // optional features advertised by the peer in its REGISTERED message
+    private volatile ChaincodeAdditionalParams peerParams = ChaincodeAdditionalParams.getDefaultInstance();
 
     public Handler(ChaincodeID chaincodeId, Chaincode chaincode) {
+        this(chaincodeId, chaincode, new InvocationTaskExecutor());
+    }
+
+    public Handler(ChaincodeID chaincodeId, Chaincode chaincode, Executor executor) {
         this.chaincode = chaincode;
+        this.executor = executor;
         this.state = CCState.CREATED;
         queueOutboundChaincodeMessage(newRegisterChaincodeMessage(chaincodeId));
     }
 
     public ChaincodeMessage nextOutboundChaincodeMessage() {
         try {
-            return outboundChaincodeMessages.take();
+            final ChaincodeMessage message = outboundChaincodeMessages.take();
+            signalOutboundNotFull();
+            return message;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             if (logger.isLoggable(Level.WARNING)) {
@@ -90,14 +133,57 @@ public class Handler {
         }
     }
 
+    /**
+     * Takes the next outbound message without waiting.
+     *
+     * @return the next message for the peer, or null if there is none
+     */
+    public ChaincodeMessage pollOutboundChaincodeMessage() {
+        final ChaincodeMessage message = outboundChaincodeMessages.poll();
+        if (message != null) {
+            signalOutboundNotFull();
+        }
+        return message;
+    }
+
+    /**
+     * Sets the listener told each time an outbound message is queued, so that
+     * it can poll for the message. The listener is called once straight away
+     * for any messages queued before it was set. It runs on the thread that
+     * queued the message and must not block.
+     *
+     * @param listener called after each outbound message is queued
+     */
+    public void setOutboundListener(Runnable listener) {
+        this.outboundListener = listener;
+        listener.run();
+    }
+
+    /**
+     * Sets how many outbound messages can be queued before transactions sending
+     * to the peer wait for the queue to drain. Replies to messages from the
+     * peer that the executor has rejected are always queued, so that the gRPC
+     * thread delivering them never waits on its own writes.
+     *
+     * @param size maximum number of queued messages
+     */
+    public void setOutboundQueueSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Outbound queue size must be at least 1");
+        }
+        this.outboundQueueSize = size;
+    }
+
     public void onChaincodeMessage(ChaincodeMessage chaincodeMessage) {
+        tracer.record(MessageTracer.Direction.INBOUND, chaincodeMessage);
         if (logger.isLoggable(Level.FINE)) {
-            logger.fine(format("[%-8.8s] %s", chaincodeMessage.getTxid(), toJsonString(chaincodeMessage)));
+            logger.fine(format("[%-8.8s] Received %s on channel %s with %d byte payload", chaincodeMessage.getTxid(), chaincodeMessage.getType(),
+                    chaincodeMessage.getChannelId(), chaincodeMessage.getPayload().size()));
         }
         handleChaincodeMessage(chaincodeMessage);
     }
 
-    private synchronized void handleChaincodeMessage(ChaincodeMessage message) {
+    private void handleChaincodeMessage(ChaincodeMessage message) {
         if (logger.isLoggable(Level.FINE)) {
             logger.fine(format("[%-8.8s] Handling ChaincodeMessage of type: %s, handler state %s", message.getTxid(), message.getType(), this.state));
         }
@@ -107,27 +193,43 @@ public class Handler {
             }
             return;
         }
-        switch (this.state) {
-            case CREATED:
-                handleCreated(message);
-                break;
-            case ESTABLISHED:
-                handleEstablished(message);
-                break;
-            case READY:
-                handleReady(message);
-                break;
-            default:
-                if (logger.isLoggable(Level.WARNING)) {
-                    logger.warning(format("[%-8.8s] Received %s: cannot handle", message.getTxid(), message.getType()));
-                }
-                break;
+        // responses to requests from many transactions arrive once ready, and
+        // each only needs handing to the transaction waiting for it
+        if (this.state == CCState.READY) {
+            handleReady(message);
+            return;
+        }
+        lock.lock();
+        try {
+            switch (this.state) {
+                case CREATED:
+                    handleCreated(message);
+                    break;
+                case ESTABLISHED:
+                    handleEstablished(message);
+                    break;
+                case READY:
+                    handleReady(message);
+                    break;
+                default:
+                    if (logger.isLoggable(Level.WARNING)) {
+                        logger.warning(format("[%-8.8s] Received %s: cannot handle", message.getTxid(), message.getType()));
+                    }
+                    break;
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
     private void handleCreated(ChaincodeMessage message) {
         if (message.getType() == REGISTERED) {
             this.state = CCState.ESTABLISHED;
+            try {
+                this.peerParams = ChaincodeAdditionalParams.parseFrom(message.getPayload());
+            } catch (InvalidProtocolBufferException e) {
+                logger.warning(format("[%-8.8s] Unable to read REGISTERED payload, optional peer features disabled: %s", message.getTxid(), e));
+            }
             if (logger.isLoggable(Level.FINE)) {
                 logger.fine(format("[%-8.8s] Received REGISTERED: moving to established state", message.getTxid()));
             }
@@ -185,54 +287,167 @@ public class Handler {
         }
     }
 
-    private String getTxKey(final String channelId, final String txid) {
-        return channelId + txid;
-    }
-
     private void queueOutboundChaincodeMessage(ChaincodeMessage chaincodeMessage) {
+        tracer.record(MessageTracer.Direction.OUTBOUND, chaincodeMessage);
         this.outboundChaincodeMessages.add(chaincodeMessage);
+        outboundListener.run();
     }
 
-    private synchronized Channel<ChaincodeMessage> aquireResponseChannelForTx(final String channelId, final String txId) {
-        final Channel<ChaincodeMessage> channel = new Channel<>();
-        String key = getTxKey(channelId, txId);
-        if (this.responseChannel.putIfAbsent(key, channel) != null) {
-            throw new IllegalStateException(format("[%-8.8s] Response channel already exists. Another request must be pending.", txId));
+    /**
+     * Queues a message from a transaction, first waiting while the outbound
+     * queue is full. If interrupted while waiting the message is queued anyway,
+     * so that the peer is never left without a reply.
+     */
+    private void sendOutboundChaincodeMessage(ChaincodeMessage chaincodeMessage) {
+        boolean interrupted = false;
+        outboundLock.lock();
+        try {
+            while (!interrupted && outboundChaincodeMessages.size() >= outboundQueueSize) {
+                try {
+                    outboundNotFull.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            tracer.record(MessageTracer.Direction.OUTBOUND, chaincodeMessage);
+            outboundChaincodeMessages.add(chaincodeMessage);
+        } finally {
+            outboundLock.unlock();
         }
-        if (logger.isLoggable(Level.FINEST)) {
-            logger.finest(format("[%-8.8s] Response channel created.", txId));
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            logger.warning(format("[%-8.8s] Interrupted while waiting for room in the outbound queue", chaincodeMessage.getTxid()));
         }
-        return channel;
+        outboundListener.run();
     }
 
-    private synchronized void sendChannel(ChaincodeMessage message) {
-        String key = getTxKey(message.getChannelId(), message.getTxid());
-        if (!responseChannel.containsKey(key)) {
-            throw new IllegalStateException(format("[%-8.8s] sendChannel does not exist", message.getTxid()));
+    private void signalOutboundNotFull() {
+        outboundLock.lock();
+        try {
+            outboundNotFull.signal();
+        } finally {
+            outboundLock.unlock();
         }
-        responseChannel.get(key).add(message);
     }
 
-    private ChaincodeMessage receiveChannel(Channel<ChaincodeMessage> channel) {
-        try {
-            return channel.take();
-        } catch (InterruptedException e) {
+    /**
+     * Sets how long a transaction waits for the peer to answer one of its
+     * requests before failing. Zero, the default, waits indefinitely.
+     *
+     * @param timeout  maximum time to wait
+     * @param timeUnit unit of the timeout
+     */
+    public void setResponseTimeout(long timeout, TimeUnit timeUnit) {
+        this.responseTimeoutMillis = timeUnit.toMillis(timeout);
+    }
+
+    /**
+     * Sets whether a transaction's writes are held back until it completes,
+     * so that only the last write to each key is sent, even when the peer
+     * cannot take them in one batch. Writes are always held back for peers
+     * that support write batches.
+     *
+     * @param coalesceWrites true to hold back writes
+     */
+    public void setCoalesceWrites(boolean coalesceWrites) {
+        this.coalesceWrites = coalesceWrites;
+    }
+
+    /**
+     * Sets whether each transaction caches the values it reads, so that
+     * reading a key again does not go back to the peer. Enabled by default.
+     *
+     * @param enabled  true to cache reads
+     * @param maxBytes estimated size of the cached values above which the least
+     *                 recently used are dropped, 0 for no limit
+     */
+    public void setReadCache(boolean enabled, long maxBytes) {
+        this.readCacheEnabled = enabled;
+        this.readCacheMaxBytes = maxBytes;
+    }
+
+    /**
+     * Sets the tracer that records the messages exchanged with the peer.
+     * Messages are not traced by default.
+     *
+     * @param tracer records a summary of each sampled message
+     */
+    public void setMessageTracer(MessageTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * @return the tracer recording messages exchanged with the peer, whose
+     *         entries can be dumped to diagnose a stall
+     */
+    public MessageTracer getMessageTracer() {
+        return tracer;
+    }
+
+    /**
+     * @return number of reads answered from a transaction's read cache
+     */
+    public long getReadCacheHits() {
+        return readCacheHits.sum();
+    }
+
+    /**
+     * @return number of reads that had to go to the peer while a read cache was in use
+     */
+    public long getReadCacheMisses() {
+        return readCacheMisses.sum();
+    }
+
+    private void finishReadCache(final ChaincodeStubImpl stub) {
+        final ReadCache cache = stub.finishReadCache();
+        if (cache != null) {
+            readCacheHits.add(cache.getHits());
+            readCacheMisses.add(cache.getMisses());
             if (logger.isLoggable(Level.FINE)) {
-                logger.fine("channel.take() failed with InterruptedException");
+                logger.fine(format("[%-8.8s] Read cache: %d hits, %d misses", stub.getTxId(), cache.getHits(), cache.getMisses()));
             }
+        }
+    }
+
+    private CompletableFuture<ChaincodeMessage> aquireResponseSlotForTx(final TxKey key) {
+        final CompletableFuture<ChaincodeMessage> slot = registry.acquireResponseSlot(key);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(format("[%-8.8s] Response slot created.", key.getTxId()));
+        }
+        return slot;
+    }
 
-            // Channel has been closed?
-            // TODO
-            return null;
+    private void sendChannel(ChaincodeMessage message) {
+        if (!registry.sendResponse(new TxKey(message.getChannelId(), message.getTxid()), message)) {
+            // most likely the request timed out or was cancelled; throwing here
+            // would fail the gRPC stream and so every other transaction on it
+            logger.warning(format("[%-8.8s] Dropping %s response: no request is waiting for it.", message.getTxid(), message.getType()));
+        }
+    }
+
+    private ChaincodeMessage receiveResponse(final TxKey key, final CompletableFuture<ChaincodeMessage> slot) {
+        try {
+            if (responseTimeoutMillis > 0) {
+                return slot.get(responseTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            return slot.get();
+        } catch (TimeoutException e) {
+            logger.severe(format("[%-8.8s] No response received within %d ms.", key.getTxId(), responseTimeoutMillis));
+            throw new RuntimeException(format("[%-8.8s]No response received within %d ms.", key.getTxId(), responseTimeoutMillis), e);
+        } catch (CancellationException e) {
+            throw new RuntimeException(format("[%-8.8s]Request cancelled before a response was received.", key.getTxId()), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(format("[%-8.8s]Interrupted while waiting for a response.", key.getTxId()), e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
     }
 
-    private synchronized void releaseResponseChannelForTx(String channelId, String txId) {
-        String key = getTxKey(channelId, txId);
-        final Channel<ChaincodeMessage> channel = responseChannel.remove(key);
-        if (channel != null) channel.close();
+    private void releaseResponseSlotForTx(final TxKey key) {
+        registry.releaseResponseSlot(key);
         if (logger.isLoggable(Level.FINER)) {
-            logger.finer(format("[%-8.8s] Response channel closed.", txId));
+            logger.finer(format("[%-8.8s] Response slot released.", key.getTxId()));
         }
     }
 
@@ -241,21 +456,13 @@ public class Handler {
      *
      * @param uuid          ID to be marked
      * @param isTransaction true for transaction, false for query
-     * @return whether or not the UUID was successfully marked
      */
-    private synchronized boolean markIsTransaction(String channelId, String uuid, boolean isTransaction) {
-        if (this.isTransaction == null) {
-            return false;
-        }
-
-        String key = getTxKey(channelId, uuid);
-        this.isTransaction.put(key, isTransaction);
-        return true;
+    private void markIsTransaction(String channelId, String uuid, boolean isTransaction) {
+        registry.markIsTransaction(new TxKey(channelId, uuid), isTransaction);
     }
 
-    private synchronized void deleteIsTransaction(String channelId, String uuid) {
-        String key = getTxKey(channelId, uuid);
-        isTransaction.remove(key);
+    private void deleteIsTransaction(String channelId, String uuid) {
+        registry.deleteIsTransaction(new TxKey(channelId, uuid));
     }
 
     /**
@@ -264,7 +471,7 @@ public class Handler {
      * @param message chaincode to be initialized
      */
     private void handleInit(ChaincodeMessage message) {
-        new Thread(() -> {
+        executeInvocation(message, () -> {
             try {
 
                 // Get the function and args from Payload
@@ -275,35 +482,47 @@ public class Handler {
 
                 // Create the ChaincodeStub which the chaincode can use to
                 // callback
-                final ChaincodeStub stub = new ChaincodeStubImpl(message.getChannelId(), message.getTxid(), this, input.getArgsList(), message.getProposal());
+                final ChaincodeStubImpl stub = new ChaincodeStubImpl(message.getChannelId(), message.getTxid(), this, input.getArgsList(), message.getProposal());
+                if (coalesceWrites || peerParams.getUseWriteBatch()) {
+                    stub.startWriteBatch();
+                }
+                if (readCacheEnabled) {
+                    stub.startReadCache(readCacheMaxBytes);
+                }
 
                 // Call chaincode's init
-                final Chaincode.Response result = chaincode.init(stub);
+                final Chaincode.Response result;
+                try {
+                    result = chaincode.init(stub);
+                } finally {
+                    finishReadCache(stub);
+                }
 
                 if (result.getStatus().getCode() >= Chaincode.Response.Status.INTERNAL_SERVER_ERROR.getCode()) {
                     // Send ERROR with entire result.Message as payload
                     logger.severe(format("[%-8.8s] Init failed. Sending %s", message.getTxid(), ERROR));
-                    queueOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), result.getMessage(), stub.getEvent()));
+                    sendOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), result.getMessage(), stub.getEvent()));
                 } else {
                     // Send COMPLETED with entire result as payload
                     if (logger.isLoggable(Level.FINE)) {
                         logger.fine(format(format("[%-8.8s] Init succeeded. Sending %s", message.getTxid(), COMPLETED)));
                     }
-                    queueOutboundChaincodeMessage(newCompletedEventMessage(message.getChannelId(), message.getTxid(), result, stub.getEvent()));
+                    stub.finishWriteBatch();
+                    sendOutboundChaincodeMessage(newCompletedEventMessage(message.getChannelId(), message.getTxid(), result, stub.getEvent()));
                 }
             } catch (InvalidProtocolBufferException | RuntimeException e) {
                 logger.severe(format("[%-8.8s] Init failed. Sending %s: %s", message.getTxid(), ERROR, e));
-                queueOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), e));
+                sendOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), e));
             } finally {
                 // delete isTransaction entry
                 deleteIsTransaction(message.getChannelId(), message.getTxid());
             }
-        }).start();
+        });
     }
 
     // handleTransaction Handles request to execute a transaction.
     private void handleTransaction(ChaincodeMessage message) {
-        new Thread(() -> {
+        executeInvocation(message, () -> {
             try {
 
                 // Get the function and args from Payload
@@ -314,31 +533,83 @@ public class Handler {
 
                 // Create the ChaincodeStub which the chaincode can use to
                 // callback
-                final ChaincodeStub stub = new ChaincodeStubImpl(message.getChannelId(), message.getTxid(), this, input.getArgsList(), message.getProposal());
+                final ChaincodeStubImpl stub = new ChaincodeStubImpl(message.getChannelId(), message.getTxid(), this, input.getArgsList(), message.getProposal());
+                if (coalesceWrites || peerParams.getUseWriteBatch()) {
+                    stub.startWriteBatch();
+                }
+                if (readCacheEnabled) {
+                    stub.startReadCache(readCacheMaxBytes);
+                }
 
                 // Call chaincode's invoke
-                final Chaincode.Response result = chaincode.invoke(stub);
+                final Chaincode.Response result;
+                try {
+                    result = chaincode.invoke(stub);
+                } finally {
+                    finishReadCache(stub);
+                }
 
                 if (result.getStatus().getCode() >= Chaincode.Response.Status.INTERNAL_SERVER_ERROR.getCode()) {
                     // Send ERROR with entire result.Message as payload
                     logger.severe(format("[%-8.8s] Invoke failed. Sending %s", message.getTxid(), ERROR));
-                    queueOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), result.getMessage(), stub.getEvent()));
+                    sendOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), result.getMessage(), stub.getEvent()));
                 } else {
                     // Send COMPLETED with entire result as payload
                     if (logger.isLoggable(Level.FINE)) {
                         logger.fine(format(format("[%-8.8s] Invoke succeeded. Sending %s", message.getTxid(), COMPLETED)));
                     }
-                    queueOutboundChaincodeMessage(newCompletedEventMessage(message.getChannelId(), message.getTxid(), result, stub.getEvent()));
+                    stub.finishWriteBatch();
+                    sendOutboundChaincodeMessage(newCompletedEventMessage(message.getChannelId(), message.getTxid(), result, stub.getEvent()));
                 }
 
             } catch (InvalidProtocolBufferException | RuntimeException e) {
                 logger.severe(format("[%-8.8s] Invoke failed. Sending %s: %s", message.getTxid(), ERROR, e));
-                queueOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), e));
+                sendOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), e));
             } finally {
                 // delete isTransaction entry
                 deleteIsTransaction(message.getChannelId(), message.getTxid());
             }
-        }).start();
+        });
+    }
+
+    /**
+     * Hands an init or invoke request to the executor, replying with an ERROR
+     * if the executor has no room for it.
+     *
+     * @param message    INIT or TRANSACTION message from the peer
+     * @param invocation work to run for the message
+     */
+    private void executeInvocation(final ChaincodeMessage message, final Runnable invocation) {
+        try {
+            executor.execute(new InvocationTask(message, invocation));
+        } catch (RejectedExecutionException e) {
+            rejectInvocation(message, e);
+        }
+    }
+
+    private void rejectInvocation(final ChaincodeMessage message, final RejectedExecutionException e) {
+        logger.severe(format("[%-8.8s] %s rejected. Sending %s: %s", message.getTxid(), message.getType(), ERROR, e.getMessage()));
+        queueOutboundChaincodeMessage(newErrorEventMessage(message.getChannelId(), message.getTxid(), e.getMessage()));
+    }
+
+    private final class InvocationTask implements InvocationTaskExecutor.RejectableTask {
+        private final ChaincodeMessage message;
+        private final Runnable invocation;
+
+        InvocationTask(final ChaincodeMessage message, final Runnable invocation) {
+            this.message = message;
+            this.invocation = invocation;
+        }
+
+        @Override
+        public void run() {
+            invocation.run();
+        }
+
+        @Override
+        public void reject(RejectedExecutionException e) {
+            rejectInvocation(message, e);
+        }
     }
 
     // handleGetState communicates with the validator to fetch the requested state information from the ledger.
@@ -346,6 +617,39 @@ public class Handler {
         return invokeChaincodeSupport(newGetStateEventMessage(channelId, txId, collection, key));
     }
 
+    /**
+     * Fetches the values of several keys. If the peer advertised support for
+     * GET_STATE_MULTIPLE the keys are requested in as few messages as the
+     * peer's limit allows, otherwise one GET_STATE is sent per key.
+     *
+     * @return the values, in the same order as the keys
+     */
+    List<ByteString> getStateMultiple(String channelId, String txId, String collection, List<String> keys) {
+        final ChaincodeAdditionalParams params = this.peerParams;
+        if (!params.getUseGetMultipleKeys() || keys.size() < 2) {
+            return keys.stream()
+                    .map(key -> getState(channelId, txId, collection, key))
+                    .collect(Collectors.toList());
+        }
+        final int maxKeys = params.getMaxSizeGetMultipleKeys() > 0 ? params.getMaxSizeGetMultipleKeys() : keys.size();
+        final List<ByteString> values = new ArrayList<>(keys.size());
+        for (int from = 0; from < keys.size(); from += maxKeys) {
+            final List<String> chunk = keys.subList(from, Math.min(from + maxKeys, keys.size()));
+            final ByteString payload = invokeChaincodeSupport(newGetStateMultipleEventMessage(channelId, txId, collection, chunk));
+            try {
+                final GetStateMultipleResult result = GetStateMultipleResult.parseFrom(payload);
+                if (result.getValuesCount() != chunk.size()) {
+                    throw new RuntimeException(format("Requested %d keys but the peer returned %d values.", chunk.size(), result.getValuesCount()));
+                }
+                values.addAll(result.getValuesList());
+            } catch (InvalidProtocolBufferException e) {
+                logger.severe(String.format("[%-8.8s] unmarshall error", txId));
+                throw new RuntimeException("Error unmarshalling GetStateMultipleResult.", e);
+            }
+        }
+        return values;
+    }
+
     ByteString getPrivateDataHash(String channelId, String txId, String collection, String key) {
         return invokeChaincodeSupport(newGetPrivateDataHashEventMessage(channelId, txId, collection, key));
     }
@@ -364,8 +668,7 @@ public class Handler {
     }
 
     private boolean isTransaction(String channelId, String uuid) {
-        String key = getTxKey(channelId, uuid);
-        return isTransaction.containsKey(key) && isTransaction.get(key);
+        return registry.isTransaction(new TxKey(channelId, uuid));
     }
 
     void putState(String channelId, String txId, String collection, String key, ByteString value) {
@@ -388,6 +691,34 @@ public class Handler {
         invokeChaincodeSupport(newDeleteStateEventMessage(channelId, txId, collection, key));
     }
 
+    /**
+     * Sends writes that were held back by the stub. If the peer supports write
+     * batches they are split into as many WRITE_BATCH_STATE messages as its
+     * batch size limit requires, otherwise each is sent in its own message.
+     * Every message is acknowledged before the next is sent.
+     */
+    void writeBatchState(String channelId, String txId, List<WriteRecord> records) {
+        if (!isTransaction(channelId, txId)) {
+            throw new IllegalStateException("Cannot put state in query context");
+        }
+        if (!peerParams.getUseWriteBatch()) {
+            for (final WriteRecord record : records) {
+                invokeChaincodeSupport(newWriteRecordEventMessage(channelId, txId, record));
+            }
+            return;
+        }
+        final int maxRecords = peerParams.getMaxSizeWriteBatch() > 0 ? peerParams.getMaxSizeWriteBatch() : records.size();
+        for (int from = 0; from < records.size(); from += maxRecords) {
+            final List<WriteRecord> chunk = records.subList(from, Math.min(from + maxRecords, records.size()));
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine(format("[%-8.8s] Sending %d of %d held back writes", txId, chunk.size(), records.size()));
+            }
+            invokeChaincodeSupport(newEventMessage(WRITE_BATCH_STATE, channelId, txId, WriteBatchState.newBuilder()
+                    .addAllRec(chunk)
+                    .build().toByteString()));
+        }
+    }
+
     QueryResponse getStateByRange(String channelId, String txId, String collection, String startKey, String endKey, ByteString metadata) {
         GetStateByRange.Builder msgBuilder = GetStateByRange.newBuilder()
             .setCollection(collection)
@@ -437,18 +768,18 @@ public class Handler {
     }
 
     private ByteString invokeChaincodeSupport(final ChaincodeMessage message) {
-        final String channelId = message.getChannelId();
         final String txId = message.getTxid();
+        final TxKey key = new TxKey(message.getChannelId(), txId);
 
         try {
-            // create a new response channel
-            Channel<ChaincodeMessage> responseChannel = aquireResponseChannelForTx(channelId, txId);
+            // create a new response slot
+            final CompletableFuture<ChaincodeMessage> responseSlot = aquireResponseSlotForTx(key);
 
             // send the message
-            queueOutboundChaincodeMessage(message);
+            sendOutboundChaincodeMessage(message);
 
             // wait for response
-            final ChaincodeMessage response = receiveChannel(responseChannel);
+            final ChaincodeMessage response = receiveResponse(key, responseSlot);
             if (logger.isLoggable(Level.FINE)) {
                 logger.fine(format("[%-8.8s] %s response received.", txId, response.getType()));
             }
@@ -468,7 +799,7 @@ public class Handler {
                     throw new RuntimeException(format("[%-8.8s]Unexpected %s response received. Expected %s or %s.", txId, response.getType(), RESPONSE, ERROR));
             }
         } finally {
-            releaseResponseChannelForTx(channelId, txId);
+            releaseResponseSlotForTx(key);
         }
     }
 
@@ -506,14 +837,6 @@ public class Handler {
         }
     }
 
-    private static String toJsonString(ChaincodeMessage message) {
-        try {
-            return JsonFormat.printer().print(message);
-        } catch (InvalidProtocolBufferException e) {
-            return String.format("{ Type: %s, TxId: %s }", message.getType(), message.getTxid());
-        }
-    }
-
     private static Chaincode.Response newErrorChaincodeResponse(String message) {
         return new Chaincode.Response(Chaincode.Response.Status.INTERNAL_SERVER_ERROR, message, null);
     }
@@ -532,6 +855,13 @@ public class Handler {
                 .build().toByteString());
     }
 
+    private static ChaincodeMessage newGetStateMultipleEventMessage(final String channelId, final String txId, final String collection, final List<String> keys) {
+        return newEventMessage(GET_STATE_MULTIPLE, channelId, txId, GetStateMultiple.newBuilder()
+                .setCollection(collection)
+                .addAllKeys(keys)
+                .build().toByteString());
+    }
+
     private static ChaincodeMessage newGetStateMetadataEventMessage(final String channelId, final String txId, final String collection, final String key) {
         return newEventMessage(GET_STATE_METADATA, channelId, txId,
                 GetStateMetadata.newBuilder()
@@ -560,6 +890,20 @@ public class Handler {
                         .build().toByteString());
     }
 
+    private static ChaincodeMessage newWriteRecordEventMessage(final String channelId, final String txId, final WriteRecord record) {
+        switch (record.getType()) {
+            case PUT_STATE:
+                return newPutStateEventMessage(channelId, txId, record.getCollection(), record.getKey(), record.getValue());
+            case PUT_STATE_METADATA:
+                return newPutStateMatadateEventMessage(channelId, txId, record.getCollection(), record.getKey(),
+                        record.getMetadata().getMetakey(), record.getMetadata().getValue());
+            case DEL_STATE:
+                return newDeleteStateEventMessage(channelId, txId, record.getCollection(), record.getKey());
+            default:
+                throw new IllegalArgumentException(format("Unexpected write record type %s", record.getType()));
+        }
+    }
+
     private static ChaincodeMessage newDeleteStateEventMessage(final String channelId, final String txId, final String collection, final String key) {
         return newEventMessage(DEL_STATE, channelId, txId, DelState.newBuilder()
                 .setCollection(collection)
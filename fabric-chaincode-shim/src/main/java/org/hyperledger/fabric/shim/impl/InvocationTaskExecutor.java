@@ -0,0 +1,199 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded executor used by the {@link Handler} to run chaincode init and invoke
+ * requests.
+ * <p>
+ * Work is run by at most {@code maxPoolSize} worker threads, with at most
+ * {@code queueSize} requests waiting for a free worker. Once both are exhausted
+ * the configured {@link RejectionPolicy} decides which request is turned away.
+ * <p>
+ * {@code corePoolSize} workers are started up front and kept running. When none
+ * of them is idle, a new worker is started for each request until
+ * {@code maxPoolSize} are running; requests are only queued once all of them are
+ * busy. Chaincode spends most of its time waiting on the peer, so queueing
+ * behind the core threads, as a plain {@link ThreadPoolExecutor} with a bounded
+ * queue does, would limit concurrency for no gain. Workers beyond the core ones
+ * exit once idle for a minute.
+ * A request that is turned away is never run; if it is a {@link RejectableTask}
+ * it is told so, allowing an ERROR to be sent back to the peer.
+ */
+public class InvocationTaskExecutor extends ThreadPoolExecutor {
+
+    private static Logger logger = Logger.getLogger(InvocationTaskExecutor.class.getName());
+
+    public static final int DEFAULT_CORE_POOL_SIZE = 10;
+    public static final int DEFAULT_MAX_POOL_SIZE = 50;
+    public static final int DEFAULT_QUEUE_SIZE = 5000;
+    public static final RejectionPolicy DEFAULT_REJECTION_POLICY = RejectionPolicy.ERROR;
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    // requests accepted and not yet finished, running or queued
+    private final AtomicInteger submitted = new AtomicInteger();
+
+    /**
+     * What to do with a request when all workers are busy and the queue is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Turn away the request that has just arrived.
+         */
+        ERROR,
+        /**
+         * Turn away the request that has waited longest in the queue, and queue
+         * the one that has just arrived in its place.
+         */
+        DISCARD_OLDEST
+    }
+
+    /**
+     * Task that needs to know when it will never be run.
+     */
+    public interface RejectableTask extends Runnable {
+
+        /**
+         * Called instead of {@link #run()} when the executor turns the task away.
+         *
+         * @param e reason the task was rejected
+         */
+        void reject(RejectedExecutionException e);
+    }
+
+    public InvocationTaskExecutor() {
+        this(DEFAULT_CORE_POOL_SIZE, DEFAULT_MAX_POOL_SIZE, DEFAULT_QUEUE_SIZE, DEFAULT_REJECTION_POLICY);
+    }
+
+    public InvocationTaskExecutor(int corePoolSize, int maxPoolSize, int queueSize, RejectionPolicy rejectionPolicy) {
+        super(corePoolSize, maxPoolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new WorkQueue(queueSize), new InvocationThreadFactory(), newRejectionHandler(rejectionPolicy));
+        ((WorkQueue) getQueue()).executor = this;
+        prestartAllCoreThreads();
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(format("Transaction executor created: corePoolSize %d, maxPoolSize %d, queueSize %d, rejectionPolicy %s",
+                    corePoolSize, maxPoolSize, queueSize, rejectionPolicy));
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submitted.incrementAndGet();
+        try {
+            super.execute(command);
+        } catch (RejectedExecutionException e) {
+            submitted.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        submitted.decrementAndGet();
+    }
+
+    /**
+     * @return true if no worker is idle, and another can still be started
+     */
+    private boolean needsWorker() {
+        final int poolSize = getPoolSize();
+        return submitted.get() > poolSize && poolSize < getMaximumPoolSize();
+    }
+
+    private static RejectedExecutionHandler newRejectionHandler(RejectionPolicy rejectionPolicy) {
+        switch (rejectionPolicy) {
+            case DISCARD_OLDEST:
+                return InvocationTaskExecutor::discardOldest;
+            case ERROR:
+            default:
+                return InvocationTaskExecutor::abort;
+        }
+    }
+
+    /**
+     * Queues a request that the queue refused so that a worker would be
+     * started for it, when no worker could be started after all.
+     */
+    private static boolean requeue(Runnable task, ThreadPoolExecutor executor) {
+        return !executor.isShutdown() && ((WorkQueue) executor.getQueue()).queue(task);
+    }
+
+    private static void abort(Runnable task, ThreadPoolExecutor executor) {
+        if (requeue(task, executor)) {
+            return;
+        }
+        throw new RejectedExecutionException(format("Transaction rejected: %d active, %d queued",
+                executor.getActiveCount(), executor.getQueue().size()));
+    }
+
+    private static void discardOldest(Runnable task, ThreadPoolExecutor executor) {
+        while (!requeue(task, executor)) {
+            if (executor.isShutdown()) {
+                abort(task, executor);
+            }
+            final Runnable oldest = executor.getQueue().poll();
+            if (oldest != null) {
+                ((InvocationTaskExecutor) executor).submitted.decrementAndGet();
+            }
+            if (oldest instanceof RejectableTask) {
+                ((RejectableTask) oldest).reject(new RejectedExecutionException("Transaction discarded to make room for a newer transaction"));
+            }
+        }
+    }
+
+    /**
+     * Queue that refuses a request while a new worker can be started for it,
+     * which makes the executor start one rather than queue the request.
+     */
+    private static class WorkQueue extends ArrayBlockingQueue<Runnable> {
+        private static final long serialVersionUID = 1L;
+
+        private transient volatile InvocationTaskExecutor executor;
+
+        WorkQueue(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public boolean offer(Runnable task) {
+            final InvocationTaskExecutor executor = this.executor;
+            if (executor != null && executor.needsWorker()) {
+                return false;
+            }
+            return super.offer(task);
+        }
+
+        boolean queue(Runnable task) {
+            return super.offer(task);
+        }
+    }
+
+    private static class InvocationThreadFactory implements ThreadFactory {
+        private static final AtomicInteger poolNumber = new AtomicInteger(1);
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix = "fabric-txinvoke-" + poolNumber.getAndIncrement() + "-";
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread thread = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.google.protobuf.ByteString;
 import org.hyperledger.fabric.protos.ledger.queryresult.KvQueryResult;
 import org.hyperledger.fabric.shim.ledger.KeyModification;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 
 public class KeyModificationImpl implements KeyModification {
@@ -35,6 +36,11 @@ public class KeyModificationImpl implements KeyModification {
         return value.toByteArray();
     }
 
+    @Override
+    public ByteBuffer getValueBuffer() {
+        return value.asReadOnlyByteBuffer();
+    }
+
     @Override
     public String getStringValue() {
         return value.toStringUtf8();
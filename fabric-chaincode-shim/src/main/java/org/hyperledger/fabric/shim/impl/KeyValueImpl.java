@@ -9,6 +9,8 @@ import com.google.protobuf.ByteString;
 import org.hyperledger.fabric.protos.ledger.queryresult.KvQueryResult.KV;
 import org.hyperledger.fabric.shim.ledger.KeyValue;
 
+import java.nio.ByteBuffer;
+
 class KeyValueImpl implements KeyValue {
 
     private final String key;
@@ -29,6 +31,11 @@ class KeyValueImpl implements KeyValue {
         return value.toByteArray();
     }
 
+    @Override
+    public ByteBuffer getValueBuffer() {
+        return value.asReadOnlyByteBuffer();
+    }
+
     @Override
     public String getStringValue() {
         return value.toStringUtf8();
@@ -0,0 +1,203 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.TextFormat;
+
+/**
+ * Keeps a summary of the most recent messages exchanged with the peer, for
+ * diagnosing stalls without logging every message.
+ * <p>
+ * Each entry records the direction, type, channel, transaction id and payload
+ * size of a message, when it was seen and, optionally, the start of its
+ * payload. Messages are sampled by transaction, so either every message of a
+ * transaction is traced or none are. Entries are kept in a fixed size ring
+ * buffer, the oldest being overwritten, and recording never blocks.
+ */
+public final class MessageTracer {
+
+    public enum Direction {
+        INBOUND, OUTBOUND
+    }
+
+    /**
+     * A traced message.
+     */
+    public static final class Entry {
+        private final Direction direction;
+        private final ChaincodeMessage.Type type;
+        private final String channelId;
+        private final String txId;
+        private final int payloadSize;
+        private final ByteString payload;
+        private final long timestamp;
+        private final long nanoTime;
+
+        Entry(final Direction direction, final ChaincodeMessage message, final int maxPayloadBytes) {
+            this.direction = direction;
+            this.type = message.getType();
+            this.channelId = message.getChannelId();
+            this.txId = message.getTxid();
+            this.payloadSize = message.getPayload().size();
+            this.payload = maxPayloadBytes > 0 ? message.getPayload().substring(0, Math.min(maxPayloadBytes, payloadSize)) : ByteString.EMPTY;
+            this.timestamp = System.currentTimeMillis();
+            this.nanoTime = System.nanoTime();
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+
+        public ChaincodeMessage.Type getType() {
+            return type;
+        }
+
+        public String getChannelId() {
+            return channelId;
+        }
+
+        public String getTxId() {
+            return txId;
+        }
+
+        /**
+         * @return size of the whole payload, in bytes
+         */
+        public int getPayloadSize() {
+            return payloadSize;
+        }
+
+        /**
+         * @return start of the payload, empty unless payloads are traced
+         */
+        public ByteString getPayload() {
+            return payload;
+        }
+
+        /**
+         * @return time the message was traced, in milliseconds since the epoch
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return {@link System#nanoTime()} when the message was traced, for
+         *         measuring the time between entries
+         */
+        public long getNanoTime() {
+            return nanoTime;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder()
+                    .append(Instant.ofEpochMilli(timestamp))
+                    .append(direction == Direction.INBOUND ? " <- " : " -> ")
+                    .append(type)
+                    .append(" [").append(channelId).append(':').append(txId).append("] ")
+                    .append(payloadSize).append(" bytes");
+            if (!payload.isEmpty()) {
+                sb.append(" \"").append(TextFormat.escapeBytes(payload));
+                sb.append(payload.size() < payloadSize ? "\"..." : "\"");
+            }
+            return sb.toString();
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicLong next = new AtomicLong();
+    private final int sampleRate;
+    private final int maxPayloadBytes;
+
+    /**
+     * @param capacity        number of entries kept, 0 to trace nothing
+     * @param sampleRate      trace one transaction in this many, 1 to trace all
+     * @param maxPayloadBytes number of payload bytes kept per entry, 0 for none
+     */
+    public MessageTracer(final int capacity, final int sampleRate, final int maxPayloadBytes) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1");
+        }
+        if (maxPayloadBytes < 0) {
+            throw new IllegalArgumentException("Maximum payload bytes must not be negative");
+        }
+        this.entries = capacity > 0 ? new AtomicReferenceArray<>(capacity) : null;
+        this.sampleRate = sampleRate;
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+
+    /**
+     * @return true if messages are being traced
+     */
+    public boolean isEnabled() {
+        return entries != null;
+    }
+
+    void record(final Direction direction, final ChaincodeMessage message) {
+        if (entries == null || !isSampled(message.getTxid())) {
+            return;
+        }
+        final Entry entry = new Entry(direction, message, maxPayloadBytes);
+        entries.set((int) (next.getAndIncrement() % entries.length()), entry);
+    }
+
+    private boolean isSampled(final String txId) {
+        return sampleRate == 1 || (txId.hashCode() & Integer.MAX_VALUE) % sampleRate == 0;
+    }
+
+    /**
+     * @return the traced entries, oldest first
+     */
+    public List<Entry> snapshot() {
+        if (entries == null) {
+            return new ArrayList<>();
+        }
+        final long end = next.get();
+        final long start = Math.max(0, end - entries.length());
+        final List<Entry> snapshot = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            final Entry entry = entries.get((int) (i % entries.length()));
+            // a slot claimed by a concurrent record may not be written yet
+            if (entry != null) {
+                snapshot.add(entry);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return the traced entries, oldest first, one per line, each with the
+     *         milliseconds since the previous entry
+     */
+    public String dump() {
+        final StringBuilder sb = new StringBuilder();
+        Entry previous = null;
+        for (final Entry entry : snapshot()) {
+            if (previous != null) {
+                sb.append(String.format("%+8.3fms ", (entry.nanoTime - previous.nanoTime) / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+            } else {
+                sb.append(String.format("%11s", ""));
+            }
+            sb.append(entry).append(System.lineSeparator());
+            previous = entry;
+        }
+        return sb.toString();
+    }
+}
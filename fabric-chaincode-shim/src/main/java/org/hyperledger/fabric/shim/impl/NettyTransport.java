@@ -0,0 +1,107 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.grpc.netty.NettyChannelBuilder;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * Selects the Netty transport used for the connection to the peer.
+ * <p>
+ * The native epoll transport avoids the selector overhead of NIO and produces
+ * less garbage, but is only available on Linux when
+ * {@code netty-transport-native-epoll} is on the classpath. It is therefore
+ * looked up reflectively; use {@link #isEpollAvailable()} to check for it.
+ * <p>
+ * Event loop groups are created on first use and shared by every connection
+ * with the same transport and thread count.
+ */
+public final class NettyTransport {
+
+    private static Logger logger = Logger.getLogger(NettyTransport.class.getName());
+
+    public enum Type {
+        /** epoll when available, NIO otherwise */
+        AUTO(null, null),
+        EPOLL("io.netty.channel.epoll.EpollEventLoopGroup", "io.netty.channel.epoll.EpollSocketChannel"),
+        NIO("io.netty.channel.nio.NioEventLoopGroup", "io.netty.channel.socket.nio.NioSocketChannel");
+
+        private final String eventLoopGroupClass;
+        private final String channelClass;
+
+        Type(final String eventLoopGroupClass, final String channelClass) {
+            this.eventLoopGroupClass = eventLoopGroupClass;
+            this.channelClass = channelClass;
+        }
+    }
+
+    private static final boolean EPOLL_AVAILABLE = checkEpoll();
+    private static final Map<String, EventLoopGroup> EVENT_LOOP_GROUPS = new ConcurrentHashMap<>();
+
+    private NettyTransport() {
+    }
+
+    /**
+     * @return true if the native epoll transport can be used
+     */
+    public static boolean isEpollAvailable() {
+        return EPOLL_AVAILABLE;
+    }
+
+    /**
+     * Sets the event loop group and channel type of the builder.
+     *
+     * @param builder          builder for the connection to the peer
+     * @param type             transport to use
+     * @param eventLoopThreads number of event loop threads, 0 for Netty's default
+     * @return the transport that was configured, never {@link Type#AUTO}
+     */
+    public static Type configure(final NettyChannelBuilder builder, final Type type, final int eventLoopThreads) {
+        final Type resolved = type == Type.AUTO ? (EPOLL_AVAILABLE ? Type.EPOLL : Type.NIO) : type;
+        if (resolved == Type.EPOLL && !EPOLL_AVAILABLE) {
+            throw new IllegalStateException("The epoll transport is not available");
+        }
+        configure(builder, resolved.eventLoopGroupClass, resolved.channelClass, eventLoopThreads,
+                "chaincode-" + resolved.name().toLowerCase());
+        return resolved;
+    }
+
+    static void configure(final NettyChannelBuilder builder, final String eventLoopGroupClass, final String channelClass,
+            final int eventLoopThreads, final String threadName) {
+        try {
+            final Constructor<?> constructor = Class.forName(eventLoopGroupClass).getConstructor(int.class, ThreadFactory.class);
+            final Class<? extends Channel> channelType = Class.forName(channelClass).asSubclass(Channel.class);
+            builder.eventLoopGroup(EVENT_LOOP_GROUPS.computeIfAbsent(eventLoopGroupClass + ":" + eventLoopThreads, k -> {
+                try {
+                    return (EventLoopGroup) constructor.newInstance(eventLoopThreads, new DefaultThreadFactory(threadName, true));
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Could not create " + eventLoopGroupClass, e);
+                }
+            }));
+            builder.channelType(channelType);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not load the Netty transport " + eventLoopGroupClass, e);
+        }
+    }
+
+    private static boolean checkEpoll() {
+        try {
+            return (Boolean) Class.forName("io.netty.channel.epoll.Epoll").getMethod("isAvailable").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.log(Level.FINE, "The epoll transport is not available", e);
+            return false;
+        }
+    }
+}
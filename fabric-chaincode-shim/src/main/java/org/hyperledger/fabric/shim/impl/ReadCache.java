@@ -0,0 +1,170 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Values a transaction has already read from the peer.
+ * <p>
+ * The peer serves every read of a simulation from the same committed state,
+ * and a transaction never sees its own writes, so a repeated read can be
+ * answered from the first one. The cache belongs to a single transaction and
+ * is discarded when the transaction completes.
+ * <p>
+ * With a non-zero {@code maxBytes} the least recently used entries are
+ * evicted once the estimated size of the cached values exceeds the limit.
+ */
+final class ReadCache {
+
+    /**
+     * Kind of read; the same key can be cached once for each.
+     */
+    enum Kind {
+        STATE, PRIVATE_DATA_HASH, METADATA
+    }
+
+    // rough per entry cost of the map node, key object and strings
+    private static final long ENTRY_OVERHEAD = 96;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param maxBytes estimated size above which entries are evicted, 0 for no limit
+     */
+    ReadCache(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the cached value, or null if the key has not been read yet
+     */
+    ByteString getValue(final Kind kind, final String collection, final String key) {
+        final Entry entry = lookup(kind, collection, key);
+        return entry == null ? null : entry.value;
+    }
+
+    void putValue(final Kind kind, final String collection, final String key, final ByteString value) {
+        store(new Key(kind, collection, key), new Entry(value, null, value.size()));
+    }
+
+    /**
+     * @return the cached metadata, or null if the key's metadata has not been read yet
+     */
+    Map<String, ByteString> getMetadata(final String collection, final String key) {
+        final Entry entry = lookup(Kind.METADATA, collection, key);
+        return entry == null ? null : entry.metadata;
+    }
+
+    void putMetadata(final String collection, final String key, final Map<String, ByteString> metadata) {
+        long bytes = 0;
+        for (final Map.Entry<String, ByteString> e : metadata.entrySet()) {
+            bytes += 2L * e.getKey().length() + e.getValue().size();
+        }
+        store(new Key(Kind.METADATA, collection, key), new Entry(null, Collections.unmodifiableMap(new HashMap<>(metadata)), bytes));
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return estimated size of the cached entries, in bytes
+     */
+    long getSize() {
+        return size;
+    }
+
+    void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    private Entry lookup(final Kind kind, final String collection, final String key) {
+        final Entry entry = entries.get(new Key(kind, collection, key));
+        if (entry == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return entry;
+    }
+
+    private void store(final Key key, final Entry entry) {
+        entry.bytes += ENTRY_OVERHEAD + 2L * (key.collection.length() + key.key.length());
+        if (maxBytes > 0 && entry.bytes > maxBytes) {
+            return;
+        }
+        final Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            size -= previous.bytes;
+        }
+        size += entry.bytes;
+        if (maxBytes > 0) {
+            final Iterator<Entry> eldest = entries.values().iterator();
+            while (size > maxBytes) {
+                size -= eldest.next().bytes;
+                eldest.remove();
+            }
+        }
+    }
+
+    private static final class Key {
+        private final Kind kind;
+        private final String collection;
+        private final String key;
+
+        Key(final Kind kind, final String collection, final String key) {
+            this.kind = kind;
+            this.collection = collection;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return kind == other.kind && collection.equals(other.collection) && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, collection, key);
+        }
+    }
+
+    private static final class Entry {
+        private final ByteString value;
+        private final Map<String, ByteString> metadata;
+        private long bytes;
+
+        Entry(final ByteString value, final Map<String, ByteString> metadata, final long bytes) {
+            this.value = value;
+            this.metadata = metadata;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage;
+
+/**
+ * Tracks the transactions running on a {@link Handler}, and the response
+ * slots of the requests they have pending with the peer.
+ * <p>
+ * Both are held in concurrent maps, so invocation threads and the gRPC
+ * inbound thread never contend on a common lock. A response slot is a
+ * single-use future: it is completed once by the response, or cancelled if
+ * the request is abandoned, and the waiting thread is never interrupted.
+ */
+final class TransactionRegistry {
+
+    private final ConcurrentMap<TxKey, Boolean> isTransaction = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TxKey, CompletableFuture<ChaincodeMessage>> responseSlots = new ConcurrentHashMap<>();
+
+    /**
+     * Marks a transaction as either a transaction or a query.
+     *
+     * @param key           transaction to be marked
+     * @param isTransaction true for transaction, false for query
+     */
+    void markIsTransaction(final TxKey key, final boolean isTransaction) {
+        this.isTransaction.put(key, isTransaction);
+    }
+
+    void deleteIsTransaction(final TxKey key) {
+        this.isTransaction.remove(key);
+    }
+
+    boolean isTransaction(final TxKey key) {
+        return Boolean.TRUE.equals(this.isTransaction.get(key));
+    }
+
+    /**
+     * Creates the slot into which the response to a request will be delivered.
+     *
+     * @param key transaction making the request
+     * @return the new response slot
+     * @throws IllegalStateException if the transaction already has a request pending
+     */
+    CompletableFuture<ChaincodeMessage> acquireResponseSlot(final TxKey key) {
+        final CompletableFuture<ChaincodeMessage> slot = new CompletableFuture<>();
+        if (responseSlots.putIfAbsent(key, slot) != null) {
+            throw new IllegalStateException(String.format("[%-8.8s] Response channel already exists. Another request must be pending.", key.getTxId()));
+        }
+        return slot;
+    }
+
+    /**
+     * Delivers a response to the transaction waiting for it.
+     * <p>
+     * A response can legitimately arrive after its request has been abandoned,
+     * for example once the wait for it has timed out, so a response nobody is
+     * waiting for is not an error here; the caller decides how to report it.
+     *
+     * @param key     transaction the response is for
+     * @param message response from the peer
+     * @return false if no request is pending for the transaction, or its
+     *         response has already been received
+     */
+    boolean sendResponse(final TxKey key, final ChaincodeMessage message) {
+        final CompletableFuture<ChaincodeMessage> slot = responseSlots.get(key);
+        return slot != null && slot.complete(message);
+    }
+
+    /**
+     * Removes the response slot of a request, cancelling it if no response has
+     * been delivered yet.
+     *
+     * @param key transaction that made the request
+     */
+    void releaseResponseSlot(final TxKey key) {
+        final CompletableFuture<ChaincodeMessage> slot = responseSlots.remove(key);
+        if (slot != null) {
+            slot.cancel(false);
+        }
+    }
+}
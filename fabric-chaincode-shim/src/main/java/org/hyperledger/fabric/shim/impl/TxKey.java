@@ -0,0 +1,56 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+/**
+ * Identifies a transaction by its channel and transaction id.
+ * <p>
+ * Used as a map key in place of the concatenated {@code channelId + txId}
+ * string, which needed building on every lookup and could not tell
+ * {@code ("ab", "c")} from {@code ("a", "bc")}.
+ */
+final class TxKey {
+
+    private final String channelId;
+    private final String txId;
+    private final int hash;
+
+    TxKey(final String channelId, final String txId) {
+        this.channelId = channelId;
+        this.txId = txId;
+        this.hash = 31 * channelId.hashCode() + txId.hashCode();
+    }
+
+    String getChannelId() {
+        return channelId;
+    }
+
+    String getTxId() {
+        return txId;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TxKey)) {
+            return false;
+        }
+        final TxKey other = (TxKey) obj;
+        return hash == other.hash && txId.equals(other.txId) && channelId.equals(other.channelId);
+    }
+
+    @Override
+    public String toString() {
+        return channelId + ":" + txId;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static java.lang.String.format;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executor that runs every chaincode invocation on its own virtual thread.
+ * <p>
+ * Virtual threads are only available from Java 21, so they are looked up
+ * reflectively; use {@link #isSupported()} to check for them before creating
+ * an instance. Invocations waiting on the peer then park without holding a
+ * platform thread, which lets many more transactions be in flight at once.
+ * <p>
+ * The number of invocations in flight is still bounded by
+ * {@code maxVirtualThreads}. When it is reached the new invocation is rejected
+ * with a {@link RejectedExecutionException}.
+ */
+public class VirtualThreadTaskExecutor implements Executor {
+
+    private static Logger logger = Logger.getLogger(VirtualThreadTaskExecutor.class.getName());
+
+    public static final int DEFAULT_MAX_VIRTUAL_THREADS = 10000;
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = newVirtualThreadFactory();
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final int maxVirtualThreads;
+
+    public VirtualThreadTaskExecutor(int maxVirtualThreads) {
+        this(VIRTUAL_THREAD_FACTORY, maxVirtualThreads);
+    }
+
+    VirtualThreadTaskExecutor(ThreadFactory threadFactory, int maxVirtualThreads) {
+        if (threadFactory == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+        }
+        this.threadFactory = threadFactory;
+        this.permits = new Semaphore(maxVirtualThreads);
+        this.maxVirtualThreads = maxVirtualThreads;
+    }
+
+    /**
+     * @return true if the running JVM can create virtual threads
+     */
+    public static boolean isSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException(format("Transaction rejected: %d transactions in flight", maxVirtualThreads));
+        }
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of invocations currently running
+     */
+    public int getActiveCount() {
+        return maxVirtualThreads - permits.availablePermits();
+    }
+
+    /**
+     * Equivalent to {@code Thread.ofVirtual().name("fabric-txinvoke-virtual-", 0).factory()}.
+     *
+     * @return factory for virtual threads, or null if the JVM has none
+     */
+    private static ThreadFactory newVirtualThreadFactory() {
+        try {
+            final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Method name = builderClass.getMethod("name", String.class, long.class);
+            final Method factory = builderClass.getMethod("factory");
+            final Object builder = name.invoke(ofVirtual.invoke(null), "fabric-txinvoke-virtual-", 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine(format("Virtual threads are not available: %s", e));
+            }
+            return null;
+        }
+    }
+}
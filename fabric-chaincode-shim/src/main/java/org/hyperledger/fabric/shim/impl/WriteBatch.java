@@ -0,0 +1,113 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.StateMetadata;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Writes made by a transaction that have not been sent to the peer yet.
+ * <p>
+ * Only the last write to a key ends up in the transaction's write set, so a
+ * put or delete replaces any earlier put or delete of the same key, and a
+ * metadata write replaces any earlier write of the same metadata entry. Each
+ * key keeps the position of its first write, so the peer still sees the keys
+ * in the order the transaction first wrote them.
+ */
+final class WriteBatch {
+
+    private final Map<RecordKey, WriteRecord> records = new LinkedHashMap<>();
+    private int writes;
+
+    void putState(final String collection, final String key, final ByteString value) {
+        add(new RecordKey(collection, key, null), WriteRecord.newBuilder()
+                .setType(WriteRecord.Type.PUT_STATE)
+                .setCollection(collection)
+                .setKey(key)
+                .setValue(value)
+                .build());
+    }
+
+    void putStateMetadata(final String collection, final String key, final String metakey, final ByteString value) {
+        add(new RecordKey(collection, key, metakey), WriteRecord.newBuilder()
+                .setType(WriteRecord.Type.PUT_STATE_METADATA)
+                .setCollection(collection)
+                .setKey(key)
+                .setMetadata(StateMetadata.newBuilder()
+                        .setMetakey(metakey)
+                        .setValue(value)
+                        .build())
+                .build());
+    }
+
+    void deleteState(final String collection, final String key) {
+        add(new RecordKey(collection, key, null), WriteRecord.newBuilder()
+                .setType(WriteRecord.Type.DEL_STATE)
+                .setCollection(collection)
+                .setKey(key)
+                .build());
+    }
+
+    boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    /**
+     * @return number of writes made, including those replaced by a later write
+     */
+    int getWriteCount() {
+        return writes;
+    }
+
+    /**
+     * @return the final write to each key, in the order the keys were first written
+     */
+    List<WriteRecord> getRecords() {
+        return new ArrayList<>(records.values());
+    }
+
+    private void add(final RecordKey recordKey, final WriteRecord record) {
+        writes++;
+        records.put(recordKey, record);
+    }
+
+    private static final class RecordKey {
+        private final String collection;
+        private final String key;
+        private final String metakey;
+
+        RecordKey(final String collection, final String key, final String metakey) {
+            this.collection = collection;
+            this.key = key;
+            this.metakey = metakey;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RecordKey)) {
+                return false;
+            }
+            final RecordKey other = (RecordKey) o;
+            return collection.equals(other.collection) && key.equals(other.key) && Objects.equals(metakey, other.metakey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(collection, key, metakey);
+        }
+    }
+}
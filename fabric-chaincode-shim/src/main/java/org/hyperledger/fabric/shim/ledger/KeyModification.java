@@ -6,6 +6,8 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.hyperledger.fabric.shim.ledger;
 
+import java.nio.ByteBuffer;
+
 /**
  * QueryResult for history query. Holds a transaction ID, value,
  * timestamp, and delete marker which resulted from a history query.
@@ -26,6 +28,17 @@ public interface KeyModification {
      */
     byte[] getValue();
 
+    /**
+     * Returns the key's value at the time returned by {@link #getTimestamp()}
+     * as a read-only view of the query result, without copying it. The buffer
+     * must not be retained after the transaction completes.
+     *
+     * @return value as a read-only buffer
+     */
+    default ByteBuffer getValueBuffer() {
+        return ByteBuffer.wrap(getValue()).asReadOnlyBuffer();
+    }
+
     /**
      * Returns the key's value at the time returned by {@link #getTimestamp()},
      * decoded as a UTF-8 string.
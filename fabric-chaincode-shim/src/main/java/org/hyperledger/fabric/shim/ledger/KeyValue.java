@@ -6,6 +6,8 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.hyperledger.fabric.shim.ledger;
 
+import java.nio.ByteBuffer;
+
 /**
  * Query Result associating a state key with a value.
  */
@@ -25,6 +27,17 @@ public interface KeyValue {
      */
     byte[] getValue();
 
+    /**
+     * Returns the state value as a read-only view of the query result,
+     * without copying it. The buffer must not be retained after the
+     * transaction completes.
+     *
+     * @return value as a read-only buffer
+     */
+    default ByteBuffer getValueBuffer() {
+        return ByteBuffer.wrap(getValue()).asReadOnlyBuffer();
+    }
+
     /**
      * Returns the state value, decoded as a UTF-8 string.
      *
@@ -0,0 +1,99 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.hyperledger.fabric.TestUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ClientIdentityCacheTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void reusesParsedIdentity() throws Exception {
+        final ClientIdentityCache cache = new ClientIdentityCache(10);
+        final ClientIdentity first = cache.get(new ChaincodeStubNaiveImpl());
+        final ClientIdentity second = cache.get(new ChaincodeStubNaiveImpl());
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(cache.size(), is(1));
+        assertThat(cache.getHits(), is(1L));
+        assertThat(cache.getMisses(), is(1L));
+        assertThat(cache.getHitRate(), is(closeTo(0.5, 0.001)));
+        assertThat(cache.toString(), containsString("hits=1"));
+    }
+
+    @Test
+    public void keyedByCreator() throws Exception {
+        final ClientIdentityCache cache = new ClientIdentityCache(10);
+        final ChaincodeStubNaiveImpl withAttrs = new ChaincodeStubNaiveImpl();
+        withAttrs.setCertificate(TestUtil.certWithAttrs);
+
+        final ClientIdentity identity = cache.get(new ChaincodeStubNaiveImpl());
+        final ClientIdentity identityWithAttrs = cache.get(withAttrs);
+
+        assertThat(identityWithAttrs, is(not(sameInstance(identity))));
+        assertThat(identityWithAttrs.getAttributeValue("attr1"), is("val1"));
+        assertThat(cache.size(), is(2));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        final ClientIdentityCache cache = new ClientIdentityCache(1);
+        final ChaincodeStubNaiveImpl withAttrs = new ChaincodeStubNaiveImpl();
+        withAttrs.setCertificate(TestUtil.certWithAttrs);
+
+        final ClientIdentity identity = cache.get(new ChaincodeStubNaiveImpl());
+        cache.get(withAttrs);
+        assertThat(cache.size(), is(1));
+        assertThat(cache.getEvictions(), is(1L));
+        assertThat(cache.get(new ChaincodeStubNaiveImpl()), is(not(sameInstance(identity))));
+
+        cache.setMaxEntries(0);
+        assertThat(cache.size(), is(0));
+        assertThat(cache.getEvictions(), is(3L));
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        final ClientIdentityCache cache = new ClientIdentityCache(0);
+        final ClientIdentity identity = cache.get(new ChaincodeStubNaiveImpl());
+
+        assertThat(cache.get(new ChaincodeStubNaiveImpl()), is(not(sameInstance(identity))));
+        assertThat(cache.size(), is(0));
+        assertThat(cache.getMisses(), is(2L));
+        assertThat(cache.getHitRate(), is(0.0));
+    }
+
+    @Test
+    public void clear() throws Exception {
+        final ClientIdentityCache cache = new ClientIdentityCache(10);
+        cache.get(new ChaincodeStubNaiveImpl());
+        cache.get(new ChaincodeStubNaiveImpl());
+        cache.clear();
+
+        assertThat(cache.size(), is(0));
+        assertThat(cache.getHits(), is(0L));
+        assertThat(cache.getMisses(), is(0L));
+        assertThat(cache.getMaxEntries(), is(10));
+    }
+
+    @Test
+    public void invalidMaxEntries() {
+        thrown.expect(IllegalArgumentException.class);
+        ClientIdentityCache.getInstance().setMaxEntries(-1);
+    }
+}
@@ -25,6 +25,7 @@ public class ContextFactoryTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     public void createContext() {
         ChaincodeStub stub = new ChaincodeStubNaiveImpl();
         Context ctx = ContextFactory.getInstance().createContext(stub);
@@ -5,6 +5,7 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.hyperledger.fabric.contract;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
@@ -28,10 +29,49 @@ public class ContextTest {
      * Test identity created in Context constructor matches getClientIdentity
      */
     @Test
+    @SuppressWarnings("deprecation")
     public void getSetClientIdentity() {
         ChaincodeStub stub = new ChaincodeStubNaiveImpl();
         Context context = ContextFactory.getInstance().createContext(stub);
         assertThat(context.getClientIdentity(), sameInstance(context.clientIdentity));
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Test a subclass reading the client identity in its constructor sees it,
+     * through the getter or the field
+     */
+    @Test
+    public void subclassReadsClientIdentity() throws Exception {
+        ChaincodeStub stub = new ChaincodeStubNaiveImpl();
+        class MyContext extends Context {
+            final String mspId;
+            final ClientIdentity fieldIdentity;
+
+            @SuppressWarnings("deprecation")
+            MyContext(ChaincodeStub stub) {
+                super(stub);
+                mspId = getClientIdentity().getMSPID();
+                fieldIdentity = clientIdentity;
+            }
+        }
+        MyContext context = new MyContext(stub);
+        assertThat(context.mspId, equalTo(new ClientIdentity(stub).getMSPID()));
+        assertThat(context.fieldIdentity, sameInstance(context.getClientIdentity()));
+    }
+
+    /**
+     * Test an identity set by a subclass is returned unchanged
+     */
+    @Test
+    public void subclassClientIdentity() throws Exception {
+        ChaincodeStub stub = new ChaincodeStubNaiveImpl();
+        ClientIdentity identity = new ClientIdentity(stub);
+        Context context = new Context(stub) {
+            {
+                setClientIdentity(identity);
+            }
+        };
+        assertThat(context.getClientIdentity(), sameInstance(identity));
+    }
+}
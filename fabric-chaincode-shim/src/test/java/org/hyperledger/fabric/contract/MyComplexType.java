@@ -0,0 +1,84 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract;
+
+import org.hyperledger.fabric.contract.annotation.DataType;
+import org.hyperledger.fabric.contract.annotation.Property;
+
+@DataType(validateSchema = false)
+public class MyComplexType {
+
+	@Property()
+	public String name;
+
+	@Property()
+	public int count;
+
+	@Property()
+	public long total;
+
+	@Property()
+	public double ratio;
+
+	@Property()
+	public float weight;
+
+	@Property()
+	public boolean active;
+
+	@Property()
+	public MyType child;
+
+	@Property()
+	public String[] tags;
+
+	@Property()
+	public MyType[] children;
+
+	@Property()
+	public int[] counts;
+
+	public String getName() {
+		return name;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public double getRatio() {
+		return ratio;
+	}
+
+	public float getWeight() {
+		return weight;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public MyType getChild() {
+		return child;
+	}
+
+	public String[] getTags() {
+		return tags;
+	}
+
+	public MyType[] getChildren() {
+		return children;
+	}
+
+	public int[] getCounts() {
+		return counts;
+	}
+}
@@ -0,0 +1,21 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract;
+
+import org.hyperledger.fabric.contract.annotation.DataType;
+import org.hyperledger.fabric.contract.annotation.Property;
+
+@DataType(validateSchema = false)
+public class MyUncheckedType {
+
+	@Property(schema = {"pattern", "^[a-z]+$"})
+	private String value;
+
+	public String getValue() {
+		return this.value;
+	}
+}
@@ -6,26 +6,36 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.hyperledger.fabric.contract.execution;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
 
 import org.hyperledger.fabric.contract.ChaincodeStubNaiveImpl;
 import org.hyperledger.fabric.contract.Context;
 import org.hyperledger.fabric.contract.ContractInterface;
 import org.hyperledger.fabric.contract.ContractRuntimeException;
+import org.hyperledger.fabric.contract.annotation.CacheResult;
+import org.hyperledger.fabric.contract.annotation.Transaction;
+import org.hyperledger.fabric.contract.metadata.TypeSchema;
 import org.hyperledger.fabric.contract.execution.impl.ContractExecutionService;
+import org.hyperledger.fabric.contract.routing.TransactionType;
 import org.hyperledger.fabric.contract.routing.TxFunction;
 import org.hyperledger.fabric.contract.routing.TypeRegistry;
 import org.hyperledger.fabric.contract.routing.impl.TypeRegistryImpl;
 import org.hyperledger.fabric.shim.Chaincode.Response;
+import org.hyperledger.fabric.shim.ChaincodeException;
 import org.hyperledger.fabric.shim.ChaincodeStub;
 import org.junit.Rule;
 import org.junit.Test;
@@ -37,6 +47,33 @@ public class ContractExecutionServiceTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    public static class CachingContract implements ContractInterface {
+        private int calls;
+        private boolean allowed = true;
+
+        @Transaction(submit = false)
+        @CacheResult(ttl = 60000)
+        public String cached(Context ctx) {
+            return "call " + ++calls;
+        }
+
+        @Override
+        public void beforeTransaction(Context ctx) {
+            if (!allowed) {
+                throw new ChaincodeException("Access denied");
+            }
+        }
+    }
+
+    private static ChaincodeStub stubOnChannel(String channelId) {
+        return new ChaincodeStubNaiveImpl() {
+            @Override
+            public String getChannelId() {
+                return channelId;
+            }
+        };
+    }
+
     @Test
     public void noReturnValue()
             throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException, SecurityException {
@@ -55,6 +92,7 @@ public class ContractExecutionServiceTest {
         when(req.getArgs()).thenReturn(new ArrayList<byte[]>());
         when(routing.getMethod()).thenReturn(SampleContract.class.getMethod("noReturn", new Class<?>[] { Context.class }));
         when(routing.getContractInstance()).thenReturn(contract);
+        when(routing.invoke(any(), any())).thenCallRealMethod();
         ces.executeRequest(txFn, req, stub);
 
         verify(contract).beforeTransaction(any());
@@ -88,4 +126,96 @@ public class ContractExecutionServiceTest {
         assertThat(resp.getStatusCode(), equalTo(500));
     }
 
+    @Test
+    public void cachedResult() throws Exception {
+        assertThat(executeCached(TransactionType.QUERY, 2), equalTo("call 1"));
+    }
+
+    @Test
+    public void cachedResultIgnoredForInvoke() throws Exception {
+        assertThat(executeCached(TransactionType.INVOKE, 2), equalTo("call 2"));
+    }
+
+    @Test
+    public void cachedResultPerChannel() throws Exception {
+        CachingContract contract = spy(new CachingContract());
+        TxFunction txFn = cachedFunction(contract, TransactionType.QUERY);
+        ContractExecutionService ces = new ContractExecutionService(new TypeRegistryImpl());
+
+        assertThat(ces.executeRequest(txFn, request(), stubOnChannel("ch1")).getStringPayload(), equalTo("call 1"));
+        assertThat(ces.executeRequest(txFn, request(), stubOnChannel("ch2")).getStringPayload(), equalTo("call 2"));
+        assertThat(ces.executeRequest(txFn, request(), stubOnChannel("ch1")).getStringPayload(), equalTo("call 1"));
+        assertThat(ces.executeRequest(txFn, request(), stubOnChannel("ch2")).getStringPayload(), equalTo("call 2"));
+    }
+
+    @Test
+    public void cachedResultPerTransientData() throws Exception {
+        CachingContract contract = spy(new CachingContract());
+        TxFunction txFn = cachedFunction(contract, TransactionType.QUERY);
+        ContractExecutionService ces = new ContractExecutionService(new TypeRegistryImpl());
+        ChaincodeStub withTransient = new ChaincodeStubNaiveImpl() {
+            @Override
+            public Map<String, byte[]> getTransient() {
+                return Collections.singletonMap("key", "value".getBytes(UTF_8));
+            }
+        };
+
+        assertThat(ces.executeRequest(txFn, request(), new ChaincodeStubNaiveImpl()).getStringPayload(), equalTo("call 1"));
+        assertThat(ces.executeRequest(txFn, request(), withTransient).getStringPayload(), equalTo("call 2"));
+    }
+
+    @Test
+    public void cachedResultRunsHooks() throws Exception {
+        CachingContract contract = spy(new CachingContract());
+        TxFunction txFn = cachedFunction(contract, TransactionType.QUERY);
+        ContractExecutionService ces = new ContractExecutionService(new TypeRegistryImpl());
+
+        assertThat(ces.executeRequest(txFn, request(), new ChaincodeStubNaiveImpl()).getStringPayload(), equalTo("call 1"));
+        assertThat(ces.executeRequest(txFn, request(), new ChaincodeStubNaiveImpl()).getStringPayload(), equalTo("call 1"));
+        verify(contract, times(2)).beforeTransaction(any());
+        verify(contract, times(2)).afterTransaction(any(), eq("call 1"));
+
+        // a caller the hook rejects does not get the cached response
+        contract.allowed = false;
+        thrown.expect(ChaincodeException.class);
+        thrown.expectMessage("Access denied");
+        ces.executeRequest(txFn, request(), new ChaincodeStubNaiveImpl());
+    }
+
+    private static InvocationRequest request() {
+        InvocationRequest req = mock(InvocationRequest.class);
+        when(req.getArgs()).thenReturn(Collections.emptyList());
+        return req;
+    }
+
+    private static TxFunction cachedFunction(CachingContract contract, TransactionType type) throws Exception {
+        TxFunction txFn = mock(TxFunction.class);
+        TxFunction.Routing routing = mock(TxFunction.Routing.class);
+        CacheResult cacheResult = CachingContract.class.getMethod("cached", Context.class).getAnnotation(CacheResult.class);
+
+        when(txFn.getRouting()).thenReturn(routing);
+        when(txFn.getType()).thenReturn(type);
+        when(txFn.getCacheResult()).thenReturn(cacheResult);
+        when(txFn.getReturnSchema()).thenReturn(TypeSchema.typeConvert(String.class));
+        when(routing.getMethod()).thenReturn(CachingContract.class.getMethod("cached", Context.class));
+        when(routing.getContractInstance()).thenReturn(contract);
+        when(routing.invoke(any(), any())).thenCallRealMethod();
+        return txFn;
+    }
+
+    private String executeCached(TransactionType type, int times) throws Exception {
+        ContractExecutionService ces = new ContractExecutionService(new TypeRegistryImpl());
+        CachingContract contract = spy(new CachingContract());
+        TxFunction txFn = cachedFunction(contract, type);
+
+        String last = null;
+        for (int i = 0; i < times; i++) {
+            Response resp = ces.executeRequest(txFn, request(), new ChaincodeStubNaiveImpl());
+            assertThat(resp.getStatusCode(), equalTo(200));
+            last = resp.getStringPayload();
+        }
+        verify(txFn.getRouting(), times(type == TransactionType.QUERY ? 1 : times)).invoke(any(), any());
+        return last;
+    }
+
 }
@@ -0,0 +1,491 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract.execution;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.hyperledger.fabric.contract.ContractRuntimeException;
+import org.hyperledger.fabric.contract.MyComplexType;
+import org.hyperledger.fabric.contract.MyType;
+import org.hyperledger.fabric.contract.annotation.DataType;
+import org.hyperledger.fabric.contract.metadata.MetadataBuilder;
+import org.hyperledger.fabric.contract.metadata.TypeSchema;
+import org.hyperledger.fabric.contract.routing.TypeRegistry;
+import org.hyperledger.fabric.contract.routing.impl.TypeRegistryImpl;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONPropertyName;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class JSONCodecTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    public static class NoDefaultConstructor {
+        @org.hyperledger.fabric.contract.annotation.Property()
+        private String value;
+
+        public NoDefaultConstructor(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class MySubType extends MyType {
+    }
+
+    @DataType(validateSchema = false)
+    public static class MyBean {
+        @org.hyperledger.fabric.contract.annotation.Property()
+        private String name;
+
+        // a property without a getter, which org.json does not write
+        @org.hyperledger.fabric.contract.annotation.Property()
+        private String secret;
+
+        @org.hyperledger.fabric.contract.annotation.Property()
+        private double score;
+
+        public String getName() {
+            return name;
+        }
+
+        // a getter without a property, which org.json does write
+        public String getDisplayName() {
+            return "Name: " + name;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public boolean isURLSafe() {
+            return true;
+        }
+
+        public String getx() {
+            return "not a getter";
+        }
+
+        // a getter that fails, which org.json leaves out
+        public String getBroken() {
+            throw new IllegalStateException("Not available");
+        }
+    }
+
+    @DataType(validateSchema = false)
+    public static class MyWideBean {
+        private final int[] values = new int[14];
+
+        public Integer getAlpha() {
+            return values[0] == 0 ? null : values[0];
+        }
+
+        public int getBravo() {
+            return values[1];
+        }
+
+        public int getCharlie() {
+            return values[2];
+        }
+
+        public int getDelta() {
+            return values[3];
+        }
+
+        public int getEcho() {
+            return values[4];
+        }
+
+        public int getFoxtrot() {
+            return values[5];
+        }
+
+        public int getGolf() {
+            return values[6];
+        }
+
+        public int getHotel() {
+            return values[7];
+        }
+
+        public int getIndia() {
+            return values[8];
+        }
+
+        public int getJuliett() {
+            return values[9];
+        }
+
+        public int getKilo() {
+            return values[10];
+        }
+
+        public int getLima() {
+            return values[11];
+        }
+
+        public int getMike() {
+            return values[12];
+        }
+
+        public int getNovember() {
+            return values[13];
+        }
+    }
+
+    @DataType(validateSchema = false)
+    public static class MyAnnotatedBean {
+        @org.hyperledger.fabric.contract.annotation.Property()
+        private String value = "a";
+
+        @JSONPropertyName("renamed")
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private TypeRegistry typeRegistry;
+    private JSONCodec codec;
+
+    @Before
+    public void beforeEach() {
+        typeRegistry = new TypeRegistryImpl();
+        typeRegistry.addDataType(MyType.class);
+        typeRegistry.addDataType(MyComplexType.class);
+        typeRegistry.addDataType(NoDefaultConstructor.class);
+        typeRegistry.addDataType(MyBean.class);
+        typeRegistry.addDataType(MyWideBean.class);
+        typeRegistry.addDataType(MyAnnotatedBean.class);
+        MetadataBuilder.addComponent(typeRegistry.getDataType("MyType"));
+        codec = new JSONCodec(typeRegistry);
+    }
+
+    private static MyComplexType complex() {
+        MyComplexType value = new MyComplexType();
+        value.name = "caf\u00e9 \"</x>\"";
+        value.count = 42;
+        value.total = 9192631770L;
+        value.ratio = 1.50;
+        value.weight = 2.0F;
+        value.active = true;
+        value.child = new MyType().setValue("child");
+        value.tags = new String[] { "a", null, "c" };
+        value.children = new MyType[] { new MyType().setValue("one"), new MyType().setValue("two") };
+        value.counts = new int[] { 1, 2, 3 };
+        return value;
+    }
+
+    private static TypeSchema arrayOf(TypeSchema items) {
+        TypeSchema ts = new TypeSchema();
+        ts.put("type", "array");
+        ts.put("items", items);
+        return ts;
+    }
+
+    private Object read(String json, Class<?> type) {
+        return codec.read(json.getBytes(UTF_8), TypeSchema.typeConvert(type));
+    }
+
+    @Test
+    public void write() {
+        byte[] bytes = codec.write(complex(), TypeSchema.typeConvert(MyComplexType.class));
+
+        JSONObject expected = new JSONObject().put("name", "caf\u00e9 \"</x>\"").put("count", 42)
+                .put("total", 9192631770L).put("ratio", 1.5).put("weight", 2).put("active", true)
+                .put("child", new JSONObject().put("value", "child"))
+                .put("tags", new JSONArray().put("a").put(JSONObject.NULL).put("c"))
+                .put("children", new JSONArray().put(new JSONObject().put("value", "one")).put(new JSONObject().put("value", "two")))
+                .put("counts", new JSONArray().put(1).put(2).put(3));
+        String json = new String(bytes, UTF_8);
+        assertTrue(json, new JSONObject(json).similar(expected));
+        // numbers are formatted as by org.json
+        assertTrue(json, json.contains("\"ratio\":1.5"));
+        assertTrue(json, json.matches(".*\"weight\":2[,}].*"));
+        assertTrue(json, json.contains("<\\/x>"));
+        assertThat(json, equalTo(new JSONObject(complex()).toString()));
+    }
+
+    private String written(Object value, Class<?> type) {
+        // the schema of a nested class names it by its simple name, as the registry does
+        Class<?> item = type.isArray() ? type.getComponentType() : type;
+        TypeSchema ts = new TypeSchema();
+        ts.put("$ref", "#/components/schemas/" + item.getSimpleName());
+        return new String(codec.write(value, type.isArray() ? arrayOf(ts) : ts), UTF_8);
+    }
+
+    @Test
+    public void writeAsOrgJson() {
+        MyBean bean = new MyBean();
+        bean.name = "bean";
+        bean.secret = "hidden";
+        bean.score = 2.5;
+        String json = written(bean, MyBean.class);
+        assertThat(json, equalTo(new JSONObject(bean).toString()));
+        JSONObject parsed = new JSONObject(json);
+        assertThat(parsed.getString("displayName"), equalTo("Name: bean"));
+        assertThat(parsed.getDouble("score"), equalTo(2.5));
+        assertTrue(parsed.getBoolean("URLSafe"));
+        assertTrue(json, !parsed.has("secret") && !parsed.has("x") && !parsed.has("broken"));
+
+        assertThat(written(new MyBean[] { bean, null }, MyBean[].class),
+                equalTo(new JSONArray(new MyBean[] { bean, null }).toString()));
+    }
+
+    @Test
+    public void writeKeysInOrgJsonOrder() {
+        // 13 or more values move a JSONObject to a larger table, reordering them
+        MyWideBean bean = new MyWideBean();
+        assertThat(written(bean, MyWideBean.class), equalTo(new JSONObject(bean).toString()));
+        bean.values[0] = 1;
+        assertThat(written(bean, MyWideBean.class), equalTo(new JSONObject(bean).toString()));
+    }
+
+    @Test
+    public void writeAnnotatedAsOrgJson() {
+        MyAnnotatedBean bean = new MyAnnotatedBean();
+        assertThat(written(bean, MyAnnotatedBean.class), equalTo("{\"renamed\":\"a\"}"));
+    }
+
+    @Test
+    public void writeLeavesOutNulls() {
+        byte[] bytes = codec.write(new MyComplexType(), TypeSchema.typeConvert(MyComplexType.class));
+        JSONObject expected = new JSONObject().put("count", 0).put("total", 0).put("ratio", 0).put("weight", 0)
+                .put("active", false);
+        assertTrue(new JSONObject(new String(bytes, UTF_8)).similar(expected));
+    }
+
+    @Test
+    public void writeArrays() {
+        MyType[] array = new MyType[] { new MyType().setValue("hello"), null };
+        assertThat(new String(codec.write(array, TypeSchema.typeConvert(MyType[].class)), UTF_8),
+                equalTo("[{\"value\":\"hello\"},null]"));
+        assertThat(new String(codec.write(new int[] { 1, 2 }, TypeSchema.typeConvert(int[].class)), UTF_8),
+                equalTo("[1,2]"));
+        assertThat(new String(codec.write(new double[] { 1.0, 2.5 }, TypeSchema.typeConvert(double[].class)), UTF_8),
+                equalTo("[1,2.5]"));
+        assertThat(new String(codec.write(new boolean[] { true }, TypeSchema.typeConvert(boolean[].class)), UTF_8),
+                equalTo("[true]"));
+    }
+
+    @Test
+    public void writeOtherTypesAsOrgJson() {
+        // not a registered data type
+        Object unregistered = new JSONCodecTest.MySubType().setValue("sub");
+        assertThat(new String(codec.write(unregistered, TypeSchema.typeConvert(MySubType.class)), UTF_8),
+                equalTo(new JSONObject(unregistered).toString()));
+
+        // a sub class of a registered data type
+        assertThat(new String(codec.write(unregistered, TypeSchema.typeConvert(MyType.class)), UTF_8),
+                equalTo(new JSONObject(unregistered).toString()));
+
+        // array elements and properties that do not match their schema
+        TypeSchema strings = TypeSchema.typeConvert(String[].class);
+        assertThat(new String(codec.write(new Object[] { "a", 1, unregistered }, strings), UTF_8),
+                equalTo(new JSONArray(new Object[] { "a", 1, unregistered }).toString()));
+        assertThat(new String(codec.write(new Object[] { unregistered }, TypeSchema.typeConvert(MyType[].class)),
+                UTF_8), equalTo(new JSONArray(new Object[] { unregistered }).toString()));
+        assertThat(new String(codec.write(new Object[] { "1", "true" }, TypeSchema.typeConvert(Integer[].class)),
+                UTF_8), equalTo("[\"1\",\"true\"]"));
+        assertThat(new String(codec.write(new Object[] { "true" }, TypeSchema.typeConvert(Boolean[].class)),
+                UTF_8), equalTo("[\"true\"]"));
+        assertThat(new String(codec.write(new Object[] { "a" }, arrayOf(TypeSchema.typeConvert(String[].class))),
+                UTF_8), equalTo("[\"a\"]"));
+    }
+
+    @Test
+    public void writeNotArray() {
+        thrown.expect(JSONException.class);
+        codec.write(Arrays.asList("a"), TypeSchema.typeConvert(String[].class));
+    }
+
+    @Test
+    public void read() {
+        MyComplexType original = complex();
+        byte[] bytes = codec.write(original, TypeSchema.typeConvert(MyComplexType.class));
+        MyComplexType value = (MyComplexType) codec.read(bytes, TypeSchema.typeConvert(MyComplexType.class));
+
+        assertThat(value.name, equalTo(original.name));
+        assertThat(value.count, equalTo(42));
+        assertThat(value.total, equalTo(9192631770L));
+        assertThat(value.ratio, equalTo(1.5));
+        assertThat(value.weight, equalTo(2.0F));
+        assertThat(value.active, equalTo(true));
+        assertThat(value.child.getValue(), equalTo("child"));
+        // as before, a null string is read as its text
+        assertThat(value.tags, arrayContaining("a", "null", "c"));
+        assertThat(value.children.length, equalTo(2));
+        assertThat(value.children[0].getValue(), equalTo("one"));
+        assertThat(value.children[1].getValue(), equalTo("two"));
+        assertArrayEquals(new int[] { 1, 2, 3 }, value.counts);
+    }
+
+    @Test
+    public void readLenient() {
+        // scalars as strings, unknown properties and whitespace
+        String json = " { \"name\" : 12 , \"count\" : \"7\", \"total\": 1, \"ratio\": \"2\", \"weight\": 1e1,"
+                + " \"active\": \"true\", \"child\": {\"value\": \"c\"}, \"tags\": [null], \"children\": [],"
+                + " \"unknown\": {\"a\": [1, \"b\"]}, \"counts\": [ ] } ";
+        MyComplexType value = (MyComplexType) read(json, MyComplexType.class);
+        assertThat(value.name, equalTo("12"));
+        assertThat(value.count, equalTo(7));
+        assertThat(value.ratio, equalTo(2.0));
+        assertThat(value.weight, equalTo(10.0F));
+        assertThat(value.active, equalTo(true));
+        assertThat(value.child.getValue(), equalTo("c"));
+        assertThat(value.tags, arrayContaining("null"));
+        assertThat(value.children.length, equalTo(0));
+        assertThat(value.counts.length, equalTo(0));
+    }
+
+    @Test
+    public void readStringsAsOrgJson() {
+        // values that are not strings are read as the text org.json gave them
+        String object = "{\"b\": 1, \"a\": [1.50]}";
+        String json = "{\"name\": 1.50, \"count\": 1, \"total\": 1, \"ratio\": 1.50, \"weight\": 1, \"active\": true,"
+                + " \"child\": {\"value\": \"c\"}, \"tags\": [1E2, -0, true, 12345678901234567890, [ 1 ], " + object + "],"
+                + " \"children\": [], \"counts\": []}";
+        MyComplexType value = (MyComplexType) read(json, MyComplexType.class);
+        assertThat(value.name, equalTo("1.5"));
+        assertThat(value.ratio, equalTo(1.5));
+        assertThat(value.tags, arrayContaining("100.0", "-0.0", "true", "12345678901234567890", "[1]",
+                new JSONObject(object).toString()));
+        JSONArray tags = new JSONObject(json).getJSONArray("tags");
+        for (int i = 0; i < tags.length(); i++) {
+            assertThat(value.tags[i], equalTo(tags.get(i).toString()));
+        }
+    }
+
+    @Test
+    public void readNonStrict() {
+        // accepted by org.json before, so still accepted
+        String json = "{name: 'single', 'count': 7, total: 1, ratio: 2, weight: 1, active: TRUE,"
+                + " child: {value: c}, tags: ['a',], children: [], counts: [1, 2,],} trailing";
+        MyComplexType value = (MyComplexType) read(json, MyComplexType.class);
+        assertThat(value.name, equalTo("single"));
+        assertThat(value.count, equalTo(7));
+        assertThat(value.active, equalTo(true));
+        assertThat(value.child.getValue(), equalTo("c"));
+        assertThat(value.tags, arrayContaining("a"));
+        assertArrayEquals(new int[] { 1, 2 }, value.counts);
+        assertArrayEquals(new int[] { 3 }, (int[]) read("[3,]", int[].class));
+    }
+
+    @Test
+    public void readArrays() {
+        assertArrayEquals(new int[] { 1, -2 }, (int[]) read("[1, -2]", int[].class));
+        assertThat((Object[]) read("[\"a\", \"b\\n\"]", String[].class), arrayContaining("a", "b\n"));
+        MyType[] array = (MyType[]) read("[{\"value\":\"hello\"},{\"value\":\"world\"}]", MyType[].class);
+        assertThat(array[1].getValue(), equalTo("world"));
+        assertThat((Object[]) read("[1.5]", double[].class), arrayContaining(1.5));
+        String[][] nested = (String[][]) codec.read("[[\"a\"],[]]".getBytes(UTF_8),
+                arrayOf(TypeSchema.typeConvert(String[].class)));
+        assertThat(nested[0], arrayContaining("a"));
+        assertThat(nested[1].length, equalTo(0));
+    }
+
+    @Test
+    public void readValidates() {
+        thrown.expect(ContractRuntimeException.class);
+        thrown.expectMessage("Validation Errors");
+        read("{\"value\":\"hello\",\"extra\":1}", MyType.class);
+    }
+
+    @Test
+    public void readValidatesArrayItems() {
+        thrown.expect(ContractRuntimeException.class);
+        thrown.expectMessage("Validation Errors");
+        read("[{\"value\":\"hello\"},{\"value\":1}]", MyType[].class);
+    }
+
+    @Test
+    public void readValidatesNestedTypes() {
+        // the outer type is only checked structurally, but its child is validated
+        thrown.expect(ContractRuntimeException.class);
+        thrown.expectMessage("Validation Errors");
+        read("{\"child\": {\"value\": \"x\", \"extra\": true}}", MyComplexType.class);
+    }
+
+    private void assertReadError(String json, Class<?> type, Class<? extends Throwable> cause, String message) {
+        try {
+            read(json, type);
+            throw new AssertionError("No error for " + json);
+        } catch (ContractRuntimeException e) {
+            assertThat(json, e.getMessage(), equalTo("Unable to convert JSON to object"));
+            assertThat(json, e.getCause(), instanceOf(cause));
+            if (!message.isEmpty()) {
+                assertThat(json, e.getCause().getMessage(), startsWith(message));
+            }
+        }
+    }
+
+    @Test
+    public void readErrors() {
+        String complete = "\"name\":\"a\",\"count\":1,\"total\":1,\"ratio\":1,\"weight\":1,\"active\":true,"
+                + "\"child\":{\"value\":\"c\"},\"tags\":[],\"children\":[]";
+        assertThat(((MyComplexType) read("{" + complete + ",\"counts\":[]}", MyComplexType.class)).counts.length,
+                equalTo(0));
+
+        assertReadError("{" + complete + "}", MyComplexType.class, JSONException.class,
+                "JSONObject[\"counts\"] not found.");
+        assertReadError("{" + complete + ",\"counts\":[],\"name\":\"b\"}", MyComplexType.class,
+                JSONException.class, "Duplicate key \"name\"");
+        // as before, objects and arrays cannot be null
+        assertReadError("{" + complete + ",\"counts\":null}", MyComplexType.class, JSONException.class,
+                "Expected '['");
+        assertReadError("{\"child\":null}", MyComplexType.class, JSONException.class, "Expected '{'");
+        assertReadError("null", MyType.class, JSONException.class, "Expected '{'");
+        assertReadError("null", MyType[].class, JSONException.class, "Expected '['");
+        assertReadError("{\"count\":\"many\"}", MyComplexType.class, NumberFormatException.class, "For input string");
+        assertReadError("{\"count\":null}", MyComplexType.class, NumberFormatException.class, "For input string");
+        assertReadError("[null]", int[].class, NumberFormatException.class, "For input string");
+        assertReadError("[1,", int[].class, JSONException.class, "Unexpected end of JSON");
+        assertReadError("5", MyComplexType.class, JSONException.class, "Expected '{'");
+    }
+
+    @Test
+    public void readUnknownType() {
+        TypeSchema ts = new TypeSchema();
+        ts.put("$ref", "#/components/schemas/Unknown");
+
+        thrown.expect(ContractRuntimeException.class);
+        thrown.expectMessage("Unknown data type Unknown");
+        codec.read("{}".getBytes(UTF_8), ts);
+    }
+
+    @Test
+    public void readNoDefaultConstructor() {
+        TypeSchema ts = new TypeSchema();
+        ts.put("$ref", "#/components/schemas/NoDefaultConstructor");
+
+        thrown.expect(ContractRuntimeException.class);
+        thrown.expectMessage("Unable to to create new instance of type");
+        codec.read("{\"value\":\"a\"}".getBytes(UTF_8), ts);
+    }
+
+    @Test
+    public void writeNoDefaultConstructor() {
+        TypeSchema ts = new TypeSchema();
+        ts.put("$ref", "#/components/schemas/NoDefaultConstructor");
+
+        // there is no getter, so as with org.json there is nothing to write
+        assertThat(new String(codec.write(new NoDefaultConstructor("a"), ts), UTF_8), equalTo("{}"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract.execution;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.json.JSONException;
+import org.junit.Test;
+
+public class JSONReaderTest {
+
+    private static JSONReader reader(String json) {
+        return new JSONReader(json.getBytes(UTF_8));
+    }
+
+    private static void assertError(String json, String message) {
+        try {
+            JSONReader in = reader(json);
+            in.skipValue();
+            in.expectEnd();
+            fail("No error for " + json);
+        } catch (JSONException e) {
+            assertThat(json, e.getMessage(), startsWith(message));
+        }
+    }
+
+    @Test
+    public void strings() {
+        assertThat(reader("\"hello\"").readString(), equalTo("hello"));
+        assertThat(reader("  \"caf\u00e9 \u4e2d\ud83d\ude00\"").readString(), equalTo("caf\u00e9 \u4e2d\ud83d\ude00"));
+        assertThat(reader("\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\te\"").readString(), equalTo("a\"b\\c/d\b\f\n\r\te"));
+        assertThat(reader("\"\\u00e9\\u4E2D\\ud83d\\ude00\u00e9\"").readString(), equalTo("\u00e9\u4e2d\ud83d\ude00\u00e9"));
+    }
+
+    @Test
+    public void text() {
+        assertThat(reader("\"text\"").readText(), equalTo("text"));
+        assertThat(reader("-12.5e+3").readText(), equalTo("-12.5e+3"));
+        assertThat(reader("true").readText(), equalTo("true"));
+        assertThat(reader("false").readText(), equalTo("false"));
+        assertThat(reader("null").readText(), nullValue());
+        assertThat(reader(" { \"a\" : [1, {}, []] }").readText(), equalTo("{ \"a\" : [1, {}, []] }"));
+    }
+
+    @Test
+    public void structure() {
+        JSONReader in = reader(" {\"a\": 1 , \"b\":[]} ");
+        assertThat(in.peek(), equalTo('{'));
+        int start = in.position();
+        in.skipValue();
+        assertThat(in.text(start), equalTo("{\"a\": 1 , \"b\":[]}"));
+        in.reset(start);
+
+        in.expect('{');
+        assertThat(in.readString(), equalTo("a"));
+        in.expect(':');
+        assertThat(in.readText(), equalTo("1"));
+        assertTrue(in.consume(','));
+        assertFalse(in.consume('}'));
+        assertThat(in.readString(), equalTo("b"));
+        in.expect(':');
+        in.skipValue();
+        in.expect('}');
+        in.expectEnd();
+    }
+
+    @Test
+    public void errors() {
+        assertError("", "Unexpected end of JSON");
+        assertError("{} x", "Unexpected text after the JSON value");
+        assertError("{\"a\" 1}", "Expected ':'");
+        assertError("[1 2]", "Expected ']'");
+        assertError("\"abc", "Unterminated string");
+        assertError("\"a\\nb", "Unterminated string");
+        assertError("\"a\\", "Unterminated string");
+        assertError("\"a\nb\"", "Unescaped control character in string");
+        assertError("\"a\\nb\tc\"", "Unescaped control character in string");
+        assertError("\"\\x\"", "Illegal escape");
+        assertError("\"\\u12g4\"", "Illegal escape");
+        assertError("\"\\u12", "Unterminated string");
+        assertError("tru", "Unexpected end of JSON");
+        assertError("nul!", "Unexpected character");
+        assertError("fals3", "Unexpected character");
+        assertError("-", "Unexpected character");
+        assertError("1.", "Unexpected character");
+        assertError(".5", "Unexpected character");
+        assertError("1e", "Unexpected character");
+        assertError("hello", "Unexpected character");
+    }
+}
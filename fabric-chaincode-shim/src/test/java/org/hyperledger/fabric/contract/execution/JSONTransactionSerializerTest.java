@@ -11,7 +11,9 @@ import static org.junit.Assert.assertThat;
 
 import java.nio.charset.StandardCharsets;
 
+import org.hyperledger.fabric.contract.ContractRuntimeException;
 import org.hyperledger.fabric.contract.MyType;
+import org.hyperledger.fabric.contract.MyUncheckedType;
 import org.hyperledger.fabric.contract.metadata.MetadataBuilder;
 import org.hyperledger.fabric.contract.metadata.TypeSchema;
 import org.hyperledger.fabric.contract.routing.TypeRegistry;
@@ -123,6 +125,38 @@ public class JSONTransactionSerializerTest {
 		serializer.toBuffer(null, ts);
 	}
 
+	@Test
+	public void fromBufferValidated() {
+		byte[] buffer = "{\"value\":\"hello\",\"extra\":\"world\"}".getBytes(StandardCharsets.UTF_8);
+
+		TypeRegistry tr = new TypeRegistryImpl();
+		tr.addDataType(MyType.class);
+		MetadataBuilder.addComponent(tr.getDataType("MyType"));
+		JSONTransactionSerializer serializer = new JSONTransactionSerializer(tr);
+
+		thrown.expect(ContractRuntimeException.class);
+		thrown.expectMessage("Validation Errors");
+		serializer.fromBuffer(buffer, TypeSchema.typeConvert(MyType.class));
+	}
+
+	@Test
+	public void fromBufferStructuralOnly() {
+		TypeRegistry tr = new TypeRegistryImpl();
+		tr.addDataType(MyUncheckedType.class);
+		MetadataBuilder.addComponent(tr.getDataType("MyUncheckedType"));
+		JSONTransactionSerializer serializer = new JSONTransactionSerializer(tr);
+		TypeSchema ts = TypeSchema.typeConvert(MyUncheckedType.class);
+
+		// neither the pattern nor the additional property are checked
+		byte[] buffer = "{\"value\":\"HELLO\",\"extra\":\"world\"}".getBytes(StandardCharsets.UTF_8);
+		MyUncheckedType o = (MyUncheckedType) serializer.fromBuffer(buffer, ts);
+		assertThat(o.getValue(), equalTo("HELLO"));
+
+		thrown.expect(ContractRuntimeException.class);
+		thrown.expectMessage("Unable to convert JSON to object");
+		serializer.fromBuffer("{}".getBytes(StandardCharsets.UTF_8), ts);
+	}
+
 
 
 }
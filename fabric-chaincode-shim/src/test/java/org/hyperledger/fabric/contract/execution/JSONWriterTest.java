@@ -0,0 +1,61 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.contract.execution;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class JSONWriterTest {
+
+    private static String written(String value) {
+        JSONWriter out = new JSONWriter();
+        out.writeString(value);
+        return new String(out.toByteArray(), UTF_8);
+    }
+
+    @Test
+    public void stringsEscapedAsByOrgJson() {
+        String[] values = { "", "hello", "quote\" backslash\\ slash/", "</script>", "\b\t\n\f\r", "\u0001\u001f\u007f",
+                "\u0080\u0085\u009f\u00a0", "caf\u00e9", "\u1fff\u2000\u2028\u20ff\u2100", "\u4e2d\u6587", "\ud83d\ude00",
+                "<\ud83d\ude00/" };
+        for (String value : values) {
+            assertThat(value, written(value), equalTo(new String(JSONObject.quote(value).getBytes(UTF_8), UTF_8)));
+        }
+    }
+
+    @Test
+    public void malformedSurrogates() {
+        assertThat(written("a\ud800b"), equalTo("\"a?b\""));
+        assertThat(written("a\udc00"), equalTo("\"a?\""));
+        assertThat(written("\ud800"), equalTo("\"?\""));
+    }
+
+    @Test
+    public void grows() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("\u4e2d");
+        }
+        String value = sb.toString();
+
+        JSONWriter out = new JSONWriter();
+        out.write('[');
+        for (int i = 0; i < 3; i++) {
+            out.writeString(value);
+            out.write(',');
+        }
+        out.writeAscii("12345678901234567890");
+        out.write("]".getBytes(UTF_8));
+
+        String expected = "[\"" + value + "\",\"" + value + "\",\"" + value + "\",12345678901234567890]";
+        assertThat(new String(out.toByteArray(), UTF_8), equalTo(expected));
+    }
+}
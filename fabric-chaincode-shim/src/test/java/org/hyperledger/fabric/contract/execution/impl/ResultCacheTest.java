@@ -0,0 +1,114 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.execution.impl;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ResultCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private static List<byte[]> args(final String... args) {
+        final byte[][] bytes = new byte[args.length][];
+        for (int i = 0; i < args.length; i++) {
+            bytes[i] = args[i].getBytes();
+        }
+        return Arrays.asList(bytes);
+    }
+
+    private static byte[] payload(final ResultCache cache, final List<byte[]> key) {
+        final ResultCache.Entry entry = cache.get(key);
+        return entry == null ? null : entry.getPayload();
+    }
+
+    @Test
+    public void testGetAndPut() {
+        final ResultCache cache = new ResultCache(1000, 10, now::get);
+
+        assertThat(payload(cache, args("a")), is(nullValue()));
+        cache.put(args("a"), null, "A".getBytes());
+        cache.put(args("a", "b"), null, "AB".getBytes());
+        cache.put(Collections.emptyList(), null, null);
+
+        assertThat(payload(cache, args("a")), equalTo("A".getBytes()));
+        assertThat(payload(cache, args("a", "b")), equalTo("AB".getBytes()));
+        assertThat(payload(cache, args("ab")), is(nullValue()));
+        assertThat(payload(cache, Collections.emptyList()), equalTo(new byte[0]));
+        assertThat(cache.get(Collections.emptyList()).getValue(), is(nullValue()));
+        assertThat(cache.size(), equalTo(3));
+    }
+
+    @Test
+    public void testValueKept() {
+        final ResultCache cache = new ResultCache(1000, 10, now::get);
+        final Object value = new Object();
+
+        cache.put(args("a"), value, "A".getBytes());
+        assertThat(cache.get(args("a")).getValue(), is(value));
+    }
+
+    @Test
+    public void testKeyIsCopied() {
+        final ResultCache cache = new ResultCache(1000, 10, now::get);
+
+        final List<byte[]> key = args("a");
+        cache.put(key, null, "A".getBytes());
+        key.get(0)[0] = 'b';
+
+        assertThat(payload(cache, args("a")), equalTo("A".getBytes()));
+        assertThat(payload(cache, args("b")), is(nullValue()));
+    }
+
+    @Test
+    public void testExpiry() {
+        final ResultCache cache = new ResultCache(1000, 10, now::get);
+
+        cache.put(args("a"), null, "A".getBytes());
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(payload(cache, args("a")), equalTo("A".getBytes()));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(payload(cache, args("a")), is(nullValue()));
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        final ResultCache cache = new ResultCache(1000, 2, now::get);
+
+        cache.put(args("a"), null, "A".getBytes());
+        cache.put(args("b"), null, "B".getBytes());
+        cache.get(args("a"));
+        cache.put(args("c"), null, "C".getBytes());
+
+        assertThat(cache.size(), equalTo(2));
+        assertThat(payload(cache, args("a")), equalTo("A".getBytes()));
+        assertThat(payload(cache, args("b")), is(nullValue()));
+        assertThat(payload(cache, args("c")), equalTo("C".getBytes()));
+    }
+
+    @Test
+    public void testDisabled() {
+        final ResultCache noEntries = new ResultCache(1000, 0, now::get);
+        noEntries.put(args("a"), null, "A".getBytes());
+        assertThat(payload(noEntries, args("a")), is(nullValue()));
+
+        final ResultCache noTtl = new ResultCache(0, 10, now::get);
+        noTtl.put(args("a"), null, "A".getBytes());
+        assertThat(payload(noTtl, args("a")), is(nullValue()));
+    }
+}
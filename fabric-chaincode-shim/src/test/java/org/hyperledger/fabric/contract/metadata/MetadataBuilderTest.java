@@ -5,22 +5,46 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.hyperledger.fabric.contract.metadata;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 import java.io.InputStream;
 import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 
 import org.everit.json.schema.loader.SchemaClient;
 import org.everit.json.schema.loader.internal.DefaultSchemaClient;
 import org.hyperledger.fabric.contract.ChaincodeStubNaiveImpl;
 import org.hyperledger.fabric.contract.Context;
+import org.hyperledger.fabric.contract.MyType;
 import org.hyperledger.fabric.contract.routing.ContractDefinition;
+import org.hyperledger.fabric.contract.routing.DataTypeDefinition;
+import org.hyperledger.fabric.contract.routing.ParameterDefinition;
+import org.hyperledger.fabric.contract.routing.PropertyDefinition;
+import org.hyperledger.fabric.contract.routing.RoutingRegistry;
+import org.hyperledger.fabric.contract.routing.TxFunction;
+import org.hyperledger.fabric.contract.routing.TypeRegistry;
 import org.hyperledger.fabric.contract.routing.impl.ContractDefinitionImpl;
+import org.hyperledger.fabric.contract.routing.impl.DataTypeDefinitionImpl;
 import org.hyperledger.fabric.contract.systemcontract.SystemContract;
 import org.hyperledger.fabric.shim.ChaincodeStub;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.json.JSONObject;
 import org.junit.rules.ExpectedException;
 
 import contract.SampleContract;
@@ -48,6 +72,7 @@ public class MetadataBuilderTest {
         MetadataBuilder.contractMap = new HashMap<String, HashMap<String, Serializable>>();
         MetadataBuilder.overallInfoMap = new HashMap<String, Object>();
         MetadataBuilder.schemaClient = new DefaultSchemaClient();
+        TypeSchema.clearValidators();
     }
 
     @Test
@@ -74,4 +99,67 @@ public class MetadataBuilderTest {
         MetadataBuilder.validate();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void loadGeneratedMetadata() throws Exception {
+        ContractDefinition contractDefinition = new ContractDefinitionImpl(SampleContract.class);
+        MetadataBuilder.addContract(contractDefinition);
+        MetadataBuilder.componentMap.put("MyType", new HashMap<String, Object>());
+        String expected = MetadataBuilder.getMetadata();
+        beforeAndAfterEach();
+
+        Path dir = Files.createTempDirectory("metadata");
+        Path resource = dir.resolve(MetadataBuilder.GENERATED_METADATA);
+        Files.createDirectories(resource.getParent());
+        Files.write(resource, expected.getBytes(StandardCharsets.UTF_8));
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, null)) {
+            assertThat(MetadataBuilder.loadGeneratedMetadata(classLoader), equalTo(true));
+        } finally {
+            Files.delete(resource);
+        }
+
+        assertThat(new JSONObject(MetadataBuilder.getMetadata()).similar(new JSONObject(expected)), equalTo(true));
+        assertThat(MetadataBuilder.getComponents().containsKey("MyType"), equalTo(true));
+    }
+
+    @Test
+    public void noGeneratedMetadata() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+            assertThat(MetadataBuilder.loadGeneratedMetadata(classLoader), equalTo(false));
+        }
+    }
+
+    @Test
+    public void compileValidators() {
+        MetadataBuilder.addComponent(new DataTypeDefinitionImpl(MyType.class));
+
+        TypeSchema objectSchema = spy(TypeSchema.typeConvert(MyType.class));
+        TypeSchema stringSchema = spy(TypeSchema.typeConvert(String.class));
+        TypeSchema itemSchema = spy(TypeSchema.typeConvert(MyType.class));
+        TypeSchema arraySchema = new TypeSchema();
+        arraySchema.put("type", "array");
+        arraySchema.put("items", itemSchema);
+
+        ParameterDefinition objectParam = mock(ParameterDefinition.class);
+        when(objectParam.getSchema()).thenReturn(objectSchema);
+        ParameterDefinition stringParam = mock(ParameterDefinition.class);
+        when(stringParam.getSchema()).thenReturn(stringSchema);
+        TxFunction txFunction = mock(TxFunction.class);
+        when(txFunction.getParamsList()).thenReturn(Arrays.asList(objectParam, stringParam));
+        ContractDefinition contract = mock(ContractDefinition.class);
+        when(contract.getTxFunctions()).thenReturn(Collections.singletonList(txFunction));
+        RoutingRegistry registry = mock(RoutingRegistry.class);
+        when(registry.getAllDefinitions()).thenReturn(Collections.singletonList(contract));
+
+        PropertyDefinition arrayProperty = mock(PropertyDefinition.class);
+        when(arrayProperty.getSchema()).thenReturn(arraySchema);
+        DataTypeDefinition dataType = mock(DataTypeDefinition.class);
+        when(dataType.getProperties()).thenReturn(Collections.singletonMap("values", arrayProperty));
+        TypeRegistry typeRegistry = mock(TypeRegistry.class);
+        when(typeRegistry.getAllDataTypes()).thenReturn(Collections.singletonList(dataType));
+
+        MetadataBuilder.compileValidators(registry, typeRegistry);
+        verify(objectSchema).getValidator();
+        verify(itemSchema).getValidator();
+        verify(stringSchema, never()).getValidator();
+    }
+}
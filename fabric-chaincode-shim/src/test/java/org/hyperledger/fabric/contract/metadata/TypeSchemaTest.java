@@ -7,8 +7,12 @@ SPDX-License-Identifier: Apache-2.0
 package org.hyperledger.fabric.contract.metadata;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
+import org.everit.json.schema.Schema;
+import org.hyperledger.fabric.contract.ContractRuntimeException;
 import org.hyperledger.fabric.contract.annotation.DataType;
 import org.hyperledger.fabric.contract.routing.DataTypeDefinition;
 import org.hyperledger.fabric.contract.routing.TypeRegistry;
@@ -196,4 +200,37 @@ public class TypeSchemaTest {
         ts.validate(json);
 
     }
+
+    @Test
+    public void validatorCompiledOnce() {
+        DataTypeDefinition dtd = new DataTypeDefinitionImpl(org.hyperledger.fabric.contract.MyType.class);
+        MetadataBuilder.addComponent(dtd);
+
+        TypeSchema ts = TypeSchema.typeConvert(org.hyperledger.fabric.contract.MyType.class);
+        Schema validator = ts.getValidator();
+        assertThat(ts.getValidator(), sameInstance(validator));
+
+        // the validator embeds the components, so is compiled again when they change
+        MetadataBuilder.addComponent(dtd);
+        Schema recompiled = ts.getValidator();
+        assertThat(recompiled, not(sameInstance(validator)));
+        assertThat(ts.getValidator(), sameInstance(recompiled));
+
+        // or when the schema itself changes
+        ts.put("description", "changed");
+        assertThat(ts.getValidator(), not(sameInstance(recompiled)));
+    }
+
+    @Test
+    public void validateInvalid() {
+        TypeSchema ts = TypeSchema.typeConvert(org.hyperledger.fabric.contract.MyType.class);
+        DataTypeDefinition dtd = new DataTypeDefinitionImpl(org.hyperledger.fabric.contract.MyType.class);
+
+        MetadataBuilder.addComponent(dtd);
+        JSONObject json = new JSONObject().put("notAProperty", "value");
+
+        thrown.expect(ContractRuntimeException.class);
+        thrown.expectMessage("Validation Errors");
+        ts.validate(json);
+    }
 }
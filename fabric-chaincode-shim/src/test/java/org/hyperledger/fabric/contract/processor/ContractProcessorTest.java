@@ -0,0 +1,327 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.processor;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.hyperledger.fabric.contract.ContractRuntimeException;
+import org.hyperledger.fabric.contract.execution.InvocationRequest;
+import org.hyperledger.fabric.contract.metadata.MetadataBuilder;
+import org.hyperledger.fabric.contract.routing.ContractIndex;
+import org.hyperledger.fabric.contract.routing.RoutingRegistry;
+import org.hyperledger.fabric.contract.routing.TypeRegistry;
+import org.hyperledger.fabric.contract.routing.impl.RoutingRegistryImpl;
+import org.hyperledger.fabric.contract.routing.impl.TypeRegistryImpl;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ContractProcessorTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static final String ASSET = "package assets;\n"
+            + "import org.hyperledger.fabric.contract.annotation.*;\n"
+            + "@DataType\n"
+            + "public class Asset {\n"
+            + "    @Property public String id;\n"
+            + "    @Property(schema = { \"minimum\", \"0\" }) public int value;\n"
+            + "    @Property public String[] owners;\n"
+            + "    public String notAProperty;\n"
+            + "}\n";
+
+    private static final String ASSET_CONTRACT = "package assets;\n"
+            + "import org.hyperledger.fabric.contract.*;\n"
+            + "import org.hyperledger.fabric.contract.annotation.*;\n"
+            + "@Contract(name = \"assets\", info = @Info(title = \"Assets\", contact = @Contact(email = \"fred@example.com\"), "
+            + "license = @License(name = \"Apache-2.0\", url = \"http://www.apache.org/licenses/LICENSE-2.0.html\")))\n"
+            + "@Default\n"
+            + "public class AssetContract implements ContractInterface {\n"
+            + "    @Transaction\n"
+            + "    public void create(Context ctx, @Property(schema = { \"pattern\", \"^a\" }) String id, Asset asset) {}\n"
+            + "    @Transaction(submit = false, name = \"read\")\n"
+            + "    public Asset readAsset(Context ctx, String id) { return null; }\n"
+            + "    @Transaction(submit = false)\n"
+            + "    public long[] history(Context ctx, java.util.List<String> ids) { return null; }\n"
+            + "    public void notATransaction(Context ctx) {}\n"
+            + "}\n";
+
+    private Path outputDir;
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+
+    @Before
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("processor");
+    }
+
+    @After
+    public void deleteOutputDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void generatesIndex() throws Exception {
+        assertThat(compile(true, ASSET, ASSET_CONTRACT), equalTo(true));
+
+        try (URLClassLoader classLoader = classLoader()) {
+            ContractIndex index = ContractIndex.load(classLoader);
+            assertThat(index, notNullValue());
+            assertThat(index.getContractClassNames(),
+                    containsInAnyOrder("assets.AssetContract", "org.hyperledger.fabric.contract.systemcontract.SystemContract"));
+            assertThat(index.getDataTypeClassNames(), contains("assets.Asset"));
+
+            RoutingRegistry registry = new RoutingRegistryImpl();
+            TypeRegistry typeRegistry = new TypeRegistryImpl();
+            registry.setContracts(index, typeRegistry);
+            assertThat(registry.getContract("assets").getTxFunction("read").getName(), equalTo("read"));
+            assertThat(registry.getContract(InvocationRequest.DEFAULT_NAMESPACE).getName(), equalTo("assets"));
+            assertThat(registry.getContract("org.hyperledger.fabric").getTxFunction("GetMetadata"), notNullValue());
+            assertThat(typeRegistry.getDataType("Asset").getTypeClass().getName(), equalTo("assets.Asset"));
+        }
+    }
+
+    @Test
+    public void generatesMetadata() throws Exception {
+        assertThat(compile(true, ASSET, ASSET_CONTRACT), equalTo(true));
+
+        JSONObject metadata;
+        try (InputStream in = Files.newInputStream(outputDir.resolve(MetadataBuilder.GENERATED_METADATA))) {
+            metadata = new JSONObject(new JSONTokener(in));
+        }
+        MetadataBuilder.validate(metadata);
+
+        JSONObject contract = metadata.getJSONObject("contracts").getJSONObject("assets");
+        JSONObject info = contract.getJSONObject("info");
+        assertThat(info.getString("title"), equalTo("Assets"));
+        assertThat(info.getJSONObject("contact").toMap(), equalTo(Collections.singletonMap("email", "fred@example.com")));
+        assertThat(info.getJSONObject("license").getString("url"), equalTo("http://www.apache.org/licenses/LICENSE-2.0.html"));
+
+        JSONArray transactions = contract.getJSONArray("transactions");
+        assertThat(transactions.length(), equalTo(3));
+        JSONObject create = transaction(transactions, "create");
+        assertThat(create.has("returns"), equalTo(false));
+        assertThat(create.getJSONArray("tags").getString(0), equalTo("INVOKE"));
+        JSONArray params = create.getJSONArray("parameters");
+        assertThat(params.getJSONObject(0).getString("name"), equalTo("id"));
+        assertThat(params.getJSONObject(0).getJSONObject("schema").toMap(), equalTo(schema("type", "string", "pattern", "^a")));
+        assertThat(params.getJSONObject(1).getJSONObject("schema").getString("$ref"), equalTo("#/components/schemas/Asset"));
+
+        JSONObject read = transaction(transactions, "read");
+        assertThat(read.getJSONArray("tags").getString(0), equalTo("QUERY"));
+        assertThat(read.getJSONObject("returns").getString("$ref"), equalTo("#/components/schemas/Asset"));
+
+        JSONObject history = transaction(transactions, "history");
+        assertThat(history.getJSONObject("returns").getJSONObject("items").toMap(), equalTo(schema("type", "integer", "format", "int64")));
+        assertThat(history.getJSONArray("parameters").getJSONObject(0).getJSONObject("schema").getString("$ref"),
+                equalTo("#/components/schemas/List"));
+
+        JSONObject system = metadata.getJSONObject("contracts").getJSONObject("org.hyperledger.fabric");
+        assertThat(transaction(system.getJSONArray("transactions"), "GetMetadata"), notNullValue());
+
+        JSONObject asset = metadata.getJSONObject("components").getJSONObject("schemas").getJSONObject("Asset");
+        assertThat(asset.getString("$id"), equalTo("assets.Asset"));
+        JSONObject properties = asset.getJSONObject("properties");
+        assertThat(properties.keySet(), containsInAnyOrder("id", "value", "owners"));
+        assertThat(properties.getJSONObject("value").toMap(), equalTo(schema("type", "integer", "format", "int32", "minimum", 0)));
+        assertThat(properties.getJSONObject("owners").getString("type"), equalTo("array"));
+    }
+
+    @Test
+    public void notAContract() throws Exception {
+        String source = "package other;\n"
+                + "@org.hyperledger.fabric.contract.annotation.Contract\n"
+                + "public class NotAContract {}\n";
+        assertThat(compile(true, source), equalTo(true));
+
+        try (URLClassLoader classLoader = classLoader()) {
+            assertThat(ContractIndex.load(classLoader).getContractClassNames(),
+                    contains("org.hyperledger.fabric.contract.systemcontract.SystemContract"));
+            assertThat(ContractIndex.load(classLoader).getDataTypeClassNames(), empty());
+        }
+    }
+
+    @Test
+    public void firstArgumentNotContext() throws Exception {
+        String source = "package bad;\n"
+                + "import org.hyperledger.fabric.contract.*;\n"
+                + "import org.hyperledger.fabric.contract.annotation.*;\n"
+                + "@Contract\n"
+                + "public class BadContract implements ContractInterface {\n"
+                + "    @Transaction public void noContext(String arg) {}\n"
+                + "    @Transaction public void noArgs() {}\n"
+                + "}\n";
+        assertThat(compile(true, source), equalTo(false));
+        assertThat(errors(), contains("First argument should be of type Context noContext",
+                "First argument should be of type Context noArgs"));
+        assertThat(Files.exists(outputDir.resolve(MetadataBuilder.GENERATED_METADATA)), equalTo(false));
+    }
+
+    @Test
+    public void duplicateTransaction() throws Exception {
+        String source = "package bad;\n"
+                + "import org.hyperledger.fabric.contract.*;\n"
+                + "import org.hyperledger.fabric.contract.annotation.*;\n"
+                + "@Contract\n"
+                + "public class BadContract implements ContractInterface {\n"
+                + "    @Transaction public void one(Context ctx) {}\n"
+                + "    @Transaction(name = \"one\") public void two(Context ctx) {}\n"
+                + "}\n";
+        assertThat(compile(true, source), equalTo(false));
+        assertThat(errors(), contains("Duplicate transaction method one"));
+    }
+
+    @Test
+    public void invalidPropertySchema() throws Exception {
+        String source = "package bad;\n"
+                + "import org.hyperledger.fabric.contract.annotation.*;\n"
+                + "@DataType\n"
+                + "public class BadType {\n"
+                + "    @Property(schema = { \"minimum\", \"none\" }) public int value;\n"
+                + "}\n";
+        assertThat(compile(true, source), equalTo(false));
+        assertThat(errors().get(0), containsString("Invalid property schema"));
+    }
+
+    @Test
+    public void invalidMetadata() throws Exception {
+        String source = "package bad;\n"
+                + "import org.hyperledger.fabric.contract.*;\n"
+                + "import org.hyperledger.fabric.contract.annotation.*;\n"
+                + "@Contract(info = @Info(contact = @Contact(url = \"not a uri\")))\n"
+                + "public class BadContract implements ContractInterface {}\n";
+        assertThat(compile(true, source), equalTo(false));
+        assertThat(errors().get(0), containsString("Generated metadata is not valid"));
+    }
+
+    @Test
+    public void noIndex() throws Exception {
+        try (URLClassLoader classLoader = classLoader()) {
+            assertThat(ContractIndex.load(classLoader), nullValue());
+        }
+    }
+
+    @Test
+    public void invalidIndex() throws Exception {
+        String source = "package org.hyperledger.fabric.contract.generated;\n"
+                + "public class GeneratedContractIndex {}\n";
+        assertThat(compile(false, source), equalTo(true));
+
+        try (URLClassLoader classLoader = classLoader()) {
+            thrown.expect(ContractRuntimeException.class);
+            thrown.expectMessage("Could not load " + ContractIndex.GENERATED_CLASS);
+            ContractIndex.load(classLoader);
+        }
+    }
+
+    @Test
+    public void missingIndexedClass() throws Exception {
+        ContractIndex index = new ContractIndex() {
+            @Override
+            public List<String> getContractClassNames() {
+                return Collections.singletonList("missing.Contract");
+            }
+
+            @Override
+            public List<String> getDataTypeClassNames() {
+                return Collections.emptyList();
+            }
+        };
+
+        thrown.expect(ContractRuntimeException.class);
+        thrown.expectMessage("Contract index refers to a missing class");
+        new RoutingRegistryImpl().setContracts(index, new TypeRegistryImpl());
+    }
+
+    private boolean compile(boolean process, String... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> units = Arrays.stream(sources).map(ContractProcessorTest::source).collect(Collectors.toList());
+        List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", outputDir.toString());
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, collector, options, null, units);
+        task.setProcessors(process ? Collections.singletonList(new ContractProcessor()) : Collections.emptyList());
+        boolean result = task.call();
+        diagnostics.addAll(collector.getDiagnostics());
+        return result;
+    }
+
+    private List<String> errors() {
+        return diagnostics.stream().filter(d -> d.getKind() == Diagnostic.Kind.ERROR).map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    private URLClassLoader classLoader() throws IOException {
+        return new URLClassLoader(new URL[] { outputDir.toUri().toURL() }, getClass().getClassLoader());
+    }
+
+    private static JavaFileObject source(String source) {
+        String packageName = source.substring("package ".length(), source.indexOf(';'));
+        int classStart = source.indexOf("public class ") + "public class ".length();
+        String className = source.substring(classStart, source.indexOf(' ', classStart));
+        URI uri = URI.create("string:///" + packageName.replace('.', '/') + "/" + className + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+
+    private static JSONObject transaction(JSONArray transactions, String name) {
+        for (int i = 0; i < transactions.length(); i++) {
+            if (transactions.getJSONObject(i).getString("name").equals(name)) {
+                return transactions.getJSONObject(i);
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Object> schema(Object... keyValues) {
+        Map<String, Object> schema = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            schema.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return schema;
+    }
+}
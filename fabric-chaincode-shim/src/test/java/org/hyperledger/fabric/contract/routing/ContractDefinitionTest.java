@@ -6,9 +6,12 @@ SPDX-License-Identifier: Apache-2.0
 package org.hyperledger.fabric.contract.routing;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.Permission;
 
@@ -16,6 +19,7 @@ import org.hyperledger.fabric.contract.Context;
 import org.hyperledger.fabric.contract.ContractInterface;
 import org.hyperledger.fabric.contract.ContractRuntimeException;
 import org.hyperledger.fabric.contract.annotation.Contract;
+import org.hyperledger.fabric.contract.annotation.PerTransaction;
 import org.hyperledger.fabric.contract.routing.impl.ContractDefinitionImpl;
 import org.junit.Before;
 import org.junit.Rule;
@@ -98,4 +102,52 @@ public class ContractDefinitionTest {
         cf.addTxFunction(m);
         cf.addTxFunction(m);
     }
-}
\ No newline at end of file
+
+    @Contract(name = "stateful", info = @Info())
+    @PerTransaction
+    public static class PerTransactionContract implements ContractInterface {
+    }
+
+    @Contract(name = "broken", info = @Info())
+    public static class BrokenContract implements ContractInterface {
+        static boolean broken;
+
+        public BrokenContract() {
+            if (broken) {
+                throw new IllegalStateException("Broken constructor");
+            }
+        }
+    }
+
+    @Test
+    public void sharedContractInstance() throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException {
+        ContractDefinition cf = new ContractDefinitionImpl(SampleContract.class);
+
+        assertThat(cf.isPerTransaction(), equalTo(false));
+        assertThat(cf.getContractInstance(), sameInstance(cf.getContractInstance()));
+        assertThat(cf.getContractInstance().getClass(), equalTo(SampleContract.class));
+        assertThat(cf.getUnknownRoute().getRouting().getContractInstance(), sameInstance(cf.getContractInstance()));
+    }
+
+    @Test
+    public void perTransactionContractInstance() throws IllegalAccessException, InstantiationException, InvocationTargetException {
+        ContractDefinition cf = new ContractDefinitionImpl(PerTransactionContract.class);
+
+        assertThat(cf.isPerTransaction(), equalTo(true));
+        assertThat(cf.getContractInstance(), not(sameInstance(cf.getContractInstance())));
+        assertThat(cf.getContractInstance().getClass(), equalTo(PerTransactionContract.class));
+    }
+
+    @Test
+    public void contractConstructorFails() {
+        thrown.expect(ContractRuntimeException.class);
+        thrown.expectMessage("Could not create contract");
+
+        BrokenContract.broken = true;
+        try {
+            new ContractDefinitionImpl(BrokenContract.class);
+        } finally {
+            BrokenContract.broken = false;
+        }
+    }
+}
@@ -5,25 +5,37 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.hyperledger.fabric.contract.routing;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.InvocationTargetException;
 
 import org.hyperledger.fabric.contract.Context;
 import org.hyperledger.fabric.contract.ContractInterface;
 import org.hyperledger.fabric.contract.ContractRuntimeException;
+import org.hyperledger.fabric.contract.annotation.CacheResult;
 import org.hyperledger.fabric.contract.annotation.Property;
 import org.hyperledger.fabric.contract.annotation.Transaction;
 import org.hyperledger.fabric.contract.metadata.TypeSchema;
 import org.hyperledger.fabric.contract.routing.impl.TxFunctionImpl;
+import org.hyperledger.fabric.shim.ChaincodeException;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import contract.SampleContract;
+
 public class TxFunctionTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -44,6 +56,18 @@ public class TxFunctionTest {
         public void wibble(String arg1) {
 
         }
+
+        @Transaction(submit = false)
+        @CacheResult(ttl = 500, maxEntries = 10)
+        public void cachedQuery(Context ctx) {
+
+        }
+
+        @Transaction()
+        @CacheResult
+        public void cachedSubmit(Context ctx) {
+
+        }
     }
 
     @Before
@@ -96,4 +120,77 @@ public class TxFunctionTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void cacheResult() throws NoSuchMethodException, SecurityException {
+        TestObject test = new TestObject();
+        ContractDefinition cd = mock(ContractDefinition.class);
+
+        TxFunction query = new TxFunctionImpl(test.getClass().getMethod("cachedQuery", new Class<?>[] { Context.class }), cd);
+        assertEquals(TransactionType.QUERY, query.getType());
+        assertEquals(500, query.getCacheResult().ttl());
+        assertEquals(10, query.getCacheResult().maxEntries());
+
+        TxFunction submit = new TxFunctionImpl(test.getClass().getMethod("cachedSubmit", new Class<?>[] { Context.class }), cd);
+        assertNull(submit.getCacheResult());
+
+        TxFunction uncached = new TxFunctionImpl(test.getClass().getMethod("testMethod1", new Class<?>[] { Context.class }), cd);
+        assertNull(uncached.getCacheResult());
+    }
+
+    @Test
+    public void invoke() throws Exception {
+        ContractDefinition cd = mock(ContractDefinition.class);
+        TxFunction txfn = new TxFunctionImpl(SampleContract.class.getMethod("t2", new Class<?>[] { Context.class }), cd);
+
+        Object value = txfn.getRouting().invoke(new SampleContract(), new Object[] { null });
+        assertThat(value, equalTo("Transaction 2"));
+    }
+
+    @Test
+    public void routing() throws Exception {
+        ContractDefinition cd = mock(ContractDefinition.class);
+        SampleContract contract = new SampleContract();
+        doReturn(SampleContract.class).when(cd).getContractImpl();
+        when(cd.getContractInstance()).thenReturn(contract);
+        TxFunction txfn = new TxFunctionImpl(SampleContract.class.getMethod("t2", new Class<?>[] { Context.class }), cd);
+
+        TxFunction.Routing routing = txfn.getRouting();
+        assertThat(routing.getMethod().getName(), equalTo("t2"));
+        assertThat(routing.getContractClass(), equalTo(SampleContract.class));
+        assertThat(routing.getContractInstance(), sameInstance(contract));
+        assertThat(routing.toString(), equalTo("t2:contract.SampleContract"));
+    }
+
+    @Test
+    public void invokeVoid() throws Exception {
+        ContractDefinition cd = mock(ContractDefinition.class);
+        TxFunction txfn = new TxFunctionImpl(SampleContract.class.getMethod("noReturn", new Class<?>[] { Context.class }), cd);
+
+        assertNull(txfn.getRouting().invoke(new SampleContract(), new Object[] { null }));
+    }
+
+    @Test
+    public void invokeThrows() throws Exception {
+        ContractDefinition cd = mock(ContractDefinition.class);
+        TxFunction txfn = new TxFunctionImpl(
+                SampleContract.class.getMethod("t3", new Class<?>[] { Context.class, String.class, String.class }), cd);
+
+        try {
+            txfn.getRouting().invoke(new SampleContract(), new Object[] { null, "TransactionException", "T3 fail" });
+            throw new AssertionError("Expected an exception");
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), instanceOf(ChaincodeException.class));
+            assertThat(e.getCause().getMessage(), equalTo("T3 fail"));
+        }
+    }
+
+    @Test
+    public void invokeNonPublicContract() throws Exception {
+        TestObject test = new TestObject();
+        ContractDefinition cd = mock(ContractDefinition.class);
+        TxFunction txfn = new TxFunctionImpl(test.getClass().getMethod("testMethod1", new Class<?>[] { Context.class }), cd);
+
+        // not visible to the public lookup, so called through reflection
+        assertNull(txfn.getRouting().invoke(test, new Object[] { null }));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.contract.routing.impl;
+
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hyperledger.fabric.contract.routing.ContractIndex;
+import org.hyperledger.fabric.contract.systemcontract.SystemContract;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import contract.Greeting;
+import contract.SampleContract;
+
+public class ContractScannerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final List<String> NONE = Collections.emptyList();
+
+    @Test
+    public void scanPackage() throws IOException {
+        Path cacheFile = folder.getRoot().toPath().resolve("contracts.cache");
+        ContractScanner scanner = new ContractScanner(Arrays.asList("contract"), NONE, cacheFile);
+
+        ContractIndex index = scanner.scan();
+        assertThat(index.getContractClassNames(),
+                containsInAnyOrder(SampleContract.class.getName(), SystemContract.class.getName()));
+        assertThat(index.getDataTypeClassNames(), contains(Greeting.class.getName()));
+
+        // the test classes are in directories, so the scan is not cached
+        assertFalse(Files.exists(cacheFile));
+    }
+
+    @Test
+    public void scanJarsCached() throws IOException {
+        Path cacheFile = folder.getRoot().toPath().resolve("contracts.cache");
+        ContractScanner scanner = new ContractScanner(NONE, Arrays.asList("classgraph-*.jar"), cacheFile);
+
+        ContractIndex index = scanner.scan();
+        assertThat(index.getContractClassNames(), contains(SystemContract.class.getName()));
+        assertThat(index.getDataTypeClassNames(), empty());
+        assertTrue(Files.exists(cacheFile));
+
+        ContractIndex cached = scanner.scan();
+        assertThat(cached, not(sameInstance(index)));
+        assertThat(cached.getContractClassNames(), contains(SystemContract.class.getName()));
+        assertThat(cached.getDataTypeClassNames(), empty());
+    }
+
+    @Test
+    public void cacheKey() throws IOException {
+        File jar = folder.newFile("chaincode.jar");
+        Files.write(jar.toPath(), "contents".getBytes(StandardCharsets.UTF_8));
+        List<File> classpath = Arrays.asList(jar);
+
+        ContractScanner scanner = new ContractScanner(Arrays.asList("contract"), NONE, null);
+        String key = scanner.cacheKey(classpath);
+        assertThat(key, notNullValue());
+        assertThat(scanner.cacheKey(classpath), equalTo(key));
+
+        ContractScanner otherPackages = new ContractScanner(Arrays.asList("other"), NONE, null);
+        assertThat(otherPackages.cacheKey(classpath), not(key));
+
+        ContractScanner otherJars = new ContractScanner(Arrays.asList("contract"), Arrays.asList("chaincode.jar"), null);
+        assertThat(otherJars.cacheKey(classpath), not(key));
+
+        Files.write(jar.toPath(), "changed contents".getBytes(StandardCharsets.UTF_8));
+        assertThat(scanner.cacheKey(classpath), not(key));
+
+        assertThat(scanner.cacheKey(Arrays.asList(jar, folder.newFolder())), nullValue());
+    }
+
+    @Test
+    public void cacheRoundTrip() throws IOException {
+        Path cacheFile = folder.getRoot().toPath().resolve("cache").resolve("contracts.cache");
+        ContractScanner scanner = new ContractScanner(NONE, NONE, cacheFile);
+        assertThat(scanner.readCache("key"), nullValue());
+
+        ContractScanner writer = new ContractScanner(NONE, NONE, cacheFile);
+        writer.writeCache("key", index(Arrays.asList("a.Contract", "b.Contract"), NONE));
+
+        ContractIndex index = scanner.readCache("key");
+        assertThat(index.getContractClassNames(), contains("a.Contract", "b.Contract"));
+        assertThat(index.getDataTypeClassNames(), empty());
+
+        assertThat(scanner.readCache("other key"), nullValue());
+        assertThat(folder.getRoot().toPath().resolve("cache").toFile().list(), arrayWithSize(1));
+    }
+
+    @Test
+    public void corruptCache() throws IOException {
+        File cacheFile = folder.newFile("contracts.cache");
+        Files.write(cacheFile.toPath(), "key=\\uZZZZ".getBytes(StandardCharsets.ISO_8859_1));
+
+        ContractScanner scanner = new ContractScanner(NONE, NONE, cacheFile.toPath());
+        assertThat(scanner.readCache("key"), nullValue());
+
+        ContractScanner directory = new ContractScanner(NONE, NONE, folder.newFolder().toPath());
+        assertThat(directory.readCache("key"), nullValue());
+    }
+
+    @Test
+    public void unwritableCache() throws IOException {
+        Path cacheFile = folder.newFile("notadirectory").toPath().resolve("contracts.cache");
+
+        ContractScanner scanner = new ContractScanner(NONE, NONE, cacheFile);
+        scanner.writeCache("key", index(NONE, NONE));
+        assertFalse(Files.exists(cacheFile));
+    }
+
+    private static ContractIndex index(List<String> contractClassNames, List<String> dataTypeClassNames) {
+        return new ContractIndex() {
+            @Override
+            public List<String> getContractClassNames() {
+                return contractClassNames;
+            }
+
+            @Override
+            public List<String> getDataTypeClassNames() {
+                return dataTypeClassNames;
+            }
+        };
+    }
+}
@@ -14,11 +14,19 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.hamcrest.Matchers;
+import org.hyperledger.fabric.contract.ClientIdentityCache;
 import org.hyperledger.fabric.shim.chaincode.EmptyChaincode;
+import org.hyperledger.fabric.shim.impl.InvocationTaskExecutor;
+import org.hyperledger.fabric.shim.impl.InvocationTaskExecutor.RejectionPolicy;
+import org.hyperledger.fabric.shim.impl.NettyTransport;
+import org.hyperledger.fabric.shim.impl.VirtualThreadTaskExecutor;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -164,6 +172,277 @@ public class ChaincodeBaseTest {
         assertEquals("Port incorrect", cb.getPort(), 7053);
     }
 
+    @Test
+    public void testExecutorOptions() {
+        ChaincodeBase cb = new EmptyChaincode();
+
+        assertEquals("Core pool size incorrect", InvocationTaskExecutor.DEFAULT_CORE_POOL_SIZE, cb.getExecutorCorePoolSize());
+        assertEquals("Max pool size incorrect", InvocationTaskExecutor.DEFAULT_MAX_POOL_SIZE, cb.getExecutorMaxPoolSize());
+        assertEquals("Queue size incorrect", InvocationTaskExecutor.DEFAULT_QUEUE_SIZE, cb.getExecutorQueueSize());
+        assertEquals("Rejection policy incorrect", RejectionPolicy.ERROR, cb.getExecutorRejectionPolicy());
+
+        environmentVariables.set("CORE_CHAINCODE_EXECUTOR_CORE_POOL_SIZE", "2");
+        environmentVariables.set("CORE_CHAINCODE_EXECUTOR_MAX_POOL_SIZE", "4");
+        environmentVariables.set("CORE_CHAINCODE_EXECUTOR_QUEUE_SIZE", "100");
+        environmentVariables.set("CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY", "discard_oldest");
+        cb.processEnvironmentOptions();
+        assertEquals("Core pool size incorrect", 2, cb.getExecutorCorePoolSize());
+        assertEquals("Max pool size incorrect", 4, cb.getExecutorMaxPoolSize());
+        assertEquals("Queue size incorrect", 100, cb.getExecutorQueueSize());
+        assertEquals("Rejection policy incorrect", RejectionPolicy.DISCARD_OLDEST, cb.getExecutorRejectionPolicy());
+
+        environmentVariables.set("CORE_CHAINCODE_EXECUTOR_QUEUE_SIZE", "many");
+        environmentVariables.set("CORE_CHAINCODE_EXECUTOR_REJECTION_POLICY", "unknown");
+        cb.processEnvironmentOptions();
+        assertEquals("Queue size incorrect", 100, cb.getExecutorQueueSize());
+        assertEquals("Rejection policy incorrect", RejectionPolicy.DISCARD_OLDEST, cb.getExecutorRejectionPolicy());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--executorCorePoolSize", "8", "--executorMaxPoolSize", "16",
+                "--executorQueueSize", "32", "--executorRejectionPolicy", "ERROR"});
+        assertEquals("Core pool size incorrect", 8, cb.getExecutorCorePoolSize());
+        assertEquals("Max pool size incorrect", 16, cb.getExecutorMaxPoolSize());
+        assertEquals("Queue size incorrect", 32, cb.getExecutorQueueSize());
+        assertEquals("Rejection policy incorrect", RejectionPolicy.ERROR, cb.getExecutorRejectionPolicy());
+        assertTrue("Not correct executor", cb.newTransactionExecutor() instanceof InvocationTaskExecutor);
+
+        assertFalse("Virtual threads should not be enabled", cb.isExecutorVirtualThreads());
+        environmentVariables.set("CORE_CHAINCODE_EXECUTOR_VIRTUAL_THREADS", "true");
+        environmentVariables.set("CORE_CHAINCODE_EXECUTOR_MAX_VIRTUAL_THREADS", "20000");
+        cb.processEnvironmentOptions();
+        assertTrue("Virtual threads should be enabled", cb.isExecutorVirtualThreads());
+        assertEquals("Max virtual threads incorrect", 20000, cb.getExecutorMaxVirtualThreads());
+        if (VirtualThreadTaskExecutor.isSupported()) {
+            assertTrue("Not correct executor", cb.newTransactionExecutor() instanceof VirtualThreadTaskExecutor);
+        } else {
+            assertTrue("Not correct executor", cb.newTransactionExecutor() instanceof InvocationTaskExecutor);
+        }
+
+        cb.processCommandLineOptions(new String[]{"--executorVirtualThreads", "--executorMaxVirtualThreads", "100"});
+        assertTrue("Virtual threads should be enabled", cb.isExecutorVirtualThreads());
+        assertEquals("Max virtual threads incorrect", 100, cb.getExecutorMaxVirtualThreads());
+
+        cb.processCommandLineOptions(new String[]{"--executorMaxPoolSize", "1"});
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Matchers.containsString("Executor max pool size"));
+        cb.validateOptions();
+    }
+
+    @Test
+    public void testCoalesceWritesOption() {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertFalse("Write coalescing should be disabled", cb.isCoalesceWrites());
+
+        environmentVariables.set("CORE_CHAINCODE_COALESCE_WRITES", "true");
+        cb.processEnvironmentOptions();
+        assertTrue("Write coalescing should be enabled", cb.isCoalesceWrites());
+
+        environmentVariables.set("CORE_CHAINCODE_COALESCE_WRITES", "false");
+        cb.processEnvironmentOptions();
+        cb.processCommandLineOptions(new String[]{"--coalesceWrites"});
+        assertTrue("Write coalescing should be enabled", cb.isCoalesceWrites());
+    }
+
+    @Test
+    public void testReadCacheOptions() {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertTrue("Read cache should be enabled", cb.isReadCacheEnabled());
+        assertEquals("Read cache max bytes incorrect", 0, cb.getReadCacheMaxBytes());
+
+        environmentVariables.set("CORE_CHAINCODE_READ_CACHE_ENABLED", "false");
+        environmentVariables.set("CORE_CHAINCODE_READ_CACHE_MAX_BYTES", "1048576");
+        cb.processEnvironmentOptions();
+        assertFalse("Read cache should be disabled", cb.isReadCacheEnabled());
+        assertEquals("Read cache max bytes incorrect", 1048576, cb.getReadCacheMaxBytes());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--readCacheEnabled", "true", "--readCacheMaxBytes", "4096"});
+        assertTrue("Read cache should be enabled", cb.isReadCacheEnabled());
+        assertEquals("Read cache max bytes incorrect", 4096, cb.getReadCacheMaxBytes());
+
+        environmentVariables.set("CORE_CHAINCODE_READ_CACHE_MAX_BYTES", "-1");
+        cb.processEnvironmentOptions();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Matchers.containsString("Read cache max bytes"));
+        cb.validateOptions();
+    }
+
+    @Test
+    public void testStreamOptions() {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertEquals("Stream max batch size incorrect", 64, cb.getStreamMaxBatchSize());
+        assertEquals("Stream linger incorrect", 0, cb.getStreamLinger());
+
+        environmentVariables.set("CORE_CHAINCODE_STREAM_MAX_BATCH_SIZE", "128");
+        environmentVariables.set("CORE_CHAINCODE_STREAM_LINGER", "2");
+        cb.processEnvironmentOptions();
+        assertEquals("Stream max batch size incorrect", 128, cb.getStreamMaxBatchSize());
+        assertEquals("Stream linger incorrect", 2, cb.getStreamLinger());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--streamMaxBatchSize", "16", "--streamLinger", "5"});
+        assertEquals("Stream max batch size incorrect", 16, cb.getStreamMaxBatchSize());
+        assertEquals("Stream linger incorrect", 5, cb.getStreamLinger());
+
+        environmentVariables.set("CORE_CHAINCODE_STREAM_MAX_BATCH_SIZE", "0");
+        cb.processEnvironmentOptions();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Matchers.containsString("Stream max batch size"));
+        cb.validateOptions();
+    }
+
+    @Test
+    public void testOutboundQueueSizeOption() {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertEquals("Outbound queue size incorrect", 1024, cb.getOutboundQueueSize());
+
+        environmentVariables.set("CORE_CHAINCODE_OUTBOUND_QUEUE_SIZE", "4096");
+        cb.processEnvironmentOptions();
+        assertEquals("Outbound queue size incorrect", 4096, cb.getOutboundQueueSize());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--outboundQueueSize", "128"});
+        assertEquals("Outbound queue size incorrect", 128, cb.getOutboundQueueSize());
+
+        environmentVariables.set("CORE_CHAINCODE_OUTBOUND_QUEUE_SIZE", "0");
+        cb.processEnvironmentOptions();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Matchers.containsString("Outbound queue size"));
+        cb.validateOptions();
+    }
+
+    @Test
+    public void testTraceOptions() {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertEquals("Trace buffer size incorrect", 0, cb.getTraceBufferSize());
+        assertEquals("Trace sample rate incorrect", 1, cb.getTraceSampleRate());
+        assertEquals("Trace max payload bytes incorrect", 0, cb.getTraceMaxPayloadBytes());
+
+        environmentVariables.set("CORE_CHAINCODE_TRACE_BUFFER_SIZE", "512");
+        environmentVariables.set("CORE_CHAINCODE_TRACE_SAMPLE_RATE", "10");
+        environmentVariables.set("CORE_CHAINCODE_TRACE_MAX_PAYLOAD_BYTES", "32");
+        cb.processEnvironmentOptions();
+        assertEquals("Trace buffer size incorrect", 512, cb.getTraceBufferSize());
+        assertEquals("Trace sample rate incorrect", 10, cb.getTraceSampleRate());
+        assertEquals("Trace max payload bytes incorrect", 32, cb.getTraceMaxPayloadBytes());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--traceBufferSize", "64", "--traceSampleRate", "2", "--traceMaxPayloadBytes", "0"});
+        assertEquals("Trace buffer size incorrect", 64, cb.getTraceBufferSize());
+        assertEquals("Trace sample rate incorrect", 2, cb.getTraceSampleRate());
+        assertEquals("Trace max payload bytes incorrect", 0, cb.getTraceMaxPayloadBytes());
+        assertEquals("Trace not empty before connecting", "", cb.dumpMessageTrace());
+
+        environmentVariables.set("CORE_CHAINCODE_TRACE_SAMPLE_RATE", "0");
+        cb.processEnvironmentOptions();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Matchers.containsString("Trace sample rate"));
+        cb.validateOptions();
+    }
+
+    @Test
+    public void testGrpcOptions() throws Exception {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertEquals("Transport incorrect", NettyTransport.Type.AUTO, cb.getGrpcTransport());
+        assertEquals("Event loop threads incorrect", 0, cb.getGrpcEventLoopThreads());
+        assertTrue("Pooled buffers incorrect", cb.isGrpcPooledBuffers());
+        assertEquals("Keepalive time incorrect", 0, cb.getGrpcKeepAliveTime());
+        assertEquals("Keepalive timeout incorrect", ChaincodeBase.DEFAULT_GRPC_KEEPALIVE_TIMEOUT, cb.getGrpcKeepAliveTimeout());
+        assertEquals("Max inbound message size incorrect", ChaincodeBase.DEFAULT_GRPC_MAX_INBOUND_MESSAGE_SIZE, cb.getGrpcMaxInboundMessageSize());
+        assertEquals("Flow control window incorrect", ChaincodeBase.DEFAULT_GRPC_FLOW_CONTROL_WINDOW, cb.getGrpcFlowControlWindow());
+
+        environmentVariables.set("CORE_CHAINCODE_GRPC_TRANSPORT", "nio");
+        environmentVariables.set("CORE_CHAINCODE_GRPC_EVENT_LOOP_THREADS", "4");
+        environmentVariables.set("CORE_CHAINCODE_GRPC_POOLED_BUFFERS", "false");
+        environmentVariables.set("CORE_CHAINCODE_GRPC_KEEPALIVE_TIME", "60000");
+        environmentVariables.set("CORE_CHAINCODE_GRPC_KEEPALIVE_TIMEOUT", "5000");
+        environmentVariables.set("CORE_CHAINCODE_GRPC_MAX_INBOUND_MESSAGE_SIZE", "1048576");
+        environmentVariables.set("CORE_CHAINCODE_GRPC_FLOW_CONTROL_WINDOW", "2097152");
+        cb.processEnvironmentOptions();
+        assertEquals("Transport incorrect", NettyTransport.Type.NIO, cb.getGrpcTransport());
+        assertEquals("Event loop threads incorrect", 4, cb.getGrpcEventLoopThreads());
+        assertFalse("Pooled buffers incorrect", cb.isGrpcPooledBuffers());
+        assertEquals("Keepalive time incorrect", 60000, cb.getGrpcKeepAliveTime());
+        assertEquals("Keepalive timeout incorrect", 5000, cb.getGrpcKeepAliveTimeout());
+        assertEquals("Max inbound message size incorrect", 1048576, cb.getGrpcMaxInboundMessageSize());
+        assertEquals("Flow control window incorrect", 2097152, cb.getGrpcFlowControlWindow());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--grpcTransport", "auto", "--grpcEventLoopThreads", "2",
+            "--grpcPooledBuffers", "true", "--grpcKeepAliveTime", "30000", "--grpcKeepAliveTimeout", "1000",
+            "--grpcMaxInboundMessageSize", "2048", "--grpcFlowControlWindow", "65535"});
+        assertEquals("Transport incorrect", NettyTransport.Type.AUTO, cb.getGrpcTransport());
+        assertEquals("Event loop threads incorrect", 2, cb.getGrpcEventLoopThreads());
+        assertTrue("Pooled buffers incorrect", cb.isGrpcPooledBuffers());
+        assertEquals("Keepalive time incorrect", 30000, cb.getGrpcKeepAliveTime());
+        assertEquals("Keepalive timeout incorrect", 1000, cb.getGrpcKeepAliveTimeout());
+        assertEquals("Max inbound message size incorrect", 2048, cb.getGrpcMaxInboundMessageSize());
+        assertEquals("Flow control window incorrect", 65535, cb.getGrpcFlowControlWindow());
+        cb.validateOptions();
+        cb.newChannelBuilder().build().shutdownNow();
+
+        environmentVariables.set("CORE_CHAINCODE_GRPC_TRANSPORT", "WRONG");
+        environmentVariables.set("CORE_CHAINCODE_GRPC_FLOW_CONTROL_WINDOW", "0");
+        cb.processEnvironmentOptions();
+        assertEquals("Transport incorrect", NettyTransport.Type.AUTO, cb.getGrpcTransport());
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Matchers.containsString("Flow control window"));
+        cb.validateOptions();
+    }
+
+    @Test
+    public void testIdentityCacheSizeOption() {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertEquals("Identity cache size incorrect", ClientIdentityCache.DEFAULT_MAX_ENTRIES, cb.getIdentityCacheSize());
+
+        environmentVariables.set("CORE_CHAINCODE_IDENTITY_CACHE_SIZE", "50");
+        cb.processEnvironmentOptions();
+        assertEquals("Identity cache size incorrect", 50, cb.getIdentityCacheSize());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--identityCacheSize", "0"});
+        assertEquals("Identity cache size incorrect", 0, cb.getIdentityCacheSize());
+
+        environmentVariables.set("CORE_CHAINCODE_IDENTITY_CACHE_SIZE", "-1");
+        cb.processEnvironmentOptions();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Matchers.containsString("Identity cache size"));
+        cb.validateOptions();
+    }
+
+    @Test
+    public void testScanOptions() {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertEquals("Scan packages incorrect", Collections.emptyList(), cb.getScanPackages());
+        assertEquals("Scan jars incorrect", Collections.emptyList(), cb.getScanJars());
+        assertNull("Scan cache incorrect", cb.getScanCache());
+
+        environmentVariables.set("CORE_CHAINCODE_SCAN_PACKAGES", "org.example.contract, org.example.model");
+        environmentVariables.set("CORE_CHAINCODE_SCAN_JARS", "chaincode.jar");
+        environmentVariables.set("CORE_CHAINCODE_SCAN_CACHE", "/tmp/contracts.cache");
+        cb.processEnvironmentOptions();
+        assertEquals("Scan packages incorrect", Arrays.asList("org.example.contract", "org.example.model"), cb.getScanPackages());
+        assertEquals("Scan jars incorrect", Arrays.asList("chaincode.jar"), cb.getScanJars());
+        assertEquals("Scan cache incorrect", Paths.get("/tmp/contracts.cache"), cb.getScanCache());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--scanPackages", "org.example,", "--scanJars", "a.jar,b.jar", "--scanCache", " "});
+        assertEquals("Scan packages incorrect", Arrays.asList("org.example"), cb.getScanPackages());
+        assertEquals("Scan jars incorrect", Arrays.asList("a.jar", "b.jar"), cb.getScanJars());
+        assertNull("Scan cache incorrect", cb.getScanCache());
+    }
+
+    @Test
+    public void testPeerResponseTimeoutOption() {
+        ChaincodeBase cb = new EmptyChaincode();
+        assertEquals("Peer response timeout incorrect", 0, cb.getPeerResponseTimeout());
+
+        environmentVariables.set("CORE_CHAINCODE_PEER_RESPONSE_TIMEOUT", "30000");
+        cb.processEnvironmentOptions();
+        assertEquals("Peer response timeout incorrect", 30000, cb.getPeerResponseTimeout());
+
+        cb.processCommandLineOptions(new String[]{"-i", "mycc", "--peerResponseTimeout", "500"});
+        assertEquals("Peer response timeout incorrect", 500, cb.getPeerResponseTimeout());
+
+        environmentVariables.set("CORE_CHAINCODE_PEER_RESPONSE_TIMEOUT", "-1");
+        cb.processEnvironmentOptions();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(Matchers.containsString("Peer response timeout"));
+        cb.validateOptions();
+    }
+
     @Test
     public void testUnsetOptionId() {
         ChaincodeBase cb = new EmptyChaincode();
@@ -0,0 +1,73 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ChaincodeStubTest {
+
+    private final ChaincodeStub stub = mock(ChaincodeStub.class, Mockito.CALLS_REAL_METHODS);
+
+    @Test
+    public void getMultipleStatesReadsEachKey() {
+        final byte[] value1 = new byte[]{0x10};
+        final byte[] value2 = new byte[]{0x20};
+        when(stub.getState("key1")).thenReturn(value1);
+        when(stub.getState("key2")).thenReturn(value2);
+        assertThat(stub.getMultipleStates("key1", "key2"), contains(value1, value2));
+    }
+
+    @Test
+    public void getMultiplePrivateDataReadsEachKey() {
+        final byte[] value1 = new byte[]{0x10};
+        final byte[] value2 = new byte[]{0x20};
+        when(stub.getPrivateData("coll", "key1")).thenReturn(value1);
+        when(stub.getPrivateData("coll", "key2")).thenReturn(value2);
+        assertThat(stub.getMultiplePrivateData("coll", "key1", "key2"), contains(value1, value2));
+    }
+
+    @Test
+    public void bufferViewsCopyByDefault() {
+        final byte[] value = new byte[]{0x10, 0x20};
+        when(stub.getState("key")).thenReturn(value);
+        when(stub.getPrivateData("coll", "key")).thenReturn(value);
+        assertThat(stub.getStateBuffer("key"), is(ByteBuffer.wrap(value)));
+        assertThat(stub.getStateBuffer("key").isReadOnly(), is(true));
+        assertThat(stub.getPrivateDataBuffer("coll", "key"), is(ByteBuffer.wrap(value)));
+
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x00, 0x10, 0x20});
+        buffer.position(1);
+        doNothing().when(stub).putState(eq("key"), any());
+        doNothing().when(stub).putPrivateData(eq("coll"), eq("key"), any(byte[].class));
+        stub.putStateBuffer("key", buffer);
+        stub.putPrivateDataBuffer("coll", "key", buffer);
+        verify(stub).putState("key", value);
+        verify(stub).putPrivateData("coll", "key", value);
+        assertThat(buffer.position(), is(1));
+    }
+
+    @Test
+    public void getArgBuffersWrapsArgs() {
+        final byte[] arg = new byte[]{0x10, 0x20};
+        when(stub.getArgs()).thenReturn(Collections.singletonList(arg));
+        assertThat(stub.getArgBuffers(), contains(ByteBuffer.wrap(arg)));
+        assertThat(stub.getArgBuffers().get(0).isReadOnly(), is(true));
+    }
+}
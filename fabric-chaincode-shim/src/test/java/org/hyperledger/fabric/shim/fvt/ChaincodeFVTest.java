@@ -5,6 +5,8 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.hyperledger.fabric.shim.fvt;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.COMPLETED;
 import static org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage.Type.ERROR;
@@ -19,8 +21,10 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -47,6 +51,7 @@ import org.hyperledger.fabric.shim.mock.peer.GetHistoryForKeyStep;
 import org.hyperledger.fabric.shim.mock.peer.GetQueryResultStep;
 import org.hyperledger.fabric.shim.mock.peer.GetStateByRangeStep;
 import org.hyperledger.fabric.shim.mock.peer.GetStateMetadata;
+import org.hyperledger.fabric.shim.mock.peer.GetStateMultipleStep;
 import org.hyperledger.fabric.shim.mock.peer.GetValueStep;
 import org.hyperledger.fabric.shim.mock.peer.InvokeChaincodeStep;
 import org.hyperledger.fabric.shim.mock.peer.PutStateMetadata;
@@ -55,6 +60,7 @@ import org.hyperledger.fabric.shim.mock.peer.QueryCloseStep;
 import org.hyperledger.fabric.shim.mock.peer.QueryNextStep;
 import org.hyperledger.fabric.shim.mock.peer.RegisterStep;
 import org.hyperledger.fabric.shim.mock.peer.ScenarioStep;
+import org.hyperledger.fabric.shim.mock.peer.WriteBatchStep;
 import org.hyperledger.fabric.shim.utils.MessageUtil;
 import org.junit.After;
 import org.junit.Rule;
@@ -470,6 +476,214 @@ public class ChaincodeFVTest {
 
     }
 
+    @Test
+    public void testGetMultipleStates() throws Exception {
+        ChaincodeBase cb = new MultipleStatesChaincode();
+
+        Map<String, String> state = new HashMap<>();
+        state.put("a", "100");
+        state.put("b", "200");
+        state.put("c", "300");
+
+        List<ScenarioStep> scenario = new ArrayList<>();
+        scenario.add(new RegisterStep(ChaincodeShim.ChaincodeAdditionalParams.newBuilder()
+                .setUseGetMultipleKeys(true)
+                .setMaxSizeGetMultipleKeys(2)
+                .build()));
+        scenario.add(new GetStateMultipleStep(state));
+        scenario.add(new GetStateMultipleStep(state));
+        scenario.add(new CompleteStep());
+
+        setLogLevel("DEBUG");
+        server = ChaincodeMockPeer.startServer(scenario);
+
+        cb.start(new String[]{"-a", "127.0.0.1:7052", "-i", "testId"});
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 1, 5000, TimeUnit.MILLISECONDS);
+
+        server.send(MessageUtil.newEventMessage(TRANSACTION, "testChannel", "0", newInvokePayload("a", "b", "c"), null));
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 4, 5000, TimeUnit.MILLISECONDS);
+
+        assertThat(server.getLastMessageRcvd().getType(), is(COMPLETED));
+        assertThat(ProposalResponsePackage.Response.parseFrom(server.getLastMessageRcvd().getPayload()).getMessage(), is("100,200,300"));
+    }
+
+    @Test
+    public void testGetMultipleStatesFromOlderPeer() throws Exception {
+        ChaincodeBase cb = new MultipleStatesChaincode();
+
+        List<ScenarioStep> scenario = new ArrayList<>();
+        scenario.add(new RegisterStep());
+        scenario.add(new GetValueStep("100"));
+        scenario.add(new GetValueStep("200"));
+        scenario.add(new CompleteStep());
+
+        setLogLevel("DEBUG");
+        server = ChaincodeMockPeer.startServer(scenario);
+
+        cb.start(new String[]{"-a", "127.0.0.1:7052", "-i", "testId"});
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 1, 5000, TimeUnit.MILLISECONDS);
+
+        server.send(MessageUtil.newEventMessage(TRANSACTION, "testChannel", "0", newInvokePayload("a", "b"), null));
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 4, 5000, TimeUnit.MILLISECONDS);
+
+        assertThat(server.getLastMessageRcvd().getType(), is(COMPLETED));
+        assertThat(ProposalResponsePackage.Response.parseFrom(server.getLastMessageRcvd().getPayload()).getMessage(), is("100,200"));
+    }
+
+    @Test
+    public void testWriteBatch() throws Exception {
+        ChaincodeBase cb = new ChaincodeBase() {
+            @Override
+            public Response init(ChaincodeStub stub) {
+                return ResponseUtils.newSuccessResponse();
+            }
+
+            @Override
+            public Response invoke(ChaincodeStub stub) {
+                stub.putStringState("a", "100");
+                stub.putPrivateData("coll", "b", "200");
+                stub.delState("c");
+                stub.setStateValidationParameter("a", new byte[]{0x01});
+                stub.putStringState("a", "120");
+                return ResponseUtils.newSuccessResponse("OK");
+            }
+        };
+
+        WriteBatchStep firstBatch = new WriteBatchStep(2);
+        WriteBatchStep secondBatch = new WriteBatchStep(2);
+        List<ScenarioStep> scenario = new ArrayList<>();
+        scenario.add(new RegisterStep(ChaincodeShim.ChaincodeAdditionalParams.newBuilder()
+                .setUseWriteBatch(true)
+                .setMaxSizeWriteBatch(2)
+                .build()));
+        scenario.add(firstBatch);
+        scenario.add(secondBatch);
+        scenario.add(new CompleteStep());
+
+        setLogLevel("DEBUG");
+        server = ChaincodeMockPeer.startServer(scenario);
+
+        cb.start(new String[]{"-a", "127.0.0.1:7052", "-i", "testId"});
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 1, 5000, TimeUnit.MILLISECONDS);
+
+        server.send(MessageUtil.newEventMessage(TRANSACTION, "testChannel", "0", newInvokePayload(), null));
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 4, 5000, TimeUnit.MILLISECONDS);
+        assertThat(server.getLastMessageRcvd().getType(), is(COMPLETED));
+
+        List<ChaincodeShim.WriteRecord> records = new ArrayList<>(firstBatch.getRecords());
+        records.addAll(secondBatch.getRecords());
+        assertThat(records.get(0).getType(), is(ChaincodeShim.WriteRecord.Type.PUT_STATE));
+        assertThat(records.get(0).getKey(), is("a"));
+        assertThat(records.get(0).getValue().toStringUtf8(), is("120"));
+        assertThat(records.get(1).getCollection(), is("coll"));
+        assertThat(records.get(2).getType(), is(ChaincodeShim.WriteRecord.Type.DEL_STATE));
+        assertThat(records.get(2).getKey(), is("c"));
+        assertThat(records.get(3).getType(), is(ChaincodeShim.WriteRecord.Type.PUT_STATE_METADATA));
+        assertThat(records.get(3).getKey(), is("a"));
+    }
+
+    @Test
+    public void testCoalesceWritesForOlderPeer() throws Exception {
+        ChaincodeBase cb = new ChaincodeBase() {
+            @Override
+            public Response init(ChaincodeStub stub) {
+                return ResponseUtils.newSuccessResponse();
+            }
+
+            @Override
+            public Response invoke(ChaincodeStub stub) {
+                stub.putStringState("a", "100");
+                stub.putStringState("a", "120");
+                stub.delState("b");
+                stub.putStringState("b", "5");
+                stub.putStringState("c", "7");
+                stub.delState("c");
+                return ResponseUtils.newSuccessResponse("OK");
+            }
+        };
+
+        List<ScenarioStep> scenario = new ArrayList<>();
+        scenario.add(new RegisterStep());
+        scenario.add(new PutValueStep("120"));
+        scenario.add(new PutValueStep("5"));
+        scenario.add(new DelValueStep());
+        scenario.add(new CompleteStep());
+
+        setLogLevel("DEBUG");
+        server = ChaincodeMockPeer.startServer(scenario);
+
+        cb.start(new String[]{"-a", "127.0.0.1:7052", "-i", "testId", "--coalesceWrites"});
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 1, 5000, TimeUnit.MILLISECONDS);
+
+        server.send(MessageUtil.newEventMessage(TRANSACTION, "testChannel", "0", newInvokePayload(), null));
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 5, 5000, TimeUnit.MILLISECONDS);
+        assertThat(server.getLastMessageRcvd().getType(), is(COMPLETED));
+    }
+
+    @Test
+    public void testWriteBatchNotSentOnError() throws Exception {
+        ChaincodeBase cb = new ChaincodeBase() {
+            @Override
+            public Response init(ChaincodeStub stub) {
+                return ResponseUtils.newSuccessResponse();
+            }
+
+            @Override
+            public Response invoke(ChaincodeStub stub) {
+                stub.putStringState("a", "100");
+                return ResponseUtils.newErrorResponse("Wrong invoke");
+            }
+        };
+
+        List<ScenarioStep> scenario = new ArrayList<>();
+        scenario.add(new RegisterStep(ChaincodeShim.ChaincodeAdditionalParams.newBuilder()
+                .setUseWriteBatch(true)
+                .build()));
+        scenario.add(new ErrorResponseStep());
+
+        setLogLevel("DEBUG");
+        server = ChaincodeMockPeer.startServer(scenario);
+
+        cb.start(new String[]{"-a", "127.0.0.1:7052", "-i", "testId"});
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 1, 5000, TimeUnit.MILLISECONDS);
+
+        server.send(MessageUtil.newEventMessage(TRANSACTION, "testChannel", "0", newInvokePayload(), null));
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 2, 5000, TimeUnit.MILLISECONDS);
+
+        // nothing was written to the peer before the error
+        List<ChaincodeShim.ChaincodeMessage.Type> types = new ArrayList<>();
+        for (ChaincodeShim.ChaincodeMessage message : server.getMessagesRcvd()) {
+            types.add(message.getType());
+        }
+        assertThat(types, contains(REGISTER, ERROR));
+    }
+
+    private static ByteString newInvokePayload(String... keys) {
+        Chaincode.ChaincodeInput.Builder input = Chaincode.ChaincodeInput.newBuilder()
+                .addArgs(ByteString.copyFromUtf8("invoke"));
+        for (String key : keys) {
+            input.addArgs(ByteString.copyFromUtf8(key));
+        }
+        return input.build().toByteString();
+    }
+
+    private static class MultipleStatesChaincode extends ChaincodeBase {
+        @Override
+        public Response init(ChaincodeStub stub) {
+            return ResponseUtils.newSuccessResponse();
+        }
+
+        @Override
+        public Response invoke(ChaincodeStub stub) {
+            List<String> keys = stub.getParameters();
+            List<String> values = new ArrayList<>();
+            for (byte[] value : stub.getMultipleStates(keys.toArray(new String[0]))) {
+                values.add(new String(value, UTF_8));
+            }
+            return ResponseUtils.newSuccessResponse(String.join(",", values));
+        }
+    }
+
     @Test
     public void testInvokeChaincode() throws Exception {
         ChaincodeBase cb = new ChaincodeBase() {
@@ -611,6 +825,7 @@ public class ChaincodeFVTest {
         server = ChaincodeMockPeer.startServer(scenario);
 
         cb.start(new String[]{"-a", "127.0.0.1:7052", "-i", "testId"});
+        ChaincodeMockPeer.checkScenarioStepEnded(server, 1, 5000, TimeUnit.MILLISECONDS);
 
         assertEquals("Wrong debug level for " + cb.getClass().getPackage().getName(), Level.FINEST, Logger.getLogger(cb.getClass().getPackage().getName()).getLevel());
 
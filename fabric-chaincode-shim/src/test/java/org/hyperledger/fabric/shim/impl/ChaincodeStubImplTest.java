@@ -9,21 +9,27 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hyperledger.fabric.protos.common.Common.HeaderType.ENDORSER_TRANSACTION_VALUE;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -44,6 +50,7 @@ import org.hyperledger.fabric.protos.peer.ChaincodeEventPackage.ChaincodeEvent;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResponse;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim.QueryResultBytes;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord;
 import org.hyperledger.fabric.protos.peer.ProposalPackage.ChaincodeProposalPayload;
 import org.hyperledger.fabric.protos.peer.ProposalPackage.Proposal;
 import org.hyperledger.fabric.protos.peer.ProposalPackage.SignedProposal;
@@ -58,6 +65,8 @@ import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -80,6 +89,9 @@ public class ChaincodeStubImplTest {
     @Mock
     private Handler handler;
 
+    @Captor
+    private ArgumentCaptor<List<WriteRecord>> records;
+
     @Test
     public void testGetArgs() {
         List<ByteString> args = Arrays.asList(
@@ -88,6 +100,26 @@ public class ChaincodeStubImplTest {
                 ByteString.copyFromUtf8("arg2"));
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, args, null);
         assertThat(stub.getArgs(), contains(args.stream().map(ByteString::toByteArray).toArray()));
+
+        // each caller gets its own copy
+        final List<byte[]> copy = stub.getArgs();
+        copy.get(0)[0] = 'X';
+        copy.add(new byte[0]);
+        assertThat(stub.getArgs(), contains(args.stream().map(ByteString::toByteArray).toArray()));
+    }
+
+    @Test
+    public void testGetArgBuffers() {
+        List<ByteString> args = Arrays.asList(
+                ByteString.copyFromUtf8("arg0"),
+                ByteString.copyFromUtf8("arg1"));
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, args, null);
+        final List<ByteBuffer> buffers = stub.getArgBuffers();
+        assertThat(buffers, contains(args.stream().map(ByteString::asReadOnlyByteBuffer).toArray()));
+        assertThat(buffers.get(0).isReadOnly(), is(true));
+
+        buffers.get(0).get();
+        assertThat("Buffers shared between callers", stub.getArgBuffers().get(0).position(), is(0));
     }
 
     @Test
@@ -98,6 +130,12 @@ public class ChaincodeStubImplTest {
                 ByteString.copyFromUtf8("arg2"));
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, args, null);
         assertThat(stub.getStringArgs(), contains(args.stream().map(ByteString::toStringUtf8).toArray()));
+
+        // each caller gets its own copy
+        final List<String> copy = stub.getStringArgs();
+        copy.remove(0);
+        Collections.sort(copy, Collections.reverseOrder());
+        assertThat(stub.getStringArgs(), contains(args.stream().map(ByteString::toStringUtf8).toArray()));
     }
 
     @Test
@@ -108,6 +146,7 @@ public class ChaincodeStubImplTest {
                 ByteString.copyFromUtf8("arg1"));
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, args, null);
         assertThat(stub.getFunction(), is("function"));
+        assertThat(new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null).getFunction(), is(nullValue()));
     }
 
     @Test
@@ -118,6 +157,11 @@ public class ChaincodeStubImplTest {
                 ByteString.copyFromUtf8("arg1"));
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, args, null);
         assertThat(stub.getParameters(), contains("arg0", "arg1"));
+        assertThat(new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null).getParameters(), is(empty()));
+
+        stub.getParameters().add("arg2");
+        assertThat(stub.getParameters(), contains("arg0", "arg1"));
+        assertThat(stub.getFunction(), is("function"));
     }
 
     @Test
@@ -165,6 +209,69 @@ public class ChaincodeStubImplTest {
         assertThat(stub.getState("key"), is(value));
     }
 
+    @Test
+    public void testGetStateBuffer() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
+        final byte[] value = new byte[]{0x10, 0x20, 0x30};
+        when(handler.getState("myc", "txId", "", "key")).thenReturn(ByteString.copyFrom(value));
+        final ByteBuffer buffer = stub.getStateBuffer("key");
+        assertThat(buffer, is(ByteBuffer.wrap(value)));
+        assertThat(buffer.isReadOnly(), is(true));
+        assertThat(stub.getStringState("key"), is(new String(value, UTF_8)));
+    }
+
+    @Test
+    public void testGetMultipleStates() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
+        final byte[] value1 = new byte[]{0x10, 0x20, 0x30};
+        final byte[] value2 = new byte[]{0x40};
+        when(handler.getStateMultiple("myc", "txId", "", Arrays.asList("key1", "key2")))
+                .thenReturn(Arrays.asList(ByteString.copyFrom(value1), ByteString.copyFrom(value2)));
+        final List<byte[]> values = stub.getMultipleStates("key1", "key2");
+        assertThat(values.size(), is(2));
+        assertThat(values.get(0), is(value1));
+        assertThat(values.get(1), is(value2));
+    }
+
+    @Test
+    public void testReadCache() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
+        final ByteString value = ByteString.copyFrom(new byte[]{0x10, 0x20, 0x30});
+        final Map<String, ByteString> metadata = Collections.singletonMap(TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString(), value);
+        when(handler.getState("myc", "txId", "", "key")).thenReturn(value);
+        doReturn(value).when(handler).getState("myc", "txId", "testcoll", "key");
+        when(handler.getPrivateDataHash("myc", "txId", "testcoll", "key")).thenReturn(value);
+        when(handler.getStateMetadata("myc", "txId", "", "key")).thenReturn(metadata);
+        when(handler.getStateMultiple("myc", "txId", "", Arrays.asList("key2"))).thenReturn(Arrays.asList(ByteString.EMPTY));
+
+        stub.startReadCache(0);
+        for (int i = 0; i < 3; i++) {
+            assertThat(stub.getState("key"), is(value.toByteArray()));
+            assertThat(stub.getPrivateData("testcoll", "key"), is(value.toByteArray()));
+            assertThat(stub.getPrivateDataHash("testcoll", "key"), is(value.toByteArray()));
+            assertThat(stub.getStateValidationParameter("key"), is(value.toByteArray()));
+        }
+        final List<byte[]> values = stub.getMultipleStates("key", "key2", "key2");
+        assertThat(values.get(0), is(value.toByteArray()));
+        assertThat(values.get(1), is(new byte[0]));
+        assertThat(values.get(2), is(new byte[0]));
+        assertThat(stub.getMultipleStates("key2").get(0), is(new byte[0]));
+
+        verify(handler, times(1)).getState("myc", "txId", "", "key");
+        verify(handler, times(1)).getState("myc", "txId", "testcoll", "key");
+        verify(handler, times(1)).getPrivateDataHash("myc", "txId", "testcoll", "key");
+        verify(handler, times(1)).getStateMetadata("myc", "txId", "", "key");
+        verify(handler, times(1)).getStateMultiple(anyString(), anyString(), anyString(), anyList());
+
+        final ReadCache cache = stub.finishReadCache();
+        assertThat(cache.getHits(), is(10L));
+        assertThat(cache.getMisses(), is(5L));
+        assertThat(stub.finishReadCache(), is(nullValue()));
+
+        stub.getState("key");
+        verify(handler, times(2)).getState("myc", "txId", "", "key");
+    }
+
     @Test
     public void testGetStateValidationParameter() {
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
@@ -206,6 +313,50 @@ public class ChaincodeStubImplTest {
         }
     }
 
+    @Test
+    public void testPutStateBuffer() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x00, 0x10, 0x20, 0x30});
+        buffer.position(1);
+        stub.putStateBuffer("key", buffer);
+        verify(handler).putState("myc", "txId", "", "key", ByteString.copyFrom(new byte[]{0x10, 0x20, 0x30}));
+        assertThat(buffer.position(), is(1));
+        try {
+            stub.putStateBuffer("", buffer);
+            Assert.fail("Empty key check fails");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testWriteBatch() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
+        final byte[] value = new byte[]{0x10, 0x20, 0x30};
+        stub.startWriteBatch();
+        stub.putState("key", value);
+        stub.setPrivateDataValidationParameter("testcoll", "key", value);
+        stub.delPrivateData("testcoll", "key");
+        verify(handler, never()).putState(anyString(), anyString(), anyString(), anyString(), any());
+        verify(handler, never()).putStateMetadata(anyString(), anyString(), anyString(), anyString(), anyString(), any());
+        verify(handler, never()).deleteState(anyString(), anyString(), anyString(), anyString());
+
+        stub.finishWriteBatch();
+        verify(handler).writeBatchState(eq("myc"), eq("txId"), records.capture());
+        assertThat(records.getValue(), hasSize(3));
+        assertThat(records.getValue().get(0).getType(), is(WriteRecord.Type.PUT_STATE));
+        assertThat(records.getValue().get(0).getValue(), is(ByteString.copyFrom(value)));
+        assertThat(records.getValue().get(1).getType(), is(WriteRecord.Type.PUT_STATE_METADATA));
+        assertThat(records.getValue().get(1).getMetadata().getMetakey(), is(TransactionPackage.MetaDataKeys.VALIDATION_PARAMETER.toString()));
+        assertThat(records.getValue().get(2).getType(), is(WriteRecord.Type.DEL_STATE));
+        assertThat(records.getValue().get(2).getCollection(), is("testcoll"));
+
+        // writes after the batch is finished go straight to the peer
+        stub.delState("key");
+        verify(handler).deleteState("myc", "txId", "", "key");
+        stub.finishWriteBatch();
+        verify(handler, times(1)).writeBatchState(anyString(), anyString(), anyList());
+    }
+
     @Test
     public void testSetStateValidationParameter() {
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
@@ -490,6 +641,38 @@ public class ChaincodeStubImplTest {
         }
     }
 
+    @Test
+    public void testGetPrivateDataBuffer() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
+        final byte[] value = new byte[]{0x10, 0x20, 0x30};
+        when(handler.getState("myc", "txId", "testcoll", "key")).thenReturn(ByteString.copyFrom(value));
+        final ByteBuffer buffer = stub.getPrivateDataBuffer("testcoll", "key");
+        assertThat(buffer, is(ByteBuffer.wrap(value)));
+        assertThat(buffer.isReadOnly(), is(true));
+        assertThat(stub.getPrivateDataUTF8("testcoll", "key"), is(new String(value, UTF_8)));
+        try {
+            stub.getPrivateDataBuffer("", "key");
+            Assert.fail("Empty collection check fails");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testGetMultiplePrivateData() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
+        final byte[] value = new byte[]{0x10, 0x20, 0x30};
+        when(handler.getStateMultiple("myc", "txId", "testcoll", Arrays.asList("key1", "key2")))
+                .thenReturn(Arrays.asList(ByteString.copyFrom(value), ByteString.EMPTY));
+        final List<byte[]> values = stub.getMultiplePrivateData("testcoll", "key1", "key2");
+        assertThat(values.get(0), is(value));
+        assertThat(values.get(1), is(new byte[0]));
+        try {
+            stub.getMultiplePrivateData("", "key1", "key2");
+            Assert.fail("Empty collection check fails");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
     @Test
     public void testGetPrivateDataHash() {
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
@@ -540,6 +723,19 @@ public class ChaincodeStubImplTest {
         }
     }
 
+    @Test
+    public void testPutPrivateDataBuffer() {
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
+        final ByteString value = ByteString.copyFrom(new byte[]{0x10, 0x20, 0x30});
+        stub.putPrivateDataBuffer("testcoll", "key", value.asReadOnlyByteBuffer());
+        verify(handler).putState("myc", "txId", "testcoll", "key", value);
+        try {
+            stub.putPrivateDataBuffer("", "key", value.asReadOnlyByteBuffer());
+            Assert.fail("Empty collection check fails");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
     @Test
     public void testPutPrivateData() {
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txId", handler, Collections.emptyList(), null);
@@ -929,6 +1125,9 @@ public class ChaincodeStubImplTest {
                 ).build();
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txid", handler, new ArrayList<>(), signedProposal);
         assertThat(stub.getBinding(), is(expectedDigest));
+        assertThat("Binding computed again", stub.getBinding(), is(sameInstance(stub.getBinding())));
+        // the digest is reused by the next stub on this thread
+        assertThat(new ChaincodeStubImpl("myc", "txid", handler, new ArrayList<>(), signedProposal).getBinding(), is(expectedDigest));
     }
 
     @Test
@@ -937,4 +1136,52 @@ public class ChaincodeStubImplTest {
         final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txid", handler, new ArrayList<>(), signedProposal);
         assertThat(stub.getBinding(), is((byte[]) null));
     }
+
+    @Test
+    public void testMalformedProposalRejected() {
+        final SignedProposal signedProposal = SignedProposal.newBuilder().setProposalBytes(ByteString.copyFromUtf8("not a proposal")).build();
+        thrown.expect(RuntimeException.class);
+        thrown.expectCause(Matchers.isA(InvalidProtocolBufferException.class));
+        new ChaincodeStubImpl("myc", "txid", handler, new ArrayList<>(), signedProposal);
+    }
+
+    @Test
+    public void testInvalidProposalTypeRejected() {
+        final SignedProposal signedProposal = SignedProposal.newBuilder()
+                .setProposalBytes(Proposal.newBuilder()
+                        .setHeader(Header.newBuilder()
+                                .setChannelHeader(ChannelHeader.newBuilder()
+                                        .setType(ENDORSER_TRANSACTION_VALUE + 1)
+                                        .build().toByteString()
+                                )
+                                .build().toByteString()
+                        )
+                        .build().toByteString()
+                ).build();
+        thrown.expect(RuntimeException.class);
+        thrown.expectMessage("Unexpected transaction type");
+        new ChaincodeStubImpl("myc", "txid", handler, new ArrayList<>(), signedProposal);
+    }
+
+    @Test
+    public void testProposalDecodedOnFirstUse() {
+        final SignedProposal signedProposal = SignedProposal.newBuilder()
+                .setProposalBytes(Proposal.newBuilder()
+                        .setHeader(Header.newBuilder()
+                                .setChannelHeader(ChannelHeader.newBuilder()
+                                        .setType(ENDORSER_TRANSACTION_VALUE)
+                                        .build().toByteString()
+                                )
+                                .setSignatureHeader(ByteString.copyFromUtf8("not a signature header"))
+                                .build().toByteString()
+                        )
+                        .build().toByteString()
+                ).build();
+        final ChaincodeStubImpl stub = new ChaincodeStubImpl("myc", "txid", handler, new ArrayList<>(), signedProposal);
+        assertThat(stub.getSignedProposal(), is(signedProposal));
+
+        thrown.expect(RuntimeException.class);
+        thrown.expectCause(Matchers.isA(InvalidProtocolBufferException.class));
+        stub.getTxTimestamp();
+    }
 }
@@ -0,0 +1,145 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage;
+import org.hyperledger.fabric.protos.peer.ChaincodeSupportGrpc;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+public class ChaincodeSupportStreamTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Server server;
+
+    @After
+    public void afterEach() {
+        if (server != null) {
+            server.shutdownNow();
+        }
+    }
+
+    private static ChaincodeMessage message(final String txId) {
+        return ChaincodeMessage.newBuilder().setType(ChaincodeMessage.Type.PUT_STATE).setTxid(txId).build();
+    }
+
+    /**
+     * Starts an in-process peer that records the transaction ids of the messages it receives.
+     */
+    private CountDownLatch startPeer(final String name, final List<String> received, final int expected) throws Exception {
+        final CountDownLatch done = new CountDownLatch(expected);
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(new ChaincodeSupportGrpc.ChaincodeSupportImplBase() {
+            @Override
+            public StreamObserver<ChaincodeMessage> register(final StreamObserver<ChaincodeMessage> responseObserver) {
+                return new StreamObserver<ChaincodeMessage>() {
+                    @Override
+                    public void onNext(final ChaincodeMessage value) {
+                        received.add(value.getTxid());
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onError(final Throwable t) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                };
+            }
+        }).build().start();
+        return done;
+    }
+
+    private static void send(final ChaincodeSupportStream stream, final Queue<ChaincodeMessage> outbound, final String... txIds) {
+        for (final String txId : txIds) {
+            outbound.add(message(txId));
+            stream.onOutboundMessage();
+        }
+    }
+
+    @Test
+    public void writesQueuedMessages() throws Exception {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = startPeer("writesQueuedMessages", received, 3);
+        final Queue<ChaincodeMessage> outbound = new ConcurrentLinkedQueue<>();
+        outbound.add(message("tx1"));
+
+        final ChaincodeSupportStream stream = new ChaincodeSupportStream(InProcessChannelBuilder.forName("writesQueuedMessages"), m -> { },
+                outbound::poll, ChaincodeSupportStream.DEFAULT_MAX_BATCH_SIZE, 0);
+        stream.onOutboundMessage();
+        send(stream, outbound, "tx2", "tx3");
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(received, contains("tx1", "tx2", "tx3"));
+    }
+
+    @Test
+    public void writesAfterLinger() throws Exception {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = startPeer("writesAfterLinger", received, 3);
+        final Queue<ChaincodeMessage> outbound = new ConcurrentLinkedQueue<>();
+
+        final ChaincodeSupportStream stream = new ChaincodeSupportStream(InProcessChannelBuilder.forName("writesAfterLinger"), m -> { },
+                outbound::poll, 100, 50);
+        send(stream, outbound, "tx1", "tx2", "tx3");
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(received, contains("tx1", "tx2", "tx3"));
+    }
+
+    @Test
+    public void writesFullBatchWithoutLinger() throws Exception {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = startPeer("writesFullBatchWithoutLinger", received, 2);
+        final Queue<ChaincodeMessage> outbound = new ConcurrentLinkedQueue<>();
+
+        final ChaincodeSupportStream stream = new ChaincodeSupportStream(InProcessChannelBuilder.forName("writesFullBatchWithoutLinger"), m -> { },
+                outbound::poll, 2, TimeUnit.MINUTES.toMillis(10));
+        // both are queued first, so that neither can be written alone when the stream becomes ready
+        outbound.add(message("tx1"));
+        outbound.add(message("tx2"));
+        stream.onOutboundMessage();
+        stream.onOutboundMessage();
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(received, contains("tx1", "tx2"));
+    }
+
+    @Test
+    public void invalidBatchSize() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Maximum batch size must be at least 1");
+        new ChaincodeSupportStream(InProcessChannelBuilder.forName("invalid"), m -> { }, () -> null, 0, 0);
+    }
+
+    @Test
+    public void invalidLinger() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Linger time must not be negative");
+        new ChaincodeSupportStream(InProcessChannelBuilder.forName("invalid"), m -> { }, () -> null, 1, -1);
+    }
+}
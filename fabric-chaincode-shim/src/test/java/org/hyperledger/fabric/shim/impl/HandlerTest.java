@@ -5,12 +5,26 @@ SPDX-License-Identifier: Apache-2.0
 */
 package org.hyperledger.fabric.shim.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.google.protobuf.ByteString;
+import org.hyperledger.fabric.protos.common.Common;
 import org.hyperledger.fabric.protos.peer.Chaincode;
 import org.hyperledger.fabric.protos.peer.ChaincodeShim;
+import org.hyperledger.fabric.protos.peer.ProposalPackage;
 import org.hyperledger.fabric.shim.ChaincodeBase;
 import org.hyperledger.fabric.shim.ChaincodeBaseTest;
+import org.hyperledger.fabric.shim.ChaincodeStub;
+import org.hyperledger.fabric.shim.ResponseUtils;
 import org.hyperledger.fabric.shim.chaincode.EmptyChaincode;
+import org.hamcrest.Matchers;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -88,10 +102,279 @@ public class HandlerTest {
                 .setTxid("q")
                 .setPayload(ByteString.copyFromUtf8(""))
                 .build();
-        // Error message, except exception, no open communication
-        thrown.expect(IllegalStateException.class);
+        // Error message with no open communication is dropped
         handler.onChaincodeMessage(errorMsg);
         Assert.assertEquals("Not correct handler state", Handler.CCState.READY, handler.getState());
 
     }
+
+    @Test
+    public void testConcurrentResponses() throws Exception {
+        ChaincodeBase cb = new EmptyChaincode();
+        Chaincode.ChaincodeID chaincodeId = Chaincode.ChaincodeID.newBuilder().setName("mycc").build();
+        Handler handler = new Handler(chaincodeId, cb);
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder().setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED).build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder().setType(ChaincodeShim.ChaincodeMessage.Type.READY).build());
+        Assert.assertEquals("Not register message", ChaincodeShim.ChaincodeMessage.Type.REGISTER, handler.nextOutboundChaincodeMessage().getType());
+
+        int transactions = 64;
+        ExecutorService senders = Executors.newFixedThreadPool(transactions);
+        ExecutorService responders = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ByteString>> values = new ArrayList<>();
+            for (int i = 0; i < transactions; i++) {
+                String txId = "tx" + i;
+                values.add(senders.submit(() -> handler.getState("mychannel", txId, "", "key")));
+            }
+            for (int i = 0; i < transactions; i++) {
+                ChaincodeShim.ChaincodeMessage request = handler.nextOutboundChaincodeMessage();
+                responders.execute(() -> handler.onChaincodeMessage(request.toBuilder()
+                        .setType(ChaincodeShim.ChaincodeMessage.Type.RESPONSE)
+                        .setPayload(ByteString.copyFromUtf8(request.getTxid()))
+                        .build()));
+            }
+            for (int i = 0; i < transactions; i++) {
+                Assert.assertEquals("Wrong value", "tx" + i, values.get(i).get(5, TimeUnit.SECONDS).toStringUtf8());
+            }
+        } finally {
+            senders.shutdownNow();
+            responders.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOutboundQueueSize() throws Exception {
+        ChaincodeBase cb = new EmptyChaincode();
+        Chaincode.ChaincodeID chaincodeId = Chaincode.ChaincodeID.newBuilder().setName("mycc").build();
+        Handler handler = new Handler(chaincodeId, cb);
+        handler.setOutboundQueueSize(1);
+        AtomicInteger queued = new AtomicInteger();
+        handler.setOutboundListener(queued::incrementAndGet);
+        Assert.assertEquals("Listener not told about register message", 1, queued.get());
+
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder().setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED).build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder().setType(ChaincodeShim.ChaincodeMessage.Type.READY).build());
+
+        // the queue is full with the register message, so the transaction waits
+        Thread sender = new Thread(() -> handler.getState("mychannel", "tx1", "", "key"));
+        sender.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sender.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals("Sender not waiting", Thread.State.WAITING, sender.getState());
+        Assert.assertEquals("Message queued while full", 1, queued.get());
+
+        Assert.assertEquals("Not register message", ChaincodeShim.ChaincodeMessage.Type.REGISTER, handler.pollOutboundChaincodeMessage().getType());
+        ChaincodeShim.ChaincodeMessage request = handler.nextOutboundChaincodeMessage();
+        Assert.assertEquals("Not get state message", ChaincodeShim.ChaincodeMessage.Type.GET_STATE, request.getType());
+        // the listener runs after the message is queued, so may not have yet
+        deadline = System.currentTimeMillis() + 5000;
+        while (queued.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals("Listener not told about get state message", 2, queued.get());
+        Assert.assertNull("Unexpected message", handler.pollOutboundChaincodeMessage());
+
+        handler.onChaincodeMessage(request.toBuilder().setType(ChaincodeShim.ChaincodeMessage.Type.RESPONSE).build());
+        sender.join(5000);
+
+        thrown.expect(IllegalArgumentException.class);
+        handler.setOutboundQueueSize(0);
+    }
+
+    @Test
+    public void testMessageTracing() {
+        ChaincodeBase cb = new EmptyChaincode();
+        Chaincode.ChaincodeID chaincodeId = Chaincode.ChaincodeID.newBuilder().setName("mycc").build();
+        Handler handler = new Handler(chaincodeId, cb);
+        Assert.assertFalse("Tracing enabled by default", handler.getMessageTracer().isEnabled());
+
+        MessageTracer tracer = new MessageTracer(8, 1, 0);
+        handler.setMessageTracer(tracer);
+        Assert.assertSame("Tracer not set", tracer, handler.getMessageTracer());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder().setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED).build());
+
+        List<MessageTracer.Entry> entries = tracer.snapshot();
+        Assert.assertEquals("Inbound message not traced", 1, entries.size());
+        Assert.assertEquals("Not inbound", MessageTracer.Direction.INBOUND, entries.get(0).getDirection());
+        Assert.assertEquals("Not registered message", ChaincodeShim.ChaincodeMessage.Type.REGISTERED, entries.get(0).getType());
+    }
+
+    @Test
+    public void testInvalidProposalType() {
+        AtomicInteger invoked = new AtomicInteger();
+        ChaincodeBase cb = new EmptyChaincode() {
+            @Override
+            public Response invoke(ChaincodeStub stub) {
+                invoked.incrementAndGet();
+                return ResponseUtils.newSuccessResponse();
+            }
+        };
+        Chaincode.ChaincodeID chaincodeId = Chaincode.ChaincodeID.newBuilder().setName("mycc").build();
+        Handler handler = new Handler(chaincodeId, cb, Runnable::run);
+
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.READY)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.TRANSACTION)
+                .setChannelId("mychannel")
+                .setTxid("tx1")
+                .setPayload(Chaincode.ChaincodeInput.newBuilder().build().toByteString())
+                .setProposal(ProposalPackage.SignedProposal.newBuilder()
+                        .setProposalBytes(ProposalPackage.Proposal.newBuilder()
+                                .setHeader(Common.Header.newBuilder()
+                                        .setChannelHeader(Common.ChannelHeader.newBuilder()
+                                                .setType(Common.HeaderType.CONFIG_UPDATE_VALUE)
+                                                .build().toByteString())
+                                        .build().toByteString())
+                                .build().toByteString()))
+                .build());
+
+        Assert.assertEquals("Not register message", ChaincodeShim.ChaincodeMessage.Type.REGISTER, handler.nextOutboundChaincodeMessage().getType());
+        ChaincodeShim.ChaincodeMessage reply = handler.nextOutboundChaincodeMessage();
+        Assert.assertEquals("Not error message", ChaincodeShim.ChaincodeMessage.Type.ERROR, reply.getType());
+        Assert.assertThat("Wrong payload", reply.getPayload().toStringUtf8(), Matchers.containsString("Unexpected transaction type"));
+        Assert.assertEquals("Chaincode invoked", 0, invoked.get());
+    }
+
+    @Test
+    public void testRejectedTransaction() {
+        ChaincodeBase cb = new EmptyChaincode();
+        Chaincode.ChaincodeID chaincodeId = Chaincode.ChaincodeID.newBuilder().setName("mycc").build();
+        Handler handler = new Handler(chaincodeId, cb, command -> {
+            throw new RejectedExecutionException("Executor full");
+        });
+
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.READY)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.TRANSACTION)
+                .setChannelId("mychannel")
+                .setTxid("tx1")
+                .setPayload(Chaincode.ChaincodeInput.newBuilder().build().toByteString())
+                .build());
+
+        Assert.assertEquals("Not register message", ChaincodeShim.ChaincodeMessage.Type.REGISTER, handler.nextOutboundChaincodeMessage().getType());
+        ChaincodeShim.ChaincodeMessage reply = handler.nextOutboundChaincodeMessage();
+        Assert.assertEquals("Not error message", ChaincodeShim.ChaincodeMessage.Type.ERROR, reply.getType());
+        Assert.assertEquals("Wrong txid", "tx1", reply.getTxid());
+        Assert.assertEquals("Wrong channel", "mychannel", reply.getChannelId());
+        Assert.assertEquals("Wrong payload", "Executor full", reply.getPayload().toStringUtf8());
+    }
+
+    @Test
+    public void testDiscardedTransaction() {
+        ChaincodeBase cb = new EmptyChaincode();
+        Chaincode.ChaincodeID chaincodeId = Chaincode.ChaincodeID.newBuilder().setName("mycc").build();
+        Handler handler = new Handler(chaincodeId, cb,
+                command -> ((InvocationTaskExecutor.RejectableTask) command).reject(new RejectedExecutionException("Discarded")));
+
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.READY)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.INIT)
+                .setChannelId("mychannel")
+                .setTxid("tx2")
+                .setPayload(Chaincode.ChaincodeInput.newBuilder().build().toByteString())
+                .build());
+
+        Assert.assertEquals("Not register message", ChaincodeShim.ChaincodeMessage.Type.REGISTER, handler.nextOutboundChaincodeMessage().getType());
+        ChaincodeShim.ChaincodeMessage reply = handler.nextOutboundChaincodeMessage();
+        Assert.assertEquals("Not error message", ChaincodeShim.ChaincodeMessage.Type.ERROR, reply.getType());
+        Assert.assertEquals("Wrong txid", "tx2", reply.getTxid());
+        Assert.assertEquals("Wrong payload", "Discarded", reply.getPayload().toStringUtf8());
+    }
+
+    @Test
+    public void testResponseTimeout() {
+        ChaincodeBase cb = new EmptyChaincode() {
+            @Override
+            public Response invoke(ChaincodeStub stub) {
+                return ResponseUtils.newSuccessResponse(stub.getState("a"));
+            }
+        };
+        Chaincode.ChaincodeID chaincodeId = Chaincode.ChaincodeID.newBuilder().setName("mycc").build();
+        Handler handler = new Handler(chaincodeId, cb, Runnable::run);
+        handler.setResponseTimeout(100, TimeUnit.MILLISECONDS);
+
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.READY)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.TRANSACTION)
+                .setChannelId("mychannel")
+                .setTxid("tx3")
+                .setPayload(Chaincode.ChaincodeInput.newBuilder().build().toByteString())
+                .build());
+
+        Assert.assertEquals("Not register message", ChaincodeShim.ChaincodeMessage.Type.REGISTER, handler.nextOutboundChaincodeMessage().getType());
+        Assert.assertEquals("Not get state message", ChaincodeShim.ChaincodeMessage.Type.GET_STATE, handler.nextOutboundChaincodeMessage().getType());
+        ChaincodeShim.ChaincodeMessage reply = handler.nextOutboundChaincodeMessage();
+        Assert.assertEquals("Not error message", ChaincodeShim.ChaincodeMessage.Type.ERROR, reply.getType());
+        Assert.assertEquals("Wrong txid", "tx3", reply.getTxid());
+        Assert.assertThat("Wrong payload", reply.getPayload().toStringUtf8(), Matchers.containsString("No response received within 100 ms"));
+
+        // a response arriving after the request was abandoned is dropped,
+        // rather than failing the stream to the peer
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.RESPONSE)
+                .setChannelId("mychannel")
+                .setTxid("tx3")
+                .build());
+        Assert.assertNull("Unexpected message", handler.pollOutboundChaincodeMessage());
+    }
+
+    @Test
+    public void testReadCache() throws Exception {
+        ChaincodeBase cb = new EmptyChaincode() {
+            @Override
+            public Response invoke(ChaincodeStub stub) {
+                stub.getState("a");
+                return ResponseUtils.newSuccessResponse(stub.getState("a"));
+            }
+        };
+        Chaincode.ChaincodeID chaincodeId = Chaincode.ChaincodeID.newBuilder().setName("mycc").build();
+        Handler handler = new Handler(chaincodeId, cb);
+
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.READY)
+                .build());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.TRANSACTION)
+                .setChannelId("mychannel")
+                .setTxid("tx4")
+                .setPayload(Chaincode.ChaincodeInput.newBuilder().build().toByteString())
+                .build());
+
+        Assert.assertEquals("Not register message", ChaincodeShim.ChaincodeMessage.Type.REGISTER, handler.nextOutboundChaincodeMessage().getType());
+        Assert.assertEquals("Not get state message", ChaincodeShim.ChaincodeMessage.Type.GET_STATE, handler.nextOutboundChaincodeMessage().getType());
+        handler.onChaincodeMessage(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.RESPONSE)
+                .setChannelId("mychannel")
+                .setTxid("tx4")
+                .setPayload(ByteString.copyFromUtf8("100"))
+                .build());
+        Assert.assertEquals("Not completed message", ChaincodeShim.ChaincodeMessage.Type.COMPLETED, handler.nextOutboundChaincodeMessage().getType());
+        Assert.assertEquals("Wrong read cache hits", 1, handler.getReadCacheHits());
+        Assert.assertEquals("Wrong read cache misses", 1, handler.getReadCacheMisses());
+    }
 }
@@ -0,0 +1,144 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hyperledger.fabric.shim.impl.InvocationTaskExecutor.RejectableTask;
+import org.hyperledger.fabric.shim.impl.InvocationTaskExecutor.RejectionPolicy;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class InvocationTaskExecutorTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private InvocationTaskExecutor executor;
+
+    @After
+    public void afterTest() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void runsTasks() throws Exception {
+        executor = new InvocationTaskExecutor();
+        final CountDownLatch done = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(done::countDown);
+        }
+        assertTrue("Tasks not run", done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void runsMoreThanCoreTasksConcurrently() throws Exception {
+        executor = new InvocationTaskExecutor(2, 8, 100, RejectionPolicy.ERROR);
+        final CountDownLatch started = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                block();
+            });
+        }
+        assertTrue("Tasks queued behind the core threads", started.await(5, TimeUnit.SECONDS));
+        assertThat(executor.getQueue().size(), is(0));
+    }
+
+    @Test
+    public void keepsCoreThreads() {
+        executor = new InvocationTaskExecutor(2, 8, 100, RejectionPolicy.ERROR);
+        assertThat(executor.getPoolSize(), is(2));
+        assertThat(executor.allowsCoreThreadTimeOut(), is(false));
+    }
+
+    @Test
+    public void idleWorkersRunTasks() throws Exception {
+        executor = new InvocationTaskExecutor(2, 8, 100, RejectionPolicy.ERROR);
+        for (int i = 0; i < 5; i++) {
+            final CountDownLatch done = new CountDownLatch(1);
+            executor.execute(done::countDown);
+            assertTrue("Task not run", done.await(5, TimeUnit.SECONDS));
+            // the worker finishes the task before it takes the next one
+            while (executor.getActiveCount() > 0) {
+                Thread.sleep(1);
+            }
+        }
+        assertThat(executor.getLargestPoolSize(), is(2));
+    }
+
+    @Test
+    public void rejectsNewestWhenFull() throws Exception {
+        executor = new InvocationTaskExecutor(1, 1, 1, RejectionPolicy.ERROR);
+        occupyWorker();
+        final Task queued = new Task();
+        executor.execute(queued);
+
+        thrown.expect(RejectedExecutionException.class);
+        executor.execute(new Task());
+    }
+
+    @Test
+    public void discardsOldestWhenFull() throws Exception {
+        executor = new InvocationTaskExecutor(1, 1, 2, RejectionPolicy.DISCARD_OLDEST);
+        occupyWorker();
+        final Task first = new Task();
+        final Task second = new Task();
+        final Task third = new Task();
+        executor.execute(first);
+        executor.execute(second);
+        executor.execute(third);
+
+        assertThat(first.rejections.size(), is(1));
+        assertThat(second.rejections.size(), is(0));
+        assertThat(third.rejections.size(), is(0));
+        assertThat(executor.getQueue().size(), is(2));
+    }
+
+    private void occupyWorker() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            block();
+        });
+        assertTrue("Worker not started", started.await(5, TimeUnit.SECONDS));
+    }
+
+    private void block() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Task implements RejectableTask {
+        final List<RejectedExecutionException> rejections = new ArrayList<>();
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public void reject(RejectedExecutionException e) {
+            rejections.add(e);
+        }
+    }
+}
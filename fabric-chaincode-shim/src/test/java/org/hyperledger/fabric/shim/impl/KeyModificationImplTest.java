@@ -12,6 +12,7 @@ import org.hyperledger.fabric.protos.ledger.queryresult.KvQueryResult;
 import org.hyperledger.fabric.shim.ledger.KeyModification;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.stream.Stream;
 
@@ -52,6 +53,16 @@ public class KeyModificationImplTest {
         assertThat(km.getValue(), is(equalTo("value".getBytes(UTF_8))));
     }
 
+    @Test
+    public void testGetValueBuffer() {
+        final KeyModification km = new KeyModificationImpl(KvQueryResult.KeyModification.newBuilder()
+                .setValue(ByteString.copyFromUtf8("value"))
+                .build()
+        );
+        assertThat(km.getValueBuffer(), is(equalTo(ByteBuffer.wrap("value".getBytes(UTF_8)))));
+        assertThat(km.getValueBuffer().isReadOnly(), is(true));
+    }
+
     @Test
     public void testGetStringValue() {
         final KeyModification km = new KeyModificationImpl(KvQueryResult.KeyModification.newBuilder()
@@ -10,6 +10,8 @@ import com.google.protobuf.ByteString;
 import org.hyperledger.fabric.protos.ledger.queryresult.KvQueryResult.KV;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -43,6 +45,16 @@ public class KeyValueImplTest {
         assertThat(kv.getValue(), is(equalTo("value".getBytes(UTF_8))));
     }
 
+    @Test
+    public void testGetValueBuffer() {
+        KeyValueImpl kv = new KeyValueImpl(KV.newBuilder()
+                .setKey("key")
+                .setValue(ByteString.copyFromUtf8("value"))
+                .build());
+        assertThat(kv.getValueBuffer(), is(equalTo(ByteBuffer.wrap("value".getBytes(UTF_8)))));
+        assertThat(kv.getValueBuffer().isReadOnly(), is(true));
+    }
+
     @Test
     public void testGetStringValue() {
         KeyValueImpl kv = new KeyValueImpl(KV.newBuilder()
@@ -0,0 +1,120 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage;
+import org.hyperledger.fabric.shim.impl.MessageTracer.Direction;
+import org.hyperledger.fabric.shim.impl.MessageTracer.Entry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.protobuf.ByteString;
+
+public class MessageTracerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static ChaincodeMessage message(final String txId, final String payload) {
+        return ChaincodeMessage.newBuilder()
+                .setType(ChaincodeMessage.Type.GET_STATE)
+                .setChannelId("mychannel")
+                .setTxid(txId)
+                .setPayload(ByteString.copyFromUtf8(payload))
+                .build();
+    }
+
+    @Test
+    public void disabled() {
+        final MessageTracer tracer = new MessageTracer(0, 1, 0);
+        tracer.record(Direction.INBOUND, message("tx1", "hello"));
+
+        assertThat(tracer.isEnabled(), is(false));
+        assertThat(tracer.snapshot().isEmpty(), is(true));
+        assertThat(tracer.dump(), is(""));
+    }
+
+    @Test
+    public void keepsMostRecentEntries() {
+        final MessageTracer tracer = new MessageTracer(3, 1, 0);
+        for (int i = 0; i < 5; i++) {
+            tracer.record(Direction.OUTBOUND, message("tx" + i, "hello"));
+        }
+
+        final List<Entry> entries = tracer.snapshot();
+        assertThat(tracer.isEnabled(), is(true));
+        assertThat(entries.size(), is(3));
+        assertThat(entries.get(0).getTxId(), is("tx2"));
+        assertThat(entries.get(2).getTxId(), is("tx4"));
+
+        final Entry entry = entries.get(2);
+        assertThat(entry.getDirection(), is(Direction.OUTBOUND));
+        assertThat(entry.getType(), is(ChaincodeMessage.Type.GET_STATE));
+        assertThat(entry.getChannelId(), is("mychannel"));
+        assertThat(entry.getPayloadSize(), is(5));
+        assertThat(entry.getPayload().isEmpty(), is(true));
+        assertThat(entry.getTimestamp() > 0, is(true));
+        assertThat(entry.getNanoTime() >= entries.get(0).getNanoTime(), is(true));
+    }
+
+    @Test
+    public void truncatesPayload() {
+        final MessageTracer tracer = new MessageTracer(4, 1, 3);
+        tracer.record(Direction.INBOUND, message("tx1", "hello"));
+        tracer.record(Direction.OUTBOUND, message("tx1", "hi"));
+
+        final List<Entry> entries = tracer.snapshot();
+        assertThat(entries.get(0).getPayload().toStringUtf8(), is("hel"));
+        assertThat(entries.get(1).getPayload().toStringUtf8(), is("hi"));
+
+        final String dump = tracer.dump();
+        assertThat(dump, containsString(" <- GET_STATE [mychannel:tx1] 5 bytes \"hel\"..."));
+        assertThat(dump, containsString(" -> GET_STATE [mychannel:tx1] 2 bytes \"hi\""));
+        assertThat(dump, containsString("ms "));
+    }
+
+    @Test
+    public void samplesWholeTransactions() {
+        final MessageTracer tracer = new MessageTracer(1000, 4, 0);
+        int sampled = 0;
+        for (int i = 0; i < 200; i++) {
+            final int before = tracer.snapshot().size();
+            tracer.record(Direction.INBOUND, message("tx" + i, ""));
+            tracer.record(Direction.OUTBOUND, message("tx" + i, ""));
+            final int traced = tracer.snapshot().size() - before;
+            assertThat(traced == 0 || traced == 2, is(true));
+            sampled += traced / 2;
+        }
+        assertThat(sampled, not(is(0)));
+        assertThat(sampled < 200, is(true));
+    }
+
+    @Test
+    public void invalidCapacity() {
+        thrown.expect(IllegalArgumentException.class);
+        new MessageTracer(-1, 1, 0);
+    }
+
+    @Test
+    public void invalidSampleRate() {
+        thrown.expect(IllegalArgumentException.class);
+        new MessageTracer(1, 0, 0);
+    }
+
+    @Test
+    public void invalidMaxPayloadBytes() {
+        thrown.expect(IllegalArgumentException.class);
+        new MessageTracer(1, 1, -1);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeFalse;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.grpc.ManagedChannel;
+import io.grpc.netty.NettyChannelBuilder;
+
+public class NettyTransportTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void autoResolvesToAvailableTransport() {
+        final NettyChannelBuilder builder = NettyChannelBuilder.forAddress("localhost", 7052).usePlaintext();
+        final NettyTransport.Type type = NettyTransport.configure(builder, NettyTransport.Type.AUTO, 0);
+
+        assertThat(type, is(NettyTransport.isEpollAvailable() ? NettyTransport.Type.EPOLL : NettyTransport.Type.NIO));
+        final ManagedChannel channel = builder.build();
+        channel.shutdownNow();
+    }
+
+    @Test
+    public void nio() {
+        final NettyChannelBuilder builder = NettyChannelBuilder.forAddress("localhost", 7052).usePlaintext();
+
+        assertThat(NettyTransport.configure(builder, NettyTransport.Type.NIO, 2), is(NettyTransport.Type.NIO));
+        final ManagedChannel channel = builder.build();
+        channel.shutdownNow();
+    }
+
+    @Test
+    public void epollUnavailable() {
+        assumeFalse(NettyTransport.isEpollAvailable());
+
+        thrown.expect(IllegalStateException.class);
+        NettyTransport.configure(NettyChannelBuilder.forAddress("localhost", 7052), NettyTransport.Type.EPOLL, 0);
+    }
+
+    @Test
+    public void missingTransport() {
+        thrown.expect(IllegalStateException.class);
+        NettyTransport.configure(NettyChannelBuilder.forAddress("localhost", 7052), "io.netty.channel.missing.MissingEventLoopGroup",
+                "io.netty.channel.missing.MissingSocketChannel", 0, "missing");
+    }
+
+    @Test
+    public void unusableTransport() {
+        thrown.expect(IllegalStateException.class);
+        NettyTransport.configure(NettyChannelBuilder.forAddress("localhost", 7052), "io.netty.channel.DefaultEventLoopGroup",
+                "io.netty.channel.socket.nio.NioSocketChannel", -1, "unusable");
+    }
+}
@@ -0,0 +1,94 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hyperledger.fabric.shim.impl.ReadCache.Kind;
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+
+public class ReadCacheTest {
+
+    private static final ByteString VALUE = ByteString.copyFromUtf8("value");
+
+    @Test
+    public void countsHitsAndMisses() {
+        final ReadCache cache = new ReadCache(0);
+        assertThat(cache.getValue(Kind.STATE, "", "key"), is(nullValue()));
+        cache.putValue(Kind.STATE, "", "key", VALUE);
+        assertThat(cache.getValue(Kind.STATE, "", "key"), is(VALUE));
+        assertThat(cache.getValue(Kind.STATE, "", "key"), is(VALUE));
+        assertThat(cache.getHits(), is(2L));
+        assertThat(cache.getMisses(), is(1L));
+    }
+
+    @Test
+    public void separatesKindsAndCollections() {
+        final ReadCache cache = new ReadCache(0);
+        cache.putValue(Kind.STATE, "", "key", VALUE);
+        assertThat(cache.getValue(Kind.PRIVATE_DATA_HASH, "", "key"), is(nullValue()));
+        assertThat(cache.getValue(Kind.STATE, "coll", "key"), is(nullValue()));
+        assertThat(cache.getMetadata("", "key"), is(nullValue()));
+    }
+
+    @Test
+    public void cachesMetadata() {
+        final ReadCache cache = new ReadCache(0);
+        final Map<String, ByteString> metadata = new HashMap<>();
+        metadata.put("VALIDATION_PARAMETER", VALUE);
+        cache.putMetadata("coll", "key", metadata);
+        metadata.clear();
+        assertThat(cache.getMetadata("coll", "key"), is(Collections.singletonMap("VALIDATION_PARAMETER", VALUE)));
+
+        cache.putMetadata("coll", "other", Collections.emptyMap());
+        assertThat(cache.getMetadata("coll", "other"), is(Collections.emptyMap()));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        final ReadCache cache = new ReadCache(350);
+        cache.putValue(Kind.STATE, "", "key1", VALUE);
+        cache.putValue(Kind.STATE, "", "key2", VALUE);
+        cache.putValue(Kind.STATE, "", "key3", VALUE);
+        cache.getValue(Kind.STATE, "", "key1");
+        cache.putValue(Kind.STATE, "", "key4", VALUE);
+
+        assertThat(cache.getSize() <= 350, is(true));
+        assertThat(cache.getValue(Kind.STATE, "", "key1"), is(VALUE));
+        assertThat(cache.getValue(Kind.STATE, "", "key2"), is(nullValue()));
+        assertThat(cache.getValue(Kind.STATE, "", "key4"), is(VALUE));
+    }
+
+    @Test
+    public void skipsValuesLargerThanLimit() {
+        final ReadCache cache = new ReadCache(300);
+        cache.putValue(Kind.STATE, "", "key1", VALUE);
+        cache.putValue(Kind.STATE, "", "big", ByteString.copyFrom(new byte[1000]));
+        assertThat(cache.getValue(Kind.STATE, "", "big"), is(nullValue()));
+        assertThat(cache.getValue(Kind.STATE, "", "key1"), is(VALUE));
+    }
+
+    @Test
+    public void replacesEntry() {
+        final ReadCache cache = new ReadCache(0);
+        cache.putValue(Kind.STATE, "", "key", ByteString.copyFrom(new byte[100]));
+        final long size = cache.getSize();
+        cache.putValue(Kind.STATE, "", "key", VALUE);
+        assertThat(cache.getSize(), is(size - 95));
+
+        cache.clear();
+        assertThat(cache.getSize(), is(0L));
+        assertThat(cache.getValue(Kind.STATE, "", "key"), is(nullValue()));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.ChaincodeMessage;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TransactionRegistryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TransactionRegistry registry = new TransactionRegistry();
+    private final TxKey key = new TxKey("channel", "tx1");
+    private final ChaincodeMessage message = ChaincodeMessage.newBuilder()
+            .setType(ChaincodeMessage.Type.RESPONSE)
+            .setChannelId("channel")
+            .setTxid("tx1")
+            .build();
+
+    @Test
+    public void markIsTransaction() {
+        assertThat(registry.isTransaction(key), is(false));
+        registry.markIsTransaction(key, true);
+        assertThat(registry.isTransaction(key), is(true));
+        assertThat(registry.isTransaction(new TxKey("channel", "tx2")), is(false));
+        registry.markIsTransaction(key, false);
+        assertThat(registry.isTransaction(key), is(false));
+        registry.markIsTransaction(key, true);
+        registry.deleteIsTransaction(key);
+        assertThat(registry.isTransaction(key), is(false));
+    }
+
+    @Test
+    public void responseSlot() throws Exception {
+        final CompletableFuture<ChaincodeMessage> slot = registry.acquireResponseSlot(key);
+        assertThat(registry.sendResponse(key, message), is(true));
+        assertThat(slot.get(), is(message));
+
+        registry.releaseResponseSlot(key);
+        registry.releaseResponseSlot(key);
+        assertThat(registry.sendResponse(key, message), is(false));
+    }
+
+    @Test
+    public void responseAfterReleaseDropped() {
+        final CompletableFuture<ChaincodeMessage> slot = registry.acquireResponseSlot(key);
+        registry.releaseResponseSlot(key);
+        assertThat(registry.sendResponse(key, message), is(false));
+        assertThat(slot.isCancelled(), is(true));
+    }
+
+    @Test
+    public void releaseCancelsPendingSlot() {
+        final CompletableFuture<ChaincodeMessage> slot = registry.acquireResponseSlot(key);
+        registry.releaseResponseSlot(key);
+        assertThat(slot.isCancelled(), is(true));
+    }
+
+    @Test
+    public void singleResponsePerSlot() {
+        final CompletableFuture<ChaincodeMessage> slot = registry.acquireResponseSlot(key);
+        assertThat(registry.sendResponse(key, message), is(true));
+        assertThat(registry.sendResponse(key, ChaincodeMessage.getDefaultInstance()), is(false));
+        assertThat(slot.getNow(null), is(message));
+    }
+
+    @Test
+    public void onePendingRequestPerTransaction() {
+        registry.acquireResponseSlot(key);
+        registry.acquireResponseSlot(new TxKey("other", "tx1"));
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Response channel already exists");
+        registry.acquireResponseSlot(new TxKey("channel", "tx1"));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class TxKeyTest {
+
+    @Test
+    public void equality() {
+        final TxKey key = new TxKey("channel", "tx1");
+        assertThat(key, is(key));
+        assertThat(key, is(new TxKey("channel", "tx1")));
+        assertThat(key.hashCode(), is(new TxKey("channel", "tx1").hashCode()));
+        assertThat(key, is(not(new TxKey("channel", "tx2"))));
+        assertThat(key, is(not(new TxKey("other", "tx1"))));
+        assertThat(key.equals("channeltx1"), is(false));
+    }
+
+    @Test
+    public void noConcatenationClash() {
+        assertThat(new TxKey("ab", "c"), is(not(new TxKey("a", "bc"))));
+    }
+
+    @Test
+    public void accessors() {
+        final TxKey key = new TxKey("channel", "tx1");
+        assertThat(key.getChannelId(), is("channel"));
+        assertThat(key.getTxId(), is("tx1"));
+        assertThat(key.toString(), is("channel:tx1"));
+    }
+}
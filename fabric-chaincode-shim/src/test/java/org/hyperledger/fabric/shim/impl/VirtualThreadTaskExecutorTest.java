@@ -0,0 +1,105 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class VirtualThreadTaskExecutorTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void afterTest() {
+        release.countDown();
+    }
+
+    @Test
+    public void runsTasksAndReleasesPermits() throws Exception {
+        final VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(Thread::new, 2);
+        final CountDownLatch done = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(done::countDown);
+            assertTrue("Task not run", awaitIdle(executor));
+        }
+        assertTrue("Tasks not run", done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void rejectsWhenFull() {
+        final VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(Thread::new, 1);
+        executor.execute(this::block);
+        assertThat(executor.getActiveCount(), is(1));
+
+        thrown.expect(RejectedExecutionException.class);
+        executor.execute(() -> fail("Should not run"));
+    }
+
+    @Test
+    public void releasesPermitWhenThreadCannotStart() {
+        final VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(r -> {
+            throw new IllegalStateException("No thread");
+        }, 1);
+        try {
+            executor.execute(() -> fail("Should not run"));
+            fail("Expected exception");
+        } catch (IllegalStateException e) {
+            assertThat(executor.getActiveCount(), is(0));
+        }
+    }
+
+    @Test
+    public void unsupportedWithoutFactory() {
+        thrown.expect(UnsupportedOperationException.class);
+        new VirtualThreadTaskExecutor(null, 1);
+    }
+
+    @Test
+    public void runsOnVirtualThreadWhenSupported() throws Exception {
+        Assume.assumeTrue(VirtualThreadTaskExecutor.isSupported());
+        final VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(1);
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+        assertTrue("Task not run", done.await(5, TimeUnit.SECONDS));
+        assertThat(threadName.get(), startsWith("fabric-txinvoke-virtual-"));
+    }
+
+    private boolean awaitIdle(VirtualThreadTaskExecutor executor) throws InterruptedException {
+        for (int i = 0; i < 500 && executor.getActiveCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        return executor.getActiveCount() == 0;
+    }
+
+    private void block() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
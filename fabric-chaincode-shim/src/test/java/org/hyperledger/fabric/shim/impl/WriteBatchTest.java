@@ -0,0 +1,64 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.impl;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.hyperledger.fabric.protos.peer.ChaincodeShim.WriteRecord;
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+
+public class WriteBatchTest {
+
+    private final WriteBatch batch = new WriteBatch();
+
+    @Test
+    public void keepsLastWriteToEachKey() {
+        batch.putState("", "a", ByteString.copyFromUtf8("1"));
+        batch.putState("", "b", ByteString.copyFromUtf8("2"));
+        batch.putState("", "a", ByteString.copyFromUtf8("3"));
+        batch.deleteState("", "b");
+        batch.deleteState("", "c");
+        batch.putState("", "c", ByteString.copyFromUtf8("4"));
+
+        final List<WriteRecord> records = batch.getRecords();
+        assertThat(records.size(), is(3));
+        assertThat(batch.getWriteCount(), is(6));
+        assertThat(records.get(0).getKey(), is("a"));
+        assertThat(records.get(0).getValue().toStringUtf8(), is("3"));
+        assertThat(records.get(1).getKey(), is("b"));
+        assertThat(records.get(1).getType(), is(WriteRecord.Type.DEL_STATE));
+        assertThat(records.get(2).getKey(), is("c"));
+        assertThat(records.get(2).getType(), is(WriteRecord.Type.PUT_STATE));
+    }
+
+    @Test
+    public void separatesCollectionsAndMetadata() {
+        batch.putState("", "a", ByteString.copyFromUtf8("1"));
+        batch.putState("coll", "a", ByteString.copyFromUtf8("2"));
+        batch.putStateMetadata("", "a", "VALIDATION_PARAMETER", ByteString.copyFromUtf8("3"));
+        batch.putStateMetadata("", "a", "VALIDATION_PARAMETER", ByteString.copyFromUtf8("4"));
+        batch.deleteState("", "a");
+
+        final List<WriteRecord> records = batch.getRecords();
+        assertThat(records.size(), is(3));
+        assertThat(records.get(0).getType(), is(WriteRecord.Type.DEL_STATE));
+        assertThat(records.get(1).getCollection(), is("coll"));
+        assertThat(records.get(2).getType(), is(WriteRecord.Type.PUT_STATE_METADATA));
+        assertThat(records.get(2).getMetadata().getValue().toStringUtf8(), is("4"));
+    }
+
+    @Test
+    public void emptyBatch() {
+        assertThat(batch.isEmpty(), is(true));
+        batch.deleteState("", "a");
+        assertThat(batch.isEmpty(), is(false));
+    }
+}
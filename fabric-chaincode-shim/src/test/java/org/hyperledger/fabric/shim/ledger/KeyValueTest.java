@@ -0,0 +1,29 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.ledger;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class KeyValueTest {
+
+    private final KeyValue keyValue = mock(KeyValue.class, Mockito.CALLS_REAL_METHODS);
+
+    @Test
+    public void getValueBufferWrapsValue() {
+        final byte[] value = new byte[]{0x10, 0x20};
+        when(keyValue.getValue()).thenReturn(value);
+        assertThat(keyValue.getValueBuffer(), is(ByteBuffer.wrap(value)));
+        assertThat(keyValue.getValueBuffer().isReadOnly(), is(true));
+    }
+}
@@ -16,7 +16,9 @@ import org.hyperledger.fabric.shim.utils.TimeoutUtil;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
@@ -102,6 +104,13 @@ public class ChaincodeMockPeer {
         return this.service.lastMessageRcvd;
     }
 
+    /**
+     * @return every message received from chaincode, in the order received
+     */
+    public List<ChaincodeShim.ChaincodeMessage> getMessagesRcvd() {
+        return new ArrayList<>(this.service.messagesRcvd);
+    }
+
     /**
      * @return last message sent by peer to chaincode
      */
@@ -124,10 +133,11 @@ public class ChaincodeMockPeer {
 
     private static class ChaincodeMockPeerService extends ChaincodeSupportGrpc.ChaincodeSupportImplBase {
         final List<ScenarioStep> scenario;
-        int lastExecutedStepNumber;
-        ChaincodeShim.ChaincodeMessage lastMessageRcvd;
-        ChaincodeShim.ChaincodeMessage lastMessageSend;
-        StreamObserver<ChaincodeShim.ChaincodeMessage> observer;
+        final List<ChaincodeShim.ChaincodeMessage> messagesRcvd = new CopyOnWriteArrayList<>();
+        volatile int lastExecutedStepNumber;
+        volatile ChaincodeShim.ChaincodeMessage lastMessageRcvd;
+        volatile ChaincodeShim.ChaincodeMessage lastMessageSend;
+        volatile StreamObserver<ChaincodeShim.ChaincodeMessage> observer;
 
 
         public ChaincodeMockPeerService(List<ScenarioStep> scenario) {
@@ -153,6 +163,7 @@ public class ChaincodeMockPeer {
                 @Override
                 public void onNext(ChaincodeShim.ChaincodeMessage chaincodeMessage) {
                     logger.info("Mock peer => Got message: " + chaincodeMessage);
+                    ChaincodeMockPeerService.this.messagesRcvd.add(chaincodeMessage);
                     ChaincodeMockPeerService.this.lastMessageRcvd = chaincodeMessage;
                     if (ChaincodeMockPeerService.this.scenario.size() > 0) {
                         ScenarioStep step = ChaincodeMockPeerService.this.scenario.get(0);
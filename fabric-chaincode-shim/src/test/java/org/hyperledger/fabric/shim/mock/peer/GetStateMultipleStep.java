@@ -0,0 +1,58 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+package org.hyperledger.fabric.shim.mock.peer;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulates getMultipleStates
+ * Waits for GET_STATE_MULTIPLE message
+ * Returns response message with the values of the requested keys as payload
+ */
+public class GetStateMultipleStep implements ScenarioStep {
+    ChaincodeShim.ChaincodeMessage orgMsg;
+    Map<String, String> state;
+
+    /**
+     *
+     * @param state values to return, by key; missing keys return an empty value
+     */
+    public GetStateMultipleStep(Map<String, String> state) {
+        this.state = state;
+    }
+
+    @Override
+    public boolean expected(ChaincodeShim.ChaincodeMessage msg) {
+        orgMsg = msg;
+        return msg.getType() == ChaincodeShim.ChaincodeMessage.Type.GET_STATE_MULTIPLE;
+    }
+
+    @Override
+    public List<ChaincodeShim.ChaincodeMessage> next() {
+        ChaincodeShim.GetStateMultipleResult.Builder result = ChaincodeShim.GetStateMultipleResult.newBuilder();
+        try {
+            for (String key : ChaincodeShim.GetStateMultiple.parseFrom(orgMsg.getPayload()).getKeysList()) {
+                result.addValues(ByteString.copyFromUtf8(state.getOrDefault(key, "")));
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
+        }
+        List<ChaincodeShim.ChaincodeMessage> list = new ArrayList<>();
+        list.add(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.RESPONSE)
+                .setChannelId(orgMsg.getChannelId())
+                .setTxid(orgMsg.getTxid())
+                .setPayload(result.build().toByteString())
+                .build());
+        return list;
+    }
+}
@@ -19,6 +19,19 @@ import java.util.List;
 public class RegisterStep implements ScenarioStep {
 
     ChaincodeShim.ChaincodeMessage orgMsg;
+    ChaincodeShim.ChaincodeAdditionalParams params;
+
+    public RegisterStep() {
+        this(ChaincodeShim.ChaincodeAdditionalParams.getDefaultInstance());
+    }
+
+    /**
+     *
+     * @param params optional features the peer advertises in REGISTERED
+     */
+    public RegisterStep(ChaincodeShim.ChaincodeAdditionalParams params) {
+        this.params = params;
+    }
 
     @Override
     public boolean expected(ChaincodeShim.ChaincodeMessage msg) {
@@ -31,6 +44,7 @@ public class RegisterStep implements ScenarioStep {
         List<ChaincodeShim.ChaincodeMessage> list = new ArrayList<>();
         list.add(ChaincodeShim.ChaincodeMessage.newBuilder()
                 .setType(ChaincodeShim.ChaincodeMessage.Type.REGISTERED)
+                .setPayload(params.toByteString())
                 .build());
         list.add(ChaincodeShim.ChaincodeMessage.newBuilder()
                 .setType(ChaincodeShim.ChaincodeMessage.Type.READY)
@@ -0,0 +1,64 @@
+/*
+Copyright IBM Corp. All Rights Reserved.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package org.hyperledger.fabric.shim.mock.peer;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.hyperledger.fabric.protos.peer.ChaincodeShim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simulates the flush of a transaction's held back writes
+ * Waits for WRITE_BATCH_STATE message from chaincode with the expected number of records
+ * and sends back response with empty payload
+ */
+public class WriteBatchStep implements ScenarioStep {
+    ChaincodeShim.ChaincodeMessage orgMsg;
+    int size;
+    List<ChaincodeShim.WriteRecord> records;
+
+    /**
+     * Initiate step
+     * @param size number of records the batch must contain
+     */
+    public WriteBatchStep(int size) {
+        this.size = size;
+    }
+
+    @Override
+    public boolean expected(ChaincodeShim.ChaincodeMessage msg) {
+        orgMsg = msg;
+        if (msg.getType() != ChaincodeShim.ChaincodeMessage.Type.WRITE_BATCH_STATE) {
+            return false;
+        }
+        try {
+            records = ChaincodeShim.WriteBatchState.parseFrom(msg.getPayload()).getRecList();
+        } catch (InvalidProtocolBufferException e) {
+            return false;
+        }
+        return records.size() == size;
+    }
+
+    @Override
+    public List<ChaincodeShim.ChaincodeMessage> next() {
+        List<ChaincodeShim.ChaincodeMessage> list = new ArrayList<>();
+        list.add(ChaincodeShim.ChaincodeMessage.newBuilder()
+                .setType(ChaincodeShim.ChaincodeMessage.Type.RESPONSE)
+                .setChannelId(orgMsg.getChannelId())
+                .setTxid(orgMsg.getTxid())
+                .build());
+        return list;
+    }
+
+    /**
+     * @return records of the batch received from chaincode
+     */
+    public List<ChaincodeShim.WriteRecord> getRecords() {
+        return records;
+    }
+}